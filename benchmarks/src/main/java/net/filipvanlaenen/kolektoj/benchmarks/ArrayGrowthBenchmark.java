@@ -0,0 +1,116 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DUPLICATE_ELEMENTS;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.filipvanlaenen.kolektoj.array.GrowthStrategy;
+import net.filipvanlaenen.kolektoj.array.ModifiableArrayCollection;
+import net.filipvanlaenen.kolektoj.array.ModifiableOrderedArrayCollection;
+
+/**
+ * Benchmarks comparing the growth strategies of the array-backed modifiable collections. Appending elements one by one
+ * to an empty collection copies the elements array on every few additions with a fixed stride, which makes it
+ * quadratic, whereas with geometric growth, the number of copies is logarithmic. Adding and removing a batch of
+ * elements at the end of a collection resizes the elements array back and forth with a fixed stride, whereas with
+ * geometric growth, the elements array is only shrunk when it has become sparse.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ArrayGrowthBenchmark {
+    /**
+     * The number of elements added and removed again in the churn benchmark.
+     */
+    private static final int BATCH_SIZE = 16;
+    /**
+     * The growth strategy to benchmark.
+     */
+    @Param({"FIXED_STRIDE", "GEOMETRIC_GROWTH"})
+    private GrowthStrategy growthStrategy;
+    /**
+     * The size of the collections.
+     */
+    @Param({"1000", "10000", "100000"})
+    private int size;
+    /**
+     * The elements to add.
+     */
+    private Integer[] elements;
+    /**
+     * The collection under test in the churn benchmark.
+     */
+    private ModifiableOrderedArrayCollection<Integer> collection;
+
+    /**
+     * Creates the elements and the collection for the churn benchmark.
+     */
+    @Setup
+    public void setUp() {
+        elements = BenchmarkData.createElements(size);
+        collection = new ModifiableOrderedArrayCollection<Integer>(growthStrategy, DUPLICATE_ELEMENTS, elements);
+    }
+
+    /**
+     * Benchmarks appending all the elements one by one to an empty modifiable array collection.
+     *
+     * @return The size of the collection.
+     */
+    @Benchmark
+    public int append() {
+        ModifiableArrayCollection<Integer> appended =
+                new ModifiableArrayCollection<Integer>(growthStrategy, DUPLICATE_ELEMENTS);
+        for (Integer element : elements) {
+            appended.add(element);
+        }
+        return appended.size();
+    }
+
+    /**
+     * Benchmarks appending all the elements one by one to an empty modifiable ordered array collection.
+     *
+     * @return The size of the collection.
+     */
+    @Benchmark
+    public int appendOrdered() {
+        ModifiableOrderedArrayCollection<Integer> appended =
+                new ModifiableOrderedArrayCollection<Integer>(growthStrategy, DUPLICATE_ELEMENTS);
+        for (Integer element : elements) {
+            appended.add(element);
+        }
+        return appended.size();
+    }
+
+    /**
+     * Benchmarks adding a batch of elements at the end of a modifiable ordered array collection and removing them
+     * again, such that the size of the collection doesn't change.
+     *
+     * @return The last removed element.
+     */
+    @Benchmark
+    public Integer churn() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            collection.addLast(elements[i]);
+        }
+        Integer result = null;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            result = collection.removeLast();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,118 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+
+/**
+ * A class with utility methods to create the data for the benchmarks.
+ */
+final class BenchmarkData {
+    /**
+     * The comparator used for all sorted collections and maps in the benchmarks.
+     */
+    static final Comparator<Integer> COMPARATOR = Comparator.naturalOrder();
+    /**
+     * The number of probes prepared for a benchmark. Must be a power of two.
+     */
+    static final int NUMBER_OF_PROBES = 1024;
+    /**
+     * The seed for the random number generator, such that all runs of the benchmarks use the same data.
+     */
+    private static final long SEED = 20_240_101L;
+
+    /**
+     * Private constructor to avoid instantiation of this utility class.
+     */
+    private BenchmarkData() {
+    }
+
+    /**
+     * Creates an array with the integers from zero to the size (exclusive) in a random order.
+     *
+     * @param size The number of elements.
+     * @return An array with the integers from zero to the size (exclusive) in a random order.
+     */
+    static Integer[] createElements(final int size) {
+        Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        Random random = new Random(SEED);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer element = elements[i];
+            elements[i] = elements[j];
+            elements[j] = element;
+        }
+        return elements;
+    }
+
+    /**
+     * Creates an array with entries mapping the elements to themselves.
+     *
+     * @param elements The elements to use as keys and values.
+     * @return An array with entries mapping the elements to themselves.
+     */
+    static Entry<Integer, Integer>[] createEntries(final Integer[] elements) {
+        Entry<Integer, Integer>[] entries = new Entry[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            entries[i] = new Entry<Integer, Integer>(elements[i], elements[i]);
+        }
+        return entries;
+    }
+
+    /**
+     * Creates an array with probes that are absent from the elements, i.e. negative integers.
+     *
+     * @return An array with probes that are absent from the elements.
+     */
+    static Integer[] createAbsentProbes() {
+        Integer[] probes = new Integer[NUMBER_OF_PROBES];
+        for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+            probes[i] = -1 - i;
+        }
+        return probes;
+    }
+
+    /**
+     * Creates an array with random indices below the size.
+     *
+     * @param size The size.
+     * @return An array with random indices below the size.
+     */
+    static int[] createIndexProbes(final int size) {
+        Random random = new Random(SEED + 1);
+        int[] probes = new int[NUMBER_OF_PROBES];
+        for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+            probes[i] = random.nextInt(size);
+        }
+        return probes;
+    }
+
+    /**
+     * Creates an array with probes that are present in the elements, picked at random.
+     *
+     * @param elements The elements.
+     * @return An array with probes that are present in the elements.
+     */
+    static Integer[] createPresentProbes(final Integer[] elements) {
+        int[] indices = createIndexProbes(elements.length);
+        Integer[] probes = new Integer[NUMBER_OF_PROBES];
+        for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+            probes[i] = elements[indices[i]];
+        }
+        return probes;
+    }
+
+    /**
+     * Returns the next probe index, cycling through the probes.
+     *
+     * @param probeIndex The current probe index.
+     * @return The next probe index.
+     */
+    static int nextProbeIndex(final int probeIndex) {
+        return (probeIndex + 1) & (NUMBER_OF_PROBES - 1);
+    }
+}
@@ -0,0 +1,142 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.filipvanlaenen.kolektoj.Collection;
+import net.filipvanlaenen.kolektoj.array.ArrayCollection;
+import net.filipvanlaenen.kolektoj.hash.HashCollection;
+
+/**
+ * Benchmarks for the implementations of the {@link net.filipvanlaenen.kolektoj.Collection} interface.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CollectionBenchmark {
+    /**
+     * The implementation to benchmark.
+     */
+    @Param({"ArrayCollection", "HashCollection"})
+    private String implementation;
+    /**
+     * The size of the collection.
+     */
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+    /**
+     * Probes that are absent from the collection.
+     */
+    private Integer[] absentProbes;
+    /**
+     * The collection under test.
+     */
+    private Collection<Integer> collection;
+    /**
+     * The index of the current probe.
+     */
+    private int probeIndex;
+    /**
+     * Probes that are present in the collection.
+     */
+    private Integer[] presentProbes;
+
+    /**
+     * Creates the collection and the probes.
+     */
+    @Setup
+    public void setUp() {
+        Integer[] elements = BenchmarkData.createElements(size);
+        collection = createCollection(elements);
+        presentProbes = BenchmarkData.createPresentProbes(elements);
+        absentProbes = BenchmarkData.createAbsentProbes();
+    }
+
+    /**
+     * Creates a collection with the elements using the implementation under test.
+     *
+     * @param elements The elements.
+     * @return A collection with the elements.
+     */
+    private Collection<Integer> createCollection(final Integer[] elements) {
+        switch (implementation) {
+        case "ArrayCollection":
+            return new ArrayCollection<Integer>(elements);
+        case "HashCollection":
+            return new HashCollection<Integer>(elements);
+        default:
+            throw new IllegalArgumentException("Unknown implementation " + implementation + ".");
+        }
+    }
+
+    /**
+     * Benchmarks <code>contains</code> for an element that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean contains() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return collection.contains(presentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>contains</code> for an element that is absent.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return collection.contains(absentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks iterating over all the elements of the collection.
+     *
+     * @return The sum of the elements.
+     */
+    @Benchmark
+    public long iterate() {
+        long sum = 0L;
+        for (Integer element : collection) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    /**
+     * Benchmarks summing all the elements of the collection through a parallel stream, which splits the spliterator
+     * over the worker threads.
+     *
+     * @return The sum of the elements.
+     */
+    @Benchmark
+    public long parallelStream() {
+        return collection.stream().parallel().mapToLong(Integer::longValue).sum();
+    }
+
+    /**
+     * Benchmarks summing all the elements of the collection through a sequential stream.
+     *
+     * @return The sum of the elements.
+     */
+    @Benchmark
+    public long stream() {
+        return collection.stream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,104 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.ModifiableMap;
+import net.filipvanlaenen.kolektoj.hash.ProbingStrategy;
+
+/**
+ * Benchmarks comparing lookups in modifiable hash maps using linear probing and treeified chaining when all keys have
+ * the same hash code. The keys are strings built from the blocks "Aa" and "BB", which have the same hash code, such
+ * that all strings of the same number of blocks collide, as they would when the keys are picked by an attacker. With
+ * linear probing, a lookup has to compare the key to all the colliding keys, whereas with treeified chaining, it only
+ * compares the key to the keys on a path in a balanced tree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CollidingKeysBenchmark {
+    /**
+     * The number of blocks in a key, such that there are two to the power of this number of colliding keys.
+     */
+    private static final int NUMBER_OF_BLOCKS = 16;
+    /**
+     * The probing strategy to benchmark.
+     */
+    @Param({"LINEAR_PROBING", "TREEIFIED_CHAINING"})
+    private ProbingStrategy probingStrategy;
+    /**
+     * The size of the map.
+     */
+    @Param({"1000", "10000"})
+    private int size;
+    /**
+     * The map under test.
+     */
+    private ModifiableMap<String, Integer> map;
+    /**
+     * The index of the current probe.
+     */
+    private int probeIndex;
+    /**
+     * Probes that are present in the map.
+     */
+    private String[] presentProbes;
+
+    /**
+     * Creates a key with the given index, composed of the blocks "Aa" and "BB" according to the bits of the index.
+     *
+     * @param index The index of the key.
+     * @return A key that has the same hash code as all other keys.
+     */
+    private static String createCollidingKey(final int index) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_BLOCKS; i++) {
+            sb.append((index >> i & 1) == 0 ? "Aa" : "BB");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Creates the map and the probes.
+     */
+    @Setup
+    public void setUp() {
+        map = ModifiableMap.<String, Integer>of(probingStrategy, new Entry[0]);
+        String[] keys = new String[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = createCollidingKey(i);
+            map.add(keys[i], i);
+        }
+        int[] indices = BenchmarkData.createIndexProbes(size);
+        presentProbes = new String[BenchmarkData.NUMBER_OF_PROBES];
+        for (int i = 0; i < BenchmarkData.NUMBER_OF_PROBES; i++) {
+            presentProbes[i] = new String(keys[indices[i]]);
+        }
+    }
+
+    /**
+     * Benchmarks <code>get</code> for a key that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public Integer get() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return map.get(presentProbes[probeIndex]);
+    }
+}
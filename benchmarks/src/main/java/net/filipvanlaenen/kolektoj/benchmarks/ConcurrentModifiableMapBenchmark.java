@@ -0,0 +1,183 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.ModifiableMap;
+import net.filipvanlaenen.kolektoj.hash.ConcurrentModifiableHashMap;
+import net.filipvanlaenen.kolektoj.hash.ModifiableHashMap;
+
+/**
+ * Multi-threaded benchmarks for modifiable maps shared between threads. The concurrent hash map is compared with a
+ * modifiable hash map guarded by a single external lock, which is how a map had to be shared between threads before.
+ * The read-mostly group runs three reading threads against one writing thread, and the write-heavy group runs four
+ * writing threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Group)
+public class ConcurrentModifiableMapBenchmark {
+    /**
+     * The implementation to benchmark.
+     */
+    @Param({"ConcurrentModifiableHashMap", "LockedModifiableHashMap"})
+    private String implementation;
+    /**
+     * The size of the map.
+     */
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+    /**
+     * Probes that are absent from the map.
+     */
+    private Integer[] absentProbes;
+    /**
+     * The external lock, or <code>null</code> if the map is thread-safe itself.
+     */
+    private Object lock;
+    /**
+     * The map under test.
+     */
+    private ModifiableMap<Integer, Integer> map;
+    /**
+     * Probes that are present in the map.
+     */
+    private Integer[] presentProbes;
+
+    /**
+     * The probe index of a thread, such that the threads don't contend on a shared counter.
+     */
+    @State(Scope.Thread)
+    public static class ThreadProbes {
+        /**
+         * The index of the current probe.
+         */
+        private int probeIndex;
+
+        /**
+         * Advances to the next probe index and returns it.
+         *
+         * @return The next probe index.
+         */
+        int next() {
+            probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+            return probeIndex;
+        }
+    }
+
+    /**
+     * Creates the map and the probes.
+     */
+    @Setup
+    public void setUp() {
+        Integer[] elements = BenchmarkData.createElements(size);
+        Entry<Integer, Integer>[] entries = BenchmarkData.createEntries(elements);
+        switch (implementation) {
+        case "ConcurrentModifiableHashMap":
+            map = new ConcurrentModifiableHashMap<Integer, Integer>(entries);
+            lock = null;
+            break;
+        case "LockedModifiableHashMap":
+            map = new ModifiableHashMap<Integer, Integer>(entries);
+            lock = new Object();
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown implementation " + implementation + ".");
+        }
+        presentProbes = BenchmarkData.createPresentProbes(elements);
+        absentProbes = BenchmarkData.createAbsentProbes();
+    }
+
+    /**
+     * Adds an entry with an absent key and removes it again, taking the external lock for each call if there is one,
+     * like a synchronized wrapper would.
+     *
+     * @param probes The probes of the thread.
+     * @return The result of the removal.
+     */
+    private boolean addAndRemove(final ThreadProbes probes) {
+        Integer key = absentProbes[probes.next()];
+        if (lock == null) {
+            map.add(key, key);
+            return map.remove(key, key);
+        }
+        synchronized (lock) {
+            map.add(key, key);
+        }
+        synchronized (lock) {
+            return map.remove(key, key);
+        }
+    }
+
+    /**
+     * Looks up a present key, taking the external lock if there is one.
+     *
+     * @param probes The probes of the thread.
+     * @return The value for the key.
+     */
+    private Integer get(final ThreadProbes probes) {
+        Integer key = presentProbes[probes.next()];
+        if (lock == null) {
+            return map.get(key);
+        }
+        synchronized (lock) {
+            return map.get(key);
+        }
+    }
+
+    /**
+     * Benchmarks the reading threads of the read-mostly group.
+     *
+     * @param probes The probes of the thread.
+     * @return The value for a present key.
+     */
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(3)
+    public Integer readMostlyGet(final ThreadProbes probes) {
+        return get(probes);
+    }
+
+    /**
+     * Benchmarks the writing thread of the read-mostly group.
+     *
+     * @param probes The probes of the thread.
+     * @return The result of the removal.
+     */
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public boolean readMostlyAddAndRemove(final ThreadProbes probes) {
+        return addAndRemove(probes);
+    }
+
+    /**
+     * Benchmarks the writing threads of the write-heavy group.
+     *
+     * @param probes The probes of the thread.
+     * @return The result of the removal.
+     */
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(4)
+    public boolean writeHeavyAddAndRemove(final ThreadProbes probes) {
+        return addAndRemove(probes);
+    }
+}
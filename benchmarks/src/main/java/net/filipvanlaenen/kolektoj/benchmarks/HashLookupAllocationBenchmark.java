@@ -0,0 +1,217 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.filipvanlaenen.kolektoj.Map;
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.hash.HashCollection;
+import net.filipvanlaenen.kolektoj.hash.HashMap;
+import net.filipvanlaenen.kolektoj.hash.ModifiableHashMap;
+import net.filipvanlaenen.kolektoj.hash.UpdatableHashMap;
+
+/**
+ * Benchmarks for the allocation rate of the lookups in the hash package. Lookups shouldn't allocate any objects, so
+ * when run with the GC profiler, e.g. <code>java -jar target/benchmarks.jar HashLookupAllocationBenchmark -prof
+ * gc</code>, the normalized allocation rate (<code>gc.alloc.rate.norm</code>) should be close to zero bytes per
+ * operation for all benchmarks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class HashLookupAllocationBenchmark {
+    /**
+     * The map implementation to benchmark.
+     */
+    @Param({"HashMap", "UpdatableHashMap", "ModifiableHashMap"})
+    private String implementation;
+    /**
+     * The size of the collection and the maps.
+     */
+    @Param({"1000", "1000000"})
+    private int size;
+    /**
+     * Probes that are absent from the collection and the maps.
+     */
+    private Integer[] absentProbes;
+    /**
+     * The hash collection under test.
+     */
+    private HashCollection<Integer> collection;
+    /**
+     * Entries that are present in the maps, with the present probes as their keys.
+     */
+    private Entry<Integer, Integer>[] entryProbes;
+    /**
+     * The map under test.
+     */
+    private Map<Integer, Integer> map;
+    /**
+     * A modifiable hash map, used for the removal of absent entries.
+     */
+    private ModifiableHashMap<Integer, Integer> modifiableMap;
+    /**
+     * The index of the current probe.
+     */
+    private int probeIndex;
+    /**
+     * Probes that are present in the collection and the maps.
+     */
+    private Integer[] presentProbes;
+    /**
+     * An updatable hash map, used for updates that don't change the value.
+     */
+    private UpdatableHashMap<Integer, Integer> updatableMap;
+
+    /**
+     * Runs the benchmarks with the GC profiler enabled.
+     *
+     * @param args The command line arguments, which are ignored.
+     * @throws RunnerException Thrown if the benchmarks can't be run.
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(HashLookupAllocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class).build()).run();
+    }
+
+    /**
+     * Creates the collection, the maps and the probes.
+     */
+    @Setup
+    public void setUp() {
+        Integer[] elements = BenchmarkData.createElements(size);
+        Entry<Integer, Integer>[] entries = BenchmarkData.createEntries(elements);
+        collection = new HashCollection<Integer>(elements);
+        map = createMap(entries);
+        modifiableMap = new ModifiableHashMap<Integer, Integer>(entries);
+        updatableMap = new UpdatableHashMap<Integer, Integer>(entries);
+        presentProbes = BenchmarkData.createPresentProbes(elements);
+        absentProbes = BenchmarkData.createAbsentProbes();
+        entryProbes = BenchmarkData.createEntries(presentProbes);
+    }
+
+    /**
+     * Creates a map with the entries using the implementation under test.
+     *
+     * @param entries The entries.
+     * @return A map with the entries.
+     */
+    private Map<Integer, Integer> createMap(final Entry<Integer, Integer>[] entries) {
+        switch (implementation) {
+        case "HashMap":
+            return new HashMap<Integer, Integer>(entries);
+        case "UpdatableHashMap":
+            return new UpdatableHashMap<Integer, Integer>(entries);
+        case "ModifiableHashMap":
+            return new ModifiableHashMap<Integer, Integer>(entries);
+        default:
+            throw new IllegalArgumentException("Unknown implementation " + implementation + ".");
+        }
+    }
+
+    /**
+     * Benchmarks <code>contains</code> on the hash collection for an element that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean collectionContains() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return collection.contains(presentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>contains</code> on the hash collection for an element that is absent.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean collectionContainsAbsent() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return collection.contains(absentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>contains</code> on the map for an entry that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean mapContains() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return map.contains(entryProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>containsKey</code> on the map for a key that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean mapContainsKey() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return map.containsKey(presentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>containsKey</code> on the map for a key that is absent.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean mapContainsKeyAbsent() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return map.containsKey(absentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>get</code> on the map for a key that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public Integer mapGet() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return map.get(presentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>remove</code> with a key and a value on a modifiable hash map for an entry that is absent.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean removeAbsentEntry() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return modifiableMap.remove(presentProbes[probeIndex], absentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>update</code> on an updatable hash map with the value that is already present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public Integer updateWithSameValue() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return updatableMap.update(presentProbes[probeIndex], presentProbes[probeIndex]);
+    }
+}
@@ -0,0 +1,193 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks comparing the layouts of the hash tables in the hash package: the former layout, with a capacity of three
+ * times the number of entries and the indices calculated modulo the capacity, against the current layout, with a
+ * capacity rounded up to a power of two and the indices calculated by masking the spread hash code. The hash tables
+ * are replicated here on plain integer keys, such that both layouts can be compared in the same run, independent of
+ * the version of the library.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class HashTableLayoutBenchmark {
+    /**
+     * The ratio by which the number of keys is multiplied to calculate the capacity.
+     */
+    private static final int HASHING_RATIO = 3;
+    /**
+     * The odd multiplier used to spread the bits of hash codes.
+     */
+    private static final int SPREADING_MULTIPLIER = 0x9E3779B9;
+    /**
+     * The number of bits by which the high half of a multiplied hash code is shifted onto the low half.
+     */
+    private static final int HALF_WORD = 16;
+    /**
+     * The layout of the hash table.
+     */
+    @Param({"modulo", "powerOfTwo"})
+    private String layout;
+    /**
+     * The pattern of the keys, either sequential integers or random integers.
+     */
+    @Param({"sequential", "random"})
+    private String keys;
+    /**
+     * The number of keys in the hash table.
+     */
+    @Param({"1000", "1000000"})
+    private int size;
+    /**
+     * Probes that are absent from the hash table.
+     */
+    private int[] absentProbes;
+    /**
+     * The capacity of the hash table.
+     */
+    private int capacity;
+    /**
+     * Whether the hash table uses the power of two layout.
+     */
+    private boolean powerOfTwo;
+    /**
+     * The index of the current probe.
+     */
+    private int probeIndex;
+    /**
+     * Probes that are present in the hash table.
+     */
+    private int[] presentProbes;
+    /**
+     * The slots of the hash table, with zero marking an empty slot.
+     */
+    private int[] slots;
+
+    /**
+     * Creates the hash table and the probes.
+     */
+    @Setup
+    public void setUp() {
+        powerOfTwo = createLayout();
+        int[] content = new int[size];
+        Random random = new Random(size);
+        for (int i = 0; i < size; i++) {
+            content[i] = keys.equals("random") ? random.nextInt(Integer.MAX_VALUE - 1) + 1 : i + 1;
+        }
+        int minimalCapacity = size * HASHING_RATIO;
+        capacity = powerOfTwo ? Integer.highestOneBit(minimalCapacity - 1) << 1 : minimalCapacity;
+        slots = new int[capacity];
+        for (int key : content) {
+            int index = index(key);
+            while (slots[index] != 0) {
+                index = nextIndex(index);
+            }
+            slots[index] = key;
+        }
+        int[] indices = BenchmarkData.createIndexProbes(size);
+        presentProbes = new int[BenchmarkData.NUMBER_OF_PROBES];
+        absentProbes = new int[BenchmarkData.NUMBER_OF_PROBES];
+        for (int i = 0; i < BenchmarkData.NUMBER_OF_PROBES; i++) {
+            presentProbes[i] = content[indices[i]];
+            absentProbes[i] = -1 - i;
+        }
+    }
+
+    /**
+     * Returns whether the layout under test is the power of two layout.
+     *
+     * @return True if the layout under test is the power of two layout.
+     */
+    private boolean createLayout() {
+        switch (layout) {
+        case "modulo":
+            return false;
+        case "powerOfTwo":
+            return true;
+        default:
+            throw new IllegalArgumentException("Unknown layout " + layout + ".");
+        }
+    }
+
+    /**
+     * Returns the home slot for a key.
+     *
+     * @param key The key.
+     * @return The home slot for the key.
+     */
+    private int index(final int key) {
+        if (powerOfTwo) {
+            int h = key * SPREADING_MULTIPLIER;
+            return (h ^ (h >>> HALF_WORD)) & (capacity - 1);
+        } else {
+            return Math.floorMod(key, capacity);
+        }
+    }
+
+    /**
+     * Returns the index of the slot following a slot.
+     *
+     * @param index The index of a slot.
+     * @return The index of the slot following the slot.
+     */
+    private int nextIndex(final int index) {
+        return powerOfTwo ? (index + 1) & (capacity - 1) : Math.floorMod(index + 1, capacity);
+    }
+
+    /**
+     * Looks up a key in the hash table.
+     *
+     * @param key The key.
+     * @return True if the key is present in the hash table.
+     */
+    private boolean lookUp(final int key) {
+        int index = index(key);
+        while (slots[index] != 0) {
+            if (slots[index] == key) {
+                return true;
+            }
+            index = nextIndex(index);
+        }
+        return false;
+    }
+
+    /**
+     * Benchmarks a lookup for a key that is present.
+     *
+     * @return The result of the lookup.
+     */
+    @Benchmark
+    public boolean lookUpPresent() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return lookUp(presentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks a lookup for a key that is absent.
+     *
+     * @return The result of the lookup.
+     */
+    @Benchmark
+    public boolean lookUpAbsent() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return lookUp(absentProbes[probeIndex]);
+    }
+}
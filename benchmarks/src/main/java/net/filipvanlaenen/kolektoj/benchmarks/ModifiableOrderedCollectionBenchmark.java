@@ -0,0 +1,138 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.filipvanlaenen.kolektoj.ModifiableOrderedCollection;
+import net.filipvanlaenen.kolektoj.array.ModifiableOrderedArrayCollection;
+import net.filipvanlaenen.kolektoj.linkedlist.ModifiableOrderedLinkedListCollection;
+
+/**
+ * Benchmarks for the implementations of the {@link net.filipvanlaenen.kolektoj.ModifiableOrderedCollection}
+ * interface.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ModifiableOrderedCollectionBenchmark {
+    /**
+     * The implementation to benchmark.
+     */
+    @Param({"ModifiableOrderedArrayCollection", "ModifiableOrderedLinkedListCollection"})
+    private String implementation;
+    /**
+     * The size of the collection.
+     */
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+    /**
+     * Probes that are absent from the collection.
+     */
+    private Integer[] absentProbes;
+    /**
+     * The collection under test.
+     */
+    private ModifiableOrderedCollection<Integer> collection;
+    /**
+     * Random indices in the collection.
+     */
+    private int[] indexProbes;
+    /**
+     * The index of the current probe.
+     */
+    private int probeIndex;
+
+    /**
+     * Creates the collection and the probes.
+     */
+    @Setup
+    public void setUp() {
+        Integer[] elements = BenchmarkData.createElements(size);
+        collection = createCollection(elements);
+        absentProbes = BenchmarkData.createAbsentProbes();
+        indexProbes = BenchmarkData.createIndexProbes(size);
+    }
+
+    /**
+     * Creates a modifiable ordered collection with the elements using the implementation under test.
+     *
+     * @param elements The elements.
+     * @return A modifiable ordered collection with the elements.
+     */
+    private ModifiableOrderedCollection<Integer> createCollection(final Integer[] elements) {
+        switch (implementation) {
+        case "ModifiableOrderedArrayCollection":
+            return new ModifiableOrderedArrayCollection<Integer>(elements);
+        case "ModifiableOrderedLinkedListCollection":
+            return new ModifiableOrderedLinkedListCollection<Integer>(elements);
+        default:
+            throw new IllegalArgumentException("Unknown implementation " + implementation + ".");
+        }
+    }
+
+    /**
+     * Benchmarks adding an absent element at a random index and removing it again, such that the size of the
+     * collection doesn't change.
+     *
+     * @return The removed element.
+     */
+    @Benchmark
+    public Integer addAtAndRemoveAt() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        int index = indexProbes[probeIndex];
+        collection.addAt(index, absentProbes[probeIndex]);
+        return collection.removeAt(index);
+    }
+
+    /**
+     * Benchmarks adding an absent element at the end and removing it again, such that the size of the collection
+     * doesn't change.
+     *
+     * @return The removed element.
+     */
+    @Benchmark
+    public Integer addLastAndRemoveLast() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        collection.addLast(absentProbes[probeIndex]);
+        return collection.removeLast();
+    }
+
+    /**
+     * Benchmarks <code>getAt</code> for a random index.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public Integer getAt() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return collection.getAt(indexProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks iterating over all the elements of the collection.
+     *
+     * @return The sum of the elements.
+     */
+    @Benchmark
+    public long iterate() {
+        long sum = 0L;
+        for (Integer element : collection) {
+            sum += element;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,118 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.filipvanlaenen.kolektoj.OrderedCollection;
+import net.filipvanlaenen.kolektoj.array.OrderedArrayCollection;
+
+/**
+ * Benchmarks for the implementations of the {@link net.filipvanlaenen.kolektoj.OrderedCollection} interface.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class OrderedCollectionBenchmark {
+    /**
+     * The implementation to benchmark.
+     */
+    @Param({"OrderedArrayCollection"})
+    private String implementation;
+    /**
+     * The size of the collection.
+     */
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+    /**
+     * The collection under test.
+     */
+    private OrderedCollection<Integer> collection;
+    /**
+     * Random indices in the collection.
+     */
+    private int[] indexProbes;
+    /**
+     * The index of the current probe.
+     */
+    private int probeIndex;
+    /**
+     * Probes that are present in the collection.
+     */
+    private Integer[] presentProbes;
+
+    /**
+     * Creates the collection and the probes.
+     */
+    @Setup
+    public void setUp() {
+        Integer[] elements = BenchmarkData.createElements(size);
+        collection = createCollection(elements);
+        presentProbes = BenchmarkData.createPresentProbes(elements);
+        indexProbes = BenchmarkData.createIndexProbes(size);
+    }
+
+    /**
+     * Creates an ordered collection with the elements using the implementation under test.
+     *
+     * @param elements The elements.
+     * @return An ordered collection with the elements.
+     */
+    private OrderedCollection<Integer> createCollection(final Integer[] elements) {
+        switch (implementation) {
+        case "OrderedArrayCollection":
+            return new OrderedArrayCollection<Integer>(elements);
+        default:
+            throw new IllegalArgumentException("Unknown implementation " + implementation + ".");
+        }
+    }
+
+    /**
+     * Benchmarks <code>getAt</code> for a random index.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public Integer getAt() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return collection.getAt(indexProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>indexOf</code> for an element that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public int indexOf() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return collection.indexOf(presentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks iterating over all the elements of the collection.
+     *
+     * @return The sum of the elements.
+     */
+    @Benchmark
+    public long iterate() {
+        long sum = 0L;
+        for (Integer element : collection) {
+            sum += element;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,98 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.ModifiableMap;
+import net.filipvanlaenen.kolektoj.hash.ProbingStrategy;
+
+/**
+ * Benchmarks comparing the tail latency of lookups in modifiable hash maps using linear probing, Robin Hood hashing,
+ * control byte probing and treeified chaining. The maps are filled by adding the entries one by one, such that their
+ * hash tables are filled close to the highest load factor they allow, i.e. almost half full for linear probing and
+ * Robin Hood hashing, almost seven eighths full for control byte probing, and almost three quarters full for treeified
+ * chaining. The benchmarks run in sample time mode, such that JMH reports the percentiles of the latency distribution
+ * next to the average.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ProbingStrategyBenchmark {
+    /**
+     * The probing strategy to benchmark.
+     */
+    @Param({"LINEAR_PROBING", "ROBIN_HOOD_HASHING", "CONTROL_BYTE_PROBING", "TREEIFIED_CHAINING"})
+    private ProbingStrategy probingStrategy;
+    /**
+     * The size of the map.
+     */
+    @Param({"1000", "1000000"})
+    private int size;
+    /**
+     * Probes that are absent from the map.
+     */
+    private Integer[] absentProbes;
+    /**
+     * The map under test.
+     */
+    private ModifiableMap<Integer, Integer> map;
+    /**
+     * The index of the current probe.
+     */
+    private int probeIndex;
+    /**
+     * Probes that are present in the map.
+     */
+    private Integer[] presentProbes;
+
+    /**
+     * Creates the map and the probes.
+     */
+    @Setup
+    public void setUp() {
+        Integer[] elements = BenchmarkData.createElements(size);
+        map = ModifiableMap.<Integer, Integer>of(probingStrategy, new Entry[0]);
+        for (Integer element : elements) {
+            map.add(element, element);
+        }
+        presentProbes = BenchmarkData.createPresentProbes(elements);
+        absentProbes = BenchmarkData.createAbsentProbes();
+    }
+
+    /**
+     * Benchmarks <code>containsKey</code> for a key that is absent.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean containsKeyAbsent() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return map.containsKey(absentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>get</code> for a key that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public Integer get() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return map.get(presentProbes[probeIndex]);
+    }
+}
@@ -0,0 +1,136 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
+
+/**
+ * Benchmarks on the sort engine behind the sorted collections and maps, on random, sorted, reverse-sorted and
+ * low-cardinality data, both with parallel sorting enabled and disabled. The sort and parallel sort methods of the
+ * Java arrays class, which are stable merge sorts too, serve as the baseline. Parallel sorting only kicks in from the
+ * parallel sorting threshold on, and when the common fork/join pool has more than one thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SortBenchmark {
+    /**
+     * The distributions of the data to sort.
+     */
+    public enum Distribution {
+        /**
+         * Distinct elements in a random order.
+         */
+        RANDOM,
+        /**
+         * Distinct elements in ascending order.
+         */
+        SORTED,
+        /**
+         * Distinct elements in descending order.
+         */
+        REVERSED,
+        /**
+         * Elements in a random order with only a few distinct values.
+         */
+        LOW_CARDINALITY
+    }
+
+    /**
+     * The number of distinct values in the low-cardinality data.
+     */
+    private static final int LOW_CARDINALITY = 16;
+    /**
+     * The name of the system property that turns parallel sorting on in the library.
+     */
+    private static final String PARALLEL_SORTING_PROPERTY = "kolektoj.parallelSorting";
+    /**
+     * The distribution of the data to sort.
+     */
+    @Param({"RANDOM", "SORTED", "REVERSED", "LOW_CARDINALITY"})
+    private Distribution distribution;
+    /**
+     * Whether parallel sorting is enabled.
+     */
+    @Param({"true", "false"})
+    private boolean parallelSorting;
+    /**
+     * The size of the array to sort.
+     */
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+    /**
+     * The elements to sort.
+     */
+    private Integer[] elements;
+
+    /**
+     * Enables or disables parallel sorting through the system property, which is read when the array utilities class
+     * is loaded in the forked JVM, i.e. on the first sort, and creates the elements to sort according to the
+     * distribution.
+     */
+    @Setup
+    public void setUp() {
+        System.setProperty(PARALLEL_SORTING_PROPERTY, Boolean.toString(parallelSorting));
+        elements = BenchmarkData.createElements(size);
+        switch (distribution) {
+        case SORTED:
+            Arrays.sort(elements);
+            break;
+        case REVERSED:
+            Arrays.sort(elements, BenchmarkData.COMPARATOR.reversed());
+            break;
+        case LOW_CARDINALITY:
+            for (int i = 0; i < size; i++) {
+                elements[i] = elements[i] % LOW_CARDINALITY;
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Benchmarks sorting a copy of the elements using the sort or parallel sort method of the Java arrays class.
+     *
+     * @return The sorted copy of the elements.
+     */
+    @Benchmark
+    public Object[] arraysSort() {
+        Object[] result = elements.clone();
+        Comparator<Object> comparator = (o1, o2) -> BenchmarkData.COMPARATOR.compare((Integer) o1, (Integer) o2);
+        if (parallelSorting) {
+            Arrays.parallelSort(result, comparator);
+        } else {
+            Arrays.sort(result, comparator);
+        }
+        return result;
+    }
+
+    /**
+     * Benchmarks sorting a copy of the elements using the sort engine of the library.
+     *
+     * @return The sorted copy of the elements.
+     */
+    @Benchmark
+    public Object[] sort() {
+        return ArrayUtilities.sort(elements, BenchmarkData.COMPARATOR);
+    }
+}
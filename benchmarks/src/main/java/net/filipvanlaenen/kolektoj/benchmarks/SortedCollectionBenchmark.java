@@ -0,0 +1,148 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.filipvanlaenen.kolektoj.SortedCollection;
+import net.filipvanlaenen.kolektoj.array.SortedArrayCollection;
+import net.filipvanlaenen.kolektoj.sortedtree.SortedTreeCollection;
+
+/**
+ * Benchmarks for the implementations of the {@link net.filipvanlaenen.kolektoj.SortedCollection} interface.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SortedCollectionBenchmark {
+    /**
+     * The implementation to benchmark.
+     */
+    @Param({"SortedArrayCollection", "SortedTreeCollection"})
+    private String implementation;
+    /**
+     * The size of the collection.
+     */
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+    /**
+     * Probes that are absent from the collection.
+     */
+    private Integer[] absentProbes;
+    /**
+     * The collection under test.
+     */
+    private SortedCollection<Integer> collection;
+    /**
+     * Random indices in the collection.
+     */
+    private int[] indexProbes;
+    /**
+     * The index of the current probe.
+     */
+    private int probeIndex;
+    /**
+     * Probes that are present in the collection.
+     */
+    private Integer[] presentProbes;
+
+    /**
+     * Creates the collection and the probes.
+     */
+    @Setup
+    public void setUp() {
+        Integer[] elements = BenchmarkData.createElements(size);
+        collection = createCollection(elements);
+        presentProbes = BenchmarkData.createPresentProbes(elements);
+        absentProbes = BenchmarkData.createAbsentProbes();
+        indexProbes = BenchmarkData.createIndexProbes(size);
+    }
+
+    /**
+     * Creates a sorted collection with the elements using the implementation under test.
+     *
+     * @param elements The elements.
+     * @return A sorted collection with the elements.
+     */
+    private SortedCollection<Integer> createCollection(final Integer[] elements) {
+        switch (implementation) {
+        case "SortedArrayCollection":
+            return new SortedArrayCollection<Integer>(BenchmarkData.COMPARATOR, elements);
+        case "SortedTreeCollection":
+            return new SortedTreeCollection<Integer>(BenchmarkData.COMPARATOR, elements);
+        default:
+            throw new IllegalArgumentException("Unknown implementation " + implementation + ".");
+        }
+    }
+
+    /**
+     * Benchmarks <code>contains</code> for an element that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean contains() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return collection.contains(presentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>contains</code> for an element that is absent.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return collection.contains(absentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>getAt</code> for a random index.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public Integer getAt() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return collection.getAt(indexProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>getGreaterThanOrEqualTo</code> for an element that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public Integer getGreaterThanOrEqualTo() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return collection.getGreaterThanOrEqualTo(presentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks iterating over all the elements of the collection.
+     *
+     * @return The sum of the elements.
+     */
+    @Benchmark
+    public long iterate() {
+        long sum = 0L;
+        for (Integer element : collection) {
+            sum += element;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,144 @@
+package net.filipvanlaenen.kolektoj.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.SortedMap;
+import net.filipvanlaenen.kolektoj.array.SortedArrayMap;
+import net.filipvanlaenen.kolektoj.sortedtree.SortedTreeMap;
+
+/**
+ * Benchmarks for the implementations of the {@link net.filipvanlaenen.kolektoj.SortedMap} interface.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SortedMapBenchmark {
+    /**
+     * The implementation to benchmark.
+     */
+    @Param({"SortedArrayMap", "SortedTreeMap"})
+    private String implementation;
+    /**
+     * The size of the map.
+     */
+    @Param({"10", "100", "1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+    /**
+     * Probes that are absent from the map.
+     */
+    private Integer[] absentProbes;
+    /**
+     * The map under test.
+     */
+    private SortedMap<Integer, Integer> map;
+    /**
+     * The index of the current probe.
+     */
+    private int probeIndex;
+    /**
+     * Probes that are present in the map.
+     */
+    private Integer[] presentProbes;
+
+    /**
+     * Creates the map and the probes.
+     */
+    @Setup
+    public void setUp() {
+        Integer[] elements = BenchmarkData.createElements(size);
+        map = createMap(BenchmarkData.createEntries(elements));
+        presentProbes = BenchmarkData.createPresentProbes(elements);
+        absentProbes = BenchmarkData.createAbsentProbes();
+    }
+
+    /**
+     * Creates a map with the entries using the implementation under test.
+     *
+     * @param entries The entries.
+     * @return A map with the entries.
+     */
+    private SortedMap<Integer, Integer> createMap(final Entry<Integer, Integer>[] entries) {
+        switch (implementation) {
+        case "SortedArrayMap":
+            return new SortedArrayMap<Integer, Integer>(BenchmarkData.COMPARATOR, entries);
+        case "SortedTreeMap":
+            return new SortedTreeMap<Integer, Integer>(BenchmarkData.COMPARATOR, entries);
+        default:
+            throw new IllegalArgumentException("Unknown implementation " + implementation + ".");
+        }
+    }
+
+    /**
+     * Benchmarks <code>containsKey</code> for a key that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean containsKey() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return map.containsKey(presentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>containsKey</code> for a key that is absent.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public boolean containsKeyAbsent() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return map.containsKey(absentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>get</code> for a key that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public Integer get() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return map.get(presentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks <code>getKeyGreaterThanOrEqualTo</code> for a key that is present.
+     *
+     * @return The result of the call.
+     */
+    @Benchmark
+    public Integer getKeyGreaterThanOrEqualTo() {
+        probeIndex = BenchmarkData.nextProbeIndex(probeIndex);
+        return map.getKeyGreaterThanOrEqualTo(presentProbes[probeIndex]);
+    }
+
+    /**
+     * Benchmarks iterating over all the entries of the map.
+     *
+     * @return The sum of the values.
+     */
+    @Benchmark
+    public long iterate() {
+        long sum = 0L;
+        for (Entry<Integer, Integer> entry : map) {
+            sum += entry.value();
+        }
+        return sum;
+    }
+}
@@ -125,11 +125,7 @@ public interface Collection<E> extends Cloneable, Iterable<E> {
      */
     static <F> Collection<F> unionOf(final ElementCardinality elementCardinality,
             final Collection<? extends F>... collections) {
-        ModifiableCollection<F> result = ModifiableCollection.of(elementCardinality);
-        for (Collection<? extends F> collection : collections) {
-            result.addAll(collection);
-        }
-        return new ArrayCollection<F>(result);
+        return ArrayCollection.<F>unionOf(elementCardinality, collections);
     }
 
     /**
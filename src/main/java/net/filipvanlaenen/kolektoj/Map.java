@@ -5,6 +5,7 @@ import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DUPLICAT
 
 import net.filipvanlaenen.kolektoj.Map.Entry;
 import net.filipvanlaenen.kolektoj.hash.HashMap;
+import net.filipvanlaenen.kolektoj.hash.ProbingStrategy;
 
 /**
  * Interface defining the signature for all maps.
@@ -78,6 +79,35 @@ public interface Map<K, V> extends Collection<Entry<K, V>> {
         return new HashMap<L, W>(keyAndValueCardinality, entries);
     }
 
+    /**
+     * Returns a new map with the specified entries, backed by a hash table with the specified probing strategy.
+     *
+     * @param <L>             The key type.
+     * @param <W>             The value type.
+     * @param probingStrategy The probing strategy.
+     * @param entries         The entries for the new map.
+     * @return A new map with the specified entries.
+     */
+    static <L, W> Map<L, W> of(final ProbingStrategy probingStrategy, final Entry<L, W>... entries) {
+        return new HashMap<L, W>(probingStrategy, entries);
+    }
+
+    /**
+     * Returns a new map with the specified entries and key and value cardinality, backed by a hash table with the
+     * specified probing strategy.
+     *
+     * @param <L>                    The key type.
+     * @param <W>                    The value type.
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param entries                The entries for the new map.
+     * @return A new map with the specified entries.
+     */
+    static <L, W> Map<L, W> of(final ProbingStrategy probingStrategy,
+            final KeyAndValueCardinality keyAndValueCardinality, final Entry<L, W>... entries) {
+        return new HashMap<L, W>(probingStrategy, keyAndValueCardinality, entries);
+    }
+
     /**
      * Returns a new map cloned from the provided map with the provided key and value cardinality.
      *
@@ -206,11 +236,7 @@ public interface Map<K, V> extends Collection<Entry<K, V>> {
      */
     static <L, W> Map<L, W> unionOf(final KeyAndValueCardinality keyAndValueCardinality,
             final Map<? extends L, ? extends W>... maps) {
-        ModifiableMap<L, W> result = ModifiableMap.of(keyAndValueCardinality);
-        for (Map<? extends L, ? extends W> map : maps) {
-            result.addAll(map);
-        }
-        return new HashMap<L, W>(result);
+        return HashMap.<L, W>unionOf(keyAndValueCardinality, maps);
     }
 
     /**
@@ -109,13 +109,45 @@ public interface ModifiableCollection<E> extends Collection<E> {
      */
     static <F> ModifiableCollection<F> unionOf(final ElementCardinality elementCardinality,
             final Collection<? extends F>... collections) {
-        ModifiableCollection<F> result = ModifiableCollection.of(elementCardinality);
+        int expectedSize = 0;
+        for (Collection<? extends F> collection : collections) {
+            expectedSize += collection.size();
+        }
+        ModifiableCollection<F> result = ModifiableCollection.withExpectedSize(elementCardinality, expectedSize);
         for (Collection<? extends F> collection : collections) {
             result.addAll(collection);
         }
         return result;
     }
 
+    /**
+     * Returns a new empty modifiable collection with the specified element cardinality, with room for the expected
+     * number of elements, such that adding up to that number of elements doesn't resize it.
+     *
+     * @param <F>                The element type.
+     * @param elementCardinality The element cardinality.
+     * @param expectedSize       The expected number of elements.
+     * @return A new empty modifiable collection with room for the expected number of elements.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    static <F> ModifiableCollection<F> withExpectedSize(final ElementCardinality elementCardinality,
+            final int expectedSize) throws IllegalArgumentException {
+        return ModifiableArrayCollection.<F>withExpectedSize(elementCardinality, expectedSize);
+    }
+
+    /**
+     * Returns a new empty modifiable collection with room for the expected number of elements, such that adding up to
+     * that number of elements doesn't resize it.
+     *
+     * @param <F>          The element type.
+     * @param expectedSize The expected number of elements.
+     * @return A new empty modifiable collection with room for the expected number of elements.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    static <F> ModifiableCollection<F> withExpectedSize(final int expectedSize) throws IllegalArgumentException {
+        return ModifiableArrayCollection.<F>withExpectedSize(expectedSize);
+    }
+
     /**
      * Adds an element to this collection and returns whether it increased the size of the collection.
      *
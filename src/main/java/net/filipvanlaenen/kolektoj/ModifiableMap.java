@@ -4,6 +4,7 @@ import java.util.function.Predicate;
 
 import net.filipvanlaenen.kolektoj.Map.Entry;
 import net.filipvanlaenen.kolektoj.hash.ModifiableHashMap;
+import net.filipvanlaenen.kolektoj.hash.ProbingStrategy;
 
 /**
  * Interface defining the signature for all modifiable maps.
@@ -140,6 +141,36 @@ public interface ModifiableMap<K, V> extends Collection<Entry<K, V>>, UpdatableM
         return new ModifiableHashMap<L, W>(keyAndValueCardinality, entries);
     }
 
+    /**
+     * Returns a new modifiable map with the specified entries, backed by a hash table with the specified probing
+     * strategy.
+     *
+     * @param <L>             The key type.
+     * @param <W>             The value type.
+     * @param probingStrategy The probing strategy.
+     * @param entries         The entries for the new modifiable map.
+     * @return A new modifiable map with the specified entries.
+     */
+    static <L, W> ModifiableMap<L, W> of(final ProbingStrategy probingStrategy, final Entry<L, W>... entries) {
+        return new ModifiableHashMap<L, W>(probingStrategy, entries);
+    }
+
+    /**
+     * Returns a new modifiable map with the specified entries and key and value cardinality, backed by a hash table
+     * with the specified probing strategy.
+     *
+     * @param <L>                    The key type.
+     * @param <W>                    The value type.
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param entries                The entries for the new modifiable map.
+     * @return A new modifiable map with the specified entries.
+     */
+    static <L, W> ModifiableMap<L, W> of(final ProbingStrategy probingStrategy,
+            final KeyAndValueCardinality keyAndValueCardinality, final Entry<L, W>... entries) {
+        return new ModifiableHashMap<L, W>(probingStrategy, keyAndValueCardinality, entries);
+    }
+
     /**
      * Returns a new modifiable map with the entries from the provided map and the provided key and value cardinality.
      *
@@ -251,7 +282,11 @@ public interface ModifiableMap<K, V> extends Collection<Entry<K, V>>, UpdatableM
      */
     static <L, W> ModifiableMap<L, W> unionOf(final KeyAndValueCardinality keyAndValueCardinality,
             final Map<? extends L, ? extends W>... maps) {
-        ModifiableMap<L, W> result = ModifiableMap.of(keyAndValueCardinality);
+        int expectedSize = 0;
+        for (Map<? extends L, ? extends W> map : maps) {
+            expectedSize += map.size();
+        }
+        ModifiableMap<L, W> result = ModifiableMap.withExpectedSize(keyAndValueCardinality, expectedSize);
         for (Map<? extends L, ? extends W> map : maps) {
             result.addAll(map);
         }
@@ -270,6 +305,36 @@ public interface ModifiableMap<K, V> extends Collection<Entry<K, V>>, UpdatableM
         return unionOf(KeyAndValueCardinality.DISTINCT_KEYS, maps);
     }
 
+    /**
+     * Returns a new empty modifiable map with room for the expected number of entries, such that adding up to that
+     * number of entries doesn't resize it.
+     *
+     * @param <L>          The key type.
+     * @param <W>          The value type.
+     * @param expectedSize The expected number of entries.
+     * @return A new empty modifiable map with room for the expected number of entries.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    static <L, W> ModifiableMap<L, W> withExpectedSize(final int expectedSize) throws IllegalArgumentException {
+        return ModifiableHashMap.<L, W>withExpectedSize(expectedSize);
+    }
+
+    /**
+     * Returns a new empty modifiable map with the specified key and value cardinality, with room for the expected
+     * number of entries, such that adding up to that number of entries doesn't resize it.
+     *
+     * @param <L>                    The key type.
+     * @param <W>                    The value type.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param expectedSize           The expected number of entries.
+     * @return A new empty modifiable map with room for the expected number of entries.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    static <L, W> ModifiableMap<L, W> withExpectedSize(final KeyAndValueCardinality keyAndValueCardinality,
+            final int expectedSize) throws IllegalArgumentException {
+        return ModifiableHashMap.<L, W>withExpectedSize(keyAndValueCardinality, expectedSize);
+    }
+
     /**
      * Adds an entry to this map with the given key and value, and returns whether it increased the size of the map.
      *
@@ -315,6 +380,10 @@ public interface ModifiableMap<K, V> extends Collection<Entry<K, V>>, UpdatableM
      * @param map The map from which entries should be put into this map.
      */
     default void putAll(final Map<? extends K, ? extends V> map) {
+        if (map == this) {
+            putAll(Map.of(map));
+            return;
+        }
         for (Entry<? extends K, ? extends V> entry : map) {
             put(entry.key(), entry.value());
         }
@@ -98,7 +98,12 @@ public interface ModifiableOrderedCollection<E> extends ModifiableCollection<E>,
      */
     static <F> ModifiableOrderedCollection<F> unionOf(final ElementCardinality elementCardinality,
             final OrderedCollection<? extends F>... collections) {
-        ModifiableOrderedCollection<F> result = ModifiableOrderedCollection.of(elementCardinality);
+        int expectedSize = 0;
+        for (OrderedCollection<? extends F> collection : collections) {
+            expectedSize += collection.size();
+        }
+        ModifiableOrderedCollection<F> result =
+                ModifiableOrderedCollection.withExpectedSize(elementCardinality, expectedSize);
         for (OrderedCollection<? extends F> collection : collections) {
             result.addAllLast(collection);
         }
@@ -116,6 +121,34 @@ public interface ModifiableOrderedCollection<E> extends ModifiableCollection<E>,
         return unionOf(ElementCardinality.DUPLICATE_ELEMENTS, collections);
     }
 
+    /**
+     * Returns a new empty modifiable ordered collection with the specified element cardinality, with room for the
+     * expected number of elements, such that adding up to that number of elements doesn't resize it.
+     *
+     * @param <F>                The element type.
+     * @param elementCardinality The element cardinality.
+     * @param expectedSize       The expected number of elements.
+     * @return A new empty modifiable ordered collection with room for the expected number of elements.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    static <F> ModifiableOrderedCollection<F> withExpectedSize(final ElementCardinality elementCardinality,
+            final int expectedSize) throws IllegalArgumentException {
+        return ModifiableOrderedArrayCollection.<F>withExpectedSize(elementCardinality, expectedSize);
+    }
+
+    /**
+     * Returns a new empty modifiable ordered collection with room for the expected number of elements, such that
+     * adding up to that number of elements doesn't resize it.
+     *
+     * @param <F>          The element type.
+     * @param expectedSize The expected number of elements.
+     * @return A new empty modifiable ordered collection with room for the expected number of elements.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    static <F> ModifiableOrderedCollection<F> withExpectedSize(final int expectedSize) throws IllegalArgumentException {
+        return ModifiableOrderedArrayCollection.<F>withExpectedSize(expectedSize);
+    }
+
     /**
      * Adds elements from an ordered collection to this collection at a given position and returns whether it increased
      * the size of the collection.
@@ -1,6 +1,7 @@
 package net.filipvanlaenen.kolektoj;
 
 import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.hash.ProbingStrategy;
 import net.filipvanlaenen.kolektoj.hash.UpdatableHashMap;
 
 /**
@@ -49,6 +50,36 @@ public interface UpdatableMap<K, V> extends Collection<Entry<K, V>>, Map<K, V> {
         return new UpdatableHashMap<L, W>(keyAndValueCardinality, entries);
     }
 
+    /**
+     * Returns a new updatable map with the specified entries, backed by a hash table with the specified probing
+     * strategy.
+     *
+     * @param <L>             The key type.
+     * @param <W>             The value type.
+     * @param probingStrategy The probing strategy.
+     * @param entries         The entries for the new updatable map.
+     * @return A new updatable map with the specified entries.
+     */
+    static <L, W> UpdatableMap<L, W> of(final ProbingStrategy probingStrategy, final Entry<L, W>... entries) {
+        return new UpdatableHashMap<L, W>(probingStrategy, entries);
+    }
+
+    /**
+     * Returns a new updatable map with the specified entries and key and value cardinality, backed by a hash table
+     * with the specified probing strategy.
+     *
+     * @param <L>                    The key type.
+     * @param <W>                    The value type.
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param entries                The entries for the new updatable map.
+     * @return A new updatable map with the specified entries.
+     */
+    static <L, W> UpdatableMap<L, W> of(final ProbingStrategy probingStrategy,
+            final KeyAndValueCardinality keyAndValueCardinality, final Entry<L, W>... entries) {
+        return new UpdatableHashMap<L, W>(probingStrategy, keyAndValueCardinality, entries);
+    }
+
     /**
      * Returns a new updatable map cloned from the provided map with the specified key and value cardinality.
      *
@@ -76,6 +76,18 @@ public final class ArrayCollection<E> implements Collection<E> {
         }
     }
 
+    /**
+     * Constructs an array collection taking ownership of an array with the elements, which should already satisfy the
+     * element cardinality.
+     *
+     * @param elements           The array with the elements, which isn't cloned.
+     * @param elementCardinality The element cardinality.
+     */
+    private ArrayCollection(final Object[] elements, final ElementCardinality elementCardinality) {
+        this.elementCardinality = elementCardinality;
+        this.elements = elements;
+    }
+
     @Override
     public boolean contains(final E element) {
         return ArrayUtilities.contains(elements, elements.length, element);
@@ -119,4 +131,24 @@ public final class ArrayCollection<E> implements Collection<E> {
     public Object[] toArray() {
         return elements.clone();
     }
+
+    /**
+     * Returns a new array collection with the specified element cardinality containing all the elements from the
+     * provided collections. The elements array is allocated once for the sum of the sizes of the collections and
+     * filled in a single pass, after which the duplicates are removed in place if the elements should be distinct.
+     *
+     * @param <F>                The element type.
+     * @param elementCardinality The element cardinality.
+     * @param collections        The collections from which to copy all the elements.
+     * @return A new array collection with the specified element cardinality containing all the elements from the
+     *         provided collections.
+     */
+    public static <F> ArrayCollection<F> unionOf(final ElementCardinality elementCardinality,
+            final Collection<? extends F>... collections) {
+        Object[] elements = ArrayUtilities.concatenate(collections);
+        if (elementCardinality == DISTINCT_ELEMENTS) {
+            elements = ArrayUtilities.retainDistinctElements(elements);
+        }
+        return new ArrayCollection<F>(elements, elementCardinality);
+    }
 }
@@ -0,0 +1,175 @@
+package net.filipvanlaenen.kolektoj.array;
+
+import java.util.Objects;
+
+/**
+ * A lightweight hash index over the elements array of an array backed collection. The index doesn't hold the elements
+ * themselves, but only their positions in the elements array, in an open addressing hash table with linear probing,
+ * together with their hash codes, such that an element can be found without scanning the array, and the index can be
+ * grown without calling <code>hashCode</code> again. Since the elements array is owned by the collection, it has to be
+ * passed to the index for every lookup.
+ */
+final class ArrayHashIndex {
+    /**
+     * The minimal ratio between the capacity of the index and the number of positions it holds.
+     */
+    private static final int MINIMAL_HASHING_RATIO = 2;
+    /**
+     * The hash codes of the elements at the positions in the slots.
+     */
+    private int[] hashCodes;
+    /**
+     * The mask to calculate an index in the slots, i.e. the capacity minus one.
+     */
+    private int mask;
+    /**
+     * The number of positions in the index.
+     */
+    private int size;
+    /**
+     * The slots with the positions of the elements, incremented by one, such that zero marks an empty slot.
+     */
+    private int[] slots;
+
+    /**
+     * Constructor building an index over the first <code>size</code> elements of an array. The index is allocated
+     * with room for the whole length of the array, such that filling up the array doesn't grow the index.
+     *
+     * @param elements The elements array.
+     * @param size     The number of elements in the array to index.
+     */
+    ArrayHashIndex(final Object[] elements, final int size) {
+        allocate(elements.length);
+        for (int i = 0; i < size; i++) {
+            add(elements[i], i);
+        }
+    }
+
+    /**
+     * Adds the position of an element to the index, growing the index if necessary.
+     *
+     * @param element  The element.
+     * @param position The position of the element in the elements array.
+     */
+    void add(final Object element, final int position) {
+        if ((size + 1) * MINIMAL_HASHING_RATIO > slots.length) {
+            grow();
+        }
+        insert(Objects.hashCode(element), position);
+        size++;
+    }
+
+    /**
+     * Allocates empty slots for the given number of positions.
+     *
+     * @param numberOfPositions The number of positions the index should be able to hold.
+     */
+    private void allocate(final int numberOfPositions) {
+        int capacity = ArrayUtilities.capacityFor((long) Integer.highestOneBit(Math.max(1, numberOfPositions)) << 2);
+        slots = new int[capacity];
+        hashCodes = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns the slot holding a position, or -1 if the index doesn't contain the position.
+     *
+     * @param hashCode The hash code of the element at the position.
+     * @param position The position.
+     * @return The slot holding the position, or -1 if the index doesn't contain the position.
+     */
+    private int findSlot(final int hashCode, final int position) {
+        int slot = ArrayUtilities.spread(hashCode) & mask;
+        while (slots[slot] != 0) {
+            if (slots[slot] == position + 1) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Doubles the capacity of the index, reinserting the positions using their cached hash codes.
+     */
+    private void grow() {
+        int[] oldSlots = slots;
+        int[] oldHashCodes = hashCodes;
+        allocate(oldSlots.length / MINIMAL_HASHING_RATIO);
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] != 0) {
+                insert(oldHashCodes[i], oldSlots[i] - 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the position of an element in the elements array, or -1 if the element isn't present.
+     *
+     * @param elements The elements array.
+     * @param element  The element.
+     * @return The position of the element, or -1 if the element isn't present.
+     */
+    int indexOf(final Object[] elements, final Object element) {
+        int hashCode = Objects.hashCode(element);
+        int slot = ArrayUtilities.spread(hashCode) & mask;
+        while (slots[slot] != 0) {
+            int position = slots[slot] - 1;
+            if (hashCodes[slot] == hashCode && Objects.equals(elements[position], element)) {
+                return position;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts a position into the first free slot of its probe sequence.
+     *
+     * @param hashCode The hash code of the element at the position.
+     * @param position The position.
+     */
+    private void insert(final int hashCode, final int position) {
+        int slot = ArrayUtilities.spread(hashCode) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = position + 1;
+        hashCodes[slot] = hashCode;
+    }
+
+    /**
+     * Registers that an element has moved to another position in the elements array.
+     *
+     * @param element The element.
+     * @param from    The old position of the element.
+     * @param to      The new position of the element.
+     */
+    void move(final Object element, final int from, final int to) {
+        slots[findSlot(Objects.hashCode(element), from)] = to + 1;
+    }
+
+    /**
+     * Removes the position of an element from the index. The positions following the removed position in its cluster
+     * are shifted backward into the freed slot where their probe sequence allows it, such that no tombstones are
+     * needed.
+     *
+     * @param element  The element.
+     * @param position The position of the element in the elements array.
+     */
+    void remove(final Object element, final int position) {
+        int hole = findSlot(Objects.hashCode(element), position);
+        int next = (hole + 1) & mask;
+        while (slots[next] != 0) {
+            int home = ArrayUtilities.spread(hashCodes[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                slots[hole] = slots[next];
+                hashCodes[hole] = hashCodes[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots[hole] = 0;
+        size--;
+    }
+}
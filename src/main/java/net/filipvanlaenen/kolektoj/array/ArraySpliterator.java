@@ -1,14 +1,16 @@
 package net.filipvanlaenen.kolektoj.array;
 
-import java.lang.reflect.Array;
 import java.util.Comparator;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
 /**
- * An implementation of {@link java.util.Spliterator} that is backed by an array. This implementation provides a
- * spliterator that is both sized and subsized, but depending on the content and the order of the elements, it may have
- * additional characteristics.
+ * An implementation of {@link java.util.Spliterator} that is backed by an array. The spliterator covers a range of
+ * indices in the array, and splitting it hands over half of that range to a new spliterator over the same array,
+ * such that the elements are never copied. The array is shared, and should therefore not be modified once the
+ * spliterator has been created, i.e. it should either be the array of an immutable collection or a copy of the
+ * elements of a modifiable collection. This implementation provides a spliterator that is sized, subsized and
+ * immutable, but depending on the content and the order of the elements, it may have additional characteristics.
  *
  * @param <E> The element type.
  */
@@ -22,9 +24,13 @@ public final class ArraySpliterator<E> implements Spliterator<E> {
      */
     private final Comparator<? super E> comparator;
     /**
-     * The elements of the spliterator.
+     * The array with the elements of the spliterator, shared with the spliterators split off from it.
      */
     private final Object[] elements;
+    /**
+     * The position just after the last element of the spliterator.
+     */
+    private final int fence;
     /**
      * The spliterator's current position.
      */
@@ -34,7 +40,8 @@ public final class ArraySpliterator<E> implements Spliterator<E> {
      * Constructor taking the elements and additional characteristics as its arguments.
      *
      * @param elements                  The elements for the spliterator.
-     * @param additionalCharacteristics The characteristics for the spliterator in addition to SIZED and SUBSIZED.
+     * @param additionalCharacteristics The characteristics for the spliterator in addition to SIZED, SUBSIZED and
+     *                                  IMMUTABLE.
      */
     public ArraySpliterator(final Object[] elements, final int additionalCharacteristics) {
         this(elements, additionalCharacteristics, null);
@@ -44,32 +51,30 @@ public final class ArraySpliterator<E> implements Spliterator<E> {
      * Constructor taking the elements and additional characteristics as its arguments.
      *
      * @param elements                  The elements for the spliterator.
-     * @param additionalCharacteristics The characteristics for the spliterator in addition to SIZED and SUBSIZED.
+     * @param additionalCharacteristics The characteristics for the spliterator in addition to SIZED, SUBSIZED and
+     *                                  IMMUTABLE.
      * @param comparator2               The comparator for the spliterator.
      */
     public ArraySpliterator(final Object[] elements, final int additionalCharacteristics,
             final Comparator<? super E> comparator2) {
-        this.elements = elements.clone();
-        this.characteristics = SIZED | SUBSIZED | additionalCharacteristics;
-        this.comparator = comparator2;
+        this(elements, 0, elements.length, SIZED | SUBSIZED | IMMUTABLE | additionalCharacteristics, comparator2);
     }
 
     /**
-     * Constructor taking the elements and additional characteristics as its arguments, in addition to the starting
+     * Constructor taking the elements and the characteristics as its arguments, in addition to the starting
      * (inclusive) and ending (exclusive) position in the element array.
      *
      * @param elements        The elements for the spliterator.
      * @param from            The position of the first element to be included.
      * @param to              The position just after the last element to be included.
-     * @param characteristics The characteristics for the spliterator in addition to SIZED and SUBSIZED.
+     * @param characteristics The characteristics for the spliterator.
      * @param comparator      The comparator for the spliterator.
      */
     private ArraySpliterator(final Object[] elements, final int from, final int to, final int characteristics,
             final Comparator<? super E> comparator) {
-        int size = to - from;
-        Class<E[]> clazz = (Class<E[]>) elements.getClass();
-        this.elements = (E[]) Array.newInstance(clazz.getComponentType(), size);
-        System.arraycopy(elements, from, this.elements, 0, size);
+        this.elements = elements;
+        this.index = from;
+        this.fence = to;
         this.characteristics = characteristics;
         this.comparator = comparator;
     }
@@ -81,7 +86,16 @@ public final class ArraySpliterator<E> implements Spliterator<E> {
 
     @Override
     public long estimateSize() {
-        return (long) (elements.length - index);
+        return (long) (fence - index);
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super E> action) {
+        int from = index;
+        index = fence;
+        for (int i = from; i < fence; i++) {
+            action.accept((E) elements[i]);
+        }
     }
 
     @Override
@@ -91,7 +105,7 @@ public final class ArraySpliterator<E> implements Spliterator<E> {
 
     @Override
     public boolean tryAdvance(final Consumer<? super E> action) {
-        if (index < elements.length) {
+        if (index < fence) {
             action.accept((E) elements[index++]);
             return true;
         }
@@ -100,8 +114,7 @@ public final class ArraySpliterator<E> implements Spliterator<E> {
 
     @Override
     public Spliterator<E> trySplit() {
-        int currentSize = elements.length - index;
-        int splitIndex = index + currentSize / 2;
+        int splitIndex = (index + fence) >>> 1;
         if (index < splitIndex) {
             int originalIndex = index;
             index = splitIndex;
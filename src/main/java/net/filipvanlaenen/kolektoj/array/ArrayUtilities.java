@@ -1,8 +1,9 @@
 package net.filipvanlaenen.kolektoj.array;
 
-import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import net.filipvanlaenen.kolektoj.Collection;
 
@@ -10,6 +11,56 @@ import net.filipvanlaenen.kolektoj.Collection;
  * A class with utility methods for array-backed collections.
  */
 public final class ArrayUtilities {
+    /**
+     * The odd multiplier used to spread the bits of hash codes, the 32-bit golden ratio.
+     */
+    private static final int SPREADING_MULTIPLIER = 0x9E3779B9;
+    /**
+     * The number of bits by which the high half of a multiplied hash code is shifted onto the low half.
+     */
+    private static final int HALF_WORD = 16;
+    /**
+     * The maximal capacity of a hash table, i.e. the largest power of two that fits in an int.
+     */
+    static final int MAXIMAL_CAPACITY = Integer.highestOneBit(Integer.MAX_VALUE);
+    /**
+     * The maximal number of pending runs in the merge sort. The run lengths on the stack grow at least as fast as the
+     * Fibonacci numbers, starting from the minimal run length, so this suffices for arrays of any length.
+     */
+    private static final int MAXIMAL_NUMBER_OF_PENDING_RUNS = 49;
+    /**
+     * The minimal length of an elements array growing geometrically, such that small collections don't resize after
+     * every few additions.
+     */
+    private static final int MINIMAL_GEOMETRIC_LENGTH = 8;
+    /**
+     * The minimal length of a run in the merge sort. Shorter runs are extended to this length using binary insertion
+     * sort, which is faster than merging for short runs.
+     */
+    private static final int MINIMAL_RUN_LENGTH = 32;
+    /**
+     * The name of the system property that turns parallel sorting on when set to <code>true</code>.
+     */
+    static final String PARALLEL_SORTING_PROPERTY = "kolektoj.parallelSorting";
+    /**
+     * The length from which arrays are sorted in parallel, which is also the length of the ranges that are sorted
+     * sequentially by the parallel sort. Below this length, the overhead of forking tasks outweighs the gain.
+     */
+    static final int PARALLEL_SORTING_THRESHOLD = 8192;
+    /**
+     * The ratio between the length of an elements array growing geometrically and the size below which it is shrunk.
+     */
+    private static final int SHRINKING_RATIO = 4;
+    /**
+     * The stride for growing and shrinking an elements array with a fixed stride.
+     */
+    private static final int STRIDE = 5;
+    /**
+     * Whether arrays from the threshold length on are sorted in parallel.
+     */
+    private static volatile boolean parallelSortingEnabled =
+            Boolean.parseBoolean(System.getProperty(PARALLEL_SORTING_PROPERTY, "false"));
+
     /**
      * Private constructor to avoid instantiation of this utility class.
      */
@@ -17,33 +68,76 @@ public final class ArrayUtilities {
     }
 
     /**
-     * Returns a clone of an array, but only with distinct elements. The ordered of the elements is preserved.
+     * Sorts a range of an array using binary insertion sort, given that the elements at the start of the range are
+     * already sorted. Every element is inserted after the elements the comparator considers equal to it, such that the
+     * sort is stable.
+     *
+     * @param <E>        The element type.
+     * @param array      The array.
+     * @param comparator The comparator to use.
+     * @param from       The index of the first element of the range.
+     * @param sortedTo   The index just after the last element that is already sorted.
+     * @param to         The index just after the last element of the range.
+     */
+    private static <E> void binaryInsertionSort(final Object[] array, final Comparator<E> comparator, final int from,
+            final int sortedTo, final int to) {
+        for (int i = sortedTo; i < to; i++) {
+            E element = (E) array[i];
+            int index = upperBound(array, comparator, element, from, i);
+            System.arraycopy(array, index, array, index + 1, i - index);
+            array[index] = element;
+        }
+    }
+
+    /**
+     * Returns the capacity for a hash table, i.e. the smallest power of two that is greater than or equal to the
+     * minimal capacity, or zero if the minimal capacity is zero. The minimal capacity is a long, such that callers can
+     * multiply a number of entries without overflowing, and the capacity is clamped to the largest power of two that
+     * fits in an int.
+     *
+     * @param minimalCapacity The minimal capacity.
+     * @return The smallest power of two that is greater than or equal to the minimal capacity, but not greater than
+     *         the maximal capacity.
+     */
+    public static int capacityFor(final long minimalCapacity) {
+        if (minimalCapacity >= MAXIMAL_CAPACITY) {
+            return MAXIMAL_CAPACITY;
+        }
+        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
+        return minimalCapacity <= 1 ? (int) minimalCapacity : Integer.highestOneBit((int) minimalCapacity - 1) << 1;
+    }
+
+    /**
+     * Returns a clone of an array, but only with distinct elements. The order of the elements is preserved, i.e. the
+     * first occurrence of every element is retained.
      *
      * @param <E>    The element type.
      * @param source The array to clone.
      * @return A new array containing only distinct elements from the source array.
      */
     public static <E> E[] cloneDistinctElements(final E[] source) {
-        int originalLength = source.length;
-        int resultLength = originalLength;
-        boolean[] duplicate = new boolean[originalLength];
-        for (int i = 0; i < originalLength; i++) {
-            if (!duplicate[i]) {
-                for (int j = i + 1; j < originalLength; j++) {
-                    if (Objects.equals(source[i], source[j])) {
-                        duplicate[j] = true;
-                        resultLength--;
-                    }
-                }
-            }
+        return retainDistinctElements(source.clone());
+    }
+
+    /**
+     * Returns a new array with the elements of the collections, concatenated in the order of the collections. The
+     * array is allocated once for the sum of the sizes of the collections, and filled in a single pass over the
+     * collections.
+     *
+     * @param collections The collections.
+     * @return A new array with the elements of the collections.
+     */
+    public static Object[] concatenate(final Collection<?>... collections) {
+        int length = 0;
+        for (Collection<?> collection : collections) {
+            length += collection.size();
         }
-        Class<E[]> clazz = (Class<E[]>) source.getClass();
-        E[] result = (E[]) Array.newInstance(clazz.getComponentType(), resultLength);
-        for (int i = 0, j = 0; j < resultLength; i++, j++) {
-            while (duplicate[i]) {
-                i++;
+        Object[] result = new Object[length];
+        int i = 0;
+        for (Collection<?> collection : collections) {
+            for (Object element : collection) {
+                result[i++] = element;
             }
-            result[j] = source[i];
         }
         return result;
     }
@@ -211,6 +305,37 @@ public final class ArrayUtilities {
         return true;
     }
 
+    /**
+     * Returns the end of the run starting at the start of a range of an array, i.e. the index just after the last
+     * element of the longest non-descending or strictly descending sequence. A strictly descending run is reversed,
+     * which keeps the sort stable, because it can't contain elements the comparator considers equal.
+     *
+     * @param <E>        The element type.
+     * @param array      The array.
+     * @param comparator The comparator to use.
+     * @param from       The index of the first element of the range.
+     * @param to         The index just after the last element of the range.
+     * @return The index just after the last element of the run.
+     */
+    private static <E> int findRunEnd(final Object[] array, final Comparator<E> comparator, final int from,
+            final int to) {
+        int runEnd = from + 1;
+        if (runEnd == to) {
+            return to;
+        }
+        if (comparator.compare((E) array[runEnd++], (E) array[from]) < 0) {
+            while (runEnd < to && comparator.compare((E) array[runEnd], (E) array[runEnd - 1]) < 0) {
+                runEnd++;
+            }
+            reverse(array, from, runEnd);
+        } else {
+            while (runEnd < to && comparator.compare((E) array[runEnd], (E) array[runEnd - 1]) >= 0) {
+                runEnd++;
+            }
+        }
+        return runEnd;
+    }
+
     /**
      * Returns an index where an element can be found in the first <code>size</code> elements of a sorted array such
      * that the comparator returns zero, or -1 if it's absent.
@@ -266,69 +391,341 @@ public final class ArrayUtilities {
     }
 
     /**
-     * Partitions an array for the Quicksort algorithm using the given comparator.
+     * Returns the length to which an elements array should grow in order to hold a number of elements, according to a
+     * growth strategy. With a fixed stride, the array grows to the number of elements plus the stride. With geometric
+     * growth, the array grows by half its length, but at least to the number of elements and a minimal length.
+     *
+     * @param growthStrategy The growth strategy.
+     * @param length         The current length of the elements array.
+     * @param minimalLength  The number of elements the array should be able to hold.
+     * @return The length to which the elements array should grow.
+     */
+    static int grownLength(final GrowthStrategy growthStrategy, final int length, final int minimalLength) {
+        if (growthStrategy == GrowthStrategy.FIXED_STRIDE) {
+            return minimalLength + STRIDE;
+        }
+        // If the length overflows, the growth falls back to the minimal length.
+        return Math.max(minimalLength, Math.max(length + (length >> 1), MINIMAL_GEOMETRIC_LENGTH));
+    }
+
+    /**
+     * Returns whether arrays from the threshold length on are sorted in parallel. Parallel sorting is disabled by
+     * default, and only enabled if the system property <code>kolektoj.parallelSorting</code> is set to
+     * <code>true</code>, because the comparators of the sorted collections and maps then run concurrently on threads of
+     * the common fork/join pool.
+     *
+     * @return True if parallel sorting is enabled.
+     */
+    static boolean isParallelSortingEnabled() {
+        return parallelSortingEnabled;
+    }
+
+    /**
+     * Returns the index of the first element in a sorted range of an array that the comparator doesn't consider less
+     * than the given element, or the end of the range if there is no such element.
      *
      * @param <E>        The element type.
-     * @param array      The array to partition.
+     * @param array      The array.
      * @param comparator The comparator to use.
-     * @param first      The index of the first element in the array that should be partitioned.
-     * @param last       The index of the last element in the array that should be partitioned.
-     * @return The index of the pivot element.
-     */
-    private static <E> int partition(final Object[] array, final Comparator<E> comparator, final int first,
-            final int last) {
-        int middle = (first + last) / 2;
-        if (comparator.compare((E) array[middle], (E) array[first]) < 0) {
-            swap(array, first, middle);
-        }
-        if (comparator.compare((E) array[last], (E) array[first]) < 0) {
-            swap(array, first, last);
-        }
-        if (comparator.compare((E) array[middle], (E) array[last]) < 0) {
-            swap(array, middle, last);
-        }
-        E pivot = (E) array[last];
-        int index = first - 1;
-        for (int j = first; j < last; j++) {
-            if (comparator.compare((E) array[j], pivot) <= 0) {
-                swap(array, ++index, j);
+     * @param element    The element.
+     * @param from       The index of the first element of the range.
+     * @param to         The index just after the last element of the range.
+     * @return The index of the first element not less than the given element.
+     */
+    private static <E> int lowerBound(final Object[] array, final Comparator<E> comparator, final E element,
+            final int from, final int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare((E) array[middle], element) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Merges two adjacent sorted runs in an array in a stable manner. The elements at the start of the first run that
+     * are not greater than the first element of the second run, and the elements at the end of the second run that
+     * are not less than the last element of the first run, are already in place and are left alone. Of the rest, the
+     * elements of the first run are copied to the buffer from the offset on, and then merged with the second run from
+     * left to right.
+     *
+     * @param <E>          The element type.
+     * @param array        The array.
+     * @param comparator   The comparator to use.
+     * @param from         The index of the first element of the first run.
+     * @param middle       The index of the first element of the second run.
+     * @param to           The index just after the last element of the second run.
+     * @param buffer       A buffer to copy elements of the first run to.
+     * @param bufferOffset The index in the buffer from which the elements of the first run may be copied.
+     * @return The buffer, or a larger buffer if the buffer wasn't large enough.
+     */
+    static <E> Object[] merge(final Object[] array, final Comparator<E> comparator, final int from,
+            final int middle, final int to, final Object[] buffer, final int bufferOffset) {
+        int start = upperBound(array, comparator, (E) array[middle], from, middle);
+        if (start == middle) {
+            return buffer;
+        }
+        int end = lowerBound(array, comparator, (E) array[middle - 1], middle, to);
+        int leftLength = middle - start;
+        Object[] left = buffer;
+        int offset = bufferOffset;
+        if (buffer.length - bufferOffset < leftLength) {
+            left = new Object[leftLength];
+            offset = 0;
+        }
+        System.arraycopy(array, start, left, offset, leftLength);
+        int i = offset;
+        int leftEnd = offset + leftLength;
+        int j = middle;
+        int k = start;
+        while (i < leftEnd && j < end) {
+            if (comparator.compare((E) array[j], (E) left[i]) < 0) {
+                array[k++] = array[j++];
+            } else {
+                array[k++] = left[i++];
             }
         }
-        swap(array, index + 1, last);
-        return index + 1;
+        System.arraycopy(left, i, array, k, leftEnd - i);
+        return left;
     }
 
     /**
-     * Returns an array based on the elements of an array using the given comparator according to the Quicksort
-     * algorithm.
+     * Returns an array based on the elements of an array using the given comparator.
      *
      * @param <E>        The element type.
      * @param source     The array to sort.
      * @param comparator The comparator to use.
      * @return The array sorted using the comparator.
+     * @deprecated The array is no longer sorted using the Quicksort algorithm, use {@link #sort(Object[], Comparator)}
+     *             instead.
      */
+    @Deprecated
     public static <E> Object[] quicksort(final Object[] source, final Comparator<E> comparator) {
+        return sort(source, comparator);
+    }
+
+    /**
+     * Removes the duplicate elements from an array in place, i.e. the array passed as the parameter is modified: the
+     * distinct elements are moved to the front of the array, and the array itself is returned if it didn't contain
+     * duplicates, and a truncated copy otherwise. Use {@link #cloneDistinctElements(Object[])} to leave the array
+     * untouched. The order of the elements is preserved, i.e. the first occurrence of every element is retained. The
+     * elements already retained are indexed in an open addressing hash table on their hash codes, such that only
+     * elements with the same hash code have to be compared using <code>equals</code>, and the duplicates can be removed
+     * in linear time on average.
+     *
+     * @param <E>      The element type.
+     * @param elements The array from which to remove the duplicate elements, which is modified.
+     * @return An array containing only distinct elements from the array, either the array itself or a truncated copy.
+     */
+    public static <E> E[] retainDistinctElements(final E[] elements) {
+        int originalLength = elements.length;
+        if (originalLength < 2) {
+            return elements;
+        }
+        int mask = capacityFor(2L * originalLength) - 1;
+        int[] slots = new int[mask + 1];
+        int[] hashCodes = new int[originalLength];
+        int resultLength = 0;
+        for (int i = 0; i < originalLength; i++) {
+            E element = elements[i];
+            int hashCode = Objects.hashCode(element);
+            int index = spread(hashCode) & mask;
+            boolean duplicate = false;
+            while (slots[index] != 0) {
+                int j = slots[index] - 1;
+                if (hashCodes[j] == hashCode && Objects.equals(elements[j], element)) {
+                    duplicate = true;
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            if (!duplicate) {
+                slots[index] = resultLength + 1;
+                hashCodes[resultLength] = hashCode;
+                elements[resultLength++] = element;
+            }
+        }
+        return resultLength == originalLength ? elements : Arrays.copyOf(elements, resultLength);
+    }
+
+    /**
+     * Reverses a range of an array.
+     *
+     * @param array The array.
+     * @param from  The index of the first element of the range.
+     * @param to    The index just after the last element of the range.
+     */
+    private static void reverse(final Object[] array, final int from, final int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            swap(array, i, j);
+        }
+    }
+
+    /**
+     * Enables or disables parallel sorting of arrays from the threshold length on. Outside this package, parallel
+     * sorting can only be turned on through the system property <code>kolektoj.parallelSorting</code>.
+     *
+     * @param enabled True to enable parallel sorting, false to sort on the calling thread only.
+     */
+    static void setParallelSortingEnabled(final boolean enabled) {
+        parallelSortingEnabled = enabled;
+    }
+
+    /**
+     * Returns the length to which an elements array should shrink after elements have been removed, according to a
+     * growth strategy, or the current length if it shouldn't shrink. With a fixed stride, the array shrinks to the
+     * size as soon as it has more than a stride of empty slots. With geometric growth, the array only shrinks when the
+     * size drops below a quarter of its length, and then to twice the size, such that it has room to grow again before
+     * it has to be resized.
+     *
+     * @param growthStrategy The growth strategy.
+     * @param length         The current length of the elements array.
+     * @param size           The number of elements in the array.
+     * @return The length to which the elements array should shrink, or the current length.
+     */
+    static int shrunkLength(final GrowthStrategy growthStrategy, final int length, final int size) {
+        if (growthStrategy == GrowthStrategy.FIXED_STRIDE) {
+            return size < length - STRIDE ? size : length;
+        }
+        if (length > MINIMAL_GEOMETRIC_LENGTH && size * SHRINKING_RATIO < length) {
+            return Math.max(size * 2, MINIMAL_GEOMETRIC_LENGTH);
+        }
+        return length;
+    }
+
+    /**
+     * Returns an array based on the elements of an array using the given comparator, sorted using a stable merge sort
+     * that takes advantage of the runs of elements already in order, in the manner of Timsort. The array is split into
+     * runs of non-descending or strictly descending elements, where the latter are reversed, and short runs are
+     * extended using binary insertion sort. The runs are kept on a stack, and merged such that their lengths decrease
+     * at least as fast as the Fibonacci numbers. This takes linear time on sorted and reverse-sorted arrays, and
+     * linearithmic time in the worst case, without recursion. Elements the comparator considers equal keep their
+     * order. Arrays from the threshold length on are sorted in parallel on the common fork/join pool if parallel
+     * sorting has been turned on and the pool has more than one thread, which yields the same result, but calls the
+     * comparator concurrently from several threads.
+     *
+     * @param <E>        The element type.
+     * @param source     The array to sort.
+     * @param comparator The comparator to use.
+     * @return The array sorted using the comparator.
+     */
+    public static <E> Object[] sort(final Object[] source, final Comparator<E> comparator) {
         Object[] result = source.clone();
-        quicksort(result, comparator, 0, result.length - 1);
+        if (parallelSortingEnabled && result.length >= PARALLEL_SORTING_THRESHOLD
+                && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new ParallelSortTask<E>(result, comparator, 0, result.length));
+        } else {
+            sort(result, comparator, 0, result.length);
+        }
         return result;
     }
 
     /**
-     * Sorts an array using the given comparator according to the Quicksort algorithm.
+     * Sorts a range of an array in place using the given comparator, using a stable merge sort that takes advantage
+     * of the runs of elements already in order.
      *
      * @param <E>        The element type.
      * @param array      The array to sort.
      * @param comparator The comparator to use.
-     * @param first      The index of the first element in the array that should be sorted.
-     * @param last       The index of the last element in the array that should be sorted.
+     * @param from       The index of the first element of the range.
+     * @param to         The index just after the last element of the range.
+     */
+    static <E> void sort(final Object[] array, final Comparator<E> comparator, final int from, final int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int[] runStarts = new int[MAXIMAL_NUMBER_OF_PENDING_RUNS + 1];
+        int numberOfRuns = 0;
+        Object[] buffer = new Object[0];
+        int runStart = from;
+        while (runStart < to) {
+            int runEnd = findRunEnd(array, comparator, runStart, to);
+            if (runEnd - runStart < MINIMAL_RUN_LENGTH) {
+                int extendedRunEnd = Math.min(runStart + MINIMAL_RUN_LENGTH, to);
+                binaryInsertionSort(array, comparator, runStart, runEnd, extendedRunEnd);
+                runEnd = extendedRunEnd;
+            }
+            runStarts[numberOfRuns++] = runStart;
+            runStarts[numberOfRuns] = runEnd;
+            while (numberOfRuns > 1) {
+                int n = numberOfRuns - 2;
+                int lengthN = runStarts[n + 1] - runStarts[n];
+                int lengthN1 = runStarts[n + 2] - runStarts[n + 1];
+                boolean violatesThirdLast = n > 0 && runStarts[n] - runStarts[n - 1] <= lengthN + lengthN1;
+                boolean violatesFourthLast = n > 1 && runStarts[n - 1] - runStarts[n - 2] <= runStarts[n + 1]
+                        - runStarts[n - 1];
+                if (violatesThirdLast || violatesFourthLast) {
+                    if (runStarts[n] - runStarts[n - 1] < lengthN1) {
+                        n--;
+                    }
+                } else if (lengthN > lengthN1) {
+                    break;
+                }
+                buffer = merge(array, comparator, runStarts[n], runStarts[n + 1], runStarts[n + 2], buffer, 0);
+                System.arraycopy(runStarts, n + 2, runStarts, n + 1, numberOfRuns - n - 1);
+                numberOfRuns--;
+            }
+            runStart = runEnd;
+        }
+        while (numberOfRuns > 1) {
+            int n = numberOfRuns - 2;
+            if (n > 0 && runStarts[n] - runStarts[n - 1] < runStarts[n + 2] - runStarts[n + 1]) {
+                n--;
+            }
+            buffer = merge(array, comparator, runStarts[n], runStarts[n + 1], runStarts[n + 2], buffer, 0);
+            System.arraycopy(runStarts, n + 2, runStarts, n + 1, numberOfRuns - n - 1);
+            numberOfRuns--;
+        }
+    }
+
+    /**
+     * Returns an array with the distinct elements of an array, sorted using the given comparator. The array is sorted
+     * first, after which duplicate elements can only occur in the runs of elements the comparator considers equal, so
+     * only the elements within a run have to be compared using <code>equals</code>. This takes linearithmic time,
+     * unless the comparator considers many elements equal that aren't.
+     *
+     * @param <E>        The element type.
+     * @param source     The array to sort.
+     * @param comparator The comparator to use.
+     * @return An array with the distinct elements of the array, sorted using the comparator.
      */
-    private static <E> void quicksort(final Object[] array, final Comparator<E> comparator, final int first,
-            final int last) {
-        if (first < last) {
-            int pivotIndex = partition(array, comparator, first, last);
-            quicksort(array, comparator, first, pivotIndex - 1);
-            quicksort(array, comparator, pivotIndex + 1, last);
+    public static <E> Object[] sortDistinctElements(final Object[] source, final Comparator<E> comparator) {
+        Object[] result = sort(source, comparator);
+        int resultLength = 0;
+        int runStart = 0;
+        for (Object element : result) {
+            if (resultLength > 0 && comparator.compare((E) result[resultLength - 1], (E) element) != 0) {
+                runStart = resultLength;
+            }
+            boolean duplicate = false;
+            for (int j = runStart; j < resultLength; j++) {
+                if (Objects.equals(result[j], element)) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                result[resultLength++] = element;
+            }
         }
+        return resultLength == result.length ? result : Arrays.copyOf(result, resultLength);
+    }
+
+    /**
+     * Spreads the bits of a hash code by multiplying it with an odd constant and folding the high half of the result
+     * onto the low half, such that all bits of the hash code influence the low bits used for masking.
+     *
+     * @param hashCode The hash code.
+     * @return The spread hash code.
+     */
+    public static int spread(final int hashCode) {
+        int h = hashCode * SPREADING_MULTIPLIER;
+        return h ^ (h >>> HALF_WORD);
     }
 
     /**
@@ -344,4 +741,31 @@ public final class ArrayUtilities {
         array[i] = array[j];
         array[j] = value;
     }
+
+    /**
+     * Returns the index of the first element in a sorted range of an array that the comparator considers greater than
+     * the given element, or the end of the range if there is no such element.
+     *
+     * @param <E>        The element type.
+     * @param array      The array.
+     * @param comparator The comparator to use.
+     * @param element    The element.
+     * @param from       The index of the first element of the range.
+     * @param to         The index just after the last element of the range.
+     * @return The index of the first element greater than the given element.
+     */
+    private static <E> int upperBound(final Object[] array, final Comparator<E> comparator, final E element,
+            final int from, final int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(element, (E) array[middle]) < 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
 }
@@ -0,0 +1,73 @@
+package net.filipvanlaenen.kolektoj.array;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntSupplier;
+
+/**
+ * An iterator reading directly from the array backing a modifiable collection, without copying it. The iterator fails
+ * fast, i.e. it throws a {@link java.util.ConcurrentModificationException} when the collection has been modified since
+ * the iterator was created, which the collection signals by changing its modification count. Like the iterators of
+ * <code>java.util</code>, only next checks the modification count, whereas hasNext never throws an exception.
+ *
+ * @param <E> The element type.
+ */
+public final class FailFastArrayIterator<E> implements Iterator<E> {
+    /**
+     * The array backing the collection.
+     */
+    private final Object[] elements;
+    /**
+     * The modification count of the collection when the iterator was created.
+     */
+    private final int expectedModificationCount;
+    /**
+     * The index of the iterator.
+     */
+    private int index;
+    /**
+     * A supplier for the current modification count of the collection.
+     */
+    private final IntSupplier modificationCount;
+    /**
+     * The number of elements in the array that belong to the collection.
+     */
+    private final int size;
+
+    /**
+     * Constructor taking the array backing the collection, the number of elements in the array that belong to the
+     * collection and a supplier for the modification count of the collection as its parameters.
+     *
+     * @param elements          The array backing the collection.
+     * @param size              The number of elements in the array that belong to the collection.
+     * @param modificationCount A supplier for the modification count of the collection.
+     */
+    public FailFastArrayIterator(final Object[] elements, final int size, final IntSupplier modificationCount) {
+        this.elements = elements;
+        this.size = size;
+        this.modificationCount = modificationCount;
+        this.expectedModificationCount = modificationCount.getAsInt();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < size;
+    }
+
+    @Override
+    public E next() {
+        if (modificationCount.getAsInt() != expectedModificationCount) {
+            throw new ConcurrentModificationException("Cannot iterate over a collection that has been modified.");
+        }
+        if (hasNext()) {
+            return (E) elements[index++];
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,21 @@
+package net.filipvanlaenen.kolektoj.array;
+
+/**
+ * Enumeration listing the strategies for growing and shrinking the elements arrays of the array-backed modifiable
+ * collections.
+ */
+public enum GrowthStrategy {
+    /**
+     * Growing and shrinking by a fixed stride, such that the elements array is never more than a few slots larger than
+     * needed. This keeps the memory footprint minimal, but appending elements one by one takes quadratic time, and
+     * alternating additions and removals near the size where the array is resized copy the array every time.
+     */
+    FIXED_STRIDE,
+    /**
+     * Growing by half of the current length, and shrinking to twice the size only when the size drops below a quarter
+     * of the length. This makes appending elements one by one take amortized constant time, and the gap between the
+     * thresholds for growing and shrinking keeps alternating additions and removals from resizing the array over and
+     * over again, at the cost of up to three quarters of the elements array being empty.
+     */
+    GEOMETRIC_GROWTH
+}
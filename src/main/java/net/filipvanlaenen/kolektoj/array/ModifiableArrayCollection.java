@@ -14,15 +14,19 @@ import net.filipvanlaenen.kolektoj.ModifiableCollection;
 import net.filipvanlaenen.kolektoj.Collection.ElementCardinality;
 
 /**
- * An array backed implementation of the {@link net.filipvanlaenen.kolektoj.ModifiableCollection} interface.
+ * An array backed implementation of the {@link net.filipvanlaenen.kolektoj.ModifiableCollection} interface. Once a
+ * collection with distinct elements grows beyond a threshold, a hash index over the elements array is built and
+ * maintained, such that checking whether an element is already present doesn't require a scan of the array. Small
+ * collections remain array-only.
  *
  * @param <E> The element type.
  */
 public final class ModifiableArrayCollection<E> implements ModifiableCollection<E> {
     /**
-     * The stride for resizing the elements array.
+     * The size from which a collection with distinct elements uses a hash index. The index is dropped again when the
+     * size falls below half this threshold, such that a collection around the threshold doesn't keep building it.
      */
-    private static final int STRIDE = 5;
+    private static final int HASH_INDEX_THRESHOLD = 16;
     /**
      * The element cardinality.
      */
@@ -31,6 +35,18 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
      * An array with the elements.
      */
     private Object[] elements;
+    /**
+     * The strategy for growing and shrinking the elements array.
+     */
+    private final GrowthStrategy growthStrategy;
+    /**
+     * The hash index over the elements array, or <code>null</code> if the collection is array-only.
+     */
+    private ArrayHashIndex hashIndex;
+    /**
+     * The number of modifications of the collection, allowing the iterators to fail fast.
+     */
+    private int modificationCount;
     /**
      * The size of the collection.
      */
@@ -44,8 +60,10 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
      */
     public ModifiableArrayCollection(final Collection<? extends E> source) {
         this.elementCardinality = source.getElementCardinality();
+        this.growthStrategy = GrowthStrategy.GEOMETRIC_GROWTH;
         this.elements = source.toArray();
         size = this.elements.length;
+        updateHashIndex();
     }
 
     /**
@@ -54,9 +72,7 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
      * @param elements The elements of the modifiable array collection.
      */
     public ModifiableArrayCollection(final E... elements) {
-        this.elementCardinality = DUPLICATE_ELEMENTS;
-        this.elements = elements.clone();
-        size = this.elements.length;
+        this(GrowthStrategy.GEOMETRIC_GROWTH, DUPLICATE_ELEMENTS, elements);
     }
 
     /**
@@ -69,12 +85,14 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
     public ModifiableArrayCollection(final ElementCardinality elementCardinality, final Collection<? extends E> source)
             throws IllegalArgumentException {
         this.elementCardinality = elementCardinality;
+        this.growthStrategy = GrowthStrategy.GEOMETRIC_GROWTH;
         if (elementCardinality == DISTINCT_ELEMENTS) {
             this.elements = ArrayUtilities.cloneDistinctElements(source.toArray());
         } else {
             this.elements = source.toArray();
         }
         size = this.elements.length;
+        updateHashIndex();
     }
 
     /**
@@ -84,13 +102,48 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
      * @param elements           The elements of the modifiable array collection.
      */
     public ModifiableArrayCollection(final ElementCardinality elementCardinality, final E... elements) {
+        this(GrowthStrategy.GEOMETRIC_GROWTH, elementCardinality, elements);
+    }
+
+    /**
+     * Constructs a modifiable array collection with the given growth strategy, element cardinality and elements.
+     *
+     * @param growthStrategy     The strategy for growing and shrinking the elements array.
+     * @param elementCardinality The element cardinality.
+     * @param elements           The elements of the modifiable array collection.
+     */
+    public ModifiableArrayCollection(final GrowthStrategy growthStrategy, final ElementCardinality elementCardinality,
+            final E... elements) {
         this.elementCardinality = elementCardinality;
+        this.growthStrategy = growthStrategy;
         if (elementCardinality == DISTINCT_ELEMENTS) {
             this.elements = ArrayUtilities.cloneDistinctElements(elements);
         } else {
             this.elements = elements.clone();
         }
         size = this.elements.length;
+        updateHashIndex();
+    }
+
+    /**
+     * Constructs an empty modifiable array collection with the given growth strategy, element cardinality and room for
+     * the expected number of elements. The parameters are in this order, such that the constructor can't be mistaken
+     * for the one taking an element cardinality and elements.
+     *
+     * @param expectedSize       The expected number of elements.
+     * @param growthStrategy     The strategy for growing and shrinking the elements array.
+     * @param elementCardinality The element cardinality.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    private ModifiableArrayCollection(final int expectedSize, final GrowthStrategy growthStrategy,
+            final ElementCardinality elementCardinality) throws IllegalArgumentException {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size can't be negative.");
+        }
+        this.elementCardinality = elementCardinality;
+        this.growthStrategy = growthStrategy;
+        this.elements = new Object[expectedSize];
+        size = 0;
     }
 
     @Override
@@ -98,10 +151,8 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
         if (elementCardinality == DISTINCT_ELEMENTS && contains(element)) {
             return false;
         }
-        if (size == elements.length) {
-            resizeTo(elements.length + STRIDE);
-        }
-        elements[size++] = element;
+        ensureCapacity(size + 1);
+        append(element);
         return true;
     }
 
@@ -112,37 +163,47 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
         }
         int originalSize = size;
         int numberOfNewElements = collection.size();
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        if (size + numberOfNewElements > elements.length) {
-            resizeTo(size + numberOfNewElements + STRIDE);
-        }
+        ensureCapacity(size + numberOfNewElements);
         if (elementCardinality == DISTINCT_ELEMENTS) {
             for (E element : collection) {
                 if (!contains(element)) {
-                    elements[size++] = element;
+                    append(element);
                 }
             }
         } else {
             System.arraycopy(collection.toArray(), 0, elements, size, numberOfNewElements);
             size += numberOfNewElements;
+            modificationCount++;
         }
         return size != originalSize;
     }
 
+    /**
+     * Appends an element to the elements array, which should have room for it, and adds it to the hash index.
+     *
+     * @param element The element to append.
+     */
+    private void append(final E element) {
+        elements[size] = element;
+        if (hashIndex != null) {
+            hashIndex.add(element, size);
+        }
+        size++;
+        modificationCount++;
+        updateHashIndex();
+    }
+
     @Override
     public void clear() {
         size = 0;
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        // EQMU: Negating the conditional below produces an equivalent mutant.
-        if (elements.length > STRIDE) {
-            // EQMU: Removing the call to resizeTo below produces an equivalent mutant.
-            resizeTo(STRIDE);
-        }
+        modificationCount++;
+        hashIndex = null;
+        shrinkIfSparse();
     }
 
     @Override
     public boolean contains(final E element) {
-        return ArrayUtilities.contains(elements, size, element);
+        return indexOf(element) != -1;
     }
 
     @Override
@@ -161,9 +222,21 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
         return (E[]) Array.newInstance(clazz.getComponentType(), length);
     }
 
+    /**
+     * Ensures that the elements array has room for a number of elements, growing it according to the growth strategy
+     * if needed.
+     *
+     * @param numberOfElements The number of elements the elements array should have room for.
+     */
+    private void ensureCapacity(final int numberOfElements) {
+        if (numberOfElements > elements.length) {
+            resizeTo(ArrayUtilities.grownLength(growthStrategy, elements.length, numberOfElements));
+        }
+    }
+
     @Override
     public E get() throws IndexOutOfBoundsException {
-        if (elements.length == 0) {
+        if (size == 0) {
             throw new IndexOutOfBoundsException("Cannot return an element from an empty collection.");
         } else {
             return (E) elements[0];
@@ -175,50 +248,64 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
         return elementCardinality;
     }
 
+    /**
+     * Returns the strategy used to grow and shrink the elements array.
+     *
+     * @return The growth strategy.
+     */
+    public GrowthStrategy getGrowthStrategy() {
+        return growthStrategy;
+    }
+
+    /**
+     * Returns the position of an element in the elements array, using the hash index if there is one, or -1 if the
+     * element isn't present.
+     *
+     * @param element The element.
+     * @return The position of the element, or -1 if the element isn't present.
+     */
+    private int indexOf(final E element) {
+        if (hashIndex != null) {
+            return hashIndex.indexOf(elements, element);
+        }
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     @Override
     public Iterator<E> iterator() {
-        return new ArrayIterator<E>(toArray());
+        return new FailFastArrayIterator<E>(elements, size, () -> modificationCount);
     }
 
     @Override
     public boolean remove(final E element) {
-        for (int i = 0; i < size; i++) {
-            if (Objects.equals(element, elements[i])) {
-                elements[i] = elements[size - 1];
-                size--;
-                // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-                // EQMU: Replacing integer subtraction with addition below produces an equivalent mutant.
-                // EQMU: Negating the conditional below produces an equivalent mutant.
-                if (size < elements.length - STRIDE) {
-                    // EQMU: Removing the call to resizeTo below produces an equivalent mutant.
-                    resizeTo(size);
-                }
-                return true;
-            }
+        int i = indexOf(element);
+        if (i == -1) {
+            return false;
         }
-        return false;
+        removeAt(i);
+        shrinkIfSparse();
+        return true;
     }
 
     @Override
     public boolean removeAll(final Collection<? extends E> collection) {
+        if (collection == this) {
+            return removeAll(Collection.of(collection));
+        }
         boolean result = false;
         for (E element : collection) {
-            for (int i = 0; i < size; i++) {
-                if (Objects.equals(element, elements[i])) {
-                    elements[i] = elements[size - 1];
-                    size--;
-                    result = true;
-                    break;
-                }
+            int i = indexOf(element);
+            if (i != -1) {
+                removeAt(i);
+                result = true;
             }
         }
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        // EQMU: Replacing integer subtraction with addition below produces an equivalent mutant.
-        // EQMU: Negating the conditional below produces an equivalent mutant.
-        if (size < elements.length - STRIDE) {
-            // EQMU: Removing the call to resizeTo below produces an equivalent mutant.
-            resizeTo(size);
-        }
+        shrinkIfSparse();
         return result;
     }
 
@@ -231,6 +318,27 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
         return retainAndResize(retain);
     }
 
+    /**
+     * Removes the element at a position by moving the last element into its place, updating the hash index if there
+     * is one.
+     *
+     * @param position The position of the element to remove.
+     */
+    private void removeAt(final int position) {
+        int last = size - 1;
+        if (hashIndex != null) {
+            hashIndex.remove(elements[position], position);
+            if (position != last) {
+                hashIndex.move(elements[last], last, position);
+            }
+        }
+        elements[position] = elements[last];
+        elements[last] = null;
+        size--;
+        modificationCount++;
+        updateHashIndex();
+    }
+
     /**
      * Resizes the array to the new length. It is assumed that the new length is not less than the current size.
      *
@@ -245,6 +353,15 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
     @Override
     public boolean retainAll(final Collection<? extends E> collection) {
         boolean[] retain = new boolean[size];
+        if (hashIndex != null) {
+            for (E element : collection) {
+                int i = hashIndex.indexOf(elements, element);
+                if (i != -1) {
+                    retain[i] = true;
+                }
+            }
+            return retainAndResize(retain);
+        }
         for (E element : collection) {
             for (int i = 0; i < size; i++) {
                 if (!retain[i] && Objects.equals(element, elements[i])) {
@@ -270,21 +387,33 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
                 i++;
             } else {
                 elements[i] = elements[size - 1];
+                elements[size - 1] = null;
                 retain[i] = retain[size - 1];
                 size--;
                 result = true;
             }
         }
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        // EQMU: Replacing integer subtraction with addition below produces an equivalent mutant.
-        // EQMU: Negating the conditional below produces an equivalent mutant.
-        if (size < elements.length - STRIDE) {
-            // EQMU: Removing the call to resizeTo below produces an equivalent mutant.
-            resizeTo(size);
+        if (result) {
+            modificationCount++;
         }
+        if (result && hashIndex != null) {
+            hashIndex = null;
+            updateHashIndex();
+        }
+        shrinkIfSparse();
         return result;
     }
 
+    /**
+     * Shrinks the elements array according to the growth strategy if it has become sparse.
+     */
+    private void shrinkIfSparse() {
+        int newLength = ArrayUtilities.shrunkLength(growthStrategy, elements.length, size);
+        if (newLength != elements.length) {
+            resizeTo(newLength);
+        }
+    }
+
     @Override
     public int size() {
         return size;
@@ -301,4 +430,64 @@ public final class ModifiableArrayCollection<E> implements ModifiableCollection<
         System.arraycopy(elements, 0, result, 0, size);
         return result;
     }
+
+    /**
+     * Builds the hash index if the collection has distinct elements and has grown beyond the threshold, or drops it if
+     * the collection has shrunk below half the threshold.
+     */
+    private void updateHashIndex() {
+        if (hashIndex == null) {
+            if (elementCardinality == DISTINCT_ELEMENTS && size >= HASH_INDEX_THRESHOLD) {
+                hashIndex = new ArrayHashIndex(elements, size);
+            }
+        } else if (size < HASH_INDEX_THRESHOLD / 2) {
+            hashIndex = null;
+        }
+    }
+
+    /**
+     * Returns a new empty modifiable array collection with the given element cardinality and room for the expected
+     * number of elements, such that adding up to that number of elements doesn't resize the elements array.
+     *
+     * @param <F>                The element type.
+     * @param elementCardinality The element cardinality.
+     * @param expectedSize       The expected number of elements.
+     * @return A new empty modifiable array collection with room for the expected number of elements.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    public static <F> ModifiableArrayCollection<F> withExpectedSize(final ElementCardinality elementCardinality,
+            final int expectedSize) throws IllegalArgumentException {
+        return withExpectedSize(GrowthStrategy.GEOMETRIC_GROWTH, elementCardinality, expectedSize);
+    }
+
+    /**
+     * Returns a new empty modifiable array collection with duplicate elements and room for the expected number of
+     * elements, such that adding up to that number of elements doesn't resize the elements array.
+     *
+     * @param <F>          The element type.
+     * @param expectedSize The expected number of elements.
+     * @return A new empty modifiable array collection with room for the expected number of elements.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    public static <F> ModifiableArrayCollection<F> withExpectedSize(final int expectedSize)
+            throws IllegalArgumentException {
+        return withExpectedSize(DUPLICATE_ELEMENTS, expectedSize);
+    }
+
+    /**
+     * Returns a new empty modifiable array collection with the given growth strategy, element cardinality and room
+     * for the expected number of elements, such that adding up to that number of elements doesn't resize the elements
+     * array.
+     *
+     * @param <F>                The element type.
+     * @param growthStrategy     The strategy for growing and shrinking the elements array.
+     * @param elementCardinality The element cardinality.
+     * @param expectedSize       The expected number of elements.
+     * @return A new empty modifiable array collection with room for the expected number of elements.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    public static <F> ModifiableArrayCollection<F> withExpectedSize(final GrowthStrategy growthStrategy,
+            final ElementCardinality elementCardinality, final int expectedSize) throws IllegalArgumentException {
+        return new ModifiableArrayCollection<F>(expectedSize, growthStrategy, elementCardinality);
+    }
 }
@@ -18,10 +18,6 @@ import net.filipvanlaenen.kolektoj.OrderedCollection;
  * @param <E> The element type.
  */
 public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrderedCollection<E> {
-    /**
-     * The stride for resizing the elements array.
-     */
-    private static final int STRIDE = 5;
     /**
      * The element cardinality.
      */
@@ -30,6 +26,14 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
      * An array with the elements.
      */
     private Object[] elements;
+    /**
+     * The strategy for growing and shrinking the elements array.
+     */
+    private final GrowthStrategy growthStrategy;
+    /**
+     * The number of modifications of the collection, allowing the iterators to fail fast.
+     */
+    private int modificationCount;
     /**
      * The size of the collection.
      */
@@ -41,9 +45,7 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
      * @param elements The elements of the modifiable array collection.
      */
     public ModifiableOrderedArrayCollection(final E... elements) {
-        this.elementCardinality = DUPLICATE_ELEMENTS;
-        this.elements = elements.clone();
-        size = this.elements.length;
+        this(GrowthStrategy.GEOMETRIC_GROWTH, DUPLICATE_ELEMENTS, elements);
     }
 
     /**
@@ -53,7 +55,21 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
      * @param elements           The elements of the modifiable ordered array collection.
      */
     public ModifiableOrderedArrayCollection(final ElementCardinality elementCardinality, final E... elements) {
+        this(GrowthStrategy.GEOMETRIC_GROWTH, elementCardinality, elements);
+    }
+
+    /**
+     * Constructs a modifiable ordered array collection with the given growth strategy, element cardinality and
+     * elements.
+     *
+     * @param growthStrategy     The strategy for growing and shrinking the elements array.
+     * @param elementCardinality The element cardinality.
+     * @param elements           The elements of the modifiable ordered array collection.
+     */
+    public ModifiableOrderedArrayCollection(final GrowthStrategy growthStrategy,
+            final ElementCardinality elementCardinality, final E... elements) {
         this.elementCardinality = elementCardinality;
+        this.growthStrategy = growthStrategy;
         if (elementCardinality == DISTINCT_ELEMENTS) {
             this.elements = ArrayUtilities.cloneDistinctElements(elements);
         } else {
@@ -72,6 +88,7 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
     public ModifiableOrderedArrayCollection(final ElementCardinality elementCardinality,
             final OrderedCollection<? extends E> source) {
         this.elementCardinality = elementCardinality;
+        this.growthStrategy = GrowthStrategy.GEOMETRIC_GROWTH;
         if (elementCardinality == DISTINCT_ELEMENTS) {
             this.elements = ArrayUtilities.cloneDistinctElements(source.toArray());
         } else {
@@ -88,19 +105,40 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
      */
     public ModifiableOrderedArrayCollection(final OrderedCollection<? extends E> source) {
         this.elementCardinality = source.getElementCardinality();
+        this.growthStrategy = GrowthStrategy.GEOMETRIC_GROWTH;
         this.elements = source.toArray();
         size = this.elements.length;
     }
 
+    /**
+     * Constructs an empty modifiable ordered array collection with the given growth strategy, element cardinality and
+     * room for the expected number of elements. The parameters are in this order, such that the constructor can't be
+     * mistaken for the one taking an element cardinality and elements.
+     *
+     * @param expectedSize       The expected number of elements.
+     * @param growthStrategy     The strategy for growing and shrinking the elements array.
+     * @param elementCardinality The element cardinality.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    private ModifiableOrderedArrayCollection(final int expectedSize, final GrowthStrategy growthStrategy,
+            final ElementCardinality elementCardinality) throws IllegalArgumentException {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size can't be negative.");
+        }
+        this.elementCardinality = elementCardinality;
+        this.growthStrategy = growthStrategy;
+        this.elements = new Object[expectedSize];
+        size = 0;
+    }
+
     @Override
     public boolean add(final E element) {
         if (elementCardinality == DISTINCT_ELEMENTS && contains(element)) {
             return false;
         }
-        if (size == elements.length) {
-            resizeTo(elements.length + STRIDE);
-        }
+        ensureCapacity(size + 1);
         elements[size++] = element;
+        modificationCount++;
         return true;
     }
 
@@ -111,10 +149,7 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
         }
         int originalSize = size;
         int numberOfNewElements = collection.size();
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        if (size + numberOfNewElements > elements.length) {
-            resizeTo(size + numberOfNewElements + STRIDE);
-        }
+        ensureCapacity(size + numberOfNewElements);
         if (elementCardinality == DISTINCT_ELEMENTS) {
             for (E element : collection) {
                 if (!contains(element)) {
@@ -125,12 +160,16 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
             System.arraycopy(collection.toArray(), 0, elements, size, numberOfNewElements);
             size += numberOfNewElements;
         }
-        return size != originalSize;
+        if (size == originalSize) {
+            return false;
+        }
+        modificationCount++;
+        return true;
     }
 
     @Override
     public boolean addAllAt(final int index, final OrderedCollection<? extends E> collection) {
-        if (index > elements.length) {
+        if (index > size) {
             throw new IndexOutOfBoundsException(
                     "Cannot add the elements of another collection at a position beyond the size of the collection.");
         }
@@ -161,31 +200,28 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
             newElements = distinctNewElements;
         }
         int numberOfNewElements = newElements.length;
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        if (size + numberOfNewElements > elements.length) {
-            resizeTo(size + numberOfNewElements + STRIDE);
-        }
+        ensureCapacity(size + numberOfNewElements);
         System.arraycopy(elements, index, elements, index + numberOfNewElements, size - index);
         System.arraycopy(newElements, 0, elements, index, numberOfNewElements);
         size += numberOfNewElements;
+        modificationCount++;
         return true;
     }
 
     @Override
     public boolean addAt(final int index, final E element) throws IndexOutOfBoundsException {
-        if (index > elements.length) {
+        if (index > size) {
             throw new IndexOutOfBoundsException(
                     "Cannot add an element at a position beyond the size of the collection.");
         } else {
             if (elementCardinality == DISTINCT_ELEMENTS && contains(element)) {
                 return false;
             }
-            if (size == elements.length) {
-                resizeTo(elements.length + STRIDE);
-            }
+            ensureCapacity(size + 1);
             System.arraycopy(elements, index, elements, index + 1, size - index);
             elements[index] = element;
             size++;
+            modificationCount++;
             return true;
         }
     }
@@ -193,12 +229,8 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
     @Override
     public void clear() {
         size = 0;
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        // EQMU: Negating the conditional below produces an equivalent mutant.
-        if (elements.length > STRIDE) {
-            // EQMU: Removing the call to resizeTo below produces an equivalent mutant.
-            resizeTo(STRIDE);
-        }
+        modificationCount++;
+        shrinkIfSparse();
     }
 
     @Override
@@ -211,6 +243,18 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
         return ArrayUtilities.containsAll(elements, size, collection);
     }
 
+    /**
+     * Ensures that the elements array has room for a number of elements, growing it according to the growth strategy
+     * if needed.
+     *
+     * @param numberOfElements The number of elements the elements array should have room for.
+     */
+    private void ensureCapacity(final int numberOfElements) {
+        if (numberOfElements > elements.length) {
+            resizeTo(ArrayUtilities.grownLength(growthStrategy, elements.length, numberOfElements));
+        }
+    }
+
     @Override
     public int firstIndexOf(final E element) {
         for (int i = 0; i < size; i++) {
@@ -223,7 +267,7 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
 
     @Override
     public E get() throws IndexOutOfBoundsException {
-        if (elements.length == 0) {
+        if (size == 0) {
             throw new IndexOutOfBoundsException("Cannot return an element from an empty collection.");
         } else {
             return (E) elements[0];
@@ -245,6 +289,15 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
         return elementCardinality;
     }
 
+    /**
+     * Returns the strategy used to grow and shrink the elements array.
+     *
+     * @return The growth strategy.
+     */
+    public GrowthStrategy getGrowthStrategy() {
+        return growthStrategy;
+    }
+
     @Override
     public int indexOf(final E element) {
         return firstIndexOf(element);
@@ -252,7 +305,7 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
 
     @Override
     public Iterator<E> iterator() {
-        return new ArrayIterator<E>(toArray());
+        return new FailFastArrayIterator<E>(elements, size, () -> modificationCount);
     }
 
     @Override
@@ -267,7 +320,7 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
 
     @Override
     public E putAt(final int index, final E element) throws IllegalArgumentException, IndexOutOfBoundsException {
-        if (index >= elements.length) {
+        if (index >= size) {
             throw new IndexOutOfBoundsException(
                     "Cannot put an element at a position beyond the size of the collection.");
         } else {
@@ -297,43 +350,36 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
 
     @Override
     public boolean removeAll(final Collection<? extends E> collection) {
+        if (collection == this) {
+            return removeAll(Collection.of(collection));
+        }
         boolean result = false;
         for (E element : collection) {
             for (int i = 0; i < size; i++) {
                 if (Objects.equals(element, elements[i])) {
                     System.arraycopy(elements, i + 1, elements, i, size - i - 1);
                     size--;
+                    modificationCount++;
                     result = true;
                     break;
                 }
             }
         }
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        // EQMU: Replacing integer subtraction with addition below produces an equivalent mutant.
-        // EQMU: Negating the conditional below produces an equivalent mutant.
-        if (size < elements.length - STRIDE) {
-            // EQMU: Removing the call to resizeTo below produces an equivalent mutant.
-            resizeTo(size);
-        }
+        shrinkIfSparse();
         return result;
     }
 
     @Override
     public E removeAt(final int index) throws IndexOutOfBoundsException {
-        if (index >= elements.length) {
+        if (index >= size) {
             throw new IndexOutOfBoundsException(
                     "Cannot remove an element at a position beyond the size of the collection.");
         } else {
             E result = (E) elements[index];
             System.arraycopy(elements, index + 1, elements, index, size - index - 1);
             size--;
-            // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-            // EQMU: Replacing integer subtraction with addition below produces an equivalent mutant.
-            // EQMU: Negating the conditional below produces an equivalent mutant.
-            if (size < elements.length - STRIDE) {
-                // EQMU: Removing the call to resizeTo below produces an equivalent mutant.
-                resizeTo(size);
-            }
+            modificationCount++;
+            shrinkIfSparse();
             return result;
         }
     }
@@ -388,19 +434,24 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
                 System.arraycopy(elements, i + 1, elements, i, size - i - 1);
                 System.arraycopy(retain, i + 1, retain, i, size - i - 1);
                 size--;
+                modificationCount++;
                 result = true;
             }
         }
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        // EQMU: Replacing integer subtraction with addition below produces an equivalent mutant.
-        // EQMU: Negating the conditional below produces an equivalent mutant.
-        if (size < elements.length - STRIDE) {
-            // EQMU: Removing the call to resizeTo below produces an equivalent mutant.
-            resizeTo(size);
-        }
+        shrinkIfSparse();
         return result;
     }
 
+    /**
+     * Shrinks the elements array according to the growth strategy if it has become sparse.
+     */
+    private void shrinkIfSparse() {
+        int newLength = ArrayUtilities.shrunkLength(growthStrategy, elements.length, size);
+        if (newLength != elements.length) {
+            resizeTo(newLength);
+        }
+    }
+
     @Override
     public int size() {
         return size;
@@ -419,4 +470,50 @@ public final class ModifiableOrderedArrayCollection<E> implements ModifiableOrde
         System.arraycopy(elements, 0, result, 0, size);
         return result;
     }
+
+    /**
+     * Returns a new empty modifiable ordered array collection with the given element cardinality and room for the
+     * expected number of elements, such that adding up to that number of elements doesn't resize the elements array.
+     *
+     * @param <F>                The element type.
+     * @param elementCardinality The element cardinality.
+     * @param expectedSize       The expected number of elements.
+     * @return A new empty modifiable ordered array collection with room for the expected number of elements.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    public static <F> ModifiableOrderedArrayCollection<F> withExpectedSize(
+            final ElementCardinality elementCardinality, final int expectedSize) throws IllegalArgumentException {
+        return withExpectedSize(GrowthStrategy.GEOMETRIC_GROWTH, elementCardinality, expectedSize);
+    }
+
+    /**
+     * Returns a new empty modifiable ordered array collection with duplicate elements and room for the expected number
+     * of elements, such that adding up to that number of elements doesn't resize the elements array.
+     *
+     * @param <F>          The element type.
+     * @param expectedSize The expected number of elements.
+     * @return A new empty modifiable ordered array collection with room for the expected number of elements.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    public static <F> ModifiableOrderedArrayCollection<F> withExpectedSize(final int expectedSize)
+            throws IllegalArgumentException {
+        return withExpectedSize(DUPLICATE_ELEMENTS, expectedSize);
+    }
+
+    /**
+     * Returns a new empty modifiable ordered array collection with the given growth strategy, element cardinality and
+     * room for the expected number of elements, such that adding up to that number of elements doesn't resize the
+     * elements array.
+     *
+     * @param <F>                The element type.
+     * @param growthStrategy     The strategy for growing and shrinking the elements array.
+     * @param elementCardinality The element cardinality.
+     * @param expectedSize       The expected number of elements.
+     * @return A new empty modifiable ordered array collection with room for the expected number of elements.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    public static <F> ModifiableOrderedArrayCollection<F> withExpectedSize(final GrowthStrategy growthStrategy,
+            final ElementCardinality elementCardinality, final int expectedSize) throws IllegalArgumentException {
+        return new ModifiableOrderedArrayCollection<F>(expectedSize, growthStrategy, elementCardinality);
+    }
 }
@@ -0,0 +1,90 @@
+package net.filipvanlaenen.kolektoj.array;
+
+import java.util.Comparator;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A fork/join task sorting a range of an array in parallel. The range is split in two halves that are sorted in
+ * parallel, until the ranges are short enough to be sorted sequentially, after which the sorted halves are merged.
+ * Since both the sequential sort and the merge are stable, the result is the same as that of the sequential sort. The
+ * root task allocates a single merge buffer as long as its range, of which every subtask uses the part at the same
+ * position as its own range, such that subtasks running in parallel never share a part of the buffer.
+ *
+ * @param <E> The element type.
+ */
+final class ParallelSortTask<E> extends RecursiveAction {
+    /**
+     * The serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * The array to sort.
+     */
+    private final transient Object[] array;
+    /**
+     * The buffer for the merges, shared by all the tasks.
+     */
+    private final transient Object[] buffer;
+    /**
+     * The index in the array of the first element of the range of the root task, i.e. the array index corresponding
+     * to the start of the buffer.
+     */
+    private final int bufferStart;
+    /**
+     * The comparator to use.
+     */
+    private final transient Comparator<E> comparator;
+    /**
+     * The index of the first element of the range.
+     */
+    private final int from;
+    /**
+     * The index just after the last element of the range.
+     */
+    private final int to;
+
+    /**
+     * Constructor taking the array, the comparator and the range to sort as its parameters.
+     *
+     * @param array      The array to sort.
+     * @param comparator The comparator to use.
+     * @param from       The index of the first element of the range.
+     * @param to         The index just after the last element of the range.
+     */
+    ParallelSortTask(final Object[] array, final Comparator<E> comparator, final int from, final int to) {
+        this(array, comparator, from, to, new Object[to - from], from);
+    }
+
+    /**
+     * Constructor taking the array, the comparator, the range to sort, the shared merge buffer and the array index
+     * corresponding to the start of the buffer as its parameters.
+     *
+     * @param array       The array to sort.
+     * @param comparator  The comparator to use.
+     * @param from        The index of the first element of the range.
+     * @param to          The index just after the last element of the range.
+     * @param buffer      The buffer for the merges, shared by all the tasks.
+     * @param bufferStart The array index corresponding to the start of the buffer.
+     */
+    private ParallelSortTask(final Object[] array, final Comparator<E> comparator, final int from, final int to,
+            final Object[] buffer, final int bufferStart) {
+        this.array = array;
+        this.comparator = comparator;
+        this.from = from;
+        this.to = to;
+        this.buffer = buffer;
+        this.bufferStart = bufferStart;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= ArrayUtilities.PARALLEL_SORTING_THRESHOLD) {
+            ArrayUtilities.sort(array, comparator, from, to);
+        } else {
+            int middle = (from + to) >>> 1;
+            invokeAll(new ParallelSortTask<E>(array, comparator, from, middle, buffer, bufferStart),
+                    new ParallelSortTask<E>(array, comparator, middle, to, buffer, bufferStart));
+            ArrayUtilities.merge(array, comparator, from, middle, to, buffer, from - bufferStart);
+        }
+    }
+}
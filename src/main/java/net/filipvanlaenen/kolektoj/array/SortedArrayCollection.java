@@ -40,7 +40,7 @@ public final class SortedArrayCollection<E> implements SortedCollection<E> {
     public SortedArrayCollection(final Comparator<? super E> comparator, final Collection<? extends E> source) {
         this.comparator = comparator;
         this.elementCardinality = source.getElementCardinality();
-        this.elements = ArrayUtilities.quicksort(source.toArray(), comparator);
+        this.elements = ArrayUtilities.sort(source.toArray(), comparator);
     }
 
     /**
@@ -53,7 +53,7 @@ public final class SortedArrayCollection<E> implements SortedCollection<E> {
     public SortedArrayCollection(final Comparator<? super E> comparator, final E... elements) {
         this.comparator = comparator;
         this.elementCardinality = DUPLICATE_ELEMENTS;
-        this.elements = ArrayUtilities.quicksort(elements, comparator);
+        this.elements = ArrayUtilities.sort(elements, comparator);
     }
 
     /**
@@ -69,10 +69,9 @@ public final class SortedArrayCollection<E> implements SortedCollection<E> {
         this.comparator = comparator;
         this.elementCardinality = elementCardinality;
         if (elementCardinality == DISTINCT_ELEMENTS) {
-            this.elements =
-                    ArrayUtilities.quicksort(ArrayUtilities.cloneDistinctElements(source.toArray()), comparator);
+            this.elements = ArrayUtilities.sortDistinctElements(source.toArray(), comparator);
         } else {
-            this.elements = ArrayUtilities.quicksort(source.toArray(), comparator);
+            this.elements = ArrayUtilities.sort(source.toArray(), comparator);
         }
     }
 
@@ -89,9 +88,9 @@ public final class SortedArrayCollection<E> implements SortedCollection<E> {
         this.comparator = comparator;
         this.elementCardinality = elementCardinality;
         if (elementCardinality == DISTINCT_ELEMENTS) {
-            this.elements = ArrayUtilities.quicksort(ArrayUtilities.cloneDistinctElements(elements), comparator);
+            this.elements = ArrayUtilities.sortDistinctElements(elements, comparator);
         } else {
-            this.elements = ArrayUtilities.quicksort(elements, comparator);
+            this.elements = ArrayUtilities.sort(elements, comparator);
         }
     }
 
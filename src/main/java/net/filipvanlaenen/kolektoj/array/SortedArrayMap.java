@@ -127,10 +127,9 @@ public final class SortedArrayMap<K, V> implements SortedMap<K, V> {
         };
         this.keyAndValueCardinality = keyAndValueCardinality;
         if (keyAndValueCardinality == DISTINCT_KEYS) {
-            this.entries =
-                    ArrayUtilities.quicksort(ArrayUtilities.cloneDistinctElements(entries), entryByKeyComparator);
+            this.entries = ArrayUtilities.sortDistinctElements(entries, entryByKeyComparator);
         } else {
-            this.entries = ArrayUtilities.quicksort(entries, entryByKeyComparator);
+            this.entries = ArrayUtilities.sort(entries, entryByKeyComparator);
         }
         ModifiableCollection<K> theKeys = new ModifiableSortedTreeCollection<K>(
                 keyAndValueCardinality == DISTINCT_KEYS ? DISTINCT_ELEMENTS : DUPLICATE_ELEMENTS, comparator);
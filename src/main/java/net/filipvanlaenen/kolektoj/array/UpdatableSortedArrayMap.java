@@ -125,10 +125,9 @@ public final class UpdatableSortedArrayMap<K, V> implements UpdatableSortedMap<K
         };
         this.keyAndValueCardinality = keyAndValueCardinality;
         if (keyAndValueCardinality == DISTINCT_KEYS) {
-            this.entries =
-                    ArrayUtilities.quicksort(ArrayUtilities.cloneDistinctElements(entries), entryByKeyComparator);
+            this.entries = ArrayUtilities.sortDistinctElements(entries, entryByKeyComparator);
         } else {
-            this.entries = ArrayUtilities.quicksort(entries, entryByKeyComparator);
+            this.entries = ArrayUtilities.sort(entries, entryByKeyComparator);
         }
         ModifiableCollection<K> theKeys = new ModifiableSortedTreeCollection<K>(
                 keyAndValueCardinality == DISTINCT_KEYS ? DISTINCT_ELEMENTS : DUPLICATE_ELEMENTS, comparator);
@@ -449,7 +448,7 @@ public final class UpdatableSortedArrayMap<K, V> implements UpdatableSortedMap<K
     public Spliterator<Entry<K, V>> spliterator() {
         int characteristics = Spliterator.ORDERED | Spliterator.SORTED
                 | (keyAndValueCardinality == DUPLICATE_KEYS_WITH_DUPLICATE_VALUES ? 0 : Spliterator.DISTINCT);
-        return new ArraySpliterator<Entry<K, V>>(entries, characteristics, entryByKeyComparator);
+        return new ArraySpliterator<Entry<K, V>>(toArray(), characteristics, entryByKeyComparator);
     }
 
     @Override
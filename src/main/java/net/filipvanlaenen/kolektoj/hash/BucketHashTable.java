@@ -0,0 +1,185 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.ModifiableCollection;
+
+/**
+ * A class implementing a table for the entries of a map with duplicate keys. Every key occupies a single slot in a
+ * hash table, pointing to a {@link ValueBucket} with all the entries for that key. Looking up, adding and
+ * removing an entry therefore costs one probe sequence plus a scan of the bucket of its key, independent of how many
+ * entries other keys have, whereas storing the entries directly in the hash table would make keys with many entries
+ * produce long clusters that slow down every neighbouring key.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+final class BucketHashTable<K, V> implements EntryTable<K, V> {
+    /**
+     * The hash table with the buckets, one per key.
+     */
+    private final EntryTable<K, ValueBucket<K, V>> buckets;
+    /**
+     * The number of entries.
+     */
+    private int size;
+
+    /**
+     * Constructor taking the number of entries the table should be able to hold without resizing and the probing
+     * strategy as its parameters.
+     *
+     * @param baseLength      The number of entries the table should be able to hold without resizing.
+     * @param probingStrategy The probing strategy.
+     */
+    BucketHashTable(final int baseLength, final ProbingStrategy probingStrategy) {
+        buckets = HashUtilities.createHashTable(baseLength, probingStrategy);
+    }
+
+    @Override
+    public void add(final Entry<K, V> entry) {
+        ValueBucket<K, V> bucket = getBucket(entry.key());
+        if (bucket == null) {
+            buckets.add(new Entry<K, ValueBucket<K, V>>(entry.key(), new ValueBucket<K, V>(entry)));
+        } else {
+            bucket.add(entry);
+        }
+        size++;
+    }
+
+    @Override
+    public HashStatistics calculateStatistics() {
+        return buckets.calculateStatistics();
+    }
+
+    @Override
+    public void clear() {
+        buckets.clear();
+        size = 0;
+    }
+
+    @Override
+    public void collectContentsForKey(final K key, final ModifiableCollection<V> result) {
+        ValueBucket<K, V> bucket = getBucket(key);
+        if (bucket != null) {
+            for (int i = 0; i < bucket.size(); i++) {
+                result.add(bucket.get(i).value());
+            }
+        }
+    }
+
+    @Override
+    public boolean containsContent(final V value) {
+        for (Object slot : buckets.toArray()) {
+            if (((Entry<K, ValueBucket<K, V>>) slot).value().indexOf(value) != -1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsEntry(final K key, final V value) {
+        ValueBucket<K, V> bucket = getBucket(key);
+        return bucket != null && bucket.indexOf(value) != -1;
+    }
+
+    @Override
+    public boolean containsKey(final K key) {
+        return buckets.containsKey(key);
+    }
+
+    @Override
+    public void ensureCapacity(final int numberOfEntries) {
+        buckets.ensureCapacity(numberOfEntries);
+    }
+
+    /**
+     * Returns the bucket for the key, or <code>null</code> if the table doesn't contain an entry with the key.
+     *
+     * @param key The key.
+     * @return The bucket for the key.
+     */
+    private ValueBucket<K, V> getBucket(final K key) {
+        Entry<K, ValueBucket<K, V>> slot = buckets.getFirstEntryForKey(key);
+        return slot == null ? null : slot.value();
+    }
+
+    @Override
+    public Entry<K, V> getFirstEntry() {
+        Entry<K, ValueBucket<K, V>> slot = buckets.getFirstEntry();
+        return slot == null ? null : slot.value().get(0);
+    }
+
+    @Override
+    public Entry<K, V> getFirstEntryForKey(final K key) {
+        ValueBucket<K, V> bucket = getBucket(key);
+        return bucket == null ? null : bucket.get(0);
+    }
+
+    @Override
+    public ProbingStrategy getProbingStrategy() {
+        return buckets.getProbingStrategy();
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Removes the entry at a position from the bucket for a key, and removes the bucket from the hash table if it has
+     * become empty.
+     *
+     * @param key      The key.
+     * @param bucket   The bucket for the key.
+     * @param position The position of the entry in the bucket.
+     * @return The entry that was removed.
+     */
+    private Entry<K, V> removeAt(final K key, final ValueBucket<K, V> bucket, final int position) {
+        Entry<K, V> entry = bucket.removeAt(position);
+        if (bucket.isEmpty()) {
+            buckets.removeFirstEntryForKey(key);
+        }
+        size--;
+        return entry;
+    }
+
+    @Override
+    public boolean removeEntry(final K key, final V value) {
+        ValueBucket<K, V> bucket = getBucket(key);
+        int position = bucket == null ? -1 : bucket.indexOf(value);
+        if (position == -1) {
+            return false;
+        }
+        removeAt(key, bucket, position);
+        return true;
+    }
+
+    @Override
+    public Entry<K, V> removeFirstEntryForKey(final K key) {
+        ValueBucket<K, V> bucket = getBucket(key);
+        return bucket == null ? null : removeAt(key, bucket, 0);
+    }
+
+    @Override
+    public boolean replaceEntry(final K key, final V oldValue, final V newValue) {
+        ValueBucket<K, V> bucket = getBucket(key);
+        int position = bucket == null ? -1 : bucket.indexOf(oldValue);
+        if (position == -1) {
+            return false;
+        }
+        bucket.set(position, new Entry<K, V>(key, newValue));
+        return true;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int offset = 0;
+        for (Object slot : buckets.toArray()) {
+            ValueBucket<K, V> bucket = ((Entry<K, ValueBucket<K, V>>) slot).value();
+            bucket.copyInto(result, offset);
+            offset += bucket.size();
+        }
+        return result;
+    }
+}
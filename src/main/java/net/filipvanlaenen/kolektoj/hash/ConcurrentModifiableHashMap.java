@@ -0,0 +1,765 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DISTINCT_ELEMENTS;
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DUPLICATE_ELEMENTS;
+import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+import net.filipvanlaenen.kolektoj.Collection;
+import net.filipvanlaenen.kolektoj.Map;
+import net.filipvanlaenen.kolektoj.ModifiableCollection;
+import net.filipvanlaenen.kolektoj.ModifiableMap;
+import net.filipvanlaenen.kolektoj.array.ArrayCollection;
+import net.filipvanlaenen.kolektoj.array.ArraySpliterator;
+import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
+import net.filipvanlaenen.kolektoj.array.ModifiableArrayCollection;
+
+/**
+ * A thread-safe, hash backed implementation of the {@link net.filipvanlaenen.kolektoj.ModifiableMap} interface. The
+ * entries are spread over a fixed number of segments, each with its own lock, such that threads updating entries in
+ * different segments don't block each other. Within a segment, the entries are chained in bins of immutable nodes.
+ * Updates replace the nodes preceding the updated node in its chain instead of modifying them, and publish the new
+ * chain with a release store into an atomic array, such that lookups never take a lock and always see a consistent
+ * chain, while updates don't pay for a full memory fence. A check
+ * whether an entry can be added according to the key and value cardinality is made under the same lock as the
+ * addition, such that it's atomic.
+ *
+ * Methods that visit all entries, like <code>size</code>, <code>toArray</code> and the iterator, are weakly
+ * consistent: they never throw a {@link java.util.ConcurrentModificationException}, visit every entry that was
+ * present when they started and wasn't removed in the meantime exactly once, and may or may not reflect the updates
+ * made while they're running.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public final class ConcurrentModifiableHashMap<K, V> implements ModifiableMap<K, V> {
+    /**
+     * The number of segments, a power of two.
+     */
+    private static final int NUMBER_OF_SEGMENTS = 16;
+    /**
+     * The number of bits the spread hash code is shifted to calculate the index of the segment.
+     */
+    private static final int SEGMENT_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(NUMBER_OF_SEGMENTS);
+    /**
+     * The initial number of bins of a segment, a power of two.
+     */
+    private static final int INITIAL_NUMBER_OF_BINS = 2;
+    /**
+     * The numerator of the maximal load factor of a segment.
+     */
+    private static final int MAXIMAL_LOAD_NUMERATOR = 3;
+    /**
+     * The denominator of the maximal load factor of a segment.
+     */
+    private static final int MAXIMAL_LOAD_DENOMINATOR = 4;
+    /**
+     * The maximal ratio between the number of bins and the number of entries in a segment. When a segment becomes
+     * sparser through removals, it is shrunk to twice the number of bins the remaining entries need.
+     */
+    private static final int MAXIMAL_BINS_RATIO = 8;
+    /**
+     * The key and value cardinality.
+     */
+    private final KeyAndValueCardinality keyAndValueCardinality;
+    /**
+     * The segments.
+     */
+    private final Segment<K, V>[] segments;
+
+    /**
+     * An immutable node in the chain of a bin.
+     *
+     * @param <K> The key type.
+     * @param <V> The value type.
+     */
+    private static final class Node<K, V> {
+        /**
+         * The entry.
+         */
+        private final Entry<K, V> entry;
+        /**
+         * The hash code of the key of the entry.
+         */
+        private final int hash;
+        /**
+         * The next node in the chain, or <code>null</code> if this is the last node.
+         */
+        private final Node<K, V> next;
+
+        /**
+         * Constructor taking the hash code, the entry and the next node as its parameters.
+         *
+         * @param hash  The hash code of the key of the entry.
+         * @param entry The entry.
+         * @param next  The next node in the chain, or <code>null</code> if this is the last node.
+         */
+        Node(final int hash, final Entry<K, V> entry, final Node<K, V> next) {
+            this.hash = hash;
+            this.entry = entry;
+            this.next = next;
+        }
+
+        /**
+         * Returns whether the node holds an entry with the key.
+         *
+         * @param theHashCode The hash code of the key.
+         * @param key         The key.
+         * @return True if the node holds an entry with the key.
+         */
+        boolean hasKey(final int theHashCode, final K key) {
+            return hash == theHashCode && Objects.equals(entry.key(), key);
+        }
+    }
+
+    /**
+     * A segment of the map, holding the bins for a part of the hash codes. The bins are replaced as a whole when the
+     * segment is resized, whereas the chains in the bins are replaced one at a time. All updates of a segment are
+     * made while holding the lock on the segment.
+     *
+     * @param <K> The key type.
+     * @param <V> The value type.
+     */
+    private static final class Segment<K, V> {
+        /**
+         * The bins with the chains of nodes.
+         */
+        private volatile AtomicReferenceArray<Node<K, V>> bins;
+        /**
+         * The number of entries in the segment.
+         */
+        private volatile int size;
+
+        /**
+         * Constructor creating an empty segment.
+         */
+        Segment() {
+            bins = new AtomicReferenceArray<Node<K, V>>(INITIAL_NUMBER_OF_BINS);
+        }
+    }
+
+    /**
+     * A weakly consistent iterator over the entries of the map, walking through the chains in the bins of the
+     * segments one by one.
+     */
+    private final class WeaklyConsistentIterator implements Iterator<Entry<K, V>> {
+        /**
+         * The bins of the current segment.
+         */
+        private AtomicReferenceArray<Node<K, V>> currentBins;
+        /**
+         * The index of the next bin to visit in the current segment.
+         */
+        private int nextBinIndex;
+        /**
+         * The next node to return, or <code>null</code> if there are no more nodes.
+         */
+        private Node<K, V> nextNode;
+        /**
+         * The index of the next segment to visit.
+         */
+        private int nextSegmentIndex;
+
+        /**
+         * Constructor positioning the iterator on the first node.
+         */
+        WeaklyConsistentIterator() {
+            advance();
+        }
+
+        /**
+         * Positions the iterator on the next node, moving to the next bin or segment if necessary.
+         */
+        private void advance() {
+            if (nextNode != null) {
+                nextNode = nextNode.next;
+            }
+            while (nextNode == null) {
+                if (currentBins != null && nextBinIndex < currentBins.length()) {
+                    nextNode = currentBins.get(nextBinIndex++);
+                } else if (nextSegmentIndex < NUMBER_OF_SEGMENTS) {
+                    currentBins = segments[nextSegmentIndex++].bins;
+                    nextBinIndex = 0;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (nextNode == null) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> entry = nextNode.entry;
+            advance();
+            return entry;
+        }
+    }
+
+    /**
+     * Constructor taking the entries as its parameter.
+     *
+     * @param entries The entries for the map.
+     * @throws IllegalArgumentException Thrown if one of the entries is null.
+     */
+    public ConcurrentModifiableHashMap(final Entry<K, V>... entries) throws IllegalArgumentException {
+        this(DISTINCT_KEYS, entries);
+    }
+
+    /**
+     * Constructor taking the key and value cardinality and the entries as its parameter.
+     *
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param entries                The entries for the map.
+     * @throws IllegalArgumentException Thrown if one of the entries is null.
+     */
+    public ConcurrentModifiableHashMap(final KeyAndValueCardinality keyAndValueCardinality,
+            final Entry<K, V>... entries) throws IllegalArgumentException {
+        if (entries == null) {
+            throw new IllegalArgumentException("Map entries can't be null.");
+        }
+        this.keyAndValueCardinality = keyAndValueCardinality;
+        this.segments = new Segment[NUMBER_OF_SEGMENTS];
+        for (int i = 0; i < NUMBER_OF_SEGMENTS; i++) {
+            segments[i] = new Segment<K, V>();
+        }
+        for (Entry<K, V> entry : entries) {
+            if (entry == null) {
+                throw new IllegalArgumentException("Map entries can't be null.");
+            }
+            addEntry(entry);
+        }
+    }
+
+    /**
+     * Constructs a concurrent modifiable hash map with the entries from another map, and the provided key and value
+     * cardinality.
+     *
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param map                    The map to create a new concurrent modifiable map from.
+     */
+    public ConcurrentModifiableHashMap(final KeyAndValueCardinality keyAndValueCardinality,
+            final Map<? extends K, ? extends V> map) {
+        this(keyAndValueCardinality);
+        addAll(map);
+    }
+
+    /**
+     * Constructs a concurrent modifiable hash map from another map, with the same entries and the same key and value
+     * cardinality.
+     *
+     * @param map The map to create a new concurrent modifiable map from.
+     */
+    public ConcurrentModifiableHashMap(final Map<? extends K, ? extends V> map) {
+        this(map.getKeyAndValueCardinality());
+        addAll(map);
+    }
+
+    @Override
+    public boolean add(final K key, final V value) {
+        return addEntry(new Entry<K, V>(key, value));
+    }
+
+    @Override
+    public boolean addAll(final Map<? extends K, ? extends V> map) {
+        boolean result = false;
+        for (Entry<? extends K, ? extends V> entry : map) {
+            result |= addEntry((Entry<K, V>) entry);
+        }
+        return result;
+    }
+
+    /**
+     * Adds an entry to the map if it can be added according to the key and value cardinality, under the lock of its
+     * segment.
+     *
+     * @param entry The entry to add.
+     * @return True if the entry was added.
+     */
+    private boolean addEntry(final Entry<K, V> entry) {
+        K key = entry.key();
+        int hashCode = HashUtilities.hashCode(key);
+        Segment<K, V> segment = segmentFor(hashCode);
+        synchronized (segment) {
+            AtomicReferenceArray<Node<K, V>> bins = segment.bins;
+            int binIndex = binIndex(hashCode, bins);
+            Node<K, V> head = bins.get(binIndex);
+            if (!isAddable(head, hashCode, key, entry.value())) {
+                return false;
+            }
+            bins.setRelease(binIndex, copyChain(head, null, new Node<K, V>(hashCode, entry, null)));
+            segment.size = segment.size + 1;
+            if (segment.size * MAXIMAL_LOAD_DENOMINATOR > bins.length() * MAXIMAL_LOAD_NUMERATOR) {
+                resize(segment, bins.length() * 2);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Returns the index of the bin for a hash code.
+     *
+     * @param hashCode The hash code.
+     * @param bins     The bins.
+     * @return The index of the bin for the hash code.
+     */
+    private static int binIndex(final int hashCode, final AtomicReferenceArray<?> bins) {
+        return HashUtilities.index(hashCode, bins.length());
+    }
+
+    @Override
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.bins = new AtomicReferenceArray<Node<K, V>>(INITIAL_NUMBER_OF_BINS);
+                segment.size = 0;
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(final Entry<K, V> entry) {
+        return findNode(entry.key(), true, entry.value()) != null;
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> collection) {
+        return HashUtilities.containsAllEntries(this, collection);
+    }
+
+    @Override
+    public boolean containsSame(final Collection<?> collection) {
+        return size() == collection.size() && containsAll(collection);
+    }
+
+    @Override
+    public boolean containsKey(final K key) {
+        return findNode(key, false, null) != null;
+    }
+
+    @Override
+    public boolean containsValue(final V value) {
+        for (Entry<K, V> entry : this) {
+            if (Objects.equals(entry.value(), value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a copy of a chain up to a node, linked to another node. The nodes from the head up to the stop node
+     * (exclusive) are copied, and the last copy is linked to the tail. If the stop node is <code>null</code>, the
+     * whole chain is copied. Removing a node, replacing a node and appending a node can all be expressed this way,
+     * without modifying the nodes of the original chain.
+     *
+     * @param <K>  The key type.
+     * @param <V>  The value type.
+     * @param head The head of the chain.
+     * @param stop The node at which the copying stops.
+     * @param tail The node to which the last copy should be linked.
+     * @return The head of the new chain.
+     */
+    private static <K, V> Node<K, V> copyChain(final Node<K, V> head, final Node<K, V> stop, final Node<K, V> tail) {
+        if (head == stop) {
+            return tail;
+        }
+        return new Node<K, V>(head.hash, head.entry, copyChain(head.next, stop, tail));
+    }
+
+    /**
+     * Finds the first node with the key, and optionally the value, without taking a lock.
+     *
+     * @param key          The key.
+     * @param compareValue Whether the value of the entry should be equal to the value too.
+     * @param value        The value.
+     * @return The first node with the key, and optionally the value, or <code>null</code> if no such node is present.
+     */
+    private Node<K, V> findNode(final K key, final boolean compareValue, final V value) {
+        int hashCode = HashUtilities.hashCode(key);
+        AtomicReferenceArray<Node<K, V>> bins = segmentFor(hashCode).bins;
+        return findNode(bins.get(binIndex(hashCode, bins)), hashCode, key, compareValue, value);
+    }
+
+    /**
+     * Finds the first node with the key, and optionally the value, in a chain.
+     *
+     * @param <K>          The key type.
+     * @param <V>          The value type.
+     * @param head         The head of the chain.
+     * @param hashCode     The hash code of the key.
+     * @param key          The key.
+     * @param compareValue Whether the value of the entry should be equal to the value too.
+     * @param value        The value.
+     * @return The first node with the key, and optionally the value, or <code>null</code> if no such node is present.
+     */
+    private static <K, V> Node<K, V> findNode(final Node<K, V> head, final int hashCode, final K key,
+            final boolean compareValue, final V value) {
+        for (Node<K, V> node = head; node != null; node = node.next) {
+            if (node.hasKey(hashCode, key) && (!compareValue || Objects.equals(node.entry.value(), value))) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Entry<K, V> get() throws IndexOutOfBoundsException {
+        Iterator<Entry<K, V>> iterator = iterator();
+        if (!iterator.hasNext()) {
+            throw new IndexOutOfBoundsException("Cannot return an entry from an empty map.");
+        }
+        return iterator.next();
+    }
+
+    @Override
+    public V get(final K key) throws IllegalArgumentException {
+        Node<K, V> node = findNode(key, false, null);
+        if (node == null) {
+            throw new IllegalArgumentException("Map doesn't contain an entry with the key " + key + ".");
+        }
+        return node.entry.value();
+    }
+
+    @Override
+    public Collection<V> getAll(final K key) throws IllegalArgumentException {
+        ModifiableCollection<V> result = new ModifiableArrayCollection<V>(
+                keyAndValueCardinality == DUPLICATE_KEYS_WITH_DUPLICATE_VALUES ? DUPLICATE_ELEMENTS
+                        : DISTINCT_ELEMENTS);
+        int hashCode = HashUtilities.hashCode(key);
+        AtomicReferenceArray<Node<K, V>> bins = segmentFor(hashCode).bins;
+        for (Node<K, V> node = bins.get(binIndex(hashCode, bins)); node != null; node = node.next) {
+            if (node.hasKey(hashCode, key)) {
+                result.add(node.entry.value());
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("Map doesn't contain entries with the key " + key + ".");
+        }
+        return result;
+    }
+
+    @Override
+    public KeyAndValueCardinality getKeyAndValueCardinality() {
+        return keyAndValueCardinality;
+    }
+
+    @Override
+    public Collection<K> getKeys() {
+        Object[] entries = toArray();
+        Object[] keys = new Object[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            keys[i] = ((Entry<K, V>) entries[i]).key();
+        }
+        return new ArrayCollection<K>(keyAndValueCardinality == DISTINCT_KEYS ? DISTINCT_ELEMENTS : DUPLICATE_ELEMENTS,
+                (K[]) keys);
+    }
+
+    @Override
+    public Collection<V> getValues() {
+        Object[] entries = toArray();
+        Object[] values = new Object[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            values[i] = ((Entry<K, V>) entries[i]).value();
+        }
+        return new ArrayCollection<V>((V[]) values);
+    }
+
+    /**
+     * Returns whether an entry with the key and the value can be added to a chain according to the key and value
+     * cardinality of the map.
+     *
+     * @param head     The head of the chain.
+     * @param hashCode The hash code of the key.
+     * @param key      The key.
+     * @param value    The value.
+     * @return True if an entry with the key and the value can be added.
+     */
+    private boolean isAddable(final Node<K, V> head, final int hashCode, final K key, final V value) {
+        if (keyAndValueCardinality == DISTINCT_KEYS) {
+            return findNode(head, hashCode, key, false, null) == null;
+        } else if (keyAndValueCardinality == DUPLICATE_KEYS_WITH_DISTINCT_VALUES) {
+            return findNode(head, hashCode, key, true, value) == null;
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new WeaklyConsistentIterator();
+    }
+
+    /**
+     * Adds an entry with the given key and value if the key isn't already present, otherwise updates the first entry
+     * with the key with the given value. Both the check and the update are made under the lock of the segment, such
+     * that they're atomic.
+     *
+     * @param key   The key.
+     * @param value The value.
+     * @return The value if the key was previously mapped to a value, or null otherwise.
+     */
+    @Override
+    public V put(final K key, final V value) {
+        int hashCode = HashUtilities.hashCode(key);
+        Segment<K, V> segment = segmentFor(hashCode);
+        synchronized (segment) {
+            if (findNode(key, false, null) == null) {
+                add(key, value);
+                return null;
+            }
+            return update(key, value);
+        }
+    }
+
+    @Override
+    public V remove(final K key) throws IllegalArgumentException {
+        Node<K, V> node = removeNode(key, false, null);
+        if (node == null) {
+            throw new IllegalArgumentException("Map doesn't contain an entry with the key " + key + ".");
+        }
+        return node.entry.value();
+    }
+
+    @Override
+    public boolean remove(final K key, final V value) {
+        return removeNode(key, true, value) != null;
+    }
+
+    @Override
+    public boolean removeAll(final Map<? extends K, ? extends V> map) {
+        boolean result = false;
+        for (Entry<? extends K, ? extends V> entry : map) {
+            result |= remove(entry.key(), entry.value());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<Entry<? extends K, ? extends V>> predicate) {
+        boolean result = false;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                AtomicReferenceArray<Node<K, V>> bins = segment.bins;
+                for (int i = 0; i < bins.length(); i++) {
+                    Node<K, V> node = bins.get(i);
+                    while (node != null) {
+                        Node<K, V> next = node.next;
+                        if (predicate.test(node.entry)) {
+                            bins.setRelease(i, copyChain(bins.get(i), node, next));
+                            segment.size = segment.size - 1;
+                            result = true;
+                        }
+                        node = next;
+                    }
+                }
+                shrinkIfSparse(segment);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the first node with the key, and optionally the value, under the lock of its segment.
+     *
+     * @param key          The key.
+     * @param compareValue Whether the value of the entry should be equal to the value too.
+     * @param value        The value.
+     * @return The node that was removed, or <code>null</code> if no such node is present.
+     */
+    private Node<K, V> removeNode(final K key, final boolean compareValue, final V value) {
+        int hashCode = HashUtilities.hashCode(key);
+        Segment<K, V> segment = segmentFor(hashCode);
+        synchronized (segment) {
+            AtomicReferenceArray<Node<K, V>> bins = segment.bins;
+            int binIndex = binIndex(hashCode, bins);
+            Node<K, V> head = bins.get(binIndex);
+            Node<K, V> node = findNode(head, hashCode, key, compareValue, value);
+            if (node != null) {
+                bins.setRelease(binIndex, copyChain(head, node, node.next));
+                segment.size = segment.size - 1;
+                shrinkIfSparse(segment);
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Resizes a segment to a new number of bins, and publishes the new bins once all the chains have been copied into
+     * them. When the number of bins doubles, the nodes of a chain are split over the bin with the same index and the
+     * bin with the old number of bins added to the index, keeping their order. When the number of bins shrinks, the
+     * chains of the bins with the same index modulo the new number of bins are joined. The chains in the old bins
+     * aren't modified, such that lookups running on the old bins remain correct. Must be called while holding the
+     * lock on the segment.
+     *
+     * @param <K>          The key type.
+     * @param <V>          The value type.
+     * @param segment      The segment.
+     * @param numberOfBins The new number of bins, a power of two.
+     */
+    private static <K, V> void resize(final Segment<K, V> segment, final int numberOfBins) {
+        AtomicReferenceArray<Node<K, V>> oldBins = segment.bins;
+        int oldLength = oldBins.length();
+        AtomicReferenceArray<Node<K, V>> newBins = new AtomicReferenceArray<Node<K, V>>(numberOfBins);
+        for (int i = 0; i < oldLength; i++) {
+            Node<K, V> reversed = null;
+            for (Node<K, V> node = oldBins.get(i); node != null; node = node.next) {
+                reversed = new Node<K, V>(node.hash, node.entry, reversed);
+            }
+            for (Node<K, V> node = reversed; node != null; node = node.next) {
+                int index = binIndex(node.hash, newBins);
+                newBins.setPlain(index, new Node<K, V>(node.hash, node.entry, newBins.getPlain(index)));
+            }
+        }
+        segment.bins = newBins;
+    }
+
+    @Override
+    public boolean retainAll(final Map<? extends K, ? extends V> map) {
+        HashTable<K, V> retainable = new HashTable<K, V>(map.size());
+        for (Entry<? extends K, ? extends V> entry : map) {
+            retainable.add((Entry<K, V>) entry);
+        }
+        boolean result = false;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                AtomicReferenceArray<Node<K, V>> bins = segment.bins;
+                for (int i = 0; i < bins.length(); i++) {
+                    Node<K, V> node = bins.get(i);
+                    while (node != null) {
+                        Node<K, V> next = node.next;
+                        Entry<K, V> entry = node.entry;
+                        int index = retainable.findFirstIndexForKeyAndContent(entry.key(), entry.value(), false);
+                        if (index == -1) {
+                            bins.setRelease(i, copyChain(bins.get(i), node, next));
+                            segment.size = segment.size - 1;
+                            result = true;
+                        } else {
+                            retainable.removeAt(index);
+                        }
+                        node = next;
+                    }
+                }
+                shrinkIfSparse(segment);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the segment for a hash code.
+     *
+     * @param hashCode The hash code.
+     * @return The segment for the hash code.
+     */
+    private Segment<K, V> segmentFor(final int hashCode) {
+        return segments[ArrayUtilities.spread(hashCode) >>> SEGMENT_SHIFT];
+    }
+
+    /**
+     * Shrinks a segment if it has become too sparse, to twice the number of bins its entries need, such that the
+     * segment doesn't have to be resized again on the next addition or removal. Must be called while holding the
+     * lock on the segment.
+     *
+     * @param <K>     The key type.
+     * @param <V>     The value type.
+     * @param segment The segment.
+     */
+    private static <K, V> void shrinkIfSparse(final Segment<K, V> segment) {
+        int oldLength = segment.bins.length();
+        if (oldLength > INITIAL_NUMBER_OF_BINS && segment.size * MAXIMAL_BINS_RATIO < oldLength) {
+            int numberOfBins = INITIAL_NUMBER_OF_BINS;
+            while (segment.size * MAXIMAL_LOAD_DENOMINATOR * 2 > numberOfBins * MAXIMAL_LOAD_NUMERATOR) {
+                numberOfBins *= 2;
+            }
+            resize(segment, numberOfBins);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new ArraySpliterator<Entry<K, V>>(toArray(),
+                getElementCardinality() == DISTINCT_ELEMENTS ? Spliterator.DISTINCT : 0);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size()];
+        int i = 0;
+        for (Entry<K, V> entry : this) {
+            if (i == result.length) {
+                result = Arrays.copyOf(result, result.length * 2 + 1);
+            }
+            result[i++] = entry;
+        }
+        return i == result.length ? result : Arrays.copyOf(result, i);
+    }
+
+    @Override
+    public V update(final K key, final V value) throws IllegalArgumentException {
+        int hashCode = HashUtilities.hashCode(key);
+        Segment<K, V> segment = segmentFor(hashCode);
+        synchronized (segment) {
+            AtomicReferenceArray<Node<K, V>> bins = segment.bins;
+            int binIndex = binIndex(hashCode, bins);
+            Node<K, V> head = bins.get(binIndex);
+            if (findNode(head, hashCode, key, true, value) != null) {
+                return value;
+            }
+            Node<K, V> node = findNode(head, hashCode, key, false, null);
+            if (node == null) {
+                throw new IllegalArgumentException("Map doesn't contain an entry with the key " + key + ".");
+            }
+            bins.setRelease(binIndex, copyChain(head, node,
+                    new Node<K, V>(hashCode, new Entry<K, V>(key, value), node.next)));
+            return node.entry.value();
+        }
+    }
+
+    @Override
+    public boolean update(final K key, final V oldValue, final V newValue) throws IllegalArgumentException {
+        int hashCode = HashUtilities.hashCode(key);
+        Segment<K, V> segment = segmentFor(hashCode);
+        synchronized (segment) {
+            AtomicReferenceArray<Node<K, V>> bins = segment.bins;
+            int binIndex = binIndex(hashCode, bins);
+            Node<K, V> head = bins.get(binIndex);
+            Node<K, V> node = findNode(head, hashCode, key, true, oldValue);
+            if (node == null) {
+                throw new IllegalArgumentException(
+                        "Map doesn't contain an entry with the key " + key + " and value " + oldValue + ".");
+            }
+            if (Objects.equals(oldValue, newValue)) {
+                return false;
+            }
+            if (keyAndValueCardinality == DUPLICATE_KEYS_WITH_DISTINCT_VALUES
+                    && findNode(head, hashCode, key, true, newValue) != null) {
+                return false;
+            }
+            bins.setRelease(binIndex, copyChain(head, node,
+                    new Node<K, V>(hashCode, new Entry<K, V>(key, newValue), node.next)));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,521 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.ModifiableCollection;
+import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
+import net.filipvanlaenen.kolektoj.array.OrderedArrayCollection;
+
+/**
+ * A class implementing a hash table in the style of a Swiss table. Next to the slots with the entries, the hash table
+ * keeps a control byte per slot, packed eight at a time into a <code>long</code>, marking the slot as empty, deleted or
+ * full. The control byte of a full slot holds a fingerprint of seven bits of the spread hash code of its key. A lookup
+ * probes the control bytes group by group, comparing the fingerprint of the key to the eight control bytes of a group
+ * at once using bitwise arithmetic, and only touches the slots of the matching control bytes. Since only one in 128
+ * other keys matches the fingerprint, a lookup typically reads one word of control bytes and one entry, and rarely
+ * calls <code>equals</code> more than once, which allows the hash table to be filled up to seven eighths of its
+ * capacity. The groups are probed quadratically. A removed entry leaves a tombstone behind only if its group has been
+ * full, because only then lookups for other keys may have to continue past it. The hash code of the key of every entry
+ * is cached next to the entry, such that resizing never has to call <code>hashCode</code> again, but the cached hash
+ * codes aren't compared during lookups, because reading them would cost an extra cache miss for every lookup. In the
+ * statistics, the probe lengths count groups instead of slots.
+ *
+ * @param <K> The key type.
+ * @param <C> The content type.
+ */
+final class ControlByteHashTable<K, C> implements EntryTable<K, C> {
+    /**
+     * The number of slots in a group, i.e. the number of control bytes in a <code>long</code>.
+     */
+    private static final int GROUP_WIDTH = Long.BYTES;
+    /**
+     * The control byte marking an empty slot.
+     */
+    private static final long EMPTY = 0x80L;
+    /**
+     * The control byte marking a slot from which an entry has been removed.
+     */
+    private static final long DELETED = 0xFEL;
+    /**
+     * A mask selecting a single control byte.
+     */
+    private static final long CONTROL_BYTE_MASK = 0xFFL;
+    /**
+     * The number of bits of the spread hash code used for the fingerprint.
+     */
+    private static final int FINGERPRINT_BITS = 7;
+    /**
+     * A mask selecting the fingerprint from a spread hash code.
+     */
+    private static final int FINGERPRINT_MASK = 0x7F;
+    /**
+     * A word with the lowest bit of every control byte set.
+     */
+    private static final long LOWEST_BITS = 0x0101010101010101L;
+    /**
+     * A word with the highest bit of every control byte set, which is also a group with empty slots only.
+     */
+    private static final long HIGHEST_BITS = 0x8080808080808080L;
+    /**
+     * The shift that moves the second lowest bit of a control byte onto its highest bit, which distinguishes an empty
+     * control byte from a deleted one.
+     */
+    private static final int EMPTY_VERSUS_DELETED_SHIFT = 6;
+    /**
+     * The numerator of the maximal load factor.
+     */
+    private static final int MAXIMAL_LOAD_NUMERATOR = 7;
+    /**
+     * The denominator of the maximal load factor.
+     */
+    private static final int MAXIMAL_LOAD_DENOMINATOR = 8;
+    /**
+     * The maximal ratio between the capacity and the number of entries. When the hash table becomes sparser through
+     * removals, it is shrunk to twice the capacity the remaining entries need.
+     */
+    private static final int MAXIMAL_HASHING_RATIO = 8;
+    /**
+     * The capacity, i.e. the number of slots, always zero or a power of two of at least the group width.
+     */
+    private int capacity;
+    /**
+     * The control bytes, one group of slots per <code>long</code>, with the control byte of the first slot of the
+     * group in the lowest byte.
+     */
+    private long[] controls;
+    /**
+     * The slots with the entries.
+     */
+    private Object[] entries;
+    /**
+     * The cached hash codes of the keys of the entries in the slots.
+     */
+    private int[] hashCodes;
+    /**
+     * The number of times the hash table has been resized.
+     */
+    private int numberOfResizes;
+    /**
+     * The number of entries.
+     */
+    private int size;
+    /**
+     * The number of slots marked as deleted.
+     */
+    private int tombstones;
+
+    /**
+     * Constructor taking the number of entries the hash table should be able to hold without resizing as its
+     * parameter.
+     *
+     * @param baseLength The number of entries the hash table should be able to hold without resizing.
+     */
+    ControlByteHashTable(final int baseLength) {
+        allocate(capacityFor(baseLength));
+    }
+
+    @Override
+    public void add(final Entry<K, C> entry) {
+        ensureCapacity(size + 1);
+        insert(entry, HashUtilities.hashCode(entry.key()));
+        size++;
+    }
+
+    /**
+     * Allocates empty slots and control bytes for the given capacity.
+     *
+     * @param newCapacity The new capacity.
+     */
+    private void allocate(final int newCapacity) {
+        capacity = newCapacity;
+        controls = new long[capacity / GROUP_WIDTH];
+        Arrays.fill(controls, HIGHEST_BITS);
+        entries = new Object[capacity];
+        hashCodes = new int[capacity];
+        tombstones = 0;
+    }
+
+    @Override
+    public HashStatistics calculateStatistics() {
+        long totalProbeLength = 0L;
+        int maximumProbeLength = 0;
+        int collisions = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (entries[i] != null) {
+                int probeLength = probeLength(i);
+                totalProbeLength += probeLength;
+                maximumProbeLength = Math.max(maximumProbeLength, probeLength);
+                if (probeLength > 1) {
+                    collisions++;
+                }
+            }
+        }
+        int[] clusterSizes = new int[size + 1];
+        int maximumClusterSize = 0;
+        int clusterSize = 0;
+        for (int i = 0; i <= capacity; i++) {
+            if (i < capacity && entries[i] != null) {
+                clusterSize++;
+            } else if (clusterSize > 0) {
+                clusterSizes[clusterSize]++;
+                maximumClusterSize = Math.max(maximumClusterSize, clusterSize);
+                clusterSize = 0;
+            }
+        }
+        Integer[] histogram = new Integer[maximumClusterSize + 1];
+        for (int i = 0; i <= maximumClusterSize; i++) {
+            histogram[i] = clusterSizes[i];
+        }
+        return new HashStatistics(size, capacity, capacity == 0 ? 0D : (double) size / capacity,
+                size == 0 ? 0D : (double) totalProbeLength / size, maximumProbeLength, collisions,
+                new OrderedArrayCollection<Integer>(histogram), numberOfResizes);
+    }
+
+    /**
+     * Returns the capacity for a number of entries, i.e. the smallest power of two, at least the group width, such
+     * that the entries don't exceed the maximal load factor, or zero if the number of entries is zero.
+     *
+     * @param numberOfEntries The number of entries.
+     * @return The capacity for the number of entries.
+     */
+    private static int capacityFor(final int numberOfEntries) {
+        if (numberOfEntries == 0) {
+            return 0;
+        }
+        long minimalCapacity = ((long) numberOfEntries * MAXIMAL_LOAD_DENOMINATOR + MAXIMAL_LOAD_NUMERATOR - 1)
+                / MAXIMAL_LOAD_NUMERATOR;
+        return Math.max(GROUP_WIDTH, ArrayUtilities.capacityFor(minimalCapacity));
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        allocate(0);
+    }
+
+    @Override
+    public void collectContentsForKey(final K key, final ModifiableCollection<C> result) {
+        if (capacity == 0) {
+            return;
+        }
+        int spreadHashCode = ArrayUtilities.spread(HashUtilities.hashCode(key));
+        long fingerprint = spreadHashCode & FINGERPRINT_MASK;
+        int groupMask = capacity / GROUP_WIDTH - 1;
+        int group = (spreadHashCode >>> FINGERPRINT_BITS) & groupMask;
+        int step = 0;
+        while (true) {
+            long controlWord = controls[group];
+            for (long matches = matchFingerprint(controlWord, fingerprint); matches != 0L; matches &= matches - 1) {
+                Entry<K, C> entry = getEntryAt(slotOf(group, matches));
+                if (Objects.equals(entry.key(), key)) {
+                    result.add(entry.value());
+                }
+            }
+            if (matchEmpty(controlWord) != 0L) {
+                return;
+            }
+            step++;
+            group = (group + step) & groupMask;
+        }
+    }
+
+    @Override
+    public boolean containsContent(final C content) {
+        for (int i = 0; i < capacity; i++) {
+            if (entries[i] != null && Objects.equals(getEntryAt(i).value(), content)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsEntry(final K key, final C content) {
+        return findSlot(key, true, content) != -1;
+    }
+
+    @Override
+    public boolean containsKey(final K key) {
+        return findSlot(key, false, null) != -1;
+    }
+
+    /**
+     * Returns the control byte of a slot.
+     *
+     * @param slot The slot.
+     * @return The control byte of the slot.
+     */
+    private long controlByteAt(final int slot) {
+        return (controls[slot / GROUP_WIDTH] >>> (slot % GROUP_WIDTH * Byte.SIZE)) & CONTROL_BYTE_MASK;
+    }
+
+    @Override
+    public void ensureCapacity(final int numberOfEntries) {
+        int maximalLoad = maximalLoad(capacity);
+        if (numberOfEntries + tombstones > maximalLoad) {
+            // If the table would be at most half full without its tombstones, it's rehashed at the same capacity,
+            // such that alternating additions and removals don't make it grow.
+            if (numberOfEntries * 2 <= maximalLoad) {
+                resizeTo(capacity);
+            } else {
+                resizeTo(capacityFor(Math.max(numberOfEntries, maximalLoad + 1)));
+            }
+        }
+    }
+
+    /**
+     * Finds the slot with the first entry with the key, and optionally the content. Only the slots with a control
+     * byte matching the fingerprint of the key are inspected, and the search stops at the first group with an empty
+     * slot.
+     *
+     * @param key            The key.
+     * @param compareContent Whether the content of the entry should be equal to the content too.
+     * @param content        The content.
+     * @return The slot with the first entry with the key, and optionally the content, or -1 if no such entry is
+     *         present.
+     */
+    private int findSlot(final K key, final boolean compareContent, final C content) {
+        if (capacity == 0) {
+            return -1;
+        }
+        int spreadHashCode = ArrayUtilities.spread(HashUtilities.hashCode(key));
+        long fingerprint = spreadHashCode & FINGERPRINT_MASK;
+        int groupMask = capacity / GROUP_WIDTH - 1;
+        int group = (spreadHashCode >>> FINGERPRINT_BITS) & groupMask;
+        int step = 0;
+        while (true) {
+            long controlWord = controls[group];
+            for (long matches = matchFingerprint(controlWord, fingerprint); matches != 0L; matches &= matches - 1) {
+                int slot = slotOf(group, matches);
+                Entry<K, C> entry = getEntryAt(slot);
+                if (Objects.equals(entry.key(), key) && (!compareContent || Objects.equals(entry.value(), content))) {
+                    return slot;
+                }
+            }
+            if (matchEmpty(controlWord) != 0L) {
+                return -1;
+            }
+            step++;
+            group = (group + step) & groupMask;
+        }
+    }
+
+    /**
+     * Returns the entry in a slot.
+     *
+     * @param slot The slot.
+     * @return The entry in the slot.
+     */
+    private Entry<K, C> getEntryAt(final int slot) {
+        return (Entry<K, C>) entries[slot];
+    }
+
+    @Override
+    public Entry<K, C> getFirstEntry() {
+        for (int i = 0; i < capacity; i++) {
+            if (entries[i] != null) {
+                return getEntryAt(i);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Entry<K, C> getFirstEntryForKey(final K key) {
+        int slot = findSlot(key, false, null);
+        return slot == -1 ? null : getEntryAt(slot);
+    }
+
+    @Override
+    public ProbingStrategy getProbingStrategy() {
+        return ProbingStrategy.CONTROL_BYTE_PROBING;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Inserts an entry with the given hash code into the first empty or deleted slot of its probe sequence.
+     *
+     * @param entry    The entry.
+     * @param hashCode The hash code of the key of the entry.
+     */
+    private void insert(final Object entry, final int hashCode) {
+        int spreadHashCode = ArrayUtilities.spread(hashCode);
+        int groupMask = capacity / GROUP_WIDTH - 1;
+        int group = (spreadHashCode >>> FINGERPRINT_BITS) & groupMask;
+        int step = 0;
+        long freeSlots = controls[group] & HIGHEST_BITS;
+        while (freeSlots == 0L) {
+            step++;
+            group = (group + step) & groupMask;
+            freeSlots = controls[group] & HIGHEST_BITS;
+        }
+        int slot = slotOf(group, freeSlots);
+        if (controlByteAt(slot) == DELETED) {
+            tombstones--;
+        }
+        setControlByteAt(slot, spreadHashCode & FINGERPRINT_MASK);
+        entries[slot] = entry;
+        hashCodes[slot] = hashCode;
+    }
+
+    /**
+     * Returns a word with the highest bit set for every empty control byte in a group.
+     *
+     * @param controlWord The control bytes of the group.
+     * @return A word with the highest bit set for every empty control byte in the group.
+     */
+    private static long matchEmpty(final long controlWord) {
+        return controlWord & ~(controlWord << EMPTY_VERSUS_DELETED_SHIFT) & HIGHEST_BITS;
+    }
+
+    /**
+     * Returns a word with the highest bit set for every control byte in a group that is equal to the fingerprint. The
+     * word may contain false positives, but only for control bytes following a control byte that is equal to the
+     * fingerprint, and never misses a control byte that is equal to the fingerprint.
+     *
+     * @param controlWord The control bytes of the group.
+     * @param fingerprint The fingerprint.
+     * @return A word with the highest bit set for every control byte in the group equal to the fingerprint.
+     */
+    private static long matchFingerprint(final long controlWord, final long fingerprint) {
+        long difference = controlWord ^ (LOWEST_BITS * fingerprint);
+        return (difference - LOWEST_BITS) & ~difference & HIGHEST_BITS;
+    }
+
+    /**
+     * Returns the maximal number of entries and tombstones a hash table with the given capacity can hold.
+     *
+     * @param theCapacity The capacity.
+     * @return The maximal number of entries and tombstones a hash table with the given capacity can hold.
+     */
+    private static int maximalLoad(final int theCapacity) {
+        return theCapacity / MAXIMAL_LOAD_DENOMINATOR * MAXIMAL_LOAD_NUMERATOR;
+    }
+
+    /**
+     * Returns the number of groups a lookup has to probe to reach an occupied slot.
+     *
+     * @param slot An occupied slot.
+     * @return The number of groups a lookup has to probe to reach the slot.
+     */
+    private int probeLength(final int slot) {
+        int groupMask = capacity / GROUP_WIDTH - 1;
+        int group = (ArrayUtilities.spread(hashCodes[slot]) >>> FINGERPRINT_BITS) & groupMask;
+        int probeLength = 1;
+        while (group != slot / GROUP_WIDTH) {
+            group = (group + probeLength) & groupMask;
+            probeLength++;
+        }
+        return probeLength;
+    }
+
+    /**
+     * Removes the entry in a slot, and returns it. The slot is marked as empty if its group still has an empty slot,
+     * because then no lookup has ever continued past the group, and as deleted otherwise. The hash table is only
+     * shrunk if it has become too sparse.
+     *
+     * @param slot The slot.
+     * @return The entry that was removed.
+     */
+    private Entry<K, C> removeAt(final int slot) {
+        Entry<K, C> entry = getEntryAt(slot);
+        if (matchEmpty(controls[slot / GROUP_WIDTH]) == 0L) {
+            setControlByteAt(slot, DELETED);
+            tombstones++;
+        } else {
+            setControlByteAt(slot, EMPTY);
+        }
+        entries[slot] = null;
+        size--;
+        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
+        if (size * MAXIMAL_HASHING_RATIO < capacity) {
+            resizeTo(capacityFor(size * 2));
+        }
+        return entry;
+    }
+
+    @Override
+    public boolean removeEntry(final K key, final C content) {
+        int slot = findSlot(key, true, content);
+        if (slot == -1) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    @Override
+    public Entry<K, C> removeFirstEntryForKey(final K key) {
+        int slot = findSlot(key, false, null);
+        return slot == -1 ? null : removeAt(slot);
+    }
+
+    @Override
+    public boolean replaceEntry(final K key, final C oldContent, final C newContent) {
+        int slot = findSlot(key, true, oldContent);
+        if (slot == -1) {
+            return false;
+        }
+        entries[slot] = new Entry<K, C>(key, newContent);
+        return true;
+    }
+
+    /**
+     * Resizes the hash table to the new capacity, dropping all tombstones. The entries are reinserted using their
+     * cached hash codes.
+     *
+     * @param newCapacity The new capacity, zero or a power of two of at least the group width.
+     */
+    private void resizeTo(final int newCapacity) {
+        numberOfResizes++;
+        Object[] oldEntries = entries;
+        int[] oldHashCodes = hashCodes;
+        allocate(newCapacity);
+        for (int i = 0; i < oldEntries.length; i++) {
+            if (oldEntries[i] != null) {
+                insert(oldEntries[i], oldHashCodes[i]);
+            }
+        }
+    }
+
+    /**
+     * Sets the control byte of a slot.
+     *
+     * @param slot        The slot.
+     * @param controlByte The control byte.
+     */
+    private void setControlByteAt(final int slot, final long controlByte) {
+        int shift = slot % GROUP_WIDTH * Byte.SIZE;
+        int group = slot / GROUP_WIDTH;
+        controls[group] = controls[group] & ~(CONTROL_BYTE_MASK << shift) | controlByte << shift;
+    }
+
+    /**
+     * Returns the slot for the lowest control byte marked in a word of matches for a group.
+     *
+     * @param group   The group.
+     * @param matches A word with the highest bit set for the matching control bytes of the group.
+     * @return The slot for the lowest matching control byte.
+     */
+    private static int slotOf(final int group, final long matches) {
+        return group * GROUP_WIDTH + Long.numberOfTrailingZeros(matches) / Byte.SIZE;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int j = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (entries[i] != null) {
+                result[j++] = entries[i];
+            }
+        }
+        return result;
+    }
+}
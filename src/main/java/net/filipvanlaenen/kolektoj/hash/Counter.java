@@ -0,0 +1,39 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+/**
+ * A mutable counter, used as the content of a hash table counting the occurrences of its keys, such that a count can
+ * be updated in place instead of replacing the entry with a new entry holding a new boxed integer.
+ */
+final class Counter {
+    /**
+     * The count.
+     */
+    private int count;
+
+    /**
+     * Constructor taking the initial count as its parameter.
+     *
+     * @param count The initial count.
+     */
+    Counter(final int count) {
+        this.count = count;
+    }
+
+    /**
+     * Adds a delta to the count, which may be negative.
+     *
+     * @param delta The delta to add to the count.
+     */
+    void add(final int delta) {
+        count += delta;
+    }
+
+    /**
+     * Returns the count.
+     *
+     * @return The count.
+     */
+    int get() {
+        return count;
+    }
+}
@@ -0,0 +1,136 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.ModifiableCollection;
+
+/**
+ * Interface defining the operations the hash maps need from the table holding their entries. Maps with distinct keys
+ * store their entries directly in the slots of a {@link HashTable}, whereas maps with duplicate keys use a
+ * {@link BucketHashTable}, where every key occupies a single slot pointing to the bucket with its entries.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+interface EntryTable<K, V> {
+    /**
+     * Adds an entry to the table, resizing the table if necessary.
+     *
+     * @param entry The entry to add.
+     */
+    void add(Entry<K, V> entry);
+
+    /**
+     * Calculates the statistics for the hash table underlying the table.
+     *
+     * @return The statistics for the hash table underlying the table.
+     */
+    HashStatistics calculateStatistics();
+
+    /**
+     * Removes all entries from the table.
+     */
+    void clear();
+
+    /**
+     * Adds the values of all the entries with the key to a collection.
+     *
+     * @param key    The key.
+     * @param result The collection to which the values should be added.
+     */
+    void collectContentsForKey(K key, ModifiableCollection<V> result);
+
+    /**
+     * Returns whether the table contains an entry with the value.
+     *
+     * @param value The value.
+     * @return True if the table contains an entry with the value.
+     */
+    boolean containsContent(V value);
+
+    /**
+     * Returns whether the table contains an entry with the key and the value.
+     *
+     * @param key   The key.
+     * @param value The value.
+     * @return True if the table contains an entry with the key and the value.
+     */
+    boolean containsEntry(K key, V value);
+
+    /**
+     * Returns whether the table contains an entry with the key.
+     *
+     * @param key The key.
+     * @return True if the table contains an entry with the key.
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Resizes the table if it can't hold the given number of entries.
+     *
+     * @param numberOfEntries The number of entries the table should be able to hold.
+     */
+    void ensureCapacity(int numberOfEntries);
+
+    /**
+     * Returns the first entry of the table, or <code>null</code> if the table is empty.
+     *
+     * @return The first entry of the table.
+     */
+    Entry<K, V> getFirstEntry();
+
+    /**
+     * Returns the first entry with the key, or <code>null</code> if the table doesn't contain an entry with the key.
+     *
+     * @param key The key.
+     * @return The first entry with the key.
+     */
+    Entry<K, V> getFirstEntryForKey(K key);
+
+    /**
+     * Returns the probing strategy of the hash table underlying the table.
+     *
+     * @return The probing strategy of the hash table underlying the table.
+     */
+    ProbingStrategy getProbingStrategy();
+
+    /**
+     * Returns the number of entries in the table.
+     *
+     * @return The number of entries in the table.
+     */
+    int getSize();
+
+    /**
+     * Removes the first entry with the key and the value.
+     *
+     * @param key   The key.
+     * @param value The value.
+     * @return True if an entry was removed.
+     */
+    boolean removeEntry(K key, V value);
+
+    /**
+     * Removes the first entry with the key, and returns it.
+     *
+     * @param key The key.
+     * @return The entry that was removed, or <code>null</code> if the table doesn't contain an entry with the key.
+     */
+    Entry<K, V> removeFirstEntryForKey(K key);
+
+    /**
+     * Replaces the first entry with the key and the old value by an entry with the key and the new value.
+     *
+     * @param key      The key.
+     * @param oldValue The old value.
+     * @param newValue The new value.
+     * @return True if an entry was replaced.
+     */
+    boolean replaceEntry(K key, V oldValue, V newValue);
+
+    /**
+     * Returns an array with the entries of the table.
+     *
+     * @return An array with the entries of the table.
+     */
+    Object[] toArray();
+}
@@ -18,10 +18,6 @@ import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
  * @param <E> The element type.
  */
 public final class HashCollection<E> implements Collection<E> {
-    /**
-     * The ratio by which the number of entries should be multiplied to construct the hashed array.
-     */
-    private static final int HASHING_RATIO = 3;
     /**
      * The element cardinality.
      */
@@ -31,13 +27,9 @@ public final class HashCollection<E> implements Collection<E> {
      */
     private final Object[] elements;
     /**
-     * A hashed array with the elements.
-     */
-    private final Object[] hashedElements;
-    /**
-     * The size of the hashed array with the elements.
+     * A hash table with the elements.
      */
-    private final int hashedElementsSize;
+    private final HashTable<E, E> hashTable;
 
     /**
      * Constructs a hash collection from another collection, with the same elements and the same element cardinality.
@@ -47,8 +39,7 @@ public final class HashCollection<E> implements Collection<E> {
     public HashCollection(final Collection<? extends E> source) throws IllegalArgumentException {
         this.elementCardinality = source.getElementCardinality();
         this.elements = source.toArray();
-        this.hashedElementsSize = calculateHashedElementsSize(this.elements);
-        this.hashedElements = HashUtilities.createHashedMapFromElements(this.elements, this.hashedElementsSize);
+        this.hashTable = createHashTable(this.elements);
     }
 
     /**
@@ -60,8 +51,7 @@ public final class HashCollection<E> implements Collection<E> {
     public HashCollection(final E... elements) throws IllegalArgumentException {
         this.elementCardinality = DUPLICATE_ELEMENTS;
         this.elements = elements.clone();
-        this.hashedElementsSize = calculateHashedElementsSize(this.elements);
-        this.hashedElements = HashUtilities.createHashedMapFromElements(this.elements, this.hashedElementsSize);
+        this.hashTable = createHashTable(this.elements);
     }
 
     /**
@@ -78,8 +68,7 @@ public final class HashCollection<E> implements Collection<E> {
         } else {
             this.elements = source.toArray();
         }
-        this.hashedElementsSize = calculateHashedElementsSize(this.elements);
-        this.hashedElements = HashUtilities.createHashedMapFromElements(this.elements, this.hashedElementsSize);
+        this.hashTable = createHashTable(this.elements);
     }
 
     /**
@@ -96,39 +85,61 @@ public final class HashCollection<E> implements Collection<E> {
         } else {
             this.elements = elements.clone();
         }
-        this.hashedElementsSize = calculateHashedElementsSize(this.elements);
-        this.hashedElements = HashUtilities.createHashedMapFromElements(this.elements, this.hashedElementsSize);
+        this.hashTable = createHashTable(this.elements);
     }
 
     /**
-     * Calculates the size of the array with the hashed elements for an array of elements.
+     * Constructs a hash collection taking ownership of an array with the elements, which should already satisfy the
+     * element cardinality.
+     *
+     * @param elements           The array with the elements, which isn't cloned.
+     * @param elementCardinality The element cardinality.
+     */
+    private HashCollection(final Object[] elements, final ElementCardinality elementCardinality) {
+        this.elementCardinality = elementCardinality;
+        this.elements = elements;
+        this.hashTable = createHashTable(this.elements);
+    }
+
+    /**
+     * Creates a hash table with the elements.
      *
      * @param theElements The elements to be hashed.
-     * @return The size of the array with the hashed elements.
+     * @return A hash table with the elements.
      */
-    private int calculateHashedElementsSize(final Object[] theElements) {
-        return theElements.length * HASHING_RATIO;
+    private HashTable<E, E> createHashTable(final Object[] theElements) {
+        HashTable<E, E> theHashTable = new HashTable<E, E>(theElements.length);
+        for (Object element : theElements) {
+            theHashTable.add(new Entry<E, E>((E) element, (E) element));
+        }
+        return theHashTable;
     }
 
     @Override
     public boolean contains(final E element) {
-        if (hashedElementsSize == 0) {
-            return false;
-        }
-        Entry entry = new Entry(element, element);
-        int index = HashUtilities.hash(element, hashedElementsSize);
-        while (hashedElements[index] != null) {
-            if (hashedElements[index].equals(entry)) {
-                return true;
-            }
-            index = Math.floorMod(index + 1, hashedElementsSize);
-        }
-        return false;
+        return hashTable.findFirstIndexForKey(element) != -1;
     }
 
     @Override
     public boolean containsAll(final Collection<?> collection) {
-        return ArrayUtilities.containsAll(this.elements, elements.length, collection);
+        return HashUtilities.containsAllKeys(hashTable, elements.length, collection,
+                elementCardinality == DISTINCT_ELEMENTS ? index -> 1
+                        : index -> hashTable.countEntriesForKey(hashTable.getEntryAt(index).key()));
+    }
+
+    @Override
+    public boolean containsSame(final Collection<?> collection) {
+        return size() == collection.size() && containsAll(collection);
+    }
+
+    /**
+     * Returns statistics on the hash table of the collection. The statistics are calculated when this method is
+     * called.
+     *
+     * @return Statistics on the hash table of the collection.
+     */
+    public HashStatistics getHashStatistics() {
+        return hashTable.calculateStatistics();
     }
 
     @Override
@@ -164,4 +175,25 @@ public final class HashCollection<E> implements Collection<E> {
     public Object[] toArray() {
         return elements.clone();
     }
+
+    /**
+     * Returns a new hash collection with the specified element cardinality containing all the elements from the
+     * provided collections. The elements array is allocated once for the sum of the sizes of the collections and
+     * filled in a single pass, after which the duplicates are removed in place if the elements should be distinct, and
+     * the hash table is created once for the resulting number of elements.
+     *
+     * @param <F>                The element type.
+     * @param elementCardinality The element cardinality.
+     * @param collections        The collections from which to copy all the elements.
+     * @return A new hash collection with the specified element cardinality containing all the elements from the
+     *         provided collections.
+     */
+    public static <F> HashCollection<F> unionOf(final ElementCardinality elementCardinality,
+            final Collection<? extends F>... collections) {
+        Object[] elements = ArrayUtilities.concatenate(collections);
+        if (elementCardinality == DISTINCT_ELEMENTS) {
+            elements = ArrayUtilities.retainDistinctElements(elements);
+        }
+        return new HashCollection<F>(elements, elementCardinality);
+    }
 }
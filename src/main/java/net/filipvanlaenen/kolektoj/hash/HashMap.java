@@ -6,38 +6,32 @@ import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DISTINCT_KE
 import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DUPLICATE_KEYS_WITH_DUPLICATE_VALUES;
 
 import java.util.Iterator;
-import java.util.Objects;
 import java.util.Spliterator;
 
 import net.filipvanlaenen.kolektoj.Collection;
 import net.filipvanlaenen.kolektoj.Map;
 import net.filipvanlaenen.kolektoj.ModifiableCollection;
 import net.filipvanlaenen.kolektoj.array.ArrayCollection;
+import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
 import net.filipvanlaenen.kolektoj.array.ModifiableArrayCollection;
 
 /**
  * A hash backed implementation of the {@link net.filipvanlaenen.kolektoj.Map} interface.
+ * Optionally, the map keeps an index on the values, such that <code>containsValue</code> takes constant time on
+ * average instead of scanning the values.
  *
  * @param <K> The key type.
  * @param <V> The value type.
  */
 public final class HashMap<K, V> implements Map<K, V> {
-    /**
-     * The ratio by which the number of entries should be multiplied to construct the hashed array.
-     */
-    private static final int HASHING_RATIO = 3;
     /**
      * An array with the entries.
      */
     private final Collection<Entry<K, V>> entries;
     /**
-     * A hashed array with the entries.
+     * A table with the entries, indexed on their keys.
      */
-    private final Object[] hashedEntries;
-    /**
-     * The size of the hashed array with the entries.
-     */
-    private final int hashedEntriesSize;
+    private final EntryTable<K, V> entryTable;
     /**
      * The key and value cardinality.
      */
@@ -46,6 +40,10 @@ public final class HashMap<K, V> implements Map<K, V> {
      * A collection with the keys.
      */
     private final Collection<K> keys;
+    /**
+     * The index on the values, or <code>null</code> if the map doesn't keep an index on its values.
+     */
+    private final ValueIndex<V> valueIndex;
     /**
      * A collection with the values.
      */
@@ -70,7 +68,48 @@ public final class HashMap<K, V> implements Map<K, V> {
      */
     public HashMap(final KeyAndValueCardinality keyAndValueCardinality, final Entry<K, V>... entries)
             throws IllegalArgumentException {
-        this(keyAndValueCardinality, (Object[]) entries);
+        this(ProbingStrategy.LINEAR_PROBING, keyAndValueCardinality, ValueIndexing.NO_VALUE_INDEX,
+                (Object[]) entries);
+    }
+
+    /**
+     * Constructor taking the probing strategy and the entries as its parameter.
+     *
+     * @param probingStrategy The probing strategy.
+     * @param entries         The entries for the map.
+     * @throws IllegalArgumentException Thrown if one of the entries is null.
+     */
+    public HashMap(final ProbingStrategy probingStrategy, final Entry<K, V>... entries)
+            throws IllegalArgumentException {
+        this(probingStrategy, DISTINCT_KEYS, entries);
+    }
+
+    /**
+     * Constructor taking the probing strategy, the key and value cardinality and the entries as its parameter.
+     *
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param entries                The entries for the map.
+     * @throws IllegalArgumentException Thrown if one of the entries is null.
+     */
+    public HashMap(final ProbingStrategy probingStrategy, final KeyAndValueCardinality keyAndValueCardinality,
+            final Entry<K, V>... entries) throws IllegalArgumentException {
+        this(probingStrategy, keyAndValueCardinality, ValueIndexing.NO_VALUE_INDEX, (Object[]) entries);
+    }
+
+    /**
+     * Constructor taking the probing strategy, the key and value cardinality, the value indexing and the entries as
+     * its parameter.
+     *
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param valueIndexing          Whether the map should keep an index on its values.
+     * @param entries                The entries for the map.
+     * @throws IllegalArgumentException Thrown if one of the entries is null.
+     */
+    public HashMap(final ProbingStrategy probingStrategy, final KeyAndValueCardinality keyAndValueCardinality,
+            final ValueIndexing valueIndexing, final Entry<K, V>... entries) throws IllegalArgumentException {
+        this(probingStrategy, keyAndValueCardinality, valueIndexing, (Object[]) entries);
     }
 
     /**
@@ -80,35 +119,47 @@ public final class HashMap<K, V> implements Map<K, V> {
      * @param map                    The map to create a new map from.
      */
     public HashMap(final KeyAndValueCardinality keyAndValueCardinality, final Map<? extends K, ? extends V> map) {
-        this(keyAndValueCardinality, map.toArray());
+        this(ProbingStrategy.LINEAR_PROBING, keyAndValueCardinality, ValueIndexing.NO_VALUE_INDEX,
+                map.toArray());
     }
 
     /**
-     * Constructor taking the key and value cardinality and the entries as an object array as its parameter.
+     * Constructor taking the probing strategy, the key and value cardinality, the value indexing and the entries as
+     * an object array as its parameter.
      *
+     * @param probingStrategy        The probing strategy.
      * @param keyAndValueCardinality The key and value cardinality.
+     * @param valueIndexing          Whether the map should keep an index on its values.
      * @param entries                The entries for the map as an object array.
      * @throws IllegalArgumentException Thrown if one of the entries is null.
      */
-    private HashMap(final KeyAndValueCardinality keyAndValueCardinality, final Object[] entries)
-            throws IllegalArgumentException {
+    private HashMap(final ProbingStrategy probingStrategy, final KeyAndValueCardinality keyAndValueCardinality,
+            final ValueIndexing valueIndexing, final Object[] entries) throws IllegalArgumentException {
         if (entries == null) {
             throw new IllegalArgumentException("Map entries can't be null.");
         }
         this.keyAndValueCardinality = keyAndValueCardinality;
-        hashedEntriesSize = entries.length * HASHING_RATIO;
-        Object[] theHashedEntries = new Object[hashedEntriesSize];
+        EntryTable<K, V> theEntryTable =
+                HashUtilities.createEntryTable(entries.length, probingStrategy, keyAndValueCardinality);
         ModifiableCollection<Entry<K, V>> theEntries =
-                new ModifiableArrayCollection<Entry<K, V>>(getElementCardinality());
-        ModifiableCollection<K> theKeys = new ModifiableArrayCollection<K>(
-                keyAndValueCardinality == DISTINCT_KEYS ? DISTINCT_ELEMENTS : DUPLICATE_ELEMENTS);
-        ModifiableCollection<V> theValues = new ModifiableArrayCollection<V>();
-        HashUtilities.populateMapFromEntries(theEntries, theHashedEntries, theKeys, theValues, keyAndValueCardinality,
+                ModifiableArrayCollection.<Entry<K, V>>withExpectedSize(getElementCardinality(), entries.length);
+        ModifiableCollection<K> theKeys = ModifiableArrayCollection.<K>withExpectedSize(
+                keyAndValueCardinality == DISTINCT_KEYS ? DISTINCT_ELEMENTS : DUPLICATE_ELEMENTS, entries.length);
+        ModifiableCollection<V> theValues = ModifiableArrayCollection.<V>withExpectedSize(entries.length);
+        HashUtilities.populateMapFromEntries(theEntries, theEntryTable, theKeys, theValues, keyAndValueCardinality,
                 entries);
         this.entries = new ArrayCollection<Entry<K, V>>(theEntries);
-        this.hashedEntries = theHashedEntries;
+        this.entryTable = theEntryTable;
         this.keys = new ArrayCollection<K>(theKeys);
         this.values = new ArrayCollection<V>(theValues);
+        if (valueIndexing == ValueIndexing.VALUE_INDEX) {
+            this.valueIndex = new ValueIndex<V>(theValues.size());
+            for (V value : theValues) {
+                valueIndex.add(value);
+            }
+        } else {
+            this.valueIndex = null;
+        }
     }
 
     /**
@@ -117,58 +168,36 @@ public final class HashMap<K, V> implements Map<K, V> {
      * @param map The map to create a new map from.
      */
     public HashMap(final Map<? extends K, ? extends V> map) {
-        this(map.getKeyAndValueCardinality(), map.toArray());
+        this(ProbingStrategy.LINEAR_PROBING, map.getKeyAndValueCardinality(), ValueIndexing.NO_VALUE_INDEX,
+                map.toArray());
     }
 
     @Override
     public boolean contains(final Entry<K, V> entry) {
-        if (hashedEntriesSize == 0) {
-            return false;
-        }
-        int index = HashUtilities.hash(entry.key(), hashedEntriesSize);
-        while (hashedEntries[index] != null) {
-            if (hashedEntries[index].equals(entry)) {
-                return true;
-            }
-            index = Math.floorMod(index + 1, hashedEntriesSize);
-        }
-        return false;
+        return entryTable.containsEntry(entry.key(), entry.value());
     }
 
     @Override
     public boolean containsAll(final Collection<?> collection) {
-        return entries.containsAll(collection);
+        return HashUtilities.containsAllEntries(this, collection);
     }
 
     @Override
-    public boolean containsKey(final K key) {
-        return findFirstIndexForKey(key) != -1;
+    public boolean containsSame(final Collection<?> collection) {
+        return size() == collection.size() && containsAll(collection);
     }
 
     @Override
-    public boolean containsValue(final V value) {
-        return getValues().contains(value);
+    public boolean containsKey(final K key) {
+        return entryTable.containsKey(key);
     }
 
-    /**
-     * Finds the index for the first occurrence of an entry with the key.
-     *
-     * @param key The key.
-     * @return Returns the index for the first occurrence of an entry with the key, or -1 if no such entry is present.
-     */
-    private int findFirstIndexForKey(final K key) {
-        if (hashedEntriesSize == 0) {
-            return -1;
-        }
-        int index = HashUtilities.hash(key, hashedEntriesSize);
-        while (hashedEntries[index] != null) {
-            K k = ((Entry<K, V>) hashedEntries[index]).key();
-            if (Objects.equals(k, key)) {
-                return index;
-            }
-            index = Math.floorMod(index + 1, hashedEntriesSize);
+    @Override
+    public boolean containsValue(final V value) {
+        if (valueIndex != null) {
+            return valueIndex.contains(value);
         }
-        return -1;
+        return getValues().contains(value);
     }
 
     @Override
@@ -182,11 +211,11 @@ public final class HashMap<K, V> implements Map<K, V> {
 
     @Override
     public V get(final K key) throws IllegalArgumentException {
-        int index = findFirstIndexForKey(key);
-        if (index == -1) {
+        Entry<K, V> entry = entryTable.getFirstEntryForKey(key);
+        if (entry == null) {
             throw new IllegalArgumentException("Map doesn't contain an entry with the key " + key + ".");
         }
-        return ((Entry<K, V>) hashedEntries[index]).value();
+        return entry.value();
     }
 
     @Override
@@ -194,20 +223,31 @@ public final class HashMap<K, V> implements Map<K, V> {
         ModifiableCollection<V> result = new ModifiableArrayCollection<V>(
                 keyAndValueCardinality == DUPLICATE_KEYS_WITH_DUPLICATE_VALUES ? DUPLICATE_ELEMENTS
                         : DISTINCT_ELEMENTS);
-        int index = HashUtilities.hash(key, hashedEntriesSize);
-        while (hashedEntries[index] != null) {
-            K k = ((Entry<K, V>) hashedEntries[index]).key();
-            if (Objects.equals(k, key)) {
-                result.add(((Entry<K, V>) hashedEntries[index]).value());
-            }
-            index = Math.floorMod(index + 1, hashedEntriesSize);
-        }
+        entryTable.collectContentsForKey(key, result);
         if (result.isEmpty()) {
             throw new IllegalArgumentException("Map doesn't contain entries with the key " + key + ".");
         }
         return result;
     }
 
+    /**
+     * Returns statistics on the hash table of the map. The statistics are calculated when this method is called.
+     *
+     * @return Statistics on the hash table of the map.
+     */
+    public HashStatistics getHashStatistics() {
+        return entryTable.calculateStatistics();
+    }
+
+    /**
+     * Returns the probing strategy of the hash table backing the map.
+     *
+     * @return The probing strategy of the hash table backing the map.
+     */
+    public ProbingStrategy getProbingStrategy() {
+        return entryTable.getProbingStrategy();
+    }
+
     @Override
     public KeyAndValueCardinality getKeyAndValueCardinality() {
         return keyAndValueCardinality;
@@ -242,4 +282,24 @@ public final class HashMap<K, V> implements Map<K, V> {
     public Object[] toArray() {
         return entries.toArray();
     }
+
+    /**
+     * Returns a new hash map with the specified key and value cardinality containing all the entries from the provided
+     * maps. The entries of the maps are concatenated into a single array, and the hash table is sized once for the sum
+     * of the sizes of the maps and populated in a single pass over that array. As for a map constructed from an array
+     * of entries, an entry is only added if the key and value cardinality allows it, i.e. the first entry for a key
+     * wins if the keys should be distinct.
+     *
+     * @param <L>                    The key type.
+     * @param <W>                    The value type.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param maps                   The maps from which to copy all the entries.
+     * @return A new hash map with the specified key and value cardinality containing all the entries from the provided
+     *         maps.
+     */
+    public static <L, W> HashMap<L, W> unionOf(final KeyAndValueCardinality keyAndValueCardinality,
+            final Map<? extends L, ? extends W>... maps) {
+        return new HashMap<L, W>(ProbingStrategy.LINEAR_PROBING, keyAndValueCardinality, ValueIndexing.NO_VALUE_INDEX,
+                ArrayUtilities.concatenate(maps));
+    }
 }
@@ -0,0 +1,24 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import net.filipvanlaenen.kolektoj.OrderedCollection;
+
+/**
+ * A snapshot of statistics on the hash table of a hash-backed collection or map. The statistics are calculated on
+ * demand, i.e. only when they are requested, by scanning the hash table, such that keeping track of them doesn't slow
+ * down the collection or the map itself.
+ *
+ * @param size                 The number of occupied slots in the hash table.
+ * @param capacity             The number of slots in the hash table.
+ * @param loadFactor           The ratio between the number of occupied slots and the number of slots.
+ * @param averageProbeLength   The average number of slots that have to be probed to find an entry, one if the entry
+ *                             is in its home slot.
+ * @param maximumProbeLength   The maximum number of slots that have to be probed to find an entry.
+ * @param collisions           The number of entries that aren't stored in their home slot.
+ * @param clusterSizeHistogram A histogram with the number of clusters, i.e. runs of occupied slots, per cluster size,
+ *                             using the cluster size as the index.
+ * @param numberOfResizes      The number of times the hash table has been resized.
+ */
+public record HashStatistics(int size, int capacity, double loadFactor, double averageProbeLength,
+        int maximumProbeLength, int collisions, OrderedCollection<Integer> clusterSizeHistogram,
+        int numberOfResizes) {
+}
@@ -0,0 +1,484 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import java.util.Objects;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.ModifiableCollection;
+import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
+import net.filipvanlaenen.kolektoj.array.OrderedArrayCollection;
+
+/**
+ * A class implementing a hash table with open addressing and linear probing. The capacity of the hash table is always
+ * a power of two, such that the home slot of an entry and the next slot in its probe sequence can be calculated by
+ * masking the spread hash code instead of by an integer division. Entries are placed using either linear probing
+ * or Robin Hood hashing, depending on the probing strategy. The hash code of the key of every entry
+ * is cached next to the entry, such that probing can skip entries with a different hash code without calling
+ * <code>equals</code>, and resizing never has to call <code>hashCode</code> again. As an entry table, the hash table
+ * stores the entries of a map directly in its slots, which is the layout used for maps with distinct keys.
+ *
+ * @param <K> The key type.
+ * @param <C> The content type.
+ */
+class HashTable<K, C> implements EntryTable<K, C> {
+    /**
+     * The ratio by which the number of entries should be multiplied to calculate the capacity.
+     */
+    private static final int HASHING_RATIO = 3;
+    /**
+     * The minimal ratio between the capacity and the number of entries.
+     */
+    private static final int MINIMAL_HASHING_RATIO = 2;
+    /**
+     * The maximal ratio between the capacity and the number of entries. Since the capacity is rounded up to a power
+     * of two, the capacity can be up to twice the hashing ratio times the number of entries right after a resize, so
+     * the maximal ratio should be larger than that to avoid resizing again on the next removal.
+     */
+    private static final int MAXIMAL_HASHING_RATIO = 8;
+    /**
+     * The capacity, i.e. the number of slots, always zero or a power of two.
+     */
+    private int capacity;
+    /**
+     * The slots with the entries.
+     */
+    private Object[] entries;
+    /**
+     * The cached hash codes of the keys of the entries in the slots.
+     */
+    private int[] hashCodes;
+    /**
+     * The number of times the hash table has been resized.
+     */
+    private int numberOfResizes;
+    /**
+     * Whether the hash table uses Robin Hood hashing instead of linear probing.
+     */
+    private final boolean robinHood;
+    /**
+     * The number of entries.
+     */
+    private int size;
+
+    /**
+     * Constructor taking the number of entries the hash table should be able to hold without resizing as its
+     * parameter.
+     *
+     * @param baseLength The number of entries the hash table should be able to hold without resizing.
+     */
+    HashTable(final int baseLength) {
+        this(baseLength, ProbingStrategy.LINEAR_PROBING);
+    }
+
+    /**
+     * Constructor taking the number of entries the hash table should be able to hold without resizing and the probing
+     * strategy as its parameters.
+     *
+     * @param baseLength      The number of entries the hash table should be able to hold without resizing.
+     * @param probingStrategy The probing strategy.
+     */
+    HashTable(final int baseLength, final ProbingStrategy probingStrategy) {
+        robinHood = probingStrategy == ProbingStrategy.ROBIN_HOOD_HASHING;
+        capacity = ArrayUtilities.capacityFor((long) baseLength * HASHING_RATIO);
+        entries = new Object[capacity];
+        hashCodes = new int[capacity];
+    }
+
+    @Override
+    public void add(final Entry<K, C> entry) {
+        ensureCapacity(size + 1);
+        insert(entry, HashUtilities.hashCode(entry.key()));
+        size++;
+    }
+
+    @Override
+    public HashStatistics calculateStatistics() {
+        long totalProbeLength = 0L;
+        int maximumProbeLength = 0;
+        int collisions = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (entries[i] != null) {
+                int probeLength = probeDistance(i) + 1;
+                totalProbeLength += probeLength;
+                maximumProbeLength = Math.max(maximumProbeLength, probeLength);
+                if (probeLength > 1) {
+                    collisions++;
+                }
+            }
+        }
+        int[] clusterSizes = new int[size + 1];
+        int maximumClusterSize = 0;
+        int emptyIndex = 0;
+        while (emptyIndex < capacity && entries[emptyIndex] != null) {
+            emptyIndex++;
+        }
+        if (capacity > 0 && emptyIndex == capacity) {
+            clusterSizes[size]++;
+            maximumClusterSize = size;
+        } else {
+            int clusterSize = 0;
+            for (int j = 1; j <= capacity; j++) {
+                if (entries[(emptyIndex + j) & (capacity - 1)] != null) {
+                    clusterSize++;
+                } else if (clusterSize > 0) {
+                    clusterSizes[clusterSize]++;
+                    maximumClusterSize = Math.max(maximumClusterSize, clusterSize);
+                    clusterSize = 0;
+                }
+            }
+        }
+        Integer[] histogram = new Integer[maximumClusterSize + 1];
+        for (int i = 0; i <= maximumClusterSize; i++) {
+            histogram[i] = clusterSizes[i];
+        }
+        return new HashStatistics(size, capacity, capacity == 0 ? 0D : (double) size / capacity,
+                size == 0 ? 0D : (double) totalProbeLength / size, maximumProbeLength, collisions,
+                new OrderedArrayCollection<Integer>(histogram), numberOfResizes);
+    }
+
+    @Override
+    public void clear() {
+        capacity = 0;
+        entries = new Object[0];
+        hashCodes = new int[0];
+        size = 0;
+    }
+
+    @Override
+    public void collectContentsForKey(final K key, final ModifiableCollection<C> result) {
+        if (capacity == 0) {
+            return;
+        }
+        int hashCode = HashUtilities.hashCode(key);
+        int index = HashUtilities.index(hashCode, capacity);
+        int distance = 0;
+        while (entries[index] != null && !isPassedBy(index, distance)) {
+            if (hashCodes[index] == hashCode && Objects.equals(getEntryAt(index).key(), key)) {
+                result.add(getEntryAt(index).value());
+            }
+            index = nextIndex(index);
+            distance++;
+        }
+    }
+
+    @Override
+    public boolean containsContent(final C content) {
+        for (int i = 0; i < capacity; i++) {
+            if (entries[i] != null && Objects.equals(getEntryAt(i).value(), content)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean containsEntry(final K key, final C content) {
+        return findFirstIndexForKeyAndContent(key, content, false) != -1;
+    }
+
+    @Override
+    public boolean containsKey(final K key) {
+        return findFirstIndexForKey(key) != -1;
+    }
+
+    /**
+     * Counts the number of entries with the key.
+     *
+     * @param key The key.
+     * @return The number of entries with the key.
+     */
+    int countEntriesForKey(final K key) {
+        if (capacity == 0) {
+            return 0;
+        }
+        int hashCode = HashUtilities.hashCode(key);
+        int index = HashUtilities.index(hashCode, capacity);
+        int distance = 0;
+        int count = 0;
+        while (entries[index] != null && !isPassedBy(index, distance)) {
+            if (hashCodes[index] == hashCode && Objects.equals(getEntryAt(index).key(), key)) {
+                count++;
+            }
+            index = nextIndex(index);
+            distance++;
+        }
+        return count;
+    }
+
+    @Override
+    public void ensureCapacity(final int numberOfEntries) {
+        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
+        if (numberOfEntries * MINIMAL_HASHING_RATIO > capacity) {
+            resizeTo(numberOfEntries);
+        }
+    }
+
+    /**
+     * Finds the index for the first occurrence of an entry with the key.
+     *
+     * @param key The key.
+     * @return The index for the first occurrence of an entry with the key, or -1 if no such entry is present.
+     */
+    int findFirstIndexForKey(final K key) {
+        if (capacity == 0) {
+            return -1;
+        }
+        int hashCode = HashUtilities.hashCode(key);
+        int index = HashUtilities.index(hashCode, capacity);
+        int distance = 0;
+        while (entries[index] != null && !isPassedBy(index, distance)) {
+            if (hashCodes[index] == hashCode && Objects.equals(getEntryAt(index).key(), key)) {
+                return index;
+            }
+            index = nextIndex(index);
+            distance++;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the index for the first occurrence of an entry with the key and the content. The key and the content are
+     * compared in place, such that no entry has to be created to look it up.
+     *
+     * @param key          The key.
+     * @param content      The content.
+     * @param distinctKeys Whether the keys in the hash table are distinct, such that the search can stop at the first
+     *                     entry with the key.
+     * @return The index for the first occurrence of an entry with the key and the content, or -1 if no such entry is
+     *         present.
+     */
+    int findFirstIndexForKeyAndContent(final K key, final C content, final boolean distinctKeys) {
+        if (capacity == 0) {
+            return -1;
+        }
+        int hashCode = HashUtilities.hashCode(key);
+        int index = HashUtilities.index(hashCode, capacity);
+        int distance = 0;
+        while (entries[index] != null && !isPassedBy(index, distance)) {
+            if (hashCodes[index] == hashCode) {
+                Entry<K, C> entry = getEntryAt(index);
+                if (Objects.equals(entry.key(), key)) {
+                    if (Objects.equals(entry.value(), content)) {
+                        return index;
+                    } else if (distinctKeys) {
+                        return -1;
+                    }
+                }
+            }
+            index = nextIndex(index);
+            distance++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the capacity, i.e. the number of slots, such that slot indices can be used to index an array.
+     *
+     * @return The capacity.
+     */
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the entry at the index.
+     *
+     * @param index The index.
+     * @return The entry at the index.
+     */
+    Entry<K, C> getEntryAt(final int index) {
+        return (Entry<K, C>) entries[index];
+    }
+
+    @Override
+    public Entry<K, C> getFirstEntry() {
+        for (int i = 0; i < capacity; i++) {
+            if (entries[i] != null) {
+                return getEntryAt(i);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Entry<K, C> getFirstEntryForKey(final K key) {
+        int index = findFirstIndexForKey(key);
+        return index == -1 ? null : getEntryAt(index);
+    }
+
+    @Override
+    public ProbingStrategy getProbingStrategy() {
+        return robinHood ? ProbingStrategy.ROBIN_HOOD_HASHING : ProbingStrategy.LINEAR_PROBING;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Inserts an entry with the given hash code into its probe sequence. With linear probing, the entry is stored in
+     * the first free slot. With Robin Hood hashing, the entry takes the slot of the first entry that is closer to its
+     * home slot, and that entry continues the probe sequence in its place.
+     *
+     * @param entry    The entry.
+     * @param hashCode The hash code of the key of the entry.
+     */
+    private void insert(final Object entry, final int hashCode) {
+        Object carriedEntry = entry;
+        int carriedHashCode = hashCode;
+        int index = HashUtilities.index(hashCode, capacity);
+        int distance = 0;
+        while (entries[index] != null) {
+            if (isPassedBy(index, distance)) {
+                Object displacedEntry = entries[index];
+                int displacedHashCode = hashCodes[index];
+                distance = probeDistance(index);
+                entries[index] = carriedEntry;
+                hashCodes[index] = carriedHashCode;
+                carriedEntry = displacedEntry;
+                carriedHashCode = displacedHashCode;
+            }
+            index = nextIndex(index);
+            distance++;
+        }
+        entries[index] = carriedEntry;
+        hashCodes[index] = carriedHashCode;
+    }
+
+    /**
+     * Returns whether a probe sequence that has travelled the given distance from its home slot passes by the entry in
+     * a slot, i.e. whether the hash table uses Robin Hood hashing and the entry is closer to its home slot. A lookup
+     * that passes by an entry can stop, because with Robin Hood hashing, the key it is looking for would have taken
+     * that slot.
+     *
+     * @param index    The index of an occupied slot.
+     * @param distance The distance travelled by the probe sequence from its home slot.
+     * @return True if the probe sequence passes by the entry in the slot.
+     */
+    private boolean isPassedBy(final int index, final int distance) {
+        return robinHood && probeDistance(index) < distance;
+    }
+
+    /**
+     * Returns the index of the slot following a slot.
+     *
+     * @param index The index of a slot.
+     * @return The index of the slot following the slot.
+     */
+    private int nextIndex(final int index) {
+        return (index + 1) & (capacity - 1);
+    }
+
+    /**
+     * Returns the distance between an occupied slot and the home slot of its entry.
+     *
+     * @param index The index of an occupied slot.
+     * @return The distance between the slot and the home slot of its entry.
+     */
+    private int probeDistance(final int index) {
+        return (index - HashUtilities.index(hashCodes[index], capacity)) & (capacity - 1);
+    }
+
+    /**
+     * Removes the entry at the index, and returns it. The entries following the removed entry in its cluster are
+     * shifted backward into the freed slot where their probe sequence allows it, such that no tombstones are needed
+     * and the hash table doesn't have to be rehashed. With Robin Hood hashing, the shift stops at the first entry in
+     * its home slot, such that the entries of the cluster remain ordered by their home slots. The hash table is only
+     * shrunk if it has become too sparse.
+     *
+     * @param index The index.
+     * @return The entry that was removed.
+     */
+    Entry<K, C> removeAt(final int index) {
+        Entry<K, C> entry = getEntryAt(index);
+        int hole = index;
+        int next = nextIndex(hole);
+        while (entries[next] != null) {
+            int probeDistance = probeDistance(next);
+            if (probeDistance >= ((next - hole) & (capacity - 1))) {
+                entries[hole] = entries[next];
+                hashCodes[hole] = hashCodes[next];
+                hole = next;
+            } else if (robinHood) {
+                break;
+            }
+            next = nextIndex(next);
+        }
+        entries[hole] = null;
+        size--;
+        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
+        // EQMU: Replacing integer multiplication with division below produces an equivalent mutant.
+        if (size * MAXIMAL_HASHING_RATIO < capacity) {
+            resizeTo(size);
+        }
+        return entry;
+    }
+
+    @Override
+    public boolean removeEntry(final K key, final C content) {
+        int index = findFirstIndexForKeyAndContent(key, content, false);
+        if (index == -1) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    @Override
+    public Entry<K, C> removeFirstEntryForKey(final K key) {
+        int index = findFirstIndexForKey(key);
+        return index == -1 ? null : removeAt(index);
+    }
+
+    @Override
+    public boolean replaceEntry(final K key, final C oldContent, final C newContent) {
+        int index = findFirstIndexForKeyAndContent(key, oldContent, false);
+        if (index == -1) {
+            return false;
+        }
+        setEntryAt(index, new Entry<K, C>(key, newContent));
+        return true;
+    }
+
+    /**
+     * Resizes the hash table to the new base length. The base length will be multiplied by a ratio and rounded up to a
+     * power of two to calculate the actual new capacity. The entries are reinserted using their cached hash codes.
+     *
+     * @param newBaseLength The new base length for the hash table.
+     */
+    private void resizeTo(final int newBaseLength) {
+        numberOfResizes++;
+        Object[] oldEntries = entries;
+        int[] oldHashCodes = hashCodes;
+        capacity = ArrayUtilities.capacityFor((long) newBaseLength * HASHING_RATIO);
+        entries = new Object[capacity];
+        hashCodes = new int[capacity];
+        for (int i = 0; i < oldEntries.length; i++) {
+            if (oldEntries[i] != null) {
+                insert(oldEntries[i], oldHashCodes[i]);
+            }
+        }
+    }
+
+    /**
+     * Replaces the entry at the index with an entry with the same key.
+     *
+     * @param index The index.
+     * @param entry The new entry, having the same key as the entry at the index.
+     */
+    void setEntryAt(final int index, final Entry<K, C> entry) {
+        entries[index] = entry;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int j = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (entries[i] != null) {
+                result[j++] = entries[i];
+            }
+        }
+        return result;
+    }
+}
@@ -1,12 +1,19 @@
 package net.filipvanlaenen.kolektoj.hash;
 
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DISTINCT_ELEMENTS;
 import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DISTINCT_KEYS;
 import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DUPLICATE_KEYS_WITH_DISTINCT_VALUES;
 import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DUPLICATE_KEYS_WITH_DUPLICATE_VALUES;
 
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+import net.filipvanlaenen.kolektoj.Collection;
+import net.filipvanlaenen.kolektoj.Map;
 import net.filipvanlaenen.kolektoj.ModifiableCollection;
 import net.filipvanlaenen.kolektoj.Map.Entry;
 import net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality;
+import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
 
 /**
  * A class with utility methods for hash-backed collections.
@@ -19,23 +26,188 @@ final class HashUtilities {
     }
 
     /**
-     * Returns the hash value for an object in a hash of size <code>size</code>.
+     * Returns true if the map contains all the entries of the <code>collection</code>, taking into account how many
+     * times each entry occurs. Every entry of the collection is looked up in the map with a hash probe. Only when the
+     * collection may contain duplicate entries are the occurrences of its entries counted, in a hash table with
+     * counters that are updated in place, and only when the map may contain duplicate entries too are these counts
+     * compared to the number of occurrences in the map.
+     *
+     * @param <K>        The key type.
+     * @param <V>        The value type.
+     * @param map        The map that should contain the entries.
+     * @param collection The collection.
+     * @return True if the map contains all the entries of the <code>collection</code>, and false otherwise.
+     */
+    static <K, V> boolean containsAllEntries(final Map<K, V> map, final Collection<?> collection) {
+        if (collection.size() > map.size()) {
+            return false;
+        }
+        boolean distinctEntries = map.getKeyAndValueCardinality() != DUPLICATE_KEYS_WITH_DUPLICATE_VALUES;
+        HashTable<Object, Counter> counts = collection.getElementCardinality() == DISTINCT_ELEMENTS ? null
+                : new HashTable<Object, Counter>(collection.size());
+        for (Object element : collection) {
+            if (!(element instanceof Entry) || !map.contains((Entry<K, V>) element)) {
+                return false;
+            }
+            if (counts != null) {
+                int index = counts.findFirstIndexForKey(element);
+                if (index == -1) {
+                    counts.add(new Entry<Object, Counter>(element, new Counter(1)));
+                } else if (distinctEntries) {
+                    return false;
+                } else {
+                    counts.getEntryAt(index).value().add(1);
+                }
+            }
+        }
+        if (counts == null || distinctEntries) {
+            return true;
+        }
+        for (Object countEntry : counts.toArray()) {
+            Entry<Entry<K, V>, Counter> count = (Entry<Entry<K, V>, Counter>) countEntry;
+            V value = count.key().value();
+            int numberOfOccurrences = 0;
+            for (V otherValue : map.getAll(count.key().key())) {
+                if (Objects.equals(value, otherValue)) {
+                    numberOfOccurrences++;
+                }
+            }
+            if (count.value().get() > numberOfOccurrences) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the keys of the hash table contain all the elements of the <code>collection</code>, taking into
+     * account how many times each element occurs. Every element of the collection is looked up in the hash table with
+     * a hash probe. Only when the collection may contain duplicate elements are the matches counted, per slot of the
+     * hash table where the first entry with the element as its key is found, and compared to the number of occurrences
+     * of the key, which is looked up once per distinct element.
+     *
+     * @param <K>                   The key type.
+     * @param hashTable             The hash table that should contain the elements as keys.
+     * @param size                  The number of elements in the collection backed by the hash table.
+     * @param collection            The collection.
+     * @param numberOfOccurrencesAt A function returning the number of occurrences of the key at an index of the hash
+     *                              table.
+     * @return True if the keys of the hash table contain all the elements of the <code>collection</code>, and false
+     *         otherwise.
+     */
+    static <K> boolean containsAllKeys(final HashTable<K, ?> hashTable, final int size,
+            final Collection<?> collection, final IntUnaryOperator numberOfOccurrencesAt) {
+        if (collection.size() > size) {
+            return false;
+        }
+        if (collection.getElementCardinality() == DISTINCT_ELEMENTS) {
+            for (Object element : collection) {
+                if (hashTable.findFirstIndexForKey((K) element) == -1) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        int[] numbersOfMatches = new int[hashTable.getCapacity()];
+        int[] numbersOfOccurrences = new int[hashTable.getCapacity()];
+        for (Object element : collection) {
+            int index = hashTable.findFirstIndexForKey((K) element);
+            if (index == -1) {
+                return false;
+            }
+            if (numbersOfMatches[index] == 0) {
+                numbersOfOccurrences[index] = numberOfOccurrencesAt.applyAsInt(index);
+            }
+            if (++numbersOfMatches[index] > numbersOfOccurrences[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates the entry table for a map. Maps with distinct keys store their entries directly in a hash table, whereas
+     * maps with duplicate keys store them in buckets per key.
+     *
+     * @param <K>                    The key type.
+     * @param <V>                    The value type.
+     * @param baseLength             The number of entries the table should be able to hold without resizing.
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality of the map.
+     * @return An entry table for a map with the key and value cardinality.
+     */
+    static <K, V> EntryTable<K, V> createEntryTable(final int baseLength, final ProbingStrategy probingStrategy,
+            final KeyAndValueCardinality keyAndValueCardinality) {
+        if (keyAndValueCardinality == DISTINCT_KEYS) {
+            return createHashTable(baseLength, probingStrategy);
+        } else {
+            return new BucketHashTable<K, V>(baseLength, probingStrategy);
+        }
+    }
+
+    /**
+     * Creates a hash table storing its entries directly in its slots, using the probing strategy. Control byte probing
+     * uses a {@link ControlByteHashTable}, treeified chaining uses a {@link TreeifiedHashTable}, whereas the other
+     * probing strategies are implemented by {@link HashTable}.
+     *
+     * @param <K>             The key type.
+     * @param <C>             The content type.
+     * @param baseLength      The number of entries the hash table should be able to hold without resizing.
+     * @param probingStrategy The probing strategy.
+     * @return A hash table using the probing strategy.
+     */
+    static <K, C> EntryTable<K, C> createHashTable(final int baseLength, final ProbingStrategy probingStrategy) {
+        if (probingStrategy == ProbingStrategy.CONTROL_BYTE_PROBING) {
+            return new ControlByteHashTable<K, C>(baseLength);
+        } else if (probingStrategy == ProbingStrategy.TREEIFIED_CHAINING) {
+            return new TreeifiedHashTable<K, C>(baseLength);
+        } else {
+            return new HashTable<K, C>(baseLength, probingStrategy);
+        }
+    }
+
+    /**
+     * Returns the hash value for an object in a hash of size <code>size</code>, which should be a power of two.
      *
      * @param object The object to hash.
-     * @param size   The size of the hash.
+     * @param size   The size of the hash, a power of two.
      * @return The hash value for the object for the hash size.
      */
     static int hash(final Object object, final int size) {
-        return object == null ? 0 : Math.floorMod(object.hashCode(), size);
+        return index(hashCode(object), size);
     }
 
     /**
-     * Populates the state for a map from an array of entries.
+     * Returns the hash code for an object, which is zero for <code>null</code>.
+     *
+     * @param object The object.
+     * @return The hash code for the object.
+     */
+    static int hashCode(final Object object) {
+        return object == null ? 0 : object.hashCode();
+    }
+
+    /**
+     * Returns the index for a hash code in a hash of size <code>size</code>, which should be a power of two. The bits
+     * of the hash code are spread first, such that sequential hash codes don't end up in sequential slots, and the
+     * index can be calculated by masking instead of by an integer division.
+     *
+     * @param hashCode The hash code.
+     * @param size     The size of the hash, a power of two.
+     * @return The index for the hash code for the hash size.
+     */
+    static int index(final int hashCode, final int size) {
+        return ArrayUtilities.spread(hashCode) & (size - 1);
+    }
+
+    /**
+     * Populates the state for a map from an array of entries. Whether an entry can be added according to the key and
+     * value cardinality is decided by the entry table, such that the check doesn't have to scan the other collections.
      *
      * @param <K>                    The key type.
      * @param <V>                    The value type.
      * @param theEntries             The collection to which the entries should be added.
-     * @param theHashedEntries       The hashed array to which the entries should be added.
+     * @param theEntryTable          The entry table to which the entries should be added.
      * @param theKeys                The collection to which the keys should be added.
      * @param theValues              The collection to which the values should be added.
      * @param keyAndValueCardinality The key and value cardinality of the map.
@@ -43,47 +215,24 @@ final class HashUtilities {
      * @throws IllegalArgumentException Thrown if one of the entries is null.
      */
     static <K, V> void populateMapFromEntries(final ModifiableCollection<Entry<K, V>> theEntries,
-            final Object[] theHashedEntries, final ModifiableCollection<K> theKeys,
+            final EntryTable<K, V> theEntryTable, final ModifiableCollection<K> theKeys,
             final ModifiableCollection<V> theValues, final KeyAndValueCardinality keyAndValueCardinality,
             final Object... entries) throws IllegalArgumentException {
-        int hashedEntriesSize = theHashedEntries.length;
         for (Object entry : entries) {
             if (entry == null) {
                 throw new IllegalArgumentException("Map entries can't be null.");
             }
             K key = ((Entry<K, V>) entry).key();
+            V value = ((Entry<K, V>) entry).value();
             if (keyAndValueCardinality == DUPLICATE_KEYS_WITH_DUPLICATE_VALUES
                     || keyAndValueCardinality == DUPLICATE_KEYS_WITH_DISTINCT_VALUES
-                            && !theEntries.contains((Entry<K, V>) entry)
-                    || keyAndValueCardinality == DISTINCT_KEYS && !theKeys.contains(key)) {
+                            && !theEntryTable.containsEntry(key, value)
+                    || keyAndValueCardinality == DISTINCT_KEYS && !theEntryTable.containsKey(key)) {
                 theEntries.add((Entry<K, V>) entry);
                 theKeys.add(key);
-                theValues.add(((Entry<K, V>) entry).value());
-                int i = HashUtilities.hash(key, hashedEntriesSize);
-                while (theHashedEntries[i] != null) {
-                    i = Math.floorMod(i + 1, hashedEntriesSize);
-                }
-                theHashedEntries[i] = entry;
-            }
-        }
-    }
-
-    /**
-     * Creates a hashed array of the given size with entries containing the elements of the array.
-     *
-     * @param elements           The elements to be hashed in a new array.
-     * @param hashedElementsSize The size of the hashed array.
-     * @return A hashed array with entries containing the elements.
-     */
-    static Object[] createHashedMapFromElements(final Object[] elements, final int hashedElementsSize) {
-        Object[] hashedElements = new Object[hashedElementsSize];
-        for (Object element : elements) {
-            int i = HashUtilities.hash(element, hashedElementsSize);
-            while (hashedElements[i] != null) {
-                i = Math.floorMod(i + 1, hashedElementsSize);
+                theValues.add(value);
+                theEntryTable.add((Entry<K, V>) entry);
             }
-            hashedElements[i] = new Entry(element, element);
         }
-        return hashedElements;
     }
 }
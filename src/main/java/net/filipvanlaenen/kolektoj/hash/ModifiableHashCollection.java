@@ -0,0 +1,296 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DISTINCT_ELEMENTS;
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DUPLICATE_ELEMENTS;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+import net.filipvanlaenen.kolektoj.Collection;
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.ModifiableCollection;
+import net.filipvanlaenen.kolektoj.array.ArrayIterator;
+import net.filipvanlaenen.kolektoj.array.ArraySpliterator;
+
+/**
+ * A hash backed implementation of the {@link net.filipvanlaenen.kolektoj.ModifiableCollection} interface. Every
+ * distinct element is stored once in the hash table, together with the number of times it occurs in the collection,
+ * such that adding, removing and looking up an element take constant time on average, also when the collection
+ * contains duplicate elements. The count is updated in place when a duplicate element is added or removed. Unlike the
+ * array backed collections returned by the factory methods of the
+ * {@link net.filipvanlaenen.kolektoj.ModifiableCollection} interface, the collection doesn't preserve the order in
+ * which the elements were added, the elements must have a hash code consistent with <code>equals</code>, and
+ * duplicate elements that are equal but not identical are all represented by the first one added.
+ *
+ * @param <E> The element type.
+ */
+public final class ModifiableHashCollection<E> implements ModifiableCollection<E> {
+    /**
+     * The element cardinality.
+     */
+    private final ElementCardinality elementCardinality;
+    /**
+     * A hash table with the distinct elements as the keys and the number of times they occur as the contents.
+     */
+    private final HashTable<E, Counter> hashTable;
+    /**
+     * The size of the collection.
+     */
+    private int size;
+
+    /**
+     * Constructs a modifiable hash collection from another collection, with the same elements and the same element
+     * cardinality.
+     *
+     * @param source The collection to create a new collection from.
+     */
+    public ModifiableHashCollection(final Collection<? extends E> source) {
+        this(source.getElementCardinality(), source);
+    }
+
+    /**
+     * Constructs a modifiable hash collection with the given elements. The element cardinality is defaulted to
+     * <code>DUPLICATE_ELEMENTS</code>.
+     *
+     * @param elements The elements of the modifiable hash collection.
+     */
+    public ModifiableHashCollection(final E... elements) {
+        this(DUPLICATE_ELEMENTS, elements);
+    }
+
+    /**
+     * Constructs a modifiable hash collection with the provided element cardinality and the elements of the provided
+     * collection.
+     *
+     * @param elementCardinality The element cardinality.
+     * @param source             The collection to create a new collection from.
+     */
+    public ModifiableHashCollection(final ElementCardinality elementCardinality,
+            final Collection<? extends E> source) {
+        this(elementCardinality, (E[]) source.toArray());
+    }
+
+    /**
+     * Constructs a modifiable hash collection with the given elements and element cardinality.
+     *
+     * @param elementCardinality The element cardinality.
+     * @param elements           The elements of the modifiable hash collection.
+     */
+    public ModifiableHashCollection(final ElementCardinality elementCardinality, final E... elements) {
+        this.elementCardinality = elementCardinality;
+        this.hashTable = new HashTable<E, Counter>(elements.length);
+        for (E element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Constructs an empty modifiable hash collection with the given element cardinality and room for the expected
+     * number of distinct elements. The parameters are in this order, such that the constructor can't be mistaken for
+     * the one taking an element cardinality and elements.
+     *
+     * @param expectedSize       The expected number of distinct elements.
+     * @param elementCardinality The element cardinality.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    private ModifiableHashCollection(final int expectedSize, final ElementCardinality elementCardinality)
+            throws IllegalArgumentException {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size can't be negative.");
+        }
+        this.elementCardinality = elementCardinality;
+        this.hashTable = new HashTable<E, Counter>(expectedSize);
+    }
+
+    @Override
+    public boolean add(final E element) {
+        int index = hashTable.findFirstIndexForKey(element);
+        if (index == -1) {
+            hashTable.add(new Entry<E, Counter>(element, new Counter(1)));
+        } else if (elementCardinality == DISTINCT_ELEMENTS) {
+            return false;
+        } else {
+            hashTable.getEntryAt(index).value().add(1);
+        }
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(final Collection<? extends E> collection) {
+        boolean result = false;
+        for (E element : collection) {
+            result |= add(element);
+        }
+        return result;
+    }
+
+    @Override
+    public void clear() {
+        hashTable.clear();
+        size = 0;
+    }
+
+    @Override
+    public boolean contains(final E element) {
+        return hashTable.findFirstIndexForKey(element) != -1;
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> collection) {
+        return HashUtilities.containsAllKeys(hashTable, size, collection,
+                index -> hashTable.getEntryAt(index).value().get());
+    }
+    @Override
+    public boolean containsSame(final Collection<?> collection) {
+        return size() == collection.size() && containsAll(collection);
+    }
+
+    @Override
+    public E get() throws IndexOutOfBoundsException {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("Cannot return an element from an empty collection.");
+        } else {
+            return hashTable.getFirstEntry().key();
+        }
+    }
+
+    @Override
+    public ElementCardinality getElementCardinality() {
+        return elementCardinality;
+    }
+
+    /**
+     * Returns statistics on the hash table of the collection. The statistics are calculated when this method is
+     * called.
+     *
+     * @return Statistics on the hash table of the collection.
+     */
+    public HashStatistics getHashStatistics() {
+        return hashTable.calculateStatistics();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayIterator<E>(toArray());
+    }
+
+    @Override
+    public boolean remove(final E element) {
+        int index = hashTable.findFirstIndexForKey(element);
+        if (index == -1) {
+            return false;
+        }
+        removeAt(index, 1);
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(final Collection<? extends E> collection) {
+        boolean result = false;
+        for (E element : collection) {
+            result |= remove(element);
+        }
+        return result;
+    }
+
+    /**
+     * Removes a number of occurrences of the element at the index of the hash table.
+     *
+     * @param index               The index.
+     * @param numberOfOccurrences The number of occurrences to remove, at most the number of times the element occurs.
+     */
+    private void removeAt(final int index, final int numberOfOccurrences) {
+        Counter counter = hashTable.getEntryAt(index).value();
+        if (counter.get() == numberOfOccurrences) {
+            hashTable.removeAt(index);
+        } else {
+            counter.add(-numberOfOccurrences);
+        }
+        size -= numberOfOccurrences;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super E> predicate) {
+        int originalSize = size;
+        for (Object entry : hashTable.toArray()) {
+            E element = ((Entry<E, Counter>) entry).key();
+            if (predicate.test(element)) {
+                removeAt(hashTable.findFirstIndexForKey(element), ((Entry<E, Counter>) entry).value().get());
+            }
+        }
+        return size != originalSize;
+    }
+
+    @Override
+    public boolean retainAll(final Collection<? extends E> collection) {
+        ModifiableHashCollection<E> retainable = new ModifiableHashCollection<E>(DUPLICATE_ELEMENTS, collection);
+        int originalSize = size;
+        for (Object entry : hashTable.toArray()) {
+            E element = ((Entry<E, Counter>) entry).key();
+            int count = ((Entry<E, Counter>) entry).value().get();
+            int retainableIndex = retainable.hashTable.findFirstIndexForKey(element);
+            int retainableCount =
+                    retainableIndex == -1 ? 0 : retainable.hashTable.getEntryAt(retainableIndex).value().get();
+            if (retainableCount < count) {
+                removeAt(hashTable.findFirstIndexForKey(element), count - retainableCount);
+            }
+        }
+        return size != originalSize;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArraySpliterator<E>(toArray(), elementCardinality == DISTINCT_ELEMENTS ? Spliterator.DISTINCT : 0);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int i = 0;
+        for (Object entry : hashTable.toArray()) {
+            E element = ((Entry<E, Counter>) entry).key();
+            int count = ((Entry<E, Counter>) entry).value().get();
+            for (int j = 0; j < count; j++) {
+                result[i++] = element;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new empty modifiable hash collection with the given element cardinality and room for the expected
+     * number of distinct elements, such that adding up to that number of distinct elements doesn't resize the hash
+     * table.
+     *
+     * @param <F>                The element type.
+     * @param elementCardinality The element cardinality.
+     * @param expectedSize       The expected number of distinct elements.
+     * @return A new empty modifiable hash collection with room for the expected number of distinct elements.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    public static <F> ModifiableHashCollection<F> withExpectedSize(final ElementCardinality elementCardinality,
+            final int expectedSize) throws IllegalArgumentException {
+        return new ModifiableHashCollection<F>(expectedSize, elementCardinality);
+    }
+
+    /**
+     * Returns a new empty modifiable hash collection with duplicate elements and room for the expected number of
+     * distinct elements, such that adding up to that number of distinct elements doesn't resize the hash table.
+     *
+     * @param <F>          The element type.
+     * @param expectedSize The expected number of distinct elements.
+     * @return A new empty modifiable hash collection with room for the expected number of distinct elements.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    public static <F> ModifiableHashCollection<F> withExpectedSize(final int expectedSize)
+            throws IllegalArgumentException {
+        return withExpectedSize(DUPLICATE_ELEMENTS, expectedSize);
+    }
+}
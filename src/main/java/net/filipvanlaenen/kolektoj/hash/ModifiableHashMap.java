@@ -4,7 +4,6 @@ import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DISTINCT
 import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DUPLICATE_ELEMENTS;
 import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.*;
 
-import java.lang.reflect.Array;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Spliterator;
@@ -14,51 +13,35 @@ import net.filipvanlaenen.kolektoj.Collection;
 import net.filipvanlaenen.kolektoj.Map;
 import net.filipvanlaenen.kolektoj.ModifiableCollection;
 import net.filipvanlaenen.kolektoj.ModifiableMap;
+import net.filipvanlaenen.kolektoj.array.ArrayCollection;
+import net.filipvanlaenen.kolektoj.array.ArrayIterator;
+import net.filipvanlaenen.kolektoj.array.ArraySpliterator;
 import net.filipvanlaenen.kolektoj.array.ModifiableArrayCollection;
 
 /**
- * A hash backed implementation of the {@link net.filipvanlaenen.kolektoj.ModifiableMap} interface.
+ * A hash backed implementation of the {@link net.filipvanlaenen.kolektoj.ModifiableMap} interface. The entries are
+ * stored in the entry table only, such that adding and removing an entry take constant time on average. With duplicate
+ * keys, the entries are grouped in a bucket per key, such that the cost of looking up or removing an entry only
+ * depends on the number of entries with the same key. Optionally, the map keeps an index on the values, such that
+ * checking whether the map contains a value takes constant time on average instead of requiring a scan of the entry
+ * table.
  *
  * @param <K> The key type.
  * @param <V> The value type.
  */
 public final class ModifiableHashMap<K, V> implements ModifiableMap<K, V> {
     /**
-     * The ratio by which the number of entries should be multiplied to construct the hashed array.
+     * A table with the entries, indexed on their keys.
      */
-    private static final int HASHING_RATIO = 3;
-    /**
-     * The minimal ratio between the size of the map and the size of the hashed array.
-     */
-    private static final int MINIMAL_HASHING_RATIO = 2;
-    /**
-     * The maximal ratio between the size of the map and the size of the hashed array.
-     */
-    private static final int MAXIMAL_HASHING_RATIO = 4;
-    /**
-     * A modifiable collection with the entries.
-     */
-    private ModifiableCollection<Entry<K, V>> entries;
-    /**
-     * A hashed array with the entries.
-     */
-    private Object[] hashedEntries;
-    /**
-     * The size of the hashed array with the entries.
-     */
-    private int hashedEntriesSize;
+    private final EntryTable<K, V> entryTable;
     /**
      * The key and value cardinality.
      */
     private final KeyAndValueCardinality keyAndValueCardinality;
     /**
-     * A modifiable collection with the keys.
-     */
-    private ModifiableCollection<K> keys;
-    /**
-     * A collection with the values.
+     * The index on the values, or <code>null</code> if the map doesn't keep an index on its values.
      */
-    private ModifiableCollection<V> values;
+    private final ValueIndex<V> valueIndex;
 
     /**
      * Constructor taking the entries as its parameter.
@@ -79,24 +62,81 @@ public final class ModifiableHashMap<K, V> implements ModifiableMap<K, V> {
      */
     public ModifiableHashMap(final KeyAndValueCardinality keyAndValueCardinality, final Entry<K, V>... entries)
             throws IllegalArgumentException {
+        this(ProbingStrategy.LINEAR_PROBING, keyAndValueCardinality, entries);
+    }
+
+    /**
+     * Constructor taking the probing strategy and the entries as its parameter.
+     *
+     * @param probingStrategy The probing strategy.
+     * @param entries         The entries for the map.
+     * @throws IllegalArgumentException Thrown if one of the entries is null.
+     */
+    public ModifiableHashMap(final ProbingStrategy probingStrategy, final Entry<K, V>... entries)
+            throws IllegalArgumentException {
+        this(probingStrategy, DISTINCT_KEYS, entries);
+    }
+
+    /**
+     * Constructor taking the probing strategy, the key and value cardinality and the entries as its parameter.
+     *
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param entries                The entries for the map.
+     * @throws IllegalArgumentException Thrown if one of the entries is null.
+     */
+    public ModifiableHashMap(final ProbingStrategy probingStrategy,
+            final KeyAndValueCardinality keyAndValueCardinality, final Entry<K, V>... entries)
+            throws IllegalArgumentException {
+        this(probingStrategy, keyAndValueCardinality, ValueIndexing.NO_VALUE_INDEX, entries);
+    }
+
+    /**
+     * Constructor taking the probing strategy, the key and value cardinality, the value indexing and the entries as its
+     * parameter.
+     *
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param valueIndexing          Whether the map should keep an index on its values.
+     * @param entries                The entries for the map.
+     * @throws IllegalArgumentException Thrown if one of the entries is null.
+     */
+    public ModifiableHashMap(final ProbingStrategy probingStrategy,
+            final KeyAndValueCardinality keyAndValueCardinality, final ValueIndexing valueIndexing,
+            final Entry<K, V>... entries) throws IllegalArgumentException {
         if (entries == null) {
             throw new IllegalArgumentException("Map entries can't be null.");
         }
         this.keyAndValueCardinality = keyAndValueCardinality;
-        hashedEntriesSize = entries.length * HASHING_RATIO;
-        Class<Entry<K, V>[]> clazz = (Class<Entry<K, V>[]>) entries.getClass();
-        Entry<K, V>[] theHashedEntries = (Entry<K, V>[]) Array.newInstance(clazz.getComponentType(), hashedEntriesSize);
-        ModifiableCollection<Entry<K, V>> theEntries =
-                new ModifiableArrayCollection<Entry<K, V>>(getElementCardinality());
-        ModifiableCollection<K> theKeys = new ModifiableArrayCollection<K>(
-                keyAndValueCardinality == DISTINCT_KEYS ? DISTINCT_ELEMENTS : DUPLICATE_ELEMENTS);
-        ModifiableCollection<V> theValues = new ModifiableArrayCollection<V>();
-        HashUtilities.populateMapFromEntries(theEntries, theHashedEntries, theKeys, theValues, keyAndValueCardinality,
-                entries);
-        this.entries = theEntries;
-        this.hashedEntries = theHashedEntries;
-        this.keys = theKeys;
-        this.values = theValues;
+        this.entryTable = HashUtilities.createEntryTable(entries.length, probingStrategy, keyAndValueCardinality);
+        this.valueIndex = valueIndexing == ValueIndexing.VALUE_INDEX ? new ValueIndex<V>(entries.length) : null;
+        for (Entry<K, V> entry : entries) {
+            if (entry == null) {
+                throw new IllegalArgumentException("Map entries can't be null.");
+            }
+            addEntry(entry);
+        }
+    }
+
+    /**
+     * Constructs an empty modifiable hash map with room for the expected number of entries, backed by a hash table
+     * with the specified probing strategy.
+     *
+     * @param expectedSize           The expected number of entries.
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param valueIndexing          Whether the map should keep an index on its values.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    private ModifiableHashMap(final int expectedSize, final ProbingStrategy probingStrategy,
+            final KeyAndValueCardinality keyAndValueCardinality, final ValueIndexing valueIndexing)
+            throws IllegalArgumentException {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size can't be negative.");
+        }
+        this.keyAndValueCardinality = keyAndValueCardinality;
+        this.entryTable = HashUtilities.createEntryTable(expectedSize, probingStrategy, keyAndValueCardinality);
+        this.valueIndex = valueIndexing == ValueIndexing.VALUE_INDEX ? new ValueIndex<V>(expectedSize) : null;
     }
 
     /**
@@ -123,26 +163,11 @@ public final class ModifiableHashMap<K, V> implements ModifiableMap<K, V> {
 
     @Override
     public boolean add(final K key, final V value) {
-        if (keyAndValueCardinality == DISTINCT_KEYS && containsKey(key)) {
-            return false;
-        }
-        Entry<K, V> entry = new Entry<K, V>(key, value);
-        if (keyAndValueCardinality == DUPLICATE_KEYS_WITH_DISTINCT_VALUES && contains(entry)) {
+        if (!isAddable(key, value)) {
             return false;
         }
-        entries.add(entry);
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        if (entries.size() * MINIMAL_HASHING_RATIO > hashedEntriesSize) {
-            resizeHashedEntriesTo(entries.size());
-        } else {
-            int i = HashUtilities.hash(key, hashedEntriesSize);
-            while (hashedEntries[i] != null) {
-                i = Math.floorMod(i + 1, hashedEntriesSize);
-            }
-            hashedEntries[i] = entry;
-        }
-        keys.add(key);
-        values.add(value);
+        entryTable.add(new Entry<K, V>(key, value));
+        addToValueIndex(value);
         return true;
     }
 
@@ -151,120 +176,92 @@ public final class ModifiableHashMap<K, V> implements ModifiableMap<K, V> {
         if (map.isEmpty()) {
             return false;
         }
-        int numberOfNewEntries = map.size();
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        if ((entries.size() + numberOfNewEntries) * MINIMAL_HASHING_RATIO > hashedEntriesSize) {
-            resizeHashedEntriesTo(entries.size() + numberOfNewEntries);
-        }
+        entryTable.ensureCapacity(entryTable.getSize() + map.size());
         boolean result = false;
         for (Entry<? extends K, ? extends V> entry : map) {
-            K key = entry.key();
-            if (keyAndValueCardinality == DISTINCT_KEYS && containsKey(key)) {
-                continue;
-            }
-            V value = entry.value();
-            Entry<K, V> newEntry = new Entry<K, V>(key, value);
-            if (keyAndValueCardinality == DUPLICATE_KEYS_WITH_DISTINCT_VALUES && contains(newEntry)) {
-                continue;
-            }
-            entries.add(newEntry);
-            int i = HashUtilities.hash(key, hashedEntriesSize);
-            while (hashedEntries[i] != null) {
-                i = Math.floorMod(i + 1, hashedEntriesSize);
-            }
-            hashedEntries[i] = newEntry;
-            keys.add(key);
-            values.add(value);
-            result = true;
+            result |= addEntry((Entry<K, V>) entry);
         }
         return result;
     }
 
+    /**
+     * Adds an entry to the entry table if the key and value cardinality allows it.
+     *
+     * @param entry The entry.
+     * @return True if the entry was added.
+     */
+    private boolean addEntry(final Entry<K, V> entry) {
+        if (!isAddable(entry.key(), entry.value())) {
+            return false;
+        }
+        entryTable.add(entry);
+        addToValueIndex(entry.value());
+        return true;
+    }
+
+    /**
+     * Adds an occurrence of a value to the value index, if the map keeps one.
+     *
+     * @param value The value.
+     */
+    private void addToValueIndex(final V value) {
+        if (valueIndex != null) {
+            valueIndex.add(value);
+        }
+    }
+
     @Override
     public void clear() {
-        entries.clear();
-        resizeHashedEntriesTo(0);
-        keys.clear();
-        values.clear();
+        entryTable.clear();
+        if (valueIndex != null) {
+            valueIndex.clear();
+        }
     }
 
     @Override
     public boolean contains(final Entry<K, V> entry) {
-        return findFirstIndexForEntry(entry) != -1;
+        return entryTable.containsEntry(entry.key(), entry.value());
     }
 
     @Override
     public boolean containsAll(final Collection<?> collection) {
-        return entries.containsAll(collection);
+        return HashUtilities.containsAllEntries(this, collection);
     }
 
     @Override
-    public boolean containsKey(final K key) {
-        return findFirstIndexForKey(key) != -1;
+    public boolean containsSame(final Collection<?> collection) {
+        return size() == collection.size() && containsAll(collection);
     }
 
     @Override
-    public boolean containsValue(final V value) {
-        return values.contains(value);
-    }
-
-    /**
-     * Finds the index for the first occurrence of an entry.
-     *
-     * @param entry The entry.
-     * @return Returns the index for the first occurrence of an entry, or -1 if no such entry is present.
-     */
-    private int findFirstIndexForEntry(final Entry<? extends K, ? extends V> entry) {
-        if (hashedEntriesSize == 0) {
-            return -1;
-        }
-        int index = HashUtilities.hash(entry.key(), hashedEntriesSize);
-        while (hashedEntries[index] != null) {
-            if (hashedEntries[index].equals(entry)) {
-                return index;
-            }
-            index = Math.floorMod(index + 1, hashedEntriesSize);
-        }
-        return -1;
+    public boolean containsKey(final K key) {
+        return entryTable.containsKey(key);
     }
 
-    /**
-     * Finds the index for the first occurrence of an entry with the key.
-     *
-     * @param key The key.
-     * @return Returns the index for the first occurrence of an entry with the key, or -1 if no such entry is present.
-     */
-    private int findFirstIndexForKey(final K key) {
-        if (hashedEntriesSize == 0) {
-            return -1;
-        }
-        int index = HashUtilities.hash(key, hashedEntriesSize);
-        while (hashedEntries[index] != null) {
-            K k = ((Entry<K, V>) hashedEntries[index]).key();
-            if (Objects.equals(k, key)) {
-                return index;
-            }
-            index = Math.floorMod(index + 1, hashedEntriesSize);
+    @Override
+    public boolean containsValue(final V value) {
+        if (valueIndex != null) {
+            return valueIndex.contains(value);
         }
-        return -1;
+        return entryTable.containsContent(value);
     }
 
     @Override
     public Entry<K, V> get() throws IndexOutOfBoundsException {
-        if (entries.isEmpty()) {
+        if (isEmpty()) {
             throw new IndexOutOfBoundsException("Cannot return an entry from an empty map.");
         } else {
-            return entries.get();
+            return entryTable.getFirstEntry();
         }
     }
 
     @Override
     public V get(final K key) throws IllegalArgumentException {
-        int index = findFirstIndexForKey(key);
-        if (index == -1) {
+        Entry<K, V> entry = entryTable.getFirstEntryForKey(key);
+        if (entry == null) {
             throw new IllegalArgumentException("Map doesn't contain an entry with the key " + key + ".");
         }
-        return ((Entry<K, V>) hashedEntries[index]).value();
+        return entry.value();
     }
 
     @Override
@@ -272,20 +269,31 @@ public final class ModifiableHashMap<K, V> implements ModifiableMap<K, V> {
         ModifiableCollection<V> result = new ModifiableArrayCollection<V>(
                 keyAndValueCardinality == DUPLICATE_KEYS_WITH_DUPLICATE_VALUES ? DUPLICATE_ELEMENTS
                         : DISTINCT_ELEMENTS);
-        int index = HashUtilities.hash(key, hashedEntriesSize);
-        while (hashedEntries[index] != null) {
-            K k = ((Entry<K, V>) hashedEntries[index]).key();
-            if (Objects.equals(k, key)) {
-                result.add(((Entry<K, V>) hashedEntries[index]).value());
-            }
-            index = Math.floorMod(index + 1, hashedEntriesSize);
-        }
+        entryTable.collectContentsForKey(key, result);
         if (result.isEmpty()) {
             throw new IllegalArgumentException("Map doesn't contain entries with the key " + key + ".");
         }
         return result;
     }
 
+    /**
+     * Returns statistics on the hash table of the map. The statistics are calculated when this method is called.
+     *
+     * @return Statistics on the hash table of the map.
+     */
+    public HashStatistics getHashStatistics() {
+        return entryTable.calculateStatistics();
+    }
+
+    /**
+     * Returns the probing strategy of the hash table backing the map.
+     *
+     * @return The probing strategy of the hash table backing the map.
+     */
+    public ProbingStrategy getProbingStrategy() {
+        return entryTable.getProbingStrategy();
+    }
+
     @Override
     public KeyAndValueCardinality getKeyAndValueCardinality() {
         return keyAndValueCardinality;
@@ -293,225 +301,267 @@ public final class ModifiableHashMap<K, V> implements ModifiableMap<K, V> {
 
     @Override
     public Collection<K> getKeys() {
-        return Collection.<K>of(keys);
+        Object[] entries = entryTable.toArray();
+        Object[] keys = new Object[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            keys[i] = ((Entry<K, V>) entries[i]).key();
+        }
+        return new ArrayCollection<K>(keyAndValueCardinality == DISTINCT_KEYS ? DISTINCT_ELEMENTS : DUPLICATE_ELEMENTS,
+                (K[]) keys);
     }
 
     @Override
     public Collection<V> getValues() {
-        return Collection.<V>of(values);
+        Object[] entries = entryTable.toArray();
+        Object[] values = new Object[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            values[i] = ((Entry<K, V>) entries[i]).value();
+        }
+        return new ArrayCollection<V>((V[]) values);
+    }
+
+    /**
+     * Returns whether an entry with the key and the value can be added to the map according to its key and value
+     * cardinality.
+     *
+     * @param key   The key.
+     * @param value The value.
+     * @return True if an entry with the key and the value can be added.
+     */
+    private boolean isAddable(final K key, final V value) {
+        if (keyAndValueCardinality == DISTINCT_KEYS) {
+            return !containsKey(key);
+        } else if (keyAndValueCardinality == DUPLICATE_KEYS_WITH_DISTINCT_VALUES) {
+            return !entryTable.containsEntry(key, value);
+        }
+        return true;
     }
 
     @Override
     public Iterator<Entry<K, V>> iterator() {
-        return entries.iterator();
+        return new ArrayIterator<Entry<K, V>>(entryTable.toArray());
     }
 
     @Override
     public V remove(final K key) throws IllegalArgumentException {
-        int index = findFirstIndexForKey(key);
-        if (index == -1) {
+        Entry<K, V> entry = entryTable.removeFirstEntryForKey(key);
+        if (entry == null) {
             throw new IllegalArgumentException("Map doesn't contain an entry with the key " + key + ".");
         }
-        Entry<K, V> entry = (Entry<K, V>) hashedEntries[index];
-        V value = entry.value();
-        entries.remove(entry);
-        hashedEntries[index] = null;
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        // EQMU: Negating the second conditional below produces an equivalent mutant.
-        // EQMU: Replacing integer multiplication with division below produces an equivalent mutant.
-        if (hashedEntries[Math.floorMod(index + 1, hashedEntriesSize)] != null
-                || entries.size() * MAXIMAL_HASHING_RATIO < hashedEntriesSize) {
-            resizeHashedEntriesTo(entries.size());
-        }
-        keys.remove(key);
-        values.remove(value);
-        return value;
+        removeFromValueIndex(entry.value());
+        return entry.value();
     }
 
     @Override
     public boolean remove(final K key, final V value) {
-        Entry<K, V> entry = new Entry<K, V>(key, value);
-        int index = findFirstIndexForEntry(entry);
-        if (index == -1) {
-            return false;
-        }
-        entries.remove(entry);
-        hashedEntries[index] = null;
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        // EQMU: Negating the second conditional below produces an equivalent mutant.
-        // EQMU: Replacing integer multiplication with division below produces an equivalent mutant.
-        if (hashedEntries[Math.floorMod(index + 1, hashedEntriesSize)] != null
-                || entries.size() * MAXIMAL_HASHING_RATIO < hashedEntriesSize) {
-            resizeHashedEntriesTo(entries.size());
-        }
-        keys.remove(key);
-        values.remove(value);
-        return true;
+        return removeEntry(key, value);
     }
 
     @Override
     public boolean removeAll(final Map<? extends K, ? extends V> map) {
         boolean result = false;
         for (Entry<? extends K, ? extends V> e : map) {
-            int index = findFirstIndexForEntry(e);
-            if (index == -1) {
-                break;
-            }
-            Entry<K, V> entry = (Entry<K, V>) hashedEntries[index];
-            entries.remove(entry);
-            hashedEntries[index] = null;
-            if (hashedEntries[Math.floorMod(index + 1, hashedEntriesSize)] != null) {
-                resizeHashedEntriesTo(entries.size());
-            }
-            keys.remove(entry.key());
-            values.remove(entry.value());
-            result = true;
-        }
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        // EQMU: Negating the conditional below produces an equivalent mutant.
-        // EQMU: Replacing integer multiplication with division below produces an equivalent mutant.
-        if (entries.size() * MAXIMAL_HASHING_RATIO < hashedEntriesSize) {
-            // EQMU: Removing the call to resizeHashedEntriesTo below produces an equivalent mutant.
-            resizeHashedEntriesTo(entries.size());
+            result |= removeEntry(e.key(), e.value());
         }
         return result;
     }
 
-    @Override
-    public boolean removeIf(final Predicate<Entry<? extends K, ? extends V>> predicate) {
-        int size = entries.size();
-        boolean[] retain = new boolean[size];
-        Object[] entriesArray = entries.toArray();
-        for (int i = 0; i < size; i++) {
-            retain[i] = !predicate.test((Entry<K, V>) entriesArray[i]);
+    /**
+     * Removes an entry from the entry table, and an occurrence of its value from the value index.
+     *
+     * @param key   The key of the entry.
+     * @param value The value of the entry.
+     * @return True if the entry was removed.
+     */
+    private boolean removeEntry(final K key, final V value) {
+        if (!entryTable.removeEntry(key, value)) {
+            return false;
         }
-        return retainAndRehash(entriesArray, retain);
+        removeFromValueIndex(value);
+        return true;
     }
 
     /**
-     * Resizes the hashed entries array to the new base length. The base length will be multiplied by a ratio to
-     * calculate the actual new length for the hashed entries array.
+     * Removes an occurrence of a value from the value index, if the map keeps one.
      *
-     * @param newBaseLength The new base length for the hashed entries array.
+     * @param value The value.
      */
-    private void resizeHashedEntriesTo(final int newBaseLength) {
-        hashedEntriesSize = newBaseLength * HASHING_RATIO;
-        Object[] hashedArray = new Object[hashedEntriesSize];
-        for (Entry<K, V> entry : entries) {
-            int j = HashUtilities.hash(entry.key(), hashedEntriesSize);
-            while (hashedArray[j] != null) {
-                j = Math.floorMod(j + 1, hashedEntriesSize);
-            }
-            hashedArray[j] = entry;
+    private void removeFromValueIndex(final V value) {
+        if (valueIndex != null) {
+            valueIndex.remove(value);
         }
-        this.hashedEntries = hashedArray;
     }
 
     @Override
-    public boolean retainAll(final Map<? extends K, ? extends V> map) {
-        int size = entries.size();
+    public boolean removeIf(final Predicate<Entry<? extends K, ? extends V>> predicate) {
+        Object[] entriesArray = entryTable.toArray();
+        int size = entriesArray.length;
         boolean[] retain = new boolean[size];
-        Object[] entriesArray = entries.toArray();
+        for (int i = 0; i < size; i++) {
+            retain[i] = !predicate.test((Entry<K, V>) entriesArray[i]);
+        }
+        return retainEntries(entriesArray, retain);
+    }
+
+    @Override
+    public boolean retainAll(final Map<? extends K, ? extends V> map) {
+        HashTable<K, V> retainable = new HashTable<K, V>(map.size());
         for (Entry<? extends K, ? extends V> entry : map) {
-            for (int i = 0; i < size; i++) {
-                if (!retain[i] && Objects.equals(entry, entriesArray[i])) {
-                    retain[i] = true;
-                    break;
-                }
+            retainable.add((Entry<K, V>) entry);
+        }
+        Object[] entriesArray = entryTable.toArray();
+        int size = entriesArray.length;
+        boolean[] retain = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            Entry<K, V> entry = (Entry<K, V>) entriesArray[i];
+            int index = retainable.findFirstIndexForKeyAndContent(entry.key(), entry.value(), false);
+            if (index != -1) {
+                retainable.removeAt(index);
+                retain[i] = true;
             }
         }
-        return retainAndRehash(entriesArray, retain);
+        return retainEntries(entriesArray, retain);
     }
 
     /**
-     * Retains the entries according to a retention array and rehashes if necessary.
+     * Retains the entries according to a retention array, removing all other entries.
      *
      * @param entriesArray A array with the entries.
      * @param retain       The retention array.
      * @return True if at least one entry was removed.
      */
-    private boolean retainAndRehash(final Object[] entriesArray, final boolean[] retain) {
+    private boolean retainEntries(final Object[] entriesArray, final boolean[] retain) {
         int size = retain.length;
         boolean result = false;
         for (int i = 0; i < size; i++) {
             if (!retain[i]) {
                 Entry<K, V> entry = (Entry<K, V>) entriesArray[i];
-                int index = findFirstIndexForEntry(entry);
-                entries.remove(entry);
-                hashedEntries[index] = null;
-                if (hashedEntries[Math.floorMod(index + 1, hashedEntriesSize)] != null) {
-                    resizeHashedEntriesTo(size);
-                }
-                keys.remove(entry.key());
-                values.remove(entry.value());
+                removeEntry(entry.key(), entry.value());
                 result = true;
             }
         }
-        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
-        // EQMU: Negating the conditional below produces an equivalent mutant.
-        // EQMU: Replacing integer multiplication with division below produces an equivalent mutant.
-        if (size * MAXIMAL_HASHING_RATIO < hashedEntriesSize) {
-            // EQMU: Removing the call to resizeHashedEntriesTo below produces an equivalent mutant.
-            resizeHashedEntriesTo(size);
-        }
         return result;
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return entryTable.getSize();
     }
 
     @Override
     public Spliterator<Entry<K, V>> spliterator() {
-        return entries.spliterator();
+        return new ArraySpliterator<Entry<K, V>>(entryTable.toArray(),
+                getElementCardinality() == DISTINCT_ELEMENTS ? Spliterator.DISTINCT : 0);
     }
 
     @Override
     public Object[] toArray() {
-        return entries.toArray();
+        return entryTable.toArray();
     }
 
     @Override
     public V update(final K key, final V value) throws IllegalArgumentException {
-        Entry<K, V> newEntry = new Entry<K, V>(key, value);
-        if (contains(newEntry)) {
+        if (entryTable.containsEntry(key, value)) {
             return value;
         }
-        int index = findFirstIndexForKey(key);
-        if (index == -1) {
+        Entry<K, V> entry = entryTable.getFirstEntryForKey(key);
+        if (entry == null) {
             throw new IllegalArgumentException("Map doesn't contain an entry with the key " + key + ".");
         }
-        Entry<K, V> oldEntry = (Entry<K, V>) hashedEntries[index];
-        V oldValue = oldEntry.value();
-        entries.remove(oldEntry);
-        entries.add(newEntry);
-        hashedEntries[index] = newEntry;
-        values.remove(oldValue);
-        values.add(value);
-        return oldValue;
+        entryTable.replaceEntry(key, entry.value(), value);
+        removeFromValueIndex(entry.value());
+        addToValueIndex(value);
+        return entry.value();
     }
 
     @Override
     public boolean update(final K key, final V oldValue, final V newValue) throws IllegalArgumentException {
-        Entry<K, V> oldEntry = new Entry<K, V>(key, oldValue);
-        int index = findFirstIndexForEntry(oldEntry);
-        if (index == -1) {
+        if (!entryTable.containsEntry(key, oldValue)) {
             throw new IllegalArgumentException(
                     "Map doesn't contain an entry with the key " + key + " and value " + oldValue + ".");
         }
         if (Objects.equals(oldValue, newValue)) {
             return false;
         }
-        Entry<K, V> newEntry = new Entry<K, V>(key, newValue);
-        if (keyAndValueCardinality == DUPLICATE_KEYS_WITH_DISTINCT_VALUES && contains(newEntry)) {
+        if (keyAndValueCardinality == DUPLICATE_KEYS_WITH_DISTINCT_VALUES
+                && entryTable.containsEntry(key, newValue)) {
             return false;
         }
-        entries.remove(oldEntry);
-        entries.add(newEntry);
-        hashedEntries[index] = newEntry;
-        values.remove(oldValue);
-        values.add(newValue);
+        if (!entryTable.replaceEntry(key, oldValue, newValue)) {
+            return false;
+        }
+        removeFromValueIndex(oldValue);
+        addToValueIndex(newValue);
         return true;
     }
+
+    /**
+     * Returns a new empty modifiable hash map with distinct keys and room for the expected number of entries, such
+     * that adding up to that number of entries doesn't resize the hash table.
+     *
+     * @param <L>          The key type.
+     * @param <W>          The value type.
+     * @param expectedSize The expected number of entries.
+     * @return A new empty modifiable hash map with room for the expected number of entries.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    public static <L, W> ModifiableHashMap<L, W> withExpectedSize(final int expectedSize)
+            throws IllegalArgumentException {
+        return withExpectedSize(DISTINCT_KEYS, expectedSize);
+    }
+
+    /**
+     * Returns a new empty modifiable hash map with the given key and value cardinality and room for the expected
+     * number of entries, such that adding up to that number of entries doesn't resize the hash table.
+     *
+     * @param <L>                    The key type.
+     * @param <W>                    The value type.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param expectedSize           The expected number of entries.
+     * @return A new empty modifiable hash map with room for the expected number of entries.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    public static <L, W> ModifiableHashMap<L, W> withExpectedSize(final KeyAndValueCardinality keyAndValueCardinality,
+            final int expectedSize) throws IllegalArgumentException {
+        return withExpectedSize(ProbingStrategy.LINEAR_PROBING, keyAndValueCardinality, expectedSize);
+    }
+
+    /**
+     * Returns a new empty modifiable hash map with the given key and value cardinality and room for the expected
+     * number of entries, backed by a hash table with the specified probing strategy, such that adding up to that
+     * number of entries doesn't resize the hash table.
+     *
+     * @param <L>                    The key type.
+     * @param <W>                    The value type.
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param expectedSize           The expected number of entries.
+     * @return A new empty modifiable hash map with room for the expected number of entries.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    public static <L, W> ModifiableHashMap<L, W> withExpectedSize(final ProbingStrategy probingStrategy,
+            final KeyAndValueCardinality keyAndValueCardinality, final int expectedSize)
+            throws IllegalArgumentException {
+        return withExpectedSize(probingStrategy, keyAndValueCardinality, ValueIndexing.NO_VALUE_INDEX, expectedSize);
+    }
+
+    /**
+     * Returns a new empty modifiable hash map with the given key and value cardinality and value indexing, and room
+     * for the expected number of entries, backed by a hash table with the specified probing strategy, such that adding
+     * up to that number of entries doesn't resize the hash table.
+     *
+     * @param <L>                    The key type.
+     * @param <W>                    The value type.
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param valueIndexing          Whether the map should keep an index on its values.
+     * @param expectedSize           The expected number of entries.
+     * @return A new empty modifiable hash map with room for the expected number of entries.
+     * @throws IllegalArgumentException Thrown if the expected size is negative.
+     */
+    public static <L, W> ModifiableHashMap<L, W> withExpectedSize(final ProbingStrategy probingStrategy,
+            final KeyAndValueCardinality keyAndValueCardinality, final ValueIndexing valueIndexing,
+            final int expectedSize) throws IllegalArgumentException {
+        return new ModifiableHashMap<L, W>(expectedSize, probingStrategy, keyAndValueCardinality, valueIndexing);
+    }
 }
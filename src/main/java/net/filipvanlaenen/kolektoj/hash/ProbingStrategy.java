@@ -0,0 +1,31 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+/**
+ * Enumeration listing the strategies for probing the hash tables of the hash-backed maps.
+ */
+public enum ProbingStrategy {
+    /**
+     * Linear probing, where an entry is stored in the first free slot following its home slot.
+     */
+    LINEAR_PROBING,
+    /**
+     * Robin Hood hashing, where an entry being inserted takes the slot of an entry that is closer to its home slot,
+     * which then continues the probe sequence. This keeps the variance of the probe lengths low, and allows
+     * unsuccessful lookups to stop as soon as they pass an entry that is closer to its home slot.
+     */
+    ROBIN_HOOD_HASHING,
+    /**
+     * Probing in groups of eight slots guided by control bytes, as in a Swiss table, where a separate array holds a
+     * seven-bit fingerprint of the hash code of every entry, such that a lookup compares the fingerprint to a whole
+     * group at once and only inspects the entries with a matching fingerprint. This allows for a higher load factor,
+     * and reduces the number of cache misses and calls to <code>equals</code> per lookup.
+     */
+    CONTROL_BYTE_PROBING,
+    /**
+     * Separate chaining, where the entries of every bin are kept in a balanced tree ordered on the hash codes of the
+     * keys, and then on the natural order of keys implementing {@link java.lang.Comparable}. This keeps lookups
+     * logarithmic even if many keys have the same hash code, e.g. when the keys are picked by an attacker, at the cost
+     * of slower lookups for well-distributed keys.
+     */
+    TREEIFIED_CHAINING
+}
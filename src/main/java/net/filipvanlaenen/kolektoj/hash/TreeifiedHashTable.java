@@ -0,0 +1,824 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.ModifiableCollection;
+import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
+import net.filipvanlaenen.kolektoj.array.OrderedArrayCollection;
+
+/**
+ * A class implementing a hash table with separate chaining, where the entries of a bin are kept in a linked list, and
+ * converted into a balanced binary search tree, an AVL tree, once the bin reaches the treeify threshold. A tree is
+ * converted back into a linked list when it shrinks to the untreeify threshold, such that the common case of short
+ * chains doesn't pay for tree nodes. The trees are ordered on the hash codes of the keys first, such that keys whose
+ * spread hash codes happen to collide on the same bin are found with integer comparisons only. Keys with the same hash
+ * code are ordered on the name of their class, and then, if their class implements {@link java.lang.Comparable} of
+ * itself, on their natural order. Even if many keys share the same hash code, e.g. because an attacker picked them, or
+ * because their <code>hashCode</code> method is poorly distributed, a lookup therefore takes logarithmic time instead
+ * of degrading to a scan of all the entries, as long as the keys are comparable. Keys with the same hash code that
+ * can't be ordered are placed using their identity hash codes, and have to be searched for in both subtrees. In the
+ * statistics, the probe length of an entry is its position in the linked list or its depth in the tree of its bin, and
+ * the clusters are the bins.
+ *
+ * @param <K> The key type.
+ * @param <C> The content type.
+ */
+final class TreeifiedHashTable<K, C> implements EntryTable<K, C> {
+    /**
+     * The numerator of the maximal load factor.
+     */
+    private static final int MAXIMAL_LOAD_NUMERATOR = 3;
+    /**
+     * The denominator of the maximal load factor.
+     */
+    private static final int MAXIMAL_LOAD_DENOMINATOR = 4;
+    /**
+     * The maximal ratio between the capacity and the number of entries. When the hash table becomes sparser through
+     * removals, it is shrunk to twice the capacity the remaining entries need.
+     */
+    private static final int MAXIMAL_HASHING_RATIO = 8;
+    /**
+     * Whether the instances of a class can be compared to each other, i.e. whether the class implements
+     * {@link java.lang.Comparable} of itself, cached per class.
+     */
+    private static final ClassValue<Boolean> SELF_COMPARABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            for (Type genericInterface : type.getGenericInterfaces()) {
+                if (genericInterface instanceof ParameterizedType) {
+                    ParameterizedType parameterizedType = (ParameterizedType) genericInterface;
+                    Type[] typeArguments = parameterizedType.getActualTypeArguments();
+                    if (parameterizedType.getRawType() == Comparable.class && typeArguments.length == 1
+                            && typeArguments[0] == type) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    };
+    /**
+     * The number of entries from which the entries of a bin are kept in a tree instead of a linked list.
+     */
+    private static final int TREEIFY_THRESHOLD = 8;
+    /**
+     * The number of entries at which the tree of a bin is converted back into a linked list, lower than the treeify
+     * threshold such that a bin doesn't switch at every addition and removal around the threshold.
+     */
+    private static final int UNTREEIFY_THRESHOLD = 6;
+    /**
+     * The number of entries in the bins.
+     */
+    private int[] binSizes;
+    /**
+     * The heads of the linked lists or the roots of the trees in the bins.
+     */
+    private BinNode<K, C>[] bins;
+    /**
+     * The capacity, i.e. the number of bins, always zero or a power of two.
+     */
+    private int capacity;
+    /**
+     * The number of times the hash table has been resized.
+     */
+    private int numberOfResizes;
+    /**
+     * The number of entries.
+     */
+    private int size;
+
+    /**
+     * A node in the linked list or the tree of a bin. The nodes in a linked list have height zero.
+     *
+     * @param <K> The key type.
+     * @param <C> The content type.
+     */
+    private static final class BinNode<K, C> {
+        /**
+         * The entry.
+         */
+        private Entry<K, C> entry;
+        /**
+         * The hash code of the key of the entry.
+         */
+        private final int hashCode;
+        /**
+         * The height of the subtree defined by the node, or zero if the node is in a linked list.
+         */
+        private int height;
+        /**
+         * The left child of the node.
+         */
+        private BinNode<K, C> left;
+        /**
+         * The next node in the linked list.
+         */
+        private BinNode<K, C> next;
+        /**
+         * The right child of the node.
+         */
+        private BinNode<K, C> right;
+
+        /**
+         * Constructor taking the entry and the hash code of its key as its parameters.
+         *
+         * @param entry    The entry.
+         * @param hashCode The hash code of the key of the entry.
+         */
+        BinNode(final Entry<K, C> entry, final int hashCode) {
+            this.entry = entry;
+            this.hashCode = hashCode;
+        }
+    }
+
+    /**
+     * Constructor taking the number of entries the hash table should be able to hold without resizing as its
+     * parameter.
+     *
+     * @param baseLength The number of entries the hash table should be able to hold without resizing.
+     */
+    TreeifiedHashTable(final int baseLength) {
+        allocate(capacityFor(baseLength));
+    }
+
+    @Override
+    public void add(final Entry<K, C> entry) {
+        ensureCapacity(size + 1);
+        insert(new BinNode<K, C>(entry, HashUtilities.hashCode(entry.key())));
+        size++;
+    }
+
+    /**
+     * Allocates empty bins for the given capacity.
+     *
+     * @param newCapacity The new capacity.
+     */
+    private void allocate(final int newCapacity) {
+        capacity = newCapacity;
+        bins = new BinNode[capacity];
+        binSizes = new int[capacity];
+    }
+
+    /**
+     * Restores the height and the balance of a node after one of its subtrees has changed by at most one level.
+     *
+     * @param <K>  The key type.
+     * @param <C>  The content type.
+     * @param node The node.
+     * @return The root of the balanced subtree.
+     */
+    private static <K, C> BinNode<K, C> balance(final BinNode<K, C> node) {
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        updateHeight(node);
+        return node;
+    }
+
+    @Override
+    public HashStatistics calculateStatistics() {
+        long[] totals = new long[2];
+        int[] numberOfBinsPerSize = new int[size + 1];
+        int maximumBinSize = 0;
+        for (int i = 0; i < capacity; i++) {
+            int binSize = collectStatistics(bins[i], 1, totals);
+            if (binSize > 0) {
+                numberOfBinsPerSize[binSize]++;
+                maximumBinSize = Math.max(maximumBinSize, binSize);
+            }
+        }
+        int maximumProbeLength = 0;
+        for (int i = 0; i < capacity; i++) {
+            maximumProbeLength = Math.max(maximumProbeLength, isTree(bins[i]) ? bins[i].height : binSizes[i]);
+        }
+        Integer[] histogram = new Integer[maximumBinSize + 1];
+        for (int i = 0; i <= maximumBinSize; i++) {
+            histogram[i] = numberOfBinsPerSize[i];
+        }
+        return new HashStatistics(size, capacity, capacity == 0 ? 0D : (double) size / capacity,
+                size == 0 ? 0D : (double) totals[0] / size, maximumProbeLength, (int) totals[1],
+                new OrderedArrayCollection<Integer>(histogram), numberOfResizes);
+    }
+
+    /**
+     * Returns the capacity for a number of entries, i.e. the smallest power of two such that the entries don't exceed
+     * the maximal load factor, or zero if the number of entries is zero.
+     *
+     * @param numberOfEntries The number of entries.
+     * @return The capacity for the number of entries.
+     */
+    private static int capacityFor(final int numberOfEntries) {
+        long minimalCapacity = ((long) numberOfEntries * MAXIMAL_LOAD_DENOMINATOR + MAXIMAL_LOAD_NUMERATOR - 1)
+                / MAXIMAL_LOAD_NUMERATOR;
+        return ArrayUtilities.capacityFor(minimalCapacity);
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        allocate(0);
+    }
+
+    @Override
+    public void collectContentsForKey(final K key, final ModifiableCollection<C> result) {
+        BinNode<K, C> node = findNode(key, false, null);
+        if (node != null) {
+            result.add(node.entry.value());
+        }
+    }
+
+    /**
+     * Collects the nodes of a subtree or a linked list in order into an array, and returns the index following the last
+     * node.
+     *
+     * @param <K>   The key type.
+     * @param <C>   The content type.
+     * @param node  The root of the subtree or the head of the linked list.
+     * @param nodes The array to collect the nodes into.
+     * @param index The index at which the first node should be stored.
+     * @return The index following the last node.
+     */
+    private static <K, C> int collectNodes(final BinNode<K, C> node, final BinNode<K, C>[] nodes, final int index) {
+        if (node == null) {
+            return index;
+        }
+        int i = collectNodes(node.left, nodes, index);
+        nodes[i] = node;
+        i = collectNodes(node.right, nodes, i + 1);
+        return collectNodes(node.next, nodes, i);
+    }
+
+    /**
+     * Adds the probe lengths of the nodes in a subtree or a linked list, and the number of nodes that aren't the first
+     * node of their bin, to the totals, and returns the number of nodes in the subtree or the linked list.
+     *
+     * @param node   The root of the subtree or the head of the linked list.
+     * @param depth  The depth of the node, one for the first node of a bin.
+     * @param totals The total probe length and the total number of collisions.
+     * @return The number of nodes in the subtree.
+     */
+    private static int collectStatistics(final BinNode<?, ?> node, final int depth, final long[] totals) {
+        if (node == null) {
+            return 0;
+        }
+        totals[0] += depth;
+        if (depth > 1) {
+            totals[1]++;
+        }
+        return 1 + collectStatistics(node.left, depth + 1, totals) + collectStatistics(node.right, depth + 1, totals)
+                + collectStatistics(node.next, depth + 1, totals);
+    }
+
+    /**
+     * Compares a key with a hash code to the key of a node, using the order of the trees. Returns zero if the keys have
+     * the same hash code but can't be ordered. The keys are only compared using <code>compareTo</code> if they have the
+     * same class, and that class implements {@link java.lang.Comparable} of itself, such that a key implementing
+     * {@link java.lang.Comparable} of another type doesn't throw a {@link java.lang.ClassCastException}.
+     *
+     * @param hashCode   The hash code of the key.
+     * @param key        The key.
+     * @param comparable Whether the class of the key implements {@link java.lang.Comparable} of itself.
+     * @param node       The node.
+     * @return A negative number if the key comes before the key of the node, a positive number if it comes after it,
+     *         and zero if the keys can't be ordered.
+     */
+    private static int compare(final int hashCode, final Object key, final boolean comparable,
+            final BinNode<?, ?> node) {
+        if (hashCode != node.hashCode) {
+            return Integer.compare(hashCode, node.hashCode);
+        }
+        Object other = node.entry.key();
+        if (key == null || other == null) {
+            return key == null ? (other == null ? 0 : -1) : 1;
+        }
+        Class<?> keyClass = key.getClass();
+        Class<?> otherClass = other.getClass();
+        if (keyClass != otherClass) {
+            return keyClass.getName().compareTo(otherClass.getName());
+        }
+        return comparable ? ((Comparable<Object>) key).compareTo(other) : 0;
+    }
+
+    /**
+     * Compares a new node to a node in the tree to decide where it should be inserted. Keys that can't be ordered are
+     * ordered on their identity hash codes, and if these are equal too, the new node is placed after the node.
+     *
+     * @param newNode    The new node.
+     * @param comparable Whether the class of the key of the new node implements {@link java.lang.Comparable} of
+     *                   itself.
+     * @param node       The node in the tree.
+     * @return A negative number if the new node should be inserted before the node, and a positive number otherwise.
+     */
+    private static int compareForInsertion(final BinNode<?, ?> newNode, final boolean comparable,
+            final BinNode<?, ?> node) {
+        int result = compare(newNode.hashCode, newNode.entry.key(), comparable, node);
+        if (result == 0) {
+            result = Integer.compare(System.identityHashCode(newNode.entry.key()),
+                    System.identityHashCode(node.entry.key()));
+        }
+        return result == 0 ? 1 : result;
+    }
+
+    @Override
+    public boolean containsContent(final C content) {
+        for (int i = 0; i < capacity; i++) {
+            if (containsContent(bins[i], content)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether a subtree or a linked list contains an entry with the content.
+     *
+     * @param node    The root of the subtree or the head of the linked list.
+     * @param content The content.
+     * @return True if the subtree or the linked list contains an entry with the content.
+     */
+    private boolean containsContent(final BinNode<K, C> node, final C content) {
+        return node != null && (Objects.equals(node.entry.value(), content) || containsContent(node.left, content)
+                || containsContent(node.right, content) || containsContent(node.next, content));
+    }
+
+    @Override
+    public boolean containsEntry(final K key, final C content) {
+        return findNode(key, true, content) != null;
+    }
+
+    @Override
+    public boolean containsKey(final K key) {
+        return findNode(key, false, null) != null;
+    }
+
+    @Override
+    public void ensureCapacity(final int numberOfEntries) {
+        if ((long) numberOfEntries * MAXIMAL_LOAD_DENOMINATOR > (long) capacity * MAXIMAL_LOAD_NUMERATOR) {
+            resizeTo(capacityFor(numberOfEntries));
+        }
+    }
+
+    /**
+     * Finds the node with the key, and optionally the content.
+     *
+     * @param key            The key.
+     * @param compareContent Whether the content of the entry should be equal to the content too.
+     * @param content        The content.
+     * @return The node with the key, and optionally the content, or <code>null</code> if no such node is present.
+     */
+    private BinNode<K, C> findNode(final K key, final boolean compareContent, final C content) {
+        if (capacity == 0) {
+            return null;
+        }
+        int hashCode = HashUtilities.hashCode(key);
+        BinNode<K, C> node = bins[HashUtilities.index(hashCode, capacity)];
+        if (isTree(node)) {
+            node = findNode(node, hashCode, key, isSelfComparable(key));
+        } else {
+            while (node != null && (node.hashCode != hashCode || !Objects.equals(node.entry.key(), key))) {
+                node = node.next;
+            }
+        }
+        return node == null || compareContent && !Objects.equals(node.entry.value(), content) ? null : node;
+    }
+
+    /**
+     * Finds the node with the key in a subtree. Where the key can't be ordered relative to the key of a node, both
+     * subtrees of the node are searched.
+     *
+     * @param <K>        The key type.
+     * @param <C>        The content type.
+     * @param root       The root of the subtree.
+     * @param hashCode   The hash code of the key.
+     * @param key        The key.
+     * @param comparable Whether the class of the key implements {@link java.lang.Comparable} of itself.
+     * @return The node with the key, or <code>null</code> if no such node is present.
+     */
+    private static <K, C> BinNode<K, C> findNode(final BinNode<K, C> root, final int hashCode, final K key,
+            final boolean comparable) {
+        BinNode<K, C> node = root;
+        while (node != null) {
+            if (hashCode == node.hashCode && Objects.equals(node.entry.key(), key)) {
+                return node;
+            }
+            int c = compare(hashCode, key, comparable, node);
+            if (c < 0) {
+                node = node.left;
+            } else if (c > 0) {
+                node = node.right;
+            } else {
+                BinNode<K, C> found = findNode(node.right, hashCode, key, comparable);
+                if (found != null) {
+                    return found;
+                }
+                node = node.left;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the node with the key in a subtree like {@link #findNode(BinNode, int, Object, boolean)}, but records the
+     * path from the root of the subtree to the node, such that the node can be removed without searching for it again.
+     *
+     * @param <K>        The key type.
+     * @param <C>        The content type.
+     * @param root       The root of the subtree.
+     * @param hashCode   The hash code of the key.
+     * @param key        The key.
+     * @param comparable Whether the class of the key implements {@link java.lang.Comparable} of itself.
+     * @param path       The array in which the path is recorded, at least as long as the height of the subtree.
+     * @param depth      The index in the path at which the root of the subtree should be recorded.
+     * @return The length of the path to the node with the key, or -1 if no such node is present.
+     */
+    private static <K, C> int findPath(final BinNode<K, C> root, final int hashCode, final K key,
+            final boolean comparable, final BinNode<K, C>[] path, final int depth) {
+        BinNode<K, C> node = root;
+        int length = depth;
+        while (node != null) {
+            path[length++] = node;
+            if (hashCode == node.hashCode && Objects.equals(node.entry.key(), key)) {
+                return length;
+            }
+            int c = compare(hashCode, key, comparable, node);
+            if (c < 0) {
+                node = node.left;
+            } else if (c > 0) {
+                node = node.right;
+            } else {
+                int found = findPath(node.right, hashCode, key, comparable, path, length);
+                if (found != -1) {
+                    return found;
+                }
+                node = node.left;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Entry<K, C> getFirstEntry() {
+        for (int i = 0; i < capacity; i++) {
+            BinNode<K, C> node = bins[i];
+            if (node != null) {
+                while (node.left != null) {
+                    node = node.left;
+                }
+                return node.entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Entry<K, C> getFirstEntryForKey(final K key) {
+        BinNode<K, C> node = findNode(key, false, null);
+        return node == null ? null : node.entry;
+    }
+
+    @Override
+    public ProbingStrategy getProbingStrategy() {
+        return ProbingStrategy.TREEIFIED_CHAINING;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the height of a subtree, zero for an empty subtree.
+     *
+     * @param node The root of the subtree.
+     * @return The height of the subtree.
+     */
+    private static int height(final BinNode<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Inserts a node into the linked list or the tree of its bin, converting the linked list into a tree when it
+     * reaches the treeify threshold.
+     *
+     * @param newNode The node to insert, with height zero and without children or next node.
+     */
+    private void insert(final BinNode<K, C> newNode) {
+        int bin = HashUtilities.index(newNode.hashCode, capacity);
+        BinNode<K, C> root = bins[bin];
+        if (isTree(root)) {
+            newNode.height = 1;
+            bins[bin] = insert(root, newNode, isSelfComparable(newNode.entry.key()));
+        } else {
+            newNode.next = root;
+            bins[bin] = binSizes[bin] + 1 < TREEIFY_THRESHOLD ? newNode : treeify(newNode);
+        }
+        binSizes[bin]++;
+    }
+
+    /**
+     * Inserts a node into a subtree, and returns the root of the balanced subtree.
+     *
+     * @param <K>        The key type.
+     * @param <C>        The content type.
+     * @param node       The root of the subtree.
+     * @param newNode    The node to insert, with height one and without children.
+     * @param comparable Whether the class of the key of the new node implements {@link java.lang.Comparable} of
+     *                   itself.
+     * @return The root of the balanced subtree.
+     */
+    private static <K, C> BinNode<K, C> insert(final BinNode<K, C> node, final BinNode<K, C> newNode,
+            final boolean comparable) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compareForInsertion(newNode, comparable, node) < 0) {
+            node.left = insert(node.left, newNode, comparable);
+        } else {
+            node.right = insert(node.right, newNode, comparable);
+        }
+        return balance(node);
+    }
+
+    /**
+     * Returns whether the class of a key implements {@link java.lang.Comparable} of itself.
+     *
+     * @param key The key.
+     * @return True if the key isn't <code>null</code> and its class implements {@link java.lang.Comparable} of itself.
+     */
+    private static boolean isSelfComparable(final Object key) {
+        return key != null && SELF_COMPARABLE.get(key.getClass());
+    }
+
+    /**
+     * Returns whether the first node of a bin is the root of a tree rather than the head of a linked list.
+     *
+     * @param node The first node of a bin.
+     * @return True if the node is the root of a tree.
+     */
+    private static boolean isTree(final BinNode<?, ?> node) {
+        return node != null && node.height > 0;
+    }
+
+    /**
+     * Removes the node with the key, and optionally the content, from the linked list or the tree of its bin, and
+     * returns its entry. A tree is converted back into a linked list when it shrinks to the untreeify threshold, and
+     * the hash table is only shrunk if it has become too sparse.
+     *
+     * @param key            The key.
+     * @param compareContent Whether the content of the entry should be equal to the content too.
+     * @param content        The content.
+     * @return The entry of the removed node, or <code>null</code> if no such node is present.
+     */
+    private Entry<K, C> remove(final K key, final boolean compareContent, final C content) {
+        if (capacity == 0) {
+            return null;
+        }
+        int hashCode = HashUtilities.hashCode(key);
+        int bin = HashUtilities.index(hashCode, capacity);
+        BinNode<K, C> root = bins[bin];
+        BinNode<K, C> target;
+        if (isTree(root)) {
+            BinNode<K, C>[] path = new BinNode[root.height];
+            int length = findPath(root, hashCode, key, isSelfComparable(key), path, 0);
+            target = length == -1 ? null : path[length - 1];
+            if (target == null || compareContent && !Objects.equals(target.entry.value(), content)) {
+                return null;
+            }
+            bins[bin] = removeAlongPath(path, length);
+            if (binSizes[bin] - 1 <= UNTREEIFY_THRESHOLD) {
+                bins[bin] = untreeify(bins[bin], binSizes[bin] - 1);
+            }
+        } else {
+            BinNode<K, C> previous = null;
+            target = root;
+            while (target != null && (target.hashCode != hashCode || !Objects.equals(target.entry.key(), key))) {
+                previous = target;
+                target = target.next;
+            }
+            if (target == null || compareContent && !Objects.equals(target.entry.value(), content)) {
+                return null;
+            }
+            if (previous == null) {
+                bins[bin] = target.next;
+            } else {
+                previous.next = target.next;
+            }
+        }
+        binSizes[bin]--;
+        size--;
+        // EQMU: Changing the conditional boundary below produces an equivalent mutant.
+        if (size * MAXIMAL_HASHING_RATIO < capacity) {
+            resizeTo(capacityFor(size * 2));
+        }
+        return target.entry;
+    }
+
+    /**
+     * Removes the last node of a path from a tree, and rebalances the nodes on the path up to the root.
+     *
+     * @param <K>    The key type.
+     * @param <C>    The content type.
+     * @param path   The path from the root of the tree to the node to remove.
+     * @param length The length of the path.
+     * @return The root of the balanced tree.
+     */
+    private static <K, C> BinNode<K, C> removeAlongPath(final BinNode<K, C>[] path, final int length) {
+        BinNode<K, C> target = path[length - 1];
+        BinNode<K, C> subtree;
+        if (target.left == null) {
+            subtree = target.right;
+        } else if (target.right == null) {
+            subtree = target.left;
+        } else {
+            BinNode<K, C> successor = target.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeLeftmost(target.right);
+            successor.left = target.left;
+            subtree = balance(successor);
+        }
+        for (int i = length - 2; i >= 0; i--) {
+            BinNode<K, C> parent = path[i];
+            if (parent.left == path[i + 1]) {
+                parent.left = subtree;
+            } else {
+                parent.right = subtree;
+            }
+            subtree = balance(parent);
+        }
+        return subtree;
+    }
+
+    @Override
+    public boolean removeEntry(final K key, final C content) {
+        return remove(key, true, content) != null;
+    }
+
+    @Override
+    public Entry<K, C> removeFirstEntryForKey(final K key) {
+        return remove(key, false, null);
+    }
+
+    /**
+     * Removes the leftmost node from a subtree, and returns the root of the balanced subtree.
+     *
+     * @param <K>  The key type.
+     * @param <C>  The content type.
+     * @param node The root of the subtree.
+     * @return The root of the balanced subtree.
+     */
+    private static <K, C> BinNode<K, C> removeLeftmost(final BinNode<K, C> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeLeftmost(node.left);
+        return balance(node);
+    }
+
+    @Override
+    public boolean replaceEntry(final K key, final C oldContent, final C newContent) {
+        BinNode<K, C> node = findNode(key, true, oldContent);
+        if (node == null) {
+            return false;
+        }
+        node.entry = new Entry<K, C>(key, newContent);
+        return true;
+    }
+
+    /**
+     * Resizes the hash table to the new capacity. The nodes are reinserted using their cached hash codes.
+     *
+     * @param newCapacity The new capacity, zero or a power of two.
+     */
+    private void resizeTo(final int newCapacity) {
+        numberOfResizes++;
+        BinNode<K, C>[] nodes = new BinNode[size];
+        int j = 0;
+        for (int i = 0; i < capacity; i++) {
+            j = collectNodes(bins[i], nodes, j);
+        }
+        allocate(newCapacity);
+        for (BinNode<K, C> node : nodes) {
+            node.left = null;
+            node.right = null;
+            node.next = null;
+            node.height = 0;
+            insert(node);
+        }
+    }
+
+    /**
+     * Rotates a subtree to the left, and returns its new root.
+     *
+     * @param <K>  The key type.
+     * @param <C>  The content type.
+     * @param node The root of the subtree.
+     * @return The new root of the subtree.
+     */
+    private static <K, C> BinNode<K, C> rotateLeft(final BinNode<K, C> node) {
+        BinNode<K, C> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        updateHeight(node);
+        updateHeight(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Rotates a subtree to the right, and returns its new root.
+     *
+     * @param <K>  The key type.
+     * @param <C>  The content type.
+     * @param node The root of the subtree.
+     * @return The new root of the subtree.
+     */
+    private static <K, C> BinNode<K, C> rotateRight(final BinNode<K, C> node) {
+        BinNode<K, C> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        updateHeight(node);
+        updateHeight(newRoot);
+        return newRoot;
+    }
+
+    @Override
+    public Object[] toArray() {
+        BinNode<K, C>[] nodes = new BinNode[size];
+        int j = 0;
+        for (int i = 0; i < capacity; i++) {
+            j = collectNodes(bins[i], nodes, j);
+        }
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = nodes[i].entry;
+        }
+        return result;
+    }
+
+    /**
+     * Converts a linked list into a tree, and returns the root of the tree.
+     *
+     * @param <K>  The key type.
+     * @param <C>  The content type.
+     * @param head The head of the linked list.
+     * @return The root of the tree.
+     */
+    private static <K, C> BinNode<K, C> treeify(final BinNode<K, C> head) {
+        BinNode<K, C> root = null;
+        BinNode<K, C> node = head;
+        while (node != null) {
+            BinNode<K, C> next = node.next;
+            node.next = null;
+            node.height = 1;
+            root = insert(root, node, isSelfComparable(node.entry.key()));
+            node = next;
+        }
+        return root;
+    }
+
+    /**
+     * Converts a tree into a linked list, keeping the order of the nodes, and returns the head of the linked list.
+     *
+     * @param <K>           The key type.
+     * @param <C>           The content type.
+     * @param root          The root of the tree.
+     * @param numberOfNodes The number of nodes in the tree.
+     * @return The head of the linked list.
+     */
+    private static <K, C> BinNode<K, C> untreeify(final BinNode<K, C> root, final int numberOfNodes) {
+        BinNode<K, C>[] nodes = new BinNode[numberOfNodes];
+        collectNodes(root, nodes, 0);
+        BinNode<K, C> head = null;
+        for (int i = numberOfNodes - 1; i >= 0; i--) {
+            BinNode<K, C> node = nodes[i];
+            node.left = null;
+            node.right = null;
+            node.height = 0;
+            node.next = head;
+            head = node;
+        }
+        return head;
+    }
+
+    /**
+     * Recalculates the height of a node from the heights of its children.
+     *
+     * @param node The node.
+     */
+    private static void updateHeight(final BinNode<?, ?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+}
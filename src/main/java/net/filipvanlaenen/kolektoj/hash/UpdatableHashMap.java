@@ -17,27 +17,21 @@ import net.filipvanlaenen.kolektoj.array.ModifiableArrayCollection;
 
 /**
  * A hash backed implementation of the {@link net.filipvanlaenen.kolektoj.UpdatableMap} interface.
+ * Optionally, the map keeps an index on the values, such that <code>containsValue</code> takes constant time on
+ * average instead of scanning the values.
  *
  * @param <K> The key type.
  * @param <V> The value type.
  */
 public final class UpdatableHashMap<K, V> implements UpdatableMap<K, V> {
-    /**
-     * The ratio by which the number of entries should be multiplied to construct the hashed array.
-     */
-    private static final int HASHING_RATIO = 3;
     /**
      * A modifiable collection with the entries.
      */
     private ModifiableCollection<Entry<K, V>> entries;
     /**
-     * A hashed array with the entries.
+     * A table with the entries, indexed on their keys.
      */
-    private final Object[] hashedEntries;
-    /**
-     * The size of the hashed array with the entries.
-     */
-    private final int hashedEntriesSize;
+    private final EntryTable<K, V> entryTable;
     /**
      * The key and value cardinality.
      */
@@ -46,6 +40,10 @@ public final class UpdatableHashMap<K, V> implements UpdatableMap<K, V> {
      * A collection with the keys, initialized lazily.
      */
     private final Collection<K> keys;
+    /**
+     * The index on the values, or <code>null</code> if the map doesn't keep an index on its values.
+     */
+    private final ValueIndex<V> valueIndex;
     /**
      * A collection with the values.
      */
@@ -70,7 +68,48 @@ public final class UpdatableHashMap<K, V> implements UpdatableMap<K, V> {
      */
     public UpdatableHashMap(final KeyAndValueCardinality keyAndValueCardinality, final Entry<K, V>... entries)
             throws IllegalArgumentException {
-        this(keyAndValueCardinality, (Object[]) entries);
+        this(ProbingStrategy.LINEAR_PROBING, keyAndValueCardinality, ValueIndexing.NO_VALUE_INDEX,
+                (Object[]) entries);
+    }
+
+    /**
+     * Constructor taking the probing strategy and the entries as its parameter.
+     *
+     * @param probingStrategy The probing strategy.
+     * @param entries         The entries for the map.
+     * @throws IllegalArgumentException Thrown if one of the entries is null.
+     */
+    public UpdatableHashMap(final ProbingStrategy probingStrategy, final Entry<K, V>... entries)
+            throws IllegalArgumentException {
+        this(probingStrategy, DISTINCT_KEYS, entries);
+    }
+
+    /**
+     * Constructor taking the probing strategy, the key and value cardinality and the entries as its parameter.
+     *
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param entries                The entries for the map.
+     * @throws IllegalArgumentException Thrown if one of the entries is null.
+     */
+    public UpdatableHashMap(final ProbingStrategy probingStrategy, final KeyAndValueCardinality keyAndValueCardinality,
+            final Entry<K, V>... entries) throws IllegalArgumentException {
+        this(probingStrategy, keyAndValueCardinality, ValueIndexing.NO_VALUE_INDEX, (Object[]) entries);
+    }
+
+    /**
+     * Constructor taking the probing strategy, the key and value cardinality, the value indexing and the entries as
+     * its parameter.
+     *
+     * @param probingStrategy        The probing strategy.
+     * @param keyAndValueCardinality The key and value cardinality.
+     * @param valueIndexing          Whether the map should keep an index on its values.
+     * @param entries                The entries for the map.
+     * @throws IllegalArgumentException Thrown if one of the entries is null.
+     */
+    public UpdatableHashMap(final ProbingStrategy probingStrategy, final KeyAndValueCardinality keyAndValueCardinality,
+            final ValueIndexing valueIndexing, final Entry<K, V>... entries) throws IllegalArgumentException {
+        this(probingStrategy, keyAndValueCardinality, valueIndexing, (Object[]) entries);
     }
 
     /**
@@ -81,35 +120,48 @@ public final class UpdatableHashMap<K, V> implements UpdatableMap<K, V> {
      */
     public UpdatableHashMap(final KeyAndValueCardinality keyAndValueCardinality,
             final Map<? extends K, ? extends V> map) {
-        this(keyAndValueCardinality, map.toArray());
+        this(ProbingStrategy.LINEAR_PROBING, keyAndValueCardinality, ValueIndexing.NO_VALUE_INDEX,
+                map.toArray());
     }
 
     /**
-     * Constructor taking the key and value cardinality and the entries as an object array as its parameter.
+     * Constructor taking the probing strategy, the key and value cardinality, the value indexing and the entries as
+     * an object array as its parameter.
      *
+     * @param probingStrategy        The probing strategy.
      * @param keyAndValueCardinality The key and value cardinality.
+     * @param valueIndexing          Whether the map should keep an index on its values.
      * @param entries                The entries for the map as an object array.
      * @throws IllegalArgumentException Thrown if one of the entries is null.
      */
-    private UpdatableHashMap(final KeyAndValueCardinality keyAndValueCardinality, final Object[] entries)
-            throws IllegalArgumentException {
+    private UpdatableHashMap(final ProbingStrategy probingStrategy,
+            final KeyAndValueCardinality keyAndValueCardinality, final ValueIndexing valueIndexing,
+            final Object[] entries) throws IllegalArgumentException {
         if (entries == null) {
             throw new IllegalArgumentException("Map entries can't be null.");
         }
         this.keyAndValueCardinality = keyAndValueCardinality;
-        hashedEntriesSize = entries.length * HASHING_RATIO;
-        Object[] theHashedEntries = new Object[hashedEntriesSize];
+        EntryTable<K, V> theEntryTable =
+                HashUtilities.createEntryTable(entries.length, probingStrategy, keyAndValueCardinality);
         ModifiableCollection<Entry<K, V>> theEntries =
-                new ModifiableArrayCollection<Entry<K, V>>(getElementCardinality());
-        ModifiableCollection<K> theKeys = new ModifiableArrayCollection<K>(
-                keyAndValueCardinality == DISTINCT_KEYS ? DISTINCT_ELEMENTS : DUPLICATE_ELEMENTS);
-        ModifiableCollection<V> theValues = new ModifiableArrayCollection<V>();
-        HashUtilities.populateMapFromEntries(theEntries, theHashedEntries, theKeys, theValues, keyAndValueCardinality,
+                ModifiableArrayCollection.<Entry<K, V>>withExpectedSize(getElementCardinality(), entries.length);
+        ModifiableCollection<K> theKeys = ModifiableArrayCollection.<K>withExpectedSize(
+                keyAndValueCardinality == DISTINCT_KEYS ? DISTINCT_ELEMENTS : DUPLICATE_ELEMENTS, entries.length);
+        ModifiableCollection<V> theValues = ModifiableArrayCollection.<V>withExpectedSize(entries.length);
+        HashUtilities.populateMapFromEntries(theEntries, theEntryTable, theKeys, theValues, keyAndValueCardinality,
                 entries);
         this.entries = theEntries;
-        this.hashedEntries = theHashedEntries;
+        this.entryTable = theEntryTable;
         this.keys = new ArrayCollection<K>(theKeys);
         this.values = theValues;
+        if (valueIndexing == ValueIndexing.VALUE_INDEX) {
+            this.valueIndex = new ValueIndex<V>(theValues.size());
+            for (V value : theValues) {
+                valueIndex.add(value);
+            }
+        } else {
+            this.valueIndex = null;
+        }
     }
 
     /**
@@ -118,69 +170,38 @@ public final class UpdatableHashMap<K, V> implements UpdatableMap<K, V> {
      * @param map The map to create a new map from.
      */
     public UpdatableHashMap(final Map<? extends K, ? extends V> map) {
-        this(map.getKeyAndValueCardinality(), map.toArray());
+        this(ProbingStrategy.LINEAR_PROBING, map.getKeyAndValueCardinality(), ValueIndexing.NO_VALUE_INDEX,
+                map.toArray());
     }
 
     @Override
     public boolean contains(final Entry<K, V> entry) {
-        return findFirstIndexForEntry(entry) != -1;
+        return entryTable.containsEntry(entry.key(), entry.value());
     }
 
     @Override
     public boolean containsAll(final Collection<?> collection) {
-        return entries.containsAll(collection);
+        return HashUtilities.containsAllEntries(this, collection);
     }
 
     @Override
-    public boolean containsKey(final K key) {
-        return findFirstIndexForKey(key) != -1;
+    public boolean containsSame(final Collection<?> collection) {
+        return size() == collection.size() && containsAll(collection);
     }
 
     @Override
-    public boolean containsValue(final V value) {
-        return getValues().contains(value);
+    public boolean containsKey(final K key) {
+        return entryTable.containsKey(key);
     }
 
-    /**
-     * Finds the index for the first occurrence of an entry.
-     *
-     * @param entry The entry.
-     * @return Returns the index for the first occurrence of an entry, or -1 if no such entry is present.
-     */
-    private int findFirstIndexForEntry(final Entry<? extends K, ? extends V> entry) {
-        if (hashedEntriesSize == 0) {
-            return -1;
-        }
-        int index = HashUtilities.hash(entry.key(), hashedEntriesSize);
-        while (hashedEntries[index] != null) {
-            if (hashedEntries[index].equals(entry)) {
-                return index;
-            }
-            index = Math.floorMod(index + 1, hashedEntriesSize);
+    @Override
+    public boolean containsValue(final V value) {
+        if (valueIndex != null) {
+            return valueIndex.contains(value);
         }
-        return -1;
+        return getValues().contains(value);
     }
 
-    /**
-     * Finds the index for the first occurrence of an entry with the key.
-     *
-     * @param key The key.
-     * @return Returns the index for the first occurrence of an entry with the key, or -1 if no such entry is present.
-     */
-    private int findFirstIndexForKey(final K key) {
-        if (hashedEntriesSize == 0) {
-            return -1;
-        }
-        int index = HashUtilities.hash(key, hashedEntriesSize);
-        while (hashedEntries[index] != null) {
-            K k = ((Entry<K, V>) hashedEntries[index]).key();
-            if (Objects.equals(k, key)) {
-                return index;
-            }
-            index = Math.floorMod(index + 1, hashedEntriesSize);
-        }
-        return -1;
-    }
 
     @Override
     public Entry<K, V> get() throws IndexOutOfBoundsException {
@@ -193,11 +214,11 @@ public final class UpdatableHashMap<K, V> implements UpdatableMap<K, V> {
 
     @Override
     public V get(final K key) throws IllegalArgumentException {
-        int index = findFirstIndexForKey(key);
-        if (index == -1) {
+        Entry<K, V> entry = entryTable.getFirstEntryForKey(key);
+        if (entry == null) {
             throw new IllegalArgumentException("Map doesn't contain an entry with the key " + key + ".");
         }
-        return ((Entry<K, V>) hashedEntries[index]).value();
+        return entry.value();
     }
 
     @Override
@@ -205,20 +226,31 @@ public final class UpdatableHashMap<K, V> implements UpdatableMap<K, V> {
         ModifiableCollection<V> result = new ModifiableArrayCollection<V>(
                 keyAndValueCardinality == DUPLICATE_KEYS_WITH_DUPLICATE_VALUES ? DUPLICATE_ELEMENTS
                         : DISTINCT_ELEMENTS);
-        int index = HashUtilities.hash(key, hashedEntriesSize);
-        while (hashedEntries[index] != null) {
-            K k = ((Entry<K, V>) hashedEntries[index]).key();
-            if (Objects.equals(k, key)) {
-                result.add(((Entry<K, V>) hashedEntries[index]).value());
-            }
-            index = Math.floorMod(index + 1, hashedEntriesSize);
-        }
+        entryTable.collectContentsForKey(key, result);
         if (result.isEmpty()) {
             throw new IllegalArgumentException("Map doesn't contain entries with the key " + key + ".");
         }
         return result;
     }
 
+    /**
+     * Returns statistics on the hash table of the map. The statistics are calculated when this method is called.
+     *
+     * @return Statistics on the hash table of the map.
+     */
+    public HashStatistics getHashStatistics() {
+        return entryTable.calculateStatistics();
+    }
+
+    /**
+     * Returns the probing strategy of the hash table backing the map.
+     *
+     * @return The probing strategy of the hash table backing the map.
+     */
+    public ProbingStrategy getProbingStrategy() {
+        return entryTable.getProbingStrategy();
+    }
+
     @Override
     public KeyAndValueCardinality getKeyAndValueCardinality() {
         return keyAndValueCardinality;
@@ -256,44 +288,55 @@ public final class UpdatableHashMap<K, V> implements UpdatableMap<K, V> {
 
     @Override
     public V update(final K key, final V value) throws IllegalArgumentException {
-        Entry<K, V> newEntry = new Entry<K, V>(key, value);
-        if (contains(newEntry)) {
+        if (entryTable.containsEntry(key, value)) {
             return value;
         }
-        int index = findFirstIndexForKey(key);
-        if (index == -1) {
+        Entry<K, V> oldEntry = entryTable.getFirstEntryForKey(key);
+        if (oldEntry == null) {
             throw new IllegalArgumentException("Map doesn't contain an entry with the key " + key + ".");
         }
-        Entry<K, V> oldEntry = (Entry<K, V>) hashedEntries[index];
         V oldValue = oldEntry.value();
         entries.remove(oldEntry);
-        entries.add(newEntry);
-        hashedEntries[index] = newEntry;
+        entries.add(new Entry<K, V>(key, value));
+        entryTable.replaceEntry(key, oldValue, value);
         values.remove(oldValue);
         values.add(value);
+        updateValueIndex(oldValue, value);
         return oldValue;
     }
 
     @Override
     public boolean update(final K key, final V oldValue, final V newValue) throws IllegalArgumentException {
-        Entry<K, V> oldEntry = new Entry<K, V>(key, oldValue);
-        int index = findFirstIndexForEntry(oldEntry);
-        if (index == -1) {
+        if (!entryTable.containsEntry(key, oldValue)) {
             throw new IllegalArgumentException(
                     "Map doesn't contain an entry with the key " + key + " and value " + oldValue + ".");
         }
         if (Objects.equals(oldValue, newValue)) {
             return false;
         }
-        Entry<K, V> newEntry = new Entry<K, V>(key, newValue);
-        if (keyAndValueCardinality == DUPLICATE_KEYS_WITH_DISTINCT_VALUES && contains(newEntry)) {
+        if (keyAndValueCardinality == DUPLICATE_KEYS_WITH_DISTINCT_VALUES
+                && entryTable.containsEntry(key, newValue)) {
             return false;
         }
-        entries.remove(oldEntry);
-        entries.add(newEntry);
-        hashedEntries[index] = newEntry;
+        entries.remove(new Entry<K, V>(key, oldValue));
+        entries.add(new Entry<K, V>(key, newValue));
+        entryTable.replaceEntry(key, oldValue, newValue);
         values.remove(oldValue);
         values.add(newValue);
+        updateValueIndex(oldValue, newValue);
         return true;
     }
+
+    /**
+     * Replaces an occurrence of a value in the value index by another value, if the map keeps a value index.
+     *
+     * @param oldValue The value that was replaced.
+     * @param newValue The value that replaced it.
+     */
+    private void updateValueIndex(final V oldValue, final V newValue) {
+        if (valueIndex != null) {
+            valueIndex.remove(oldValue);
+            valueIndex.add(newValue);
+        }
+    }
 }
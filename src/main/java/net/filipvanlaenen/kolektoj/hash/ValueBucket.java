@@ -0,0 +1,124 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+
+/**
+ * A bucket with the entries of a {@link BucketHashTable} sharing the same key, stored in a compact array in the order
+ * in which they were added. The entries themselves are kept instead of their values only, such that iterating over the
+ * table doesn't have to create new entries.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+final class ValueBucket<K, V> {
+    /**
+     * The array with the entries, possibly with unused slots at the end.
+     */
+    private Object[] entries;
+    /**
+     * The number of entries in the bucket.
+     */
+    private int size;
+
+    /**
+     * Constructor taking the first entry of the bucket as its parameter.
+     *
+     * @param entry The first entry of the bucket.
+     */
+    ValueBucket(final Entry<K, V> entry) {
+        entries = new Object[] {entry};
+        size = 1;
+    }
+
+    /**
+     * Adds an entry to the end of the bucket, growing the array if necessary.
+     *
+     * @param entry The entry to add.
+     */
+    void add(final Entry<K, V> entry) {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+        }
+        entries[size++] = entry;
+    }
+
+    /**
+     * Copies the entries of the bucket into an array, starting at the offset.
+     *
+     * @param target The array into which the entries should be copied.
+     * @param offset The index in the array at which the first entry should be copied.
+     */
+    void copyInto(final Object[] target, final int offset) {
+        System.arraycopy(entries, 0, target, offset, size);
+    }
+
+    /**
+     * Returns the entry at the position.
+     *
+     * @param position The position.
+     * @return The entry at the position.
+     */
+    Entry<K, V> get(final int position) {
+        return (Entry<K, V>) entries[position];
+    }
+
+    /**
+     * Returns the position of the first entry with the value, or -1 if the bucket doesn't contain an entry with the
+     * value.
+     *
+     * @param value The value.
+     * @return The position of the first entry with the value, or -1 if no such entry is present.
+     */
+    int indexOf(final V value) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(get(i).value(), value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether the bucket is empty.
+     *
+     * @return True if the bucket is empty.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes the entry at the position, shifting the following entries such that the order is preserved.
+     *
+     * @param position The position.
+     * @return The entry that was removed.
+     */
+    Entry<K, V> removeAt(final int position) {
+        Entry<K, V> entry = get(position);
+        System.arraycopy(entries, position + 1, entries, position, size - position - 1);
+        entries[--size] = null;
+        return entry;
+    }
+
+    /**
+     * Replaces the entry at the position.
+     *
+     * @param position The position.
+     * @param entry    The new entry.
+     */
+    void set(final int position, final Entry<K, V> entry) {
+        entries[position] = entry;
+    }
+
+    /**
+     * Returns the number of entries in the bucket.
+     *
+     * @return The number of entries in the bucket.
+     */
+    int size() {
+        return size;
+    }
+}
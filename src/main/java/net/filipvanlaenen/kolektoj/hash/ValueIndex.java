@@ -0,0 +1,75 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+
+/**
+ * An index on the values of a map, holding the number of entries per value in a {@link HashTable} with the values as
+ * its keys and counters as its contents. Counts are updated in place, and a value is removed from the hash table as
+ * soon as its count drops to zero, such that lookups for absent values stay short and the hash table shrinks again
+ * after mass removals.
+ *
+ * @param <V> The value type.
+ */
+final class ValueIndex<V> {
+    /**
+     * The hash table with the number of entries per value.
+     */
+    private final HashTable<V, Counter> counts;
+
+    /**
+     * Constructor creating an empty index with room for the given number of distinct values.
+     *
+     * @param numberOfValues The number of distinct values the index should have room for.
+     */
+    ValueIndex(final int numberOfValues) {
+        counts = new HashTable<V, Counter>(numberOfValues);
+    }
+
+    /**
+     * Adds an occurrence of a value to the index.
+     *
+     * @param value The value.
+     */
+    void add(final V value) {
+        int index = counts.findFirstIndexForKey(value);
+        if (index == -1) {
+            counts.add(new Entry<V, Counter>(value, new Counter(1)));
+        } else {
+            counts.getEntryAt(index).value().add(1);
+        }
+    }
+
+    /**
+     * Removes all values from the index.
+     */
+    void clear() {
+        counts.clear();
+    }
+
+    /**
+     * Returns whether the index contains at least one occurrence of a value.
+     *
+     * @param value The value.
+     * @return True if the index contains the value.
+     */
+    boolean contains(final V value) {
+        return counts.findFirstIndexForKey(value) != -1;
+    }
+
+    /**
+     * Removes an occurrence of a value from the index. If it was the last occurrence, the value is removed from the
+     * hash table.
+     *
+     * @param value The value.
+     */
+    void remove(final V value) {
+        int index = counts.findFirstIndexForKey(value);
+        if (index != -1) {
+            Counter counter = counts.getEntryAt(index).value();
+            counter.add(-1);
+            if (counter.get() == 0) {
+                counts.removeAt(index);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+/**
+ * Enumeration listing whether the hash-backed maps keep an index on their values.
+ */
+public enum ValueIndexing {
+    /**
+     * No index on the values, such that checking whether a map contains a value requires a scan of all the entries.
+     */
+    NO_VALUE_INDEX,
+    /**
+     * An index on the values, holding the number of entries per value in a hash table, such that checking whether a
+     * map contains a value takes constant time on average, at the cost of maintaining the index on every update.
+     */
+    VALUE_INDEX
+}
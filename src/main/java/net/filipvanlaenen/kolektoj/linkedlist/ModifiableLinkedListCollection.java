@@ -10,8 +10,8 @@ import java.util.function.Predicate;
 
 import net.filipvanlaenen.kolektoj.Collection;
 import net.filipvanlaenen.kolektoj.ModifiableCollection;
-import net.filipvanlaenen.kolektoj.array.ArrayIterator;
 import net.filipvanlaenen.kolektoj.array.ArraySpliterator;
+import net.filipvanlaenen.kolektoj.array.FailFastArrayIterator;
 
 /**
  * An linked list backed implementation of the {@link net.filipvanlaenen.kolektoj.ModifiableCollection} interface.
@@ -35,6 +35,10 @@ public final class ModifiableLinkedListCollection<E> implements ModifiableCollec
      * The head node of the linked list.
      */
     private ListNode<E> head;
+    /**
+     * The number of modifications of the collection, allowing the iterators to fail fast.
+     */
+    private int modificationCount;
     /**
      * The size of the collection.
      */
@@ -104,11 +108,15 @@ public final class ModifiableLinkedListCollection<E> implements ModifiableCollec
         head = new ListNode<E>(element, head);
         size++;
         cachedArrayDirty = true;
+        modificationCount++;
         return true;
     }
 
     @Override
     public boolean addAll(final Collection<? extends E> collection) {
+        if (collection == this) {
+            return addAll(Collection.of(collection));
+        }
         boolean result = false;
         for (E element : collection) {
             result |= add(element);
@@ -121,6 +129,7 @@ public final class ModifiableLinkedListCollection<E> implements ModifiableCollec
         head = null;
         size = 0;
         cachedArrayDirty = cachedArray.length != 0;
+        modificationCount++;
     }
 
     @Override
@@ -175,7 +184,23 @@ public final class ModifiableLinkedListCollection<E> implements ModifiableCollec
 
     @Override
     public Iterator<E> iterator() {
-        return new ArrayIterator<E>(toArray());
+        refreshCachedArray();
+        return new FailFastArrayIterator<E>(cachedArray, cachedArray.length, () -> modificationCount);
+    }
+
+    /**
+     * Refreshes the cached array if it's dirty.
+     */
+    private void refreshCachedArray() {
+        if (cachedArrayDirty) {
+            cachedArray = new Object[size];
+            ListNode<E> current = head;
+            for (int i = 0; i < size; i++) {
+                cachedArray[i] = current.getElement();
+                current = current.getNext();
+            }
+            cachedArrayDirty = false;
+        }
     }
 
     @Override
@@ -187,6 +212,7 @@ public final class ModifiableLinkedListCollection<E> implements ModifiableCollec
             head = head.getNext();
             size--;
             cachedArrayDirty = true;
+            modificationCount++;
             return true;
         }
         ListNode<E> current = head;
@@ -196,6 +222,7 @@ public final class ModifiableLinkedListCollection<E> implements ModifiableCollec
                 current.setNext(next.getNext());
                 size--;
                 cachedArrayDirty = true;
+                modificationCount++;
                 return true;
             }
             current = next;
@@ -206,6 +233,9 @@ public final class ModifiableLinkedListCollection<E> implements ModifiableCollec
 
     @Override
     public boolean removeAll(final Collection<? extends E> collection) {
+        if (collection == this) {
+            return removeAll(Collection.of(collection));
+        }
         boolean result = false;
         for (E element : collection) {
             result |= remove(element);
@@ -259,6 +289,7 @@ public final class ModifiableLinkedListCollection<E> implements ModifiableCollec
             head = head.getNext();
             size--;
             cachedArrayDirty = true;
+            modificationCount++;
             result = true;
             i++;
         }
@@ -275,6 +306,7 @@ public final class ModifiableLinkedListCollection<E> implements ModifiableCollec
                 current.setNext(next.getNext());
                 size--;
                 cachedArrayDirty = true;
+                modificationCount++;
                 result = true;
             }
             next = current.getNext();
@@ -295,15 +327,7 @@ public final class ModifiableLinkedListCollection<E> implements ModifiableCollec
 
     @Override
     public Object[] toArray() {
-        if (cachedArrayDirty) {
-            cachedArray = new Object[size];
-            ListNode<E> current = head;
-            for (int i = 0; i < size; i++) {
-                cachedArray[i] = current.getElement();
-                current = current.getNext();
-            }
-            cachedArrayDirty = false;
-        }
+        refreshCachedArray();
         return cachedArray.clone();
     }
 }
@@ -11,9 +11,9 @@ import java.util.function.Predicate;
 import net.filipvanlaenen.kolektoj.Collection;
 import net.filipvanlaenen.kolektoj.ModifiableOrderedCollection;
 import net.filipvanlaenen.kolektoj.OrderedCollection;
-import net.filipvanlaenen.kolektoj.array.ArrayIterator;
 import net.filipvanlaenen.kolektoj.array.ArraySpliterator;
 import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
+import net.filipvanlaenen.kolektoj.array.FailFastArrayIterator;
 
 /**
  * An linked list backed implementation of the {@link net.filipvanlaenen.kolektoj.ModifiableOrderedCollection}
@@ -38,6 +38,10 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
      * The head node of the linked list.
      */
     private ListNode<E> head;
+    /**
+     * The number of modifications of the collection, allowing the iterators to fail fast.
+     */
+    private int modificationCount;
     /**
      * The size of the collection.
      */
@@ -108,11 +112,15 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
         }
         size++;
         cachedArrayDirty = true;
+        modificationCount++;
         return true;
     }
 
     @Override
     public boolean addAll(final Collection<? extends E> collection) {
+        if (collection == this) {
+            return addAll(Collection.of(collection));
+        }
         boolean result = false;
         for (E element : collection) {
             result |= add(element);
@@ -172,6 +180,7 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
         }
         size += numberOfNewElements;
         cachedArrayDirty = true;
+        modificationCount++;
         return true;
     }
 
@@ -203,6 +212,7 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
             }
             size++;
             cachedArrayDirty = true;
+            modificationCount++;
             return true;
         }
     }
@@ -213,6 +223,7 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
         tail = null;
         size = 0;
         cachedArrayDirty = cachedArray.length != 0;
+        modificationCount++;
     }
 
     @Override
@@ -311,7 +322,8 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
 
     @Override
     public Iterator<E> iterator() {
-        return new ArrayIterator<E>(toArray());
+        refreshCachedArray();
+        return new FailFastArrayIterator<E>(cachedArray, cachedArray.length, () -> modificationCount);
     }
 
     @Override
@@ -349,6 +361,7 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
                     tail = head;
                 }
                 cachedArrayDirty = true;
+                modificationCount++;
                 return original;
             } else {
                 ListNode<E> previous = head;
@@ -370,11 +383,27 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
                     tail = newNode;
                 }
                 cachedArrayDirty = true;
+                modificationCount++;
                 return original;
             }
         }
     }
 
+    /**
+     * Refreshes the cached array if it's dirty.
+     */
+    private void refreshCachedArray() {
+        if (cachedArrayDirty) {
+            cachedArray = new Object[size];
+            ListNode<E> current = head;
+            for (int i = 0; i < size; i++) {
+                cachedArray[i] = current.getElement();
+                current = current.getNext();
+            }
+            cachedArrayDirty = false;
+        }
+    }
+
     @Override
     public boolean remove(final E element) {
         if (head == null) {
@@ -387,6 +416,7 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
             }
             size--;
             cachedArrayDirty = true;
+            modificationCount++;
             return true;
         }
         ListNode<E> current = head;
@@ -399,6 +429,7 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
                 }
                 size--;
                 cachedArrayDirty = true;
+                modificationCount++;
                 return true;
             }
             current = next;
@@ -434,12 +465,16 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
             }
             size--;
             cachedArrayDirty = true;
+            modificationCount++;
             return element;
         }
     }
 
     @Override
     public boolean removeAll(final Collection<? extends E> collection) {
+        if (collection == this) {
+            return removeAll(Collection.of(collection));
+        }
         boolean result = false;
         for (E element : collection) {
             result |= remove(element);
@@ -493,6 +528,7 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
             head = head.getNext();
             size--;
             cachedArrayDirty = true;
+            modificationCount++;
             result = true;
             i++;
         }
@@ -510,6 +546,7 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
                 tail.setNext(next.getNext());
                 size--;
                 cachedArrayDirty = true;
+                modificationCount++;
                 result = true;
             }
             next = tail.getNext();
@@ -532,15 +569,7 @@ public final class ModifiableOrderedLinkedListCollection<E> implements Modifiabl
 
     @Override
     public Object[] toArray() {
-        if (cachedArrayDirty) {
-            cachedArray = new Object[size];
-            ListNode<E> current = head;
-            for (int i = 0; i < size; i++) {
-                cachedArray[i] = current.getElement();
-                current = current.getNext();
-            }
-            cachedArrayDirty = false;
-        }
+        refreshCachedArray();
         return cachedArray.clone();
     }
 }
@@ -10,9 +10,9 @@ import java.util.function.Predicate;
 
 import net.filipvanlaenen.kolektoj.Collection;
 import net.filipvanlaenen.kolektoj.ModifiableSortedCollection;
-import net.filipvanlaenen.kolektoj.array.ArrayIterator;
 import net.filipvanlaenen.kolektoj.array.ArraySpliterator;
 import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
+import net.filipvanlaenen.kolektoj.array.FailFastArrayIterator;
 import net.filipvanlaenen.kolektoj.sortedtree.SortedTree.TreeNodesBelowAtAndAbove;
 
 /**
@@ -38,6 +38,10 @@ public final class ModifiableSortedTreeCollection<E> implements ModifiableSorted
      * The element cardinality.
      */
     private final ElementCardinality elementCardinality;
+    /**
+     * The number of modifications of the collection, allowing the iterators to fail fast.
+     */
+    private int modificationCount;
     /**
      * The sorted tree with the elements.
      */
@@ -54,7 +58,7 @@ public final class ModifiableSortedTreeCollection<E> implements ModifiableSorted
             final Collection<? extends E> source) {
         this.comparator = comparator;
         elementCardinality = source.getElementCardinality();
-        cachedArray = ArrayUtilities.quicksort(source.toArray(), comparator);
+        cachedArray = ArrayUtilities.sort(source.toArray(), comparator);
         sortedTree = SortedTree.fromSortedElementArray(comparator, elementCardinality, this.cachedArray);
         cachedArrayDirty = false;
     }
@@ -83,9 +87,9 @@ public final class ModifiableSortedTreeCollection<E> implements ModifiableSorted
         this.comparator = comparator;
         this.elementCardinality = elementCardinality;
         if (elementCardinality == DISTINCT_ELEMENTS) {
-            cachedArray = ArrayUtilities.quicksort(ArrayUtilities.cloneDistinctElements(source.toArray()), comparator);
+            cachedArray = ArrayUtilities.sortDistinctElements(source.toArray(), comparator);
         } else {
-            cachedArray = ArrayUtilities.quicksort(source.toArray(), comparator);
+            cachedArray = ArrayUtilities.sort(source.toArray(), comparator);
         }
         sortedTree = SortedTree.fromSortedElementArray(comparator, elementCardinality, cachedArray);
         cachedArrayDirty = false;
@@ -104,9 +108,9 @@ public final class ModifiableSortedTreeCollection<E> implements ModifiableSorted
         this.comparator = comparator;
         this.elementCardinality = elementCardinality;
         if (elementCardinality == DISTINCT_ELEMENTS) {
-            cachedArray = ArrayUtilities.quicksort(ArrayUtilities.cloneDistinctElements(elements), comparator);
+            cachedArray = ArrayUtilities.sortDistinctElements(elements, comparator);
         } else {
-            cachedArray = ArrayUtilities.quicksort(elements, comparator);
+            cachedArray = ArrayUtilities.sort(elements, comparator);
         }
         sortedTree = SortedTree.fromSortedElementArray(comparator, elementCardinality, cachedArray);
         cachedArrayDirty = false;
@@ -116,11 +120,17 @@ public final class ModifiableSortedTreeCollection<E> implements ModifiableSorted
     public boolean add(final E element) {
         boolean changed = sortedTree.add(element, element);
         cachedArrayDirty = cachedArrayDirty || changed;
+        if (changed) {
+            modificationCount++;
+        }
         return changed;
     }
 
     @Override
     public boolean addAll(final Collection<? extends E> collection) {
+        if (collection == this) {
+            return addAll(Collection.of(collection));
+        }
         boolean result = false;
         for (E element : collection) {
             result |= add(element);
@@ -132,6 +142,7 @@ public final class ModifiableSortedTreeCollection<E> implements ModifiableSorted
     public void clear() {
         sortedTree.clear();
         cachedArrayDirty = cachedArray.length != 0;
+        modificationCount++;
     }
 
     @Override
@@ -248,7 +259,8 @@ public final class ModifiableSortedTreeCollection<E> implements ModifiableSorted
 
     @Override
     public Iterator<E> iterator() {
-        return new ArrayIterator<E>(toArray());
+        refreshCachedArray();
+        return new FailFastArrayIterator<E>(cachedArray, cachedArray.length, () -> modificationCount);
     }
 
     @Override
@@ -256,15 +268,35 @@ public final class ModifiableSortedTreeCollection<E> implements ModifiableSorted
         return sortedTree.lastIndexOf(element);
     }
 
+    /**
+     * Refreshes the cached array if it's dirty.
+     */
+    private void refreshCachedArray() {
+        if (cachedArrayDirty) {
+            cachedArray = new Object[size()];
+            TreeNode<E, E>[] compactedArray = sortedTree.toArray();
+            for (int i = 0; i < size(); i++) {
+                cachedArray[i] = compactedArray[i].getKey();
+            }
+            cachedArrayDirty = false;
+        }
+    }
+
     @Override
     public boolean remove(final E element) {
         boolean changed = sortedTree.remove(element);
         cachedArrayDirty = cachedArrayDirty || changed;
+        if (changed) {
+            modificationCount++;
+        }
         return changed;
     }
 
     @Override
     public boolean removeAll(final Collection<? extends E> collection) {
+        if (collection == this) {
+            return removeAll(Collection.of(collection));
+        }
         boolean result = false;
         for (E element : collection) {
             result |= remove(element);
@@ -288,6 +320,9 @@ public final class ModifiableSortedTreeCollection<E> implements ModifiableSorted
     public boolean removeIf(final Predicate<? super E> predicate) {
         boolean changed = sortedTree.removeIf(predicate);
         cachedArrayDirty = cachedArrayDirty || changed;
+        if (changed) {
+            modificationCount++;
+        }
         return changed;
     }
 
@@ -295,6 +330,9 @@ public final class ModifiableSortedTreeCollection<E> implements ModifiableSorted
     public boolean retainAll(final Collection<? extends E> collection) {
         boolean changed = sortedTree.retainAllKeys(collection);
         cachedArrayDirty = cachedArrayDirty || changed;
+        if (changed) {
+            modificationCount++;
+        }
         return changed;
     }
 
@@ -311,15 +349,7 @@ public final class ModifiableSortedTreeCollection<E> implements ModifiableSorted
 
     @Override
     public Object[] toArray() {
-        if (cachedArrayDirty) {
-            cachedArray = new Object[size()];
-            TreeNode<E, E>[] compactedArray = sortedTree.toArray();
-            for (int i = 0; i < size(); i++) {
-                cachedArray[i] = compactedArray[i].getKey();
-
-            }
-            cachedArrayDirty = false;
-        }
+        refreshCachedArray();
         return cachedArray.clone();
     }
 }
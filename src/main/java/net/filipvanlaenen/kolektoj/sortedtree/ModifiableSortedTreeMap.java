@@ -18,9 +18,9 @@ import net.filipvanlaenen.kolektoj.ModifiableSortedCollection;
 import net.filipvanlaenen.kolektoj.ModifiableSortedMap;
 import net.filipvanlaenen.kolektoj.OrderedCollection;
 import net.filipvanlaenen.kolektoj.SortedCollection;
-import net.filipvanlaenen.kolektoj.array.ArrayIterator;
 import net.filipvanlaenen.kolektoj.array.ArraySpliterator;
 import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
+import net.filipvanlaenen.kolektoj.array.FailFastArrayIterator;
 import net.filipvanlaenen.kolektoj.array.ModifiableArrayCollection;
 import net.filipvanlaenen.kolektoj.array.ModifiableOrderedArrayCollection;
 import net.filipvanlaenen.kolektoj.sortedtree.SortedTree.TreeNodesBelowAtAndAbove;
@@ -57,6 +57,10 @@ public final class ModifiableSortedTreeMap<K, V> implements ModifiableSortedMap<
      * A sorted collection with the keys.
      */
     private final ModifiableSortedCollection<K> keys;
+    /**
+     * The number of modifications of the map, allowing the iterators to fail fast.
+     */
+    private int modificationCount;
     /**
      * The size of the collection.
      */
@@ -145,10 +149,10 @@ public final class ModifiableSortedTreeMap<K, V> implements ModifiableSortedMap<
         this.comparator = comparator;
         this.keyAndValueCardinality = keyAndValueCardinality;
         if (keyAndValueCardinality == DISTINCT_KEYS) {
-            cachedArray = ArrayUtilities.quicksort(ArrayUtilities.cloneDistinctElements(entries), entryByKeyComparator);
+            cachedArray = ArrayUtilities.sortDistinctElements(entries, entryByKeyComparator);
             cachedArrayDirty = cachedArray.length != entries.length;
         } else {
-            cachedArray = ArrayUtilities.quicksort(entries, entryByKeyComparator);
+            cachedArray = ArrayUtilities.sort(entries, entryByKeyComparator);
             cachedArrayDirty = false;
         }
         size = this.cachedArray.length;
@@ -187,11 +191,17 @@ public final class ModifiableSortedTreeMap<K, V> implements ModifiableSortedMap<
         values.add(value);
         keys.add(key);
         cachedArrayDirty = cachedArrayDirty || changed;
+        if (changed) {
+            modificationCount++;
+        }
         return changed;
     }
 
     @Override
     public boolean addAll(final Map<? extends K, ? extends V> map) {
+        if (map == this) {
+            return addAll(Map.of(map));
+        }
         boolean result = false;
         for (Entry<? extends K, ? extends V> entry : map) {
             result |= add(entry.key(), entry.value());
@@ -206,6 +216,7 @@ public final class ModifiableSortedTreeMap<K, V> implements ModifiableSortedMap<
         values.clear();
         size = 0;
         cachedArrayDirty = cachedArray.length != 0;
+        modificationCount++;
     }
 
     @Override
@@ -452,7 +463,18 @@ public final class ModifiableSortedTreeMap<K, V> implements ModifiableSortedMap<
 
     @Override
     public Iterator<Entry<K, V>> iterator() {
-        return new ArrayIterator<Entry<K, V>>(toArray());
+        refreshCachedArray();
+        return new FailFastArrayIterator<Entry<K, V>>(cachedArray, cachedArray.length, () -> modificationCount);
+    }
+
+    /**
+     * Refreshes the cached array if it's dirty.
+     */
+    private void refreshCachedArray() {
+        if (cachedArrayDirty) {
+            cachedArray = SortedTree.uncompact(sortedTree.toArray(), cachedArray);
+            cachedArrayDirty = false;
+        }
     }
 
     @Override
@@ -476,6 +498,9 @@ public final class ModifiableSortedTreeMap<K, V> implements ModifiableSortedMap<
 
     @Override
     public boolean removeAll(final Map<? extends K, ? extends V> map) {
+        if (map == this) {
+            return removeAll(Map.of(map));
+        }
         boolean result = false;
         for (Entry<? extends K, ? extends V> e : map) {
             K key = e.key();
@@ -564,6 +589,7 @@ public final class ModifiableSortedTreeMap<K, V> implements ModifiableSortedMap<
         values.remove(value);
         size--;
         cachedArrayDirty = true;
+        modificationCount++;
     }
 
     @Override
@@ -610,10 +636,7 @@ public final class ModifiableSortedTreeMap<K, V> implements ModifiableSortedMap<
 
     @Override
     public Object[] toArray() {
-        if (cachedArrayDirty) {
-            cachedArray = SortedTree.uncompact(sortedTree.toArray(), cachedArray);
-            cachedArrayDirty = false;
-        }
+        refreshCachedArray();
         return cachedArray.clone();
     }
 
@@ -629,6 +652,8 @@ public final class ModifiableSortedTreeMap<K, V> implements ModifiableSortedMap<
         content.add(value);
         values.remove(oldValue);
         values.add(value);
+        cachedArrayDirty = true;
+        modificationCount++;
         return oldValue;
     }
 
@@ -650,6 +675,8 @@ public final class ModifiableSortedTreeMap<K, V> implements ModifiableSortedMap<
         content.add(newValue);
         values.remove(oldValue);
         values.add(newValue);
+        cachedArrayDirty = true;
+        modificationCount++;
         return true;
     }
 }
@@ -52,7 +52,7 @@ public final class SortedTreeCollection<E> implements SortedCollection<E> {
     public SortedTreeCollection(final Comparator<? super E> comparator, final Collection<? extends E> source) {
         this.comparator = comparator;
         this.elementCardinality = source.getElementCardinality();
-        this.elements = ArrayUtilities.quicksort(source.toArray(), comparator);
+        this.elements = ArrayUtilities.sort(source.toArray(), comparator);
         sortedTree = SortedTree.fromSortedElementArray(comparator, elementCardinality, this.elements);
         this.size = this.elements.length;
     }
@@ -81,10 +81,9 @@ public final class SortedTreeCollection<E> implements SortedCollection<E> {
         this.comparator = comparator;
         this.elementCardinality = elementCardinality;
         if (elementCardinality == DISTINCT_ELEMENTS) {
-            this.elements =
-                    ArrayUtilities.quicksort(ArrayUtilities.cloneDistinctElements(source.toArray()), comparator);
+            this.elements = ArrayUtilities.sortDistinctElements(source.toArray(), comparator);
         } else {
-            this.elements = ArrayUtilities.quicksort(source.toArray(), comparator);
+            this.elements = ArrayUtilities.sort(source.toArray(), comparator);
         }
         sortedTree = SortedTree.fromSortedElementArray(comparator, elementCardinality, this.elements);
         this.size = this.elements.length;
@@ -103,9 +102,9 @@ public final class SortedTreeCollection<E> implements SortedCollection<E> {
         this.comparator = comparator;
         this.elementCardinality = elementCardinality;
         if (elementCardinality == DISTINCT_ELEMENTS) {
-            this.elements = ArrayUtilities.quicksort(ArrayUtilities.cloneDistinctElements(elements), comparator);
+            this.elements = ArrayUtilities.sortDistinctElements(elements, comparator);
         } else {
-            this.elements = ArrayUtilities.quicksort(elements, comparator);
+            this.elements = ArrayUtilities.sort(elements, comparator);
         }
         sortedTree = SortedTree.fromSortedElementArray(comparator, elementCardinality, this.elements);
         this.size = this.elements.length;
@@ -141,10 +141,9 @@ public final class SortedTreeMap<K, V> implements SortedMap<K, V> {
         };
         this.keyAndValueCardinality = keyAndValueCardinality;
         if (keyAndValueCardinality == DISTINCT_KEYS) {
-            this.entries =
-                    ArrayUtilities.quicksort(ArrayUtilities.cloneDistinctElements(entries), entryByKeyComparator);
+            this.entries = ArrayUtilities.sortDistinctElements(entries, entryByKeyComparator);
         } else {
-            this.entries = ArrayUtilities.quicksort(entries, entryByKeyComparator);
+            this.entries = ArrayUtilities.sort(entries, entryByKeyComparator);
         }
         size = this.entries.length;
         sortedTree = SortedTree.fromSortedEntryArray(comparator, keyAndValueCardinality, this.entries, false);
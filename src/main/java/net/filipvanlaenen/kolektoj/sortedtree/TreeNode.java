@@ -27,6 +27,10 @@ class TreeNode<K, C> {
      * The right child of the node.
      */
     private TreeNode<K, C> rightChild;
+    /**
+     * The size of the node, i.e. the number of nodes in the subtree defined by the node, including the node itself.
+     */
+    private int size;
 
     /**
      * Constructor taking the key as its parameter. Sets the content to <code>null</code>.
@@ -47,6 +51,7 @@ class TreeNode<K, C> {
         this.key = key;
         this.content = content;
         height = 1;
+        size = 1;
     }
 
     /**
@@ -118,7 +123,7 @@ class TreeNode<K, C> {
      * @return The size of the node.
      */
     int getSize() {
-        return 1 + (leftChild == null ? 0 : leftChild.getSize()) + (rightChild == null ? 0 : rightChild.getSize());
+        return size;
     }
 
     /**
@@ -146,6 +151,7 @@ class TreeNode<K, C> {
      */
     void setLeftChild(final TreeNode<K, C> leftChild) {
         this.leftChild = leftChild;
+        updateSize();
     }
 
     /**
@@ -155,5 +161,14 @@ class TreeNode<K, C> {
      */
     void setRightChild(final TreeNode<K, C> rightChild) {
         this.rightChild = rightChild;
+        updateSize();
+    }
+
+    /**
+     * Updates the size of the node based on the sizes of its children. Since the children are always attached after
+     * their own subtrees have been completed, the size is kept up to date without having to traverse the subtree.
+     */
+    private void updateSize() {
+        size = 1 + (leftChild == null ? 0 : leftChild.size) + (rightChild == null ? 0 : rightChild.size);
     }
 }
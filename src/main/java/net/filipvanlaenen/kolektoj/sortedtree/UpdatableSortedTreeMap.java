@@ -17,9 +17,9 @@ import net.filipvanlaenen.kolektoj.OrderedCollection;
 import net.filipvanlaenen.kolektoj.SortedCollection;
 import net.filipvanlaenen.kolektoj.UpdatableSortedMap;
 import net.filipvanlaenen.kolektoj.array.ArrayCollection;
-import net.filipvanlaenen.kolektoj.array.ArrayIterator;
 import net.filipvanlaenen.kolektoj.array.ArraySpliterator;
 import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
+import net.filipvanlaenen.kolektoj.array.FailFastArrayIterator;
 import net.filipvanlaenen.kolektoj.array.ModifiableArrayCollection;
 import net.filipvanlaenen.kolektoj.array.ModifiableOrderedArrayCollection;
 import net.filipvanlaenen.kolektoj.sortedtree.SortedTree.TreeNodesBelowAtAndAbove;
@@ -56,6 +56,10 @@ public final class UpdatableSortedTreeMap<K, V> implements UpdatableSortedMap<K,
      * A sorted collection with the keys.
      */
     private final SortedCollection<K> keys;
+    /**
+     * The number of modifications of the map, allowing the iterators to fail fast.
+     */
+    private int modificationCount;
     /**
      * The size of the collection.
      */
@@ -144,10 +148,10 @@ public final class UpdatableSortedTreeMap<K, V> implements UpdatableSortedMap<K,
         };
         this.keyAndValueCardinality = keyAndValueCardinality;
         if (keyAndValueCardinality == DISTINCT_KEYS) {
-            cachedArray = ArrayUtilities.quicksort(ArrayUtilities.cloneDistinctElements(entries), entryByKeyComparator);
+            cachedArray = ArrayUtilities.sortDistinctElements(entries, entryByKeyComparator);
             cachedArrayDirty = cachedArray.length != entries.length;
         } else {
-            cachedArray = ArrayUtilities.quicksort(entries, entryByKeyComparator);
+            cachedArray = ArrayUtilities.sort(entries, entryByKeyComparator);
             cachedArrayDirty = false;
         }
         size = this.cachedArray.length;
@@ -409,7 +413,18 @@ public final class UpdatableSortedTreeMap<K, V> implements UpdatableSortedMap<K,
 
     @Override
     public Iterator<Entry<K, V>> iterator() {
-        return new ArrayIterator<Entry<K, V>>(toArray());
+        refreshCachedArray();
+        return new FailFastArrayIterator<Entry<K, V>>(cachedArray, cachedArray.length, () -> modificationCount);
+    }
+
+    /**
+     * Refreshes the cached array if it's dirty.
+     */
+    private void refreshCachedArray() {
+        if (cachedArrayDirty) {
+            cachedArray = SortedTree.uncompact(sortedTree.toArray(), cachedArray);
+            cachedArrayDirty = false;
+        }
     }
 
     @Override
@@ -426,10 +441,7 @@ public final class UpdatableSortedTreeMap<K, V> implements UpdatableSortedMap<K,
 
     @Override
     public Object[] toArray() {
-        if (cachedArrayDirty) {
-            cachedArray = SortedTree.uncompact(sortedTree.toArray(), cachedArray);
-            cachedArrayDirty = false;
-        }
+        refreshCachedArray();
         return cachedArray.clone();
     }
 
@@ -445,6 +457,8 @@ public final class UpdatableSortedTreeMap<K, V> implements UpdatableSortedMap<K,
         content.add(value);
         values.remove(oldValue);
         values.add(value);
+        cachedArrayDirty = true;
+        modificationCount++;
         return oldValue;
     }
 
@@ -466,6 +480,8 @@ public final class UpdatableSortedTreeMap<K, V> implements UpdatableSortedMap<K,
         content.add(newValue);
         values.remove(oldValue);
         values.add(newValue);
+        cachedArrayDirty = true;
+        modificationCount++;
         return true;
     }
 }
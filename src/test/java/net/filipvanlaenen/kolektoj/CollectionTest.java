@@ -144,4 +144,15 @@ public class CollectionTest {
         Integer[] expected = new Integer[] {1, null};
         assertArrayEquals(expected, actual);
     }
+
+    /**
+     * Verifies that unionOf with distinct elements contains every element of the collections once.
+     */
+    @Test
+    public void unionOfShouldContainEveryElementOnceWithDistinctElements() {
+        Collection<Integer> union = Collection.<Integer>unionOf(DISTINCT_ELEMENTS, Collection.of(1, 2),
+                Collection.of(2, THREE));
+        assertEquals(THREE, union.size());
+        assertTrue(union.containsAll(Collection.of(1, 2, THREE)));
+    }
 }
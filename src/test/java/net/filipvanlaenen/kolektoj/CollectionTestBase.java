@@ -343,4 +343,13 @@ public abstract class CollectionTestBase<T extends Collection<Integer>,
     public void streamShouldProduceAStreamThatCollectsToTheCorrectSum() {
         assertEquals(SIX, collection123.stream().reduce(0, Integer::sum));
     }
+
+    /**
+     * Verifies that the collection produces a parallel stream that collects to the correct sum, thus verifying that
+     * the spliterator splits correctly.
+     */
+    @Test
+    public void parallelStreamShouldProduceAStreamThatCollectsToTheCorrectSum() {
+        assertEquals(SIX, collection123.stream().parallel().reduce(0, Integer::sum));
+    }
 }
@@ -0,0 +1,798 @@
+package net.filipvanlaenen.kolektoj;
+
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DISTINCT_ELEMENTS;
+import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DISTINCT_KEYS;
+import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DUPLICATE_KEYS_WITH_DUPLICATE_VALUES;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntToLongFunction;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
+import net.filipvanlaenen.kolektoj.array.ModifiableArrayCollection;
+import net.filipvanlaenen.kolektoj.array.SortedArrayCollection;
+import net.filipvanlaenen.kolektoj.array.SortedArrayMap;
+import net.filipvanlaenen.kolektoj.hash.HashCollection;
+import net.filipvanlaenen.kolektoj.hash.HashMap;
+import net.filipvanlaenen.kolektoj.hash.ModifiableHashCollection;
+import net.filipvanlaenen.kolektoj.hash.ModifiableHashMap;
+import net.filipvanlaenen.kolektoj.hash.ProbingStrategy;
+import net.filipvanlaenen.kolektoj.hash.UpdatableHashMap;
+import net.filipvanlaenen.kolektoj.hash.ValueIndexing;
+import net.filipvanlaenen.kolektoj.sortedtree.ModifiableSortedTreeCollection;
+import net.filipvanlaenen.kolektoj.sortedtree.ModifiableSortedTreeMap;
+import net.filipvanlaenen.kolektoj.sortedtree.SortedTreeCollection;
+import net.filipvanlaenen.kolektoj.sortedtree.SortedTreeMap;
+
+/**
+ * Asymptotic-complexity regression tests on the implementations of the collections and maps. Each test measures the
+ * cost of an operation on a small and a large input by counting the calls to <code>equals</code> or
+ * <code>compare</code>, and verifies that the growth of the cost doesn't exceed the growth allowed by the documented
+ * bound for the operation. Counting rather than timing keeps the tests deterministic; operations that don't compare
+ * elements are covered by the benchmarks module instead.
+ */
+public class ComplexityTest {
+    /**
+     * The size of the small input.
+     */
+    private static final int SMALL_SIZE = 1_000;
+    /**
+     * The size of the large input.
+     */
+    private static final int LARGE_SIZE = 16_000;
+    /**
+     * The number of probes used to measure the cost of an operation.
+     */
+    private static final int NUMBER_OF_PROBES = 500;
+    /**
+     * The factor by which the measured growth may exceed the growth allowed by the bound when calls are counted.
+     */
+    private static final double COUNTING_TOLERANCE = 2D;
+    /**
+     * The seed for the random number generator, such that the tests are reproducible.
+     */
+    private static final long SEED = 20_240_101L;
+
+    /**
+     * Enumeration with the bounds for the asymptotic complexity of an operation.
+     */
+    private enum Bound {
+        /**
+         * Constant time.
+         */
+        CONSTANT(n -> 1D),
+        /**
+         * Logarithmic time.
+         */
+        LOGARITHMIC(n -> Math.log(n)),
+        /**
+         * Linear time.
+         */
+        LINEAR(n -> n),
+        /**
+         * Linearithmic time.
+         */
+        LINEARITHMIC(n -> n * Math.log(n));
+
+        /**
+         * The function describing the bound.
+         */
+        private final DoubleUnaryOperator function;
+
+        /**
+         * Constructor taking the function describing the bound as its parameter.
+         *
+         * @param function The function describing the bound.
+         */
+        Bound(final DoubleUnaryOperator function) {
+            this.function = function;
+        }
+
+        /**
+         * Returns the growth allowed by the bound when the size grows from the small size to the large size.
+         *
+         * @param smallSize The small size.
+         * @param largeSize The large size.
+         * @return The growth allowed by the bound.
+         */
+        double growth(final int smallSize, final int largeSize) {
+            return function.applyAsDouble(largeSize) / function.applyAsDouble(smallSize);
+        }
+    }
+
+    /**
+     * A comparator for integers counting the number of times it's called.
+     */
+    private static final class CountingComparator implements Comparator<Integer> {
+        /**
+         * The number of times the comparator has been called.
+         */
+        private long count;
+
+        @Override
+        public int compare(final Integer i1, final Integer i2) {
+            count++;
+            return Integer.compare(i1, i2);
+        }
+
+        /**
+         * Returns the number of times the comparator has been called since the last reset.
+         *
+         * @return The number of times the comparator has been called.
+         */
+        long getCount() {
+            return count;
+        }
+
+        /**
+         * Resets the counter.
+         */
+        void reset() {
+            count = 0L;
+        }
+    }
+
+    /**
+     * A comparable element wrapping an integer with a hash code that is the same for all elements, counting the number
+     * of times <code>equals</code> and <code>compareTo</code> are called on it, using a counter shared by all elements
+     * of the same input.
+     */
+    private static final class CollidingCountingElement implements Comparable<CollidingCountingElement> {
+        /**
+         * The counter shared by all elements of the same input.
+         */
+        private final long[] counter;
+        /**
+         * The value of the element.
+         */
+        private final int value;
+
+        /**
+         * Constructor taking the value and the shared counter as its parameters.
+         *
+         * @param value   The value of the element.
+         * @param counter The counter shared by all elements of the same input.
+         */
+        CollidingCountingElement(final int value, final long[] counter) {
+            this.value = value;
+            this.counter = counter;
+        }
+
+        @Override
+        public int compareTo(final CollidingCountingElement other) {
+            counter[0]++;
+            return Integer.compare(value, other.value);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            counter[0]++;
+            return other instanceof CollidingCountingElement && value == ((CollidingCountingElement) other).value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    /**
+     * An element wrapping an integer that counts the number of times <code>equals</code> is called on it, using a
+     * counter shared by all elements of the same input.
+     */
+    private static final class CountingElement {
+        /**
+         * The counter shared by all elements of the same input.
+         */
+        private final long[] counter;
+        /**
+         * The value of the element.
+         */
+        private final int value;
+
+        /**
+         * Constructor taking the value and the shared counter as its parameters.
+         *
+         * @param value   The value of the element.
+         * @param counter The counter shared by all elements of the same input.
+         */
+        CountingElement(final int value, final long[] counter) {
+            this.value = value;
+            this.counter = counter;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            counter[0]++;
+            return other instanceof CountingElement && value == ((CountingElement) other).value;
+        }
+
+        @Override
+        public int hashCode() {
+            return value;
+        }
+    }
+
+    /**
+     * Asserts that the growth of the cost of an operation between the small and the large size doesn't exceed the
+     * growth allowed by the bound, using the counting tolerance.
+     *
+     * @param bound       The bound for the operation.
+     * @param measurement A function returning the cost of the operation for a given size.
+     */
+    private static void assertCountedGrowthWithinBound(final Bound bound, final IntToLongFunction measurement) {
+        assertGrowthWithinBound(bound, measurement, SMALL_SIZE, LARGE_SIZE, COUNTING_TOLERANCE);
+    }
+
+    /**
+     * Asserts that the growth of the cost of an operation between a small and a large size doesn't exceed the growth
+     * allowed by the bound.
+     *
+     * @param bound       The bound for the operation.
+     * @param measurement A function returning the cost of the operation for a given size.
+     * @param smallSize   The small size.
+     * @param largeSize   The large size.
+     * @param tolerance   The factor by which the measured growth may exceed the growth allowed by the bound.
+     */
+    private static void assertGrowthWithinBound(final Bound bound, final IntToLongFunction measurement,
+            final int smallSize, final int largeSize, final double tolerance) {
+        long smallCost = Math.max(1L, measurement.applyAsLong(smallSize));
+        long largeCost = Math.max(1L, measurement.applyAsLong(largeSize));
+        double measuredGrowth = (double) largeCost / smallCost;
+        double allowedGrowth = bound.growth(smallSize, largeSize) * tolerance;
+        assertTrue(measuredGrowth <= allowedGrowth, "The cost grew from " + smallCost + " to " + largeCost
+                + ", a factor " + measuredGrowth + ", but the bound " + bound + " allows at most " + allowedGrowth
+                + ".");
+    }
+
+    /**
+     * Creates an array with counting elements with the values from zero to the size (exclusive) in a random order.
+     *
+     * @param size    The number of elements.
+     * @param counter The counter to be shared by the elements.
+     * @return An array with counting elements.
+     */
+    private static CountingElement[] createCountingElements(final int size, final long[] counter) {
+        Integer[] values = createShuffledIntegers(size);
+        CountingElement[] elements = new CountingElement[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = new CountingElement(values[i], counter);
+        }
+        return elements;
+    }
+
+    /**
+     * Creates an array with entries mapping counting elements to their values.
+     *
+     * @param size    The number of entries.
+     * @param counter The counter to be shared by the keys.
+     * @return An array with entries.
+     */
+    private static Entry<CountingElement, Integer>[] createCountingEntries(final int size, final long[] counter) {
+        CountingElement[] elements = createCountingElements(size, counter);
+        Entry<CountingElement, Integer>[] entries = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry<CountingElement, Integer>(elements[i], elements[i].value);
+        }
+        return entries;
+    }
+
+    /**
+     * Creates an array with entries mapping integers to themselves, in a random order.
+     *
+     * @param size The number of entries.
+     * @return An array with entries.
+     */
+    private static Entry<Integer, Integer>[] createIntegerEntries(final int size) {
+        Integer[] integers = createShuffledIntegers(size);
+        Entry<Integer, Integer>[] entries = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry<Integer, Integer>(integers[i], integers[i]);
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the value of the probe with the given index, such that the probes are spread evenly over the values from
+     * zero to the size (exclusive).
+     *
+     * @param size  The size.
+     * @param index The index of the probe.
+     * @return The value of the probe.
+     */
+    private static int createProbe(final int size, final int index) {
+        return (int) ((long) index * size / NUMBER_OF_PROBES);
+    }
+
+    /**
+     * Creates an array with the integers from zero to the size (exclusive) in a random order.
+     *
+     * @param size The number of integers.
+     * @return An array with the integers from zero to the size (exclusive) in a random order.
+     */
+    private static Integer[] createShuffledIntegers(final int size) {
+        Integer[] integers = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            integers[i] = i;
+        }
+        Random random = new Random(SEED);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer integer = integers[i];
+            integers[i] = integers[j];
+            integers[j] = integer;
+        }
+        return integers;
+    }
+
+    /**
+     * Verifies that <code>contains</code> on a hash collection runs in constant time.
+     */
+    @Test
+    public void containsOnHashCollectionShouldRunInConstantTime() {
+        assertCountedGrowthWithinBound(Bound.CONSTANT, size -> {
+            long[] counter = new long[1];
+            HashCollection<CountingElement> collection =
+                    new HashCollection<CountingElement>(createCountingElements(size, counter));
+            counter[0] = 0L;
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                collection.contains(new CountingElement(createProbe(size, i), counter));
+                collection.contains(new CountingElement(size + i, counter));
+            }
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that <code>containsAll</code> on a hash collection runs in linear time when the other collection has as
+     * many elements as the hash collection.
+     */
+    @Test
+    public void containsAllOnHashCollectionShouldRunInLinearTime() {
+        assertCountedGrowthWithinBound(Bound.LINEAR, size -> {
+            long[] counter = new long[1];
+            HashCollection<CountingElement> collection =
+                    new HashCollection<CountingElement>(createCountingElements(size, counter));
+            Collection<CountingElement> subset = Collection.of(createCountingElements(size, counter));
+            counter[0] = 0L;
+            collection.containsAll(subset);
+            collection.containsSame(subset);
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that <code>get</code> on a hash map runs in constant time.
+     */
+    @Test
+    public void getOnHashMapShouldRunInConstantTime() {
+        assertCountedGrowthWithinBound(Bound.CONSTANT, size -> {
+            long[] counter = new long[1];
+            HashMap<CountingElement, Integer> map =
+                    new HashMap<CountingElement, Integer>(createCountingEntries(size, counter));
+            counter[0] = 0L;
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                map.get(new CountingElement(createProbe(size, i), counter));
+                map.containsKey(new CountingElement(size + i, counter));
+            }
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that <code>update</code> on an updatable hash map runs in constant time.
+     */
+    @Test
+    public void updateOnUpdatableHashMapShouldRunInConstantTime() {
+        assertCountedGrowthWithinBound(Bound.CONSTANT, size -> {
+            long[] counter = new long[1];
+            UpdatableHashMap<CountingElement, Integer> map =
+                    new UpdatableHashMap<CountingElement, Integer>(createCountingEntries(size, counter));
+            counter[0] = 0L;
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                map.update(new CountingElement(createProbe(size, i), counter), i);
+            }
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that <code>add</code> on a modifiable hash map runs in constant time.
+     */
+    @Test
+    public void addOnModifiableHashMapShouldRunInConstantTime() {
+        assertCountedGrowthWithinBound(Bound.CONSTANT, size -> {
+            long[] counter = new long[1];
+            ModifiableHashMap<CountingElement, Integer> map =
+                    new ModifiableHashMap<CountingElement, Integer>(createCountingEntries(size, counter));
+            counter[0] = 0L;
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                map.add(new CountingElement(size + i, counter), i);
+            }
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that <code>remove</code> on a modifiable hash map runs in constant time.
+     */
+    @Test
+    public void removeOnModifiableHashMapShouldRunInConstantTime() {
+        assertCountedGrowthWithinBound(Bound.CONSTANT, size -> {
+            long[] counter = new long[1];
+            ModifiableHashMap<CountingElement, Integer> map =
+                    new ModifiableHashMap<CountingElement, Integer>(createCountingEntries(size, counter));
+            counter[0] = 0L;
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                map.remove(new CountingElement(createProbe(size, i), counter));
+            }
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that <code>get</code>, <code>add</code> and <code>remove</code> on a modifiable hash map using control
+     * byte probing run in constant time.
+     */
+    @Test
+    public void getAddAndRemoveOnControlByteModifiableHashMapShouldRunInConstantTime() {
+        assertCountedGrowthWithinBound(Bound.CONSTANT, size -> {
+            long[] counter = new long[1];
+            ModifiableHashMap<CountingElement, Integer> map = new ModifiableHashMap<CountingElement, Integer>(
+                    ProbingStrategy.CONTROL_BYTE_PROBING, createCountingEntries(size, counter));
+            counter[0] = 0L;
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                map.get(new CountingElement(createProbe(size, i), counter));
+                map.add(new CountingElement(size + i, counter), i);
+                map.remove(new CountingElement(createProbe(size, i), counter));
+            }
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that <code>get</code> on a modifiable hash map using treeified chaining runs in logarithmic time when
+     * all keys have the same hash code.
+     */
+    @Test
+    public void getOnTreeifiedModifiableHashMapWithCollidingKeysShouldRunInLogarithmicTime() {
+        assertCountedGrowthWithinBound(Bound.LOGARITHMIC, size -> {
+            long[] counter = new long[1];
+            Integer[] values = createShuffledIntegers(size);
+            ModifiableHashMap<CollidingCountingElement, Integer> map =
+                    new ModifiableHashMap<CollidingCountingElement, Integer>(ProbingStrategy.TREEIFIED_CHAINING);
+            for (int i = 0; i < size; i++) {
+                map.add(new CollidingCountingElement(values[i], counter), values[i]);
+            }
+            counter[0] = 0L;
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                map.get(new CollidingCountingElement(createProbe(size, i), counter));
+                map.containsKey(new CollidingCountingElement(size + i, counter));
+            }
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that <code>containsValue</code> on a modifiable hash map with a value index runs in constant time, also
+     * after values have been updated.
+     */
+    @Test
+    public void containsValueOnValueIndexedModifiableHashMapShouldRunInConstantTime() {
+        assertCountedGrowthWithinBound(Bound.CONSTANT, size -> {
+            long[] counter = new long[1];
+            CountingElement[] values = createCountingElements(size, counter);
+            Entry<Integer, CountingElement>[] entries = new Entry[size];
+            for (int i = 0; i < size; i++) {
+                entries[i] = new Entry<Integer, CountingElement>(values[i].value, values[i]);
+            }
+            ModifiableHashMap<Integer, CountingElement> map = new ModifiableHashMap<Integer, CountingElement>(
+                    ProbingStrategy.LINEAR_PROBING, DISTINCT_KEYS, ValueIndexing.VALUE_INDEX, entries);
+            counter[0] = 0L;
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                int probe = createProbe(size, i);
+                map.containsValue(new CountingElement(probe, counter));
+                map.update(probe, new CountingElement(size + i, counter));
+                map.containsValue(new CountingElement(size + i, counter));
+            }
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that <code>containsKey</code> and <code>getAll</code> on a modifiable hash map with duplicate keys run
+     * in constant time for the other keys when one key has as many values as the map has keys, i.e. that the lookups
+     * of the other keys don't call <code>equals</code> on the heavy key once for each of its values.
+     */
+    @Test
+    public void containsKeyAndGetAllOnModifiableHashMapWithHeavyKeyShouldRunInConstantTime() {
+        assertCountedGrowthWithinBound(Bound.CONSTANT, size -> {
+            long[] counter = new long[1];
+            ModifiableHashMap<CountingElement, Integer> map = new ModifiableHashMap<CountingElement, Integer>(
+                    DUPLICATE_KEYS_WITH_DUPLICATE_VALUES, createCountingEntries(size, counter));
+            CountingElement heavyKey = new CountingElement(-1, counter);
+            for (int i = 0; i < size; i++) {
+                map.add(heavyKey, i);
+            }
+            counter[0] = 0L;
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                map.getAll(new CountingElement(createProbe(size, i), counter));
+                map.containsKey(new CountingElement(size + i, counter));
+            }
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that <code>add</code>, <code>contains</code> and <code>remove</code> on a modifiable hash collection run
+     * in constant time.
+     */
+    @Test
+    public void addContainsAndRemoveOnModifiableHashCollectionShouldRunInConstantTime() {
+        assertCountedGrowthWithinBound(Bound.CONSTANT, size -> {
+            long[] counter = new long[1];
+            ModifiableHashCollection<CountingElement> collection =
+                    new ModifiableHashCollection<CountingElement>(createCountingElements(size, counter));
+            counter[0] = 0L;
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                collection.add(new CountingElement(size + i, counter));
+                collection.contains(new CountingElement(createProbe(size, i), counter));
+                collection.remove(new CountingElement(createProbe(size, i), counter));
+            }
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that filling a modifiable array collection with distinct elements, adding them all again and retaining
+     * them all runs in linear time.
+     */
+    @Test
+    public void fillingDistinctModifiableArrayCollectionShouldRunInLinearTime() {
+        assertCountedGrowthWithinBound(Bound.LINEAR, size -> {
+            long[] counter = new long[1];
+            CountingElement[] elements = createCountingElements(size, counter);
+            ModifiableArrayCollection<CountingElement> collection =
+                    new ModifiableArrayCollection<CountingElement>(DISTINCT_ELEMENTS);
+            for (CountingElement element : elements) {
+                collection.add(element);
+            }
+            ModifiableArrayCollection<CountingElement> copy = new ModifiableArrayCollection<CountingElement>(elements);
+            collection.addAll(copy);
+            collection.retainAll(copy);
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that <code>contains</code> and <code>indexOf</code> on a sorted array collection run in logarithmic
+     * time.
+     */
+    @Test
+    public void containsAndIndexOfOnSortedArrayCollectionShouldRunInLogarithmicTime() {
+        assertCountedGrowthWithinBound(Bound.LOGARITHMIC, size -> {
+            CountingComparator comparator = new CountingComparator();
+            SortedArrayCollection<Integer> collection =
+                    new SortedArrayCollection<Integer>(comparator, createShuffledIntegers(size));
+            comparator.reset();
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                collection.contains(createProbe(size, i));
+                collection.contains(size + i);
+                collection.indexOf(createProbe(size, i));
+            }
+            return comparator.getCount();
+        });
+    }
+
+    /**
+     * Verifies that <code>getGreaterThan</code> and <code>getLessThan</code> on a sorted array collection run in
+     * logarithmic time.
+     */
+    @Test
+    public void getGreaterThanAndGetLessThanOnSortedArrayCollectionShouldRunInLogarithmicTime() {
+        assertCountedGrowthWithinBound(Bound.LOGARITHMIC, size -> {
+            CountingComparator comparator = new CountingComparator();
+            SortedArrayCollection<Integer> collection =
+                    new SortedArrayCollection<Integer>(comparator, createShuffledIntegers(size));
+            comparator.reset();
+            for (int i = 1; i < NUMBER_OF_PROBES; i++) {
+                collection.getGreaterThan(createProbe(size, i) - 1);
+                collection.getLessThan(createProbe(size, i));
+            }
+            return comparator.getCount();
+        });
+    }
+
+    /**
+     * Verifies that <code>containsKey</code> and <code>get</code> on a sorted array map run in logarithmic time.
+     */
+    @Test
+    public void containsKeyAndGetOnSortedArrayMapShouldRunInLogarithmicTime() {
+        assertCountedGrowthWithinBound(Bound.LOGARITHMIC, size -> {
+            CountingComparator comparator = new CountingComparator();
+            SortedArrayMap<Integer, Integer> map =
+                    new SortedArrayMap<Integer, Integer>(comparator, createIntegerEntries(size));
+            comparator.reset();
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                map.containsKey(size + i);
+                map.get(createProbe(size, i));
+            }
+            return comparator.getCount();
+        });
+    }
+
+    /**
+     * Verifies that <code>contains</code> and <code>indexOf</code> on a sorted tree collection run in logarithmic
+     * time.
+     */
+    @Test
+    public void containsAndIndexOfOnSortedTreeCollectionShouldRunInLogarithmicTime() {
+        assertCountedGrowthWithinBound(Bound.LOGARITHMIC, size -> {
+            CountingComparator comparator = new CountingComparator();
+            SortedTreeCollection<Integer> collection =
+                    new SortedTreeCollection<Integer>(comparator, createShuffledIntegers(size));
+            comparator.reset();
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                collection.contains(createProbe(size, i));
+                collection.contains(size + i);
+                collection.indexOf(createProbe(size, i));
+            }
+            return comparator.getCount();
+        });
+    }
+
+    /**
+     * Verifies that <code>add</code> and <code>remove</code> on a modifiable sorted tree collection run in logarithmic
+     * time.
+     */
+    @Test
+    public void addAndRemoveOnModifiableSortedTreeCollectionShouldRunInLogarithmicTime() {
+        assertCountedGrowthWithinBound(Bound.LOGARITHMIC, size -> {
+            CountingComparator comparator = new CountingComparator();
+            ModifiableSortedTreeCollection<Integer> collection =
+                    new ModifiableSortedTreeCollection<Integer>(comparator, createShuffledIntegers(size));
+            comparator.reset();
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                collection.remove(createProbe(size, i));
+                collection.add(size + i);
+            }
+            return comparator.getCount();
+        });
+    }
+
+    /**
+     * Verifies that <code>containsKey</code>, <code>get</code> and <code>getGreaterThanOrEqualTo</code> on a sorted
+     * tree map run in logarithmic time.
+     */
+    @Test
+    public void lookupsOnSortedTreeMapShouldRunInLogarithmicTime() {
+        assertCountedGrowthWithinBound(Bound.LOGARITHMIC, size -> {
+            CountingComparator comparator = new CountingComparator();
+            SortedTreeMap<Integer, Integer> map =
+                    new SortedTreeMap<Integer, Integer>(comparator, createIntegerEntries(size));
+            comparator.reset();
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                map.containsKey(size + i);
+                map.get(createProbe(size, i));
+                map.getGreaterThanOrEqualTo(createProbe(size, i));
+            }
+            return comparator.getCount();
+        });
+    }
+
+    /**
+     * Verifies that <code>add</code> and <code>remove</code> on a modifiable sorted tree map run in logarithmic time.
+     */
+    @Test
+    public void addAndRemoveOnModifiableSortedTreeMapShouldRunInLogarithmicTime() {
+        assertCountedGrowthWithinBound(Bound.LOGARITHMIC, size -> {
+            CountingComparator comparator = new CountingComparator();
+            ModifiableSortedTreeMap<Integer, Integer> map =
+                    new ModifiableSortedTreeMap<Integer, Integer>(comparator, createIntegerEntries(size));
+            comparator.reset();
+            for (int i = 0; i < NUMBER_OF_PROBES; i++) {
+                map.remove(createProbe(size, i));
+                map.add(size + i, i);
+            }
+            return comparator.getCount();
+        });
+    }
+
+    /**
+     * Verifies that the construction of a sorted tree collection runs in linearithmic time.
+     */
+    @Test
+    public void constructionOfSortedTreeCollectionShouldRunInLinearithmicTime() {
+        assertCountedGrowthWithinBound(Bound.LINEARITHMIC, size -> {
+            CountingComparator comparator = new CountingComparator();
+            new SortedTreeCollection<Integer>(comparator, createShuffledIntegers(size));
+            return comparator.getCount();
+        });
+    }
+
+    /**
+     * Verifies that sorting an array runs in linearithmic time.
+     */
+    @Test
+    public void sortingShouldRunInLinearithmicTime() {
+        assertCountedGrowthWithinBound(Bound.LINEARITHMIC, size -> {
+            CountingComparator comparator = new CountingComparator();
+            ArrayUtilities.sort(createShuffledIntegers(size), comparator);
+            return comparator.getCount();
+        });
+    }
+
+    /**
+     * Verifies that sorting an array that is already sorted runs in linear time.
+     */
+    @Test
+    public void sortingASortedArrayShouldRunInLinearTime() {
+        assertCountedGrowthWithinBound(Bound.LINEAR, size -> {
+            CountingComparator comparator = new CountingComparator();
+            Integer[] integers = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                integers[i] = i;
+            }
+            ArrayUtilities.sort(integers, comparator);
+            return comparator.getCount();
+        });
+    }
+
+    /**
+     * Verifies that sorting an array that is reverse-sorted runs in linear time.
+     */
+    @Test
+    public void sortingAReverseSortedArrayShouldRunInLinearTime() {
+        assertCountedGrowthWithinBound(Bound.LINEAR, size -> {
+            CountingComparator comparator = new CountingComparator();
+            Integer[] integers = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                integers[i] = size - i;
+            }
+            ArrayUtilities.sort(integers, comparator);
+            return comparator.getCount();
+        });
+    }
+
+    /**
+     * Verifies that cloning the distinct elements of an array runs in linear time. Every element occurs twice, such
+     * that every second occurrence has to be compared to the first one.
+     */
+    @Test
+    public void cloneDistinctElementsShouldRunInLinearTime() {
+        assertCountedGrowthWithinBound(Bound.LINEAR, size -> {
+            long[] counter = new long[1];
+            CountingElement[] elements = createCountingElements(size, counter);
+            CountingElement[] doubledElements = new CountingElement[2 * size];
+            for (int i = 0; i < size; i++) {
+                doubledElements[i] = elements[i];
+                doubledElements[size + i] = new CountingElement(elements[i].value, counter);
+            }
+            ArrayUtilities.cloneDistinctElements(doubledElements);
+            return counter[0];
+        });
+    }
+
+    /**
+     * Verifies that sorting the distinct elements of an array runs in linearithmic time.
+     */
+    @Test
+    public void sortDistinctElementsShouldRunInLinearithmicTime() {
+        assertCountedGrowthWithinBound(Bound.LINEARITHMIC, size -> {
+            CountingComparator comparator = new CountingComparator();
+            Integer[] integers = createShuffledIntegers(size);
+            Object[] doubledIntegers = new Object[2 * size];
+            for (int i = 0; i < size; i++) {
+                doubledIntegers[i] = integers[i];
+                doubledIntegers[size + i] = integers[size - 1 - i];
+            }
+            ArrayUtilities.sortDistinctElements(doubledIntegers, comparator);
+            return comparator.getCount();
+        });
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import net.filipvanlaenen.kolektoj.Collection.ElementCardinality;
 import net.filipvanlaenen.kolektoj.Map.Entry;
 import net.filipvanlaenen.kolektoj.hash.HashMap;
+import net.filipvanlaenen.kolektoj.hash.ProbingStrategy;
 
 /**
  * Unit tests on the {@link net.filipvanlaenen.kolektoj.Map} class.
@@ -34,6 +35,29 @@ public class MapTest {
         assertTrue(Map.empty().isEmpty());
     }
 
+    /**
+     * Verifies that the probing strategy is passed on to the map.
+     */
+    @Test
+    public void ofShouldConstructAMapWithTheProbingStrategy() {
+        HashMap<Integer, String> actual = (HashMap<Integer, String>) Map.<Integer, String>of(
+                ProbingStrategy.ROBIN_HOOD_HASHING, new Entry<Integer, String>(1, "one"));
+        assertEquals(ProbingStrategy.ROBIN_HOOD_HASHING, actual.getProbingStrategy());
+        assertEquals("one", actual.get(1));
+    }
+
+    /**
+     * Verifies that the probing strategy and the key and value cardinality are passed on to the map.
+     */
+    @Test
+    public void ofShouldConstructAMapWithTheProbingStrategyAndKeyAndValueCardinality() {
+        HashMap<Integer, String> actual = (HashMap<Integer, String>) Map.<Integer, String>of(
+                ProbingStrategy.ROBIN_HOOD_HASHING, DUPLICATE_KEYS_WITH_DUPLICATE_VALUES,
+                new Entry<Integer, String>(1, "one"), new Entry<Integer, String>(1, "one"));
+        assertEquals(ProbingStrategy.ROBIN_HOOD_HASHING, actual.getProbingStrategy());
+        assertEquals(2, actual.size());
+    }
+
     /**
      * Verifies that a map containing an element is not empty.
      */
@@ -179,4 +203,14 @@ public class MapTest {
     public void getWithDefaultValueShouldReturnDefaultValueWhenKeyIsAbsent() {
         assertNull(Map.of(1, "one").get(2, null));
     }
+
+    /**
+     * Verifies that unionOf with distinct keys keeps the first entry for every key.
+     */
+    @Test
+    public void unionOfShouldKeepTheFirstEntryForEveryKey() {
+        Map<Integer, String> union = Map.<Integer, String>unionOf(Map.of(1, "one", 2, "two"), Map.of(2, "zwei"));
+        assertEquals(2, union.size());
+        assertEquals("two", union.get(2));
+    }
 }
@@ -1,6 +1,7 @@
 package net.filipvanlaenen.kolektoj;
 
 import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DISTINCT_ELEMENTS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -24,6 +25,25 @@ public class ModifiableCollectionTest {
         assertTrue(ModifiableCollection.empty().isEmpty());
     }
 
+    /**
+     * Verifies that a collection with an expected size is empty.
+     */
+    @Test
+    public void withExpectedSizeShouldConstructAnEmptyCollection() {
+        assertTrue(ModifiableCollection.withExpectedSize(2).isEmpty());
+    }
+
+    /**
+     * Verifies that the element cardinality is passed on to a collection with an expected size.
+     */
+    @Test
+    public void withExpectedSizeShouldConstructACollectionWithTheElementCardinality() {
+        ModifiableCollection<Integer> collection = ModifiableCollection.<Integer>withExpectedSize(DISTINCT_ELEMENTS, 2);
+        collection.add(1);
+        assertFalse(collection.add(1));
+        assertEquals(DISTINCT_ELEMENTS, collection.getElementCardinality());
+    }
+
     /**
      * Verifies that a collection containing an element is not empty.
      */
@@ -32,6 +52,17 @@ public class ModifiableCollectionTest {
         assertFalse(ModifiableCollection.of(1).isEmpty());
     }
 
+    /**
+     * Verifies that the of factory method returns a collection keeping the elements in the order in which they were
+     * added, which other factory methods, like the intersection, rely on.
+     */
+    @Test
+    public void ofShouldKeepTheOrderOfTheElements() {
+        ModifiableCollection<Integer> collection = ModifiableCollection.of(THREE, 1, 2);
+        collection.add(0);
+        assertArrayEquals(new Integer[] {THREE, 1, 2, 0}, collection.toArray());
+    }
+
     /**
      * Verifies that a modifiable collection with a specific element cardinality receives that element cardinality.
      */
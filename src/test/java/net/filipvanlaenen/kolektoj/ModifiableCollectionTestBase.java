@@ -367,6 +367,46 @@ public abstract class ModifiableCollectionTestBase<T extends ModifiableCollectio
         assertTrue(collection.isEmpty());
     }
 
+    /**
+     * Verifies that removing all the elements of a collection from itself makes the collection empty.
+     */
+    @Test
+    public void removeAllWithItselfShouldMakeCollectionEmpty() {
+        ModifiableCollection<Integer> collection = createCollection123();
+        assertTrue(collection.removeAll(collection));
+        assertTrue(collection.isEmpty());
+    }
+
+    /**
+     * Verifies that adding all the elements of a collection with duplicate elements to itself doubles its size.
+     */
+    @Test
+    public void addAllWithItselfShouldDoubleTheSizeOfACollectionWithDuplicateElements() {
+        ModifiableCollection<Integer> collection = createModifiableCollection(DUPLICATE_ELEMENTS, 1, 2);
+        assertTrue(collection.addAll(collection));
+        assertEquals(FOUR, collection.size());
+    }
+
+    /**
+     * Verifies that adding all the elements of a collection with distinct elements to itself returns false.
+     */
+    @Test
+    public void addAllWithItselfShouldReturnFalseForACollectionWithDistinctElements() {
+        ModifiableCollection<Integer> collection = createModifiableCollection(DISTINCT_ELEMENTS, 1, 2);
+        assertFalse(collection.addAll(collection));
+        assertEquals(2, collection.size());
+    }
+
+    /**
+     * Verifies that retaining all the elements of a collection in itself returns false and keeps the elements.
+     */
+    @Test
+    public void retainAllWithItselfShouldNotRemoveElements() {
+        ModifiableCollection<Integer> collection = createCollection123();
+        assertFalse(collection.retainAll(collection));
+        assertEquals(THREE, collection.size());
+    }
+
     /**
      * Verifies that when some elements are removed, removeAll returns true.
      */
@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
 import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.hash.ModifiableHashMap;
+import net.filipvanlaenen.kolektoj.hash.ProbingStrategy;
 
 /**
  * Unit tests on the {@link net.filipvanlaenen.kolektoj.ModifiableMap} class.
@@ -34,6 +36,50 @@ public class ModifiableMapTest {
         assertTrue(ModifiableMap.empty().isEmpty());
     }
 
+    /**
+     * Verifies that a map with an expected size is empty.
+     */
+    @Test
+    public void withExpectedSizeShouldConstructAnEmptyMap() {
+        assertTrue(ModifiableMap.withExpectedSize(FIVE).isEmpty());
+    }
+
+    /**
+     * Verifies that the key and value cardinality is passed on to a map with an expected size.
+     */
+    @Test
+    public void withExpectedSizeShouldConstructAMapWithTheKeyAndValueCardinality() {
+        ModifiableMap<Integer, String> map =
+                ModifiableMap.<Integer, String>withExpectedSize(DUPLICATE_KEYS_WITH_DUPLICATE_VALUES, FIVE);
+        map.add(1, "one");
+        map.add(1, "one");
+        assertEquals(DUPLICATE_KEYS_WITH_DUPLICATE_VALUES, map.getKeyAndValueCardinality());
+        assertEquals(2, map.size());
+    }
+
+    /**
+     * Verifies that the probing strategy is passed on to the map.
+     */
+    @Test
+    public void ofShouldConstructAMapWithTheProbingStrategy() {
+        ModifiableHashMap<Integer, String> actual = (ModifiableHashMap<Integer, String>) ModifiableMap
+                .<Integer, String>of(ProbingStrategy.ROBIN_HOOD_HASHING, new Entry<Integer, String>(1, "one"));
+        assertEquals(ProbingStrategy.ROBIN_HOOD_HASHING, actual.getProbingStrategy());
+        assertEquals("one", actual.get(1));
+    }
+
+    /**
+     * Verifies that the probing strategy and the key and value cardinality are passed on to the map.
+     */
+    @Test
+    public void ofShouldConstructAMapWithTheProbingStrategyAndKeyAndValueCardinality() {
+        ModifiableHashMap<Integer, String> actual = (ModifiableHashMap<Integer, String>) ModifiableMap
+                .<Integer, String>of(ProbingStrategy.ROBIN_HOOD_HASHING, DUPLICATE_KEYS_WITH_DUPLICATE_VALUES,
+                        new Entry<Integer, String>(1, "one"), new Entry<Integer, String>(1, "one"));
+        assertEquals(ProbingStrategy.ROBIN_HOOD_HASHING, actual.getProbingStrategy());
+        assertEquals(2, actual.size());
+    }
+
     /**
      * Verifies that a map containing an element is not empty.
      */
@@ -30,6 +30,26 @@ public class ModifiableOrderedCollectionTest {
         assertTrue(ModifiableOrderedCollection.empty().isEmpty());
     }
 
+    /**
+     * Verifies that a collection with an expected size is empty.
+     */
+    @Test
+    public void withExpectedSizeShouldConstructAnEmptyCollection() {
+        assertTrue(ModifiableOrderedCollection.withExpectedSize(2).isEmpty());
+    }
+
+    /**
+     * Verifies that the element cardinality is passed on to a collection with an expected size.
+     */
+    @Test
+    public void withExpectedSizeShouldConstructACollectionWithTheElementCardinality() {
+        ModifiableOrderedCollection<Integer> collection =
+                ModifiableOrderedCollection.<Integer>withExpectedSize(DISTINCT_ELEMENTS, 2);
+        collection.add(1);
+        assertFalse(collection.add(1));
+        assertEquals(DISTINCT_ELEMENTS, collection.getElementCardinality());
+    }
+
     /**
      * Verifies that a collection containing an element is not empty.
      */
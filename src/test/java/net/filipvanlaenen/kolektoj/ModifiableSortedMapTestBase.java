@@ -332,6 +332,47 @@ public abstract class ModifiableSortedMapTestBase<T extends ModifiableSortedMap<
         assertTrue(map.isEmpty());
     }
 
+    /**
+     * Verifies that removing all the entries of a map from itself makes the map empty.
+     */
+    @Test
+    public void removeAllWithItselfShouldMakeMapEmpty() {
+        T map = createMap123();
+        assertTrue(map.removeAll(map));
+        assertTrue(map.isEmpty());
+    }
+
+    /**
+     * Verifies that adding all the entries of a map with distinct keys to itself returns false.
+     */
+    @Test
+    public void addAllWithItselfShouldReturnFalseForAMapWithDistinctKeys() {
+        T map = createMap123();
+        assertFalse(map.addAll(map));
+        assertEquals(THREE, map.size());
+    }
+
+    /**
+     * Verifies that putting all the entries of a map into itself keeps the entries.
+     */
+    @Test
+    public void putAllWithItselfShouldKeepTheEntries() {
+        T map = createMap123();
+        map.putAll(map);
+        assertEquals(THREE, map.size());
+        assertEquals("one", map.get(1));
+    }
+
+    /**
+     * Verifies that retaining all the entries of a map in itself returns false and keeps the entries.
+     */
+    @Test
+    public void retainAllWithItselfShouldNotRemoveEntries() {
+        T map = createMap123();
+        assertFalse(map.retainAll(map));
+        assertEquals(THREE, map.size());
+    }
+
     /**
      * Verifies that when some entries are removed, removeAll returns true.
      */
@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.hash.ProbingStrategy;
+import net.filipvanlaenen.kolektoj.hash.UpdatableHashMap;
 
 /**
  * Unit tests on the {@link net.filipvanlaenen.kolektoj.UpdatableMap} class.
@@ -34,6 +36,29 @@ public class UpdatableMapTest {
         assertTrue(UpdatableMap.empty().isEmpty());
     }
 
+    /**
+     * Verifies that the probing strategy is passed on to the updatable map.
+     */
+    @Test
+    public void ofShouldConstructAnUpdatableMapWithTheProbingStrategy() {
+        UpdatableHashMap<Integer, String> actual = (UpdatableHashMap<Integer, String>) UpdatableMap
+                .<Integer, String>of(ProbingStrategy.CONTROL_BYTE_PROBING, new Entry<Integer, String>(1, "one"));
+        assertEquals(ProbingStrategy.CONTROL_BYTE_PROBING, actual.getProbingStrategy());
+        assertEquals("one", actual.get(1));
+    }
+
+    /**
+     * Verifies that the probing strategy and the key and value cardinality are passed on to the updatable map.
+     */
+    @Test
+    public void ofShouldConstructAnUpdatableMapWithTheProbingStrategyAndKeyAndValueCardinality() {
+        UpdatableHashMap<Integer, String> actual = (UpdatableHashMap<Integer, String>) UpdatableMap.<Integer, String>of(
+                ProbingStrategy.CONTROL_BYTE_PROBING, DUPLICATE_KEYS_WITH_DUPLICATE_VALUES,
+                new Entry<Integer, String>(1, "one"), new Entry<Integer, String>(1, "one"));
+        assertEquals(ProbingStrategy.CONTROL_BYTE_PROBING, actual.getProbingStrategy());
+        assertEquals(2, actual.size());
+    }
+
     /**
      * Verifies that an updatable map constructed with an entry contains that entry with the key and value.
      */
@@ -1,5 +1,12 @@
 package net.filipvanlaenen.kolektoj.array;
 
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DISTINCT_ELEMENTS;
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DUPLICATE_ELEMENTS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
 import net.filipvanlaenen.kolektoj.Collection.ElementCardinality;
 import net.filipvanlaenen.kolektoj.CollectionTestBase;
 import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
@@ -9,6 +16,11 @@ import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
  */
 public final class ArrayCollectionTest
         extends CollectionTestBase<ArrayCollection<Integer>, ArrayCollection<ElementWithCollidingHash>> {
+    /**
+     * The magic number three.
+     */
+    private static final int THREE = 3;
+
     @Override
     protected ArrayCollection<Integer> createCollection(final ArrayCollection<Integer> collection) {
         return new ArrayCollection<Integer>(collection);
@@ -36,4 +48,26 @@ public final class ArrayCollectionTest
             final ElementWithCollidingHash... elements) {
         return new ArrayCollection<ElementWithCollidingHash>(elements);
     }
+
+    /**
+     * Verifies that unionOf with duplicate elements contains all the elements of the collections.
+     */
+    @Test
+    public void unionOfShouldContainAllElementsWithDuplicateElements() {
+        ArrayCollection<Integer> union = ArrayCollection.<Integer>unionOf(DUPLICATE_ELEMENTS,
+                new ArrayCollection<Integer>(1, 2), new ArrayCollection<Integer>(2, THREE));
+        assertEquals(DUPLICATE_ELEMENTS, union.getElementCardinality());
+        assertArrayEquals(new Object[] {1, 2, 2, THREE}, union.toArray());
+    }
+
+    /**
+     * Verifies that unionOf with distinct elements contains every element of the collections once.
+     */
+    @Test
+    public void unionOfShouldContainEveryElementOnceWithDistinctElements() {
+        ArrayCollection<Integer> union = ArrayCollection.<Integer>unionOf(DISTINCT_ELEMENTS,
+                new ArrayCollection<Integer>(1, 2), new ArrayCollection<Integer>(2, THREE));
+        assertEquals(DISTINCT_ELEMENTS, union.getElementCardinality());
+        assertArrayEquals(new Object[] {1, 2, THREE}, union.toArray());
+    }
 }
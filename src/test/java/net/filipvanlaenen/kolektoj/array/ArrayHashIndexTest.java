@@ -0,0 +1,117 @@
+package net.filipvanlaenen.kolektoj.array;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.array.ArrayHashIndex} class.
+ */
+public class ArrayHashIndexTest {
+    /**
+     * The magic number three.
+     */
+    private static final int THREE = 3;
+    /**
+     * The magic number hundred.
+     */
+    private static final int HUNDRED = 100;
+
+    /**
+     * Creates an array with the integers from zero up to the given number.
+     *
+     * @param n The number of integers.
+     * @return An array with the integers from zero up to the given number.
+     */
+    private static Object[] createIntegers(final int n) {
+        Object[] integers = new Object[n];
+        for (int i = 0; i < n; i++) {
+            integers[i] = i;
+        }
+        return integers;
+    }
+
+    /**
+     * Verifies that the index built over an array returns the positions of the elements.
+     */
+    @Test
+    public void indexOfShouldReturnPositionOfElement() {
+        Object[] integers = createIntegers(HUNDRED);
+        ArrayHashIndex index = new ArrayHashIndex(integers, HUNDRED);
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i, index.indexOf(integers, i));
+        }
+    }
+
+    /**
+     * Verifies that the index returns -1 for an absent element.
+     */
+    @Test
+    public void indexOfShouldReturnMinusOneForAbsentElement() {
+        Object[] integers = createIntegers(HUNDRED);
+        ArrayHashIndex index = new ArrayHashIndex(integers, HUNDRED);
+        assertEquals(-1, index.indexOf(integers, HUNDRED));
+        assertEquals(-1, index.indexOf(integers, null));
+    }
+
+    /**
+     * Verifies that only the indexed part of the array is found.
+     */
+    @Test
+    public void indexOfShouldIgnoreElementsBeyondTheIndexedSize() {
+        Object[] integers = createIntegers(HUNDRED);
+        ArrayHashIndex index = new ArrayHashIndex(integers, THREE);
+        assertEquals(2, index.indexOf(integers, 2));
+        assertEquals(-1, index.indexOf(integers, THREE));
+    }
+
+    /**
+     * Verifies that positions added after construction are found, also after the index had to grow.
+     */
+    @Test
+    public void addShouldMakeElementsFindable() {
+        Object[] integers = createIntegers(HUNDRED);
+        ArrayHashIndex index = new ArrayHashIndex(integers, 1);
+        for (int i = 1; i < HUNDRED; i++) {
+            index.add(integers[i], i);
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i, index.indexOf(integers, i));
+        }
+    }
+
+    /**
+     * Verifies that a moved element is found at its new position.
+     */
+    @Test
+    public void moveShouldUpdateThePositionOfAnElement() {
+        Object[] integers = createIntegers(HUNDRED);
+        ArrayHashIndex index = new ArrayHashIndex(integers, HUNDRED);
+        index.remove(integers[THREE], THREE);
+        index.move(integers[HUNDRED - 1], HUNDRED - 1, THREE);
+        integers[THREE] = integers[HUNDRED - 1];
+        integers[HUNDRED - 1] = null;
+        assertEquals(-1, index.indexOf(integers, THREE));
+        assertEquals(THREE, index.indexOf(integers, HUNDRED - 1));
+    }
+
+    /**
+     * Verifies that removing an element from a cluster of colliding hash codes keeps the other elements findable.
+     */
+    @Test
+    public void removeShouldKeepCollidingElementsFindable() {
+        Object[] elements = new Object[HUNDRED];
+        for (int i = 0; i < HUNDRED; i++) {
+            elements[i] = new ElementWithCollidingHash(i);
+        }
+        ArrayHashIndex index = new ArrayHashIndex(elements, HUNDRED);
+        for (int i = 0; i < HUNDRED; i += 2) {
+            index.remove(elements[i], i);
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i % 2 == 0 ? -1 : i, index.indexOf(elements, elements[i]));
+        }
+    }
+}
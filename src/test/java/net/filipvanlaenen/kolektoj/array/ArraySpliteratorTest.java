@@ -157,7 +157,8 @@ public class ArraySpliteratorTest {
      */
     @Test
     public void characteristicsShouldReturnTheDefaultCharacteristicsByDefault() {
-        assertEquals(Spliterator.SIZED | Spliterator.SUBSIZED, createNewSpliterator().characteristics());
+        assertEquals(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE,
+                createNewSpliterator().characteristics());
     }
 
     /**
@@ -165,7 +166,7 @@ public class ArraySpliteratorTest {
      */
     @Test
     public void additionalCharacteristicsShouldBeAddedToTheSpliterator() {
-        assertEquals(Spliterator.SIZED | Spliterator.SORTED | Spliterator.SUBSIZED,
+        assertEquals(Spliterator.SIZED | Spliterator.SORTED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE,
                 new ArraySpliterator<Integer>(ARRAY123456, Spliterator.SORTED).characteristics());
     }
 
@@ -186,4 +187,46 @@ public class ArraySpliteratorTest {
         ArraySpliterator<Integer> spliterator = new ArraySpliterator<Integer>(ARRAY123456, 0, comparator);
         assertEquals(comparator, spliterator.getComparator());
     }
+
+    /**
+     * Verifies that a spliterator split off from another spliterator has the same characteristics.
+     */
+    @Test
+    public void trySplitShouldReturnASpliteratorWithTheSameCharacteristics() {
+        Spliterator<Integer> spliterator = new ArraySpliterator<Integer>(ARRAY123456, Spliterator.ORDERED);
+        assertEquals(spliterator.characteristics(), spliterator.trySplit().characteristics());
+    }
+
+    /**
+     * Verifies that forEachRemaining passes the remaining elements to the consumer, and leaves the spliterator
+     * exhausted.
+     */
+    @Test
+    public void forEachRemainingShouldPassTheRemainingElementsToTheConsumer() {
+        Spliterator<Integer> spliterator = createNewSpliterator();
+        spliterator.tryAdvance(Integer::longValue);
+        StringBuffer sb = new StringBuffer();
+        spliterator.forEachRemaining((x) -> sb.append(x));
+        assertEquals("23456", sb.toString());
+        assertEquals(0, spliterator.estimateSize());
+        assertFalse(spliterator.tryAdvance(Integer::longValue));
+    }
+
+    /**
+     * Verifies that forEachRemaining on a spliterator split off from another spliterator only passes the elements of
+     * its own range to the consumer.
+     */
+    @Test
+    public void forEachRemainingShouldOnlyPassTheElementsOfTheSplitRange() {
+        Spliterator<Integer> spliterator = createNewSpliterator();
+        Spliterator<Integer> spliterator2 = spliterator.trySplit();
+        Spliterator<Integer> spliterator3 = spliterator.trySplit();
+        StringBuffer sb = new StringBuffer();
+        spliterator2.forEachRemaining((x) -> sb.append(x));
+        sb.append(",");
+        spliterator3.forEachRemaining((x) -> sb.append(x));
+        sb.append(",");
+        spliterator.forEachRemaining((x) -> sb.append(x));
+        assertEquals("123,4,56", sb.toString());
+    }
 }
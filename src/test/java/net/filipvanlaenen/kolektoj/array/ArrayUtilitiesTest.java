@@ -1,12 +1,16 @@
 package net.filipvanlaenen.kolektoj.array;
 
 import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DISTINCT_ELEMENTS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -46,10 +50,34 @@ public class ArrayUtilitiesTest {
      * The magic number four.
      */
     private static final int FOUR = 4;
+    /**
+     * The magic number eight.
+     */
+    private static final int EIGHT = 8;
+    /**
+     * The magic number nine.
+     */
+    private static final int NINE = 9;
+    /**
+     * The magic number twelve.
+     */
+    private static final int TWELVE = 12;
+    /**
+     * The magic number sixteen.
+     */
+    private static final int SIXTEEN = 16;
+    /**
+     * The magic number hundred.
+     */
+    private static final int HUNDRED = 100;
     /**
      * The magic number one million.
      */
     private static final int ONE_MILLION = 1000000;
+    /**
+     * The magic number one billion.
+     */
+    private static final int ONE_BILLION = 1_000_000_000;
     /**
      * Collection with the integers 1, 2 and 3.
      */
@@ -89,6 +117,41 @@ public class ArrayUtilitiesTest {
     private static final SortedCollection<Integer> SORTED_COLLECTION123NULL =
             new SortedArrayCollection<Integer>(COMPARATOR, 1, 2, 3, null);
 
+    /**
+     * Verifies that the capacity for zero is zero.
+     */
+    @Test
+    public void capacityForShouldReturnZeroForZero() {
+        assertEquals(0, ArrayUtilities.capacityFor(0));
+    }
+
+    /**
+     * Verifies that the capacity for a power of two is the power of two itself.
+     */
+    @Test
+    public void capacityForShouldReturnPowerOfTwoForPowerOfTwo() {
+        assertEquals(SIXTEEN, ArrayUtilities.capacityFor(SIXTEEN));
+    }
+
+    /**
+     * Verifies that the capacity is rounded up to the next power of two.
+     */
+    @Test
+    public void capacityForShouldRoundUpToNextPowerOfTwo() {
+        assertEquals(SIXTEEN, ArrayUtilities.capacityFor(NINE));
+    }
+
+    /**
+     * Verifies that the capacity is clamped to the maximal capacity when the next power of two doesn't fit in an int,
+     * e.g. for three times a billion entries.
+     */
+    @Test
+    public void capacityForShouldBeClampedToTheMaximalCapacity() {
+        assertEquals(ArrayUtilities.MAXIMAL_CAPACITY, ArrayUtilities.capacityFor(ArrayUtilities.MAXIMAL_CAPACITY + 1L));
+        assertEquals(ArrayUtilities.MAXIMAL_CAPACITY, ArrayUtilities.capacityFor(THREE * (long) ONE_BILLION));
+    }
+
+
     /**
      * Verifies that cloneDistinctElements removes duplicate elements. The method is tested through the constructor for
      * the ArrayCollection class.
@@ -115,6 +178,65 @@ public class ArrayUtilitiesTest {
         assertTrue(collection.contains(2));
     }
 
+    /**
+     * Verifies that cloneDistinctElements retains the first occurrence of every element, in the original order.
+     */
+    @Test
+    public void cloneDistinctElementsShouldRetainFirstOccurrencesInOrder() {
+        Integer[] distinct = ArrayUtilities.cloneDistinctElements(new Integer[] {2, 1, 2, THREE, null, 1, null});
+        assertArrayEquals(new Integer[] {2, 1, THREE, null}, distinct);
+    }
+
+    /**
+     * Verifies that concatenate returns the elements of the collections in the order of the collections.
+     */
+    @Test
+    public void concatenateShouldReturnTheElementsOfTheCollectionsInOrder() {
+        Object[] actual = ArrayUtilities.concatenate(new ArrayCollection<Integer>(1, 2),
+                new ArrayCollection<Integer>(), new ArrayCollection<Integer>(2, THREE));
+        assertArrayEquals(new Object[] {1, 2, 2, THREE}, actual);
+    }
+
+    /**
+     * Verifies that retainDistinctElements returns the array itself if it doesn't contain duplicates.
+     */
+    @Test
+    public void retainDistinctElementsShouldReturnTheArrayItselfWithoutDuplicates() {
+        Integer[] elements = new Integer[] {1, 2, THREE, null};
+        assertSame(elements, ArrayUtilities.retainDistinctElements(elements));
+    }
+
+    /**
+     * Verifies that retainDistinctElements retains the first occurrence of every element, in the original order.
+     */
+    @Test
+    public void retainDistinctElementsShouldRetainFirstOccurrencesInOrder() {
+        Integer[] distinct = ArrayUtilities.retainDistinctElements(new Integer[] {2, 1, 2, THREE, null, 1, null});
+        assertArrayEquals(new Integer[] {2, 1, THREE, null}, distinct);
+    }
+
+    /**
+     * Verifies that sortDistinctElements sorts the elements and removes duplicate elements.
+     */
+    @Test
+    public void sortDistinctElementsShouldSortAndRemoveDuplicateElements() {
+        assertArrayEquals(new Object[] {1, 2, THREE},
+                ArrayUtilities.sortDistinctElements(new Object[] {THREE, 1, 2, THREE, 1}, COMPARATOR));
+    }
+
+    /**
+     * Verifies that sortDistinctElements only removes elements that are equal, not elements the comparator considers
+     * equal.
+     */
+    @Test
+    public void sortDistinctElementsShouldKeepElementsConsideredEqualByTheComparator() {
+        Comparator<Entry<Integer, String>> byKey = Comparator.comparing(Entry::key);
+        Object[] distinct = ArrayUtilities.sortDistinctElements(
+                new Object[] {ENTRY2, ENTRY1, ENTRY1BIS, ENTRY1, ENTRY2, ENTRY1BIS}, byKey);
+        assertEquals(THREE, distinct.length);
+        assertEquals(ENTRY2, distinct[2]);
+    }
+
     /**
      * Verifies that contains returns true for an element in the collection. The method is tested through the contains
      * method in the ArrayCollection class.
@@ -295,11 +417,11 @@ public class ArrayUtilitiesTest {
     }
 
     /**
-     * Verifies that quicksort can handle a large array of one million elements that is already sorted. The method is
+     * Verifies that sort can handle a large array of one million elements that is already sorted. The method is
      * tested through the constructor of the SortedArrayCollection class.
      */
     @Test
-    public void quicksortShouldHandleALargeSortedArray() {
+    public void sortShouldHandleALargeSortedArray() {
         Integer[] array = new Integer[ONE_MILLION];
         for (int i = 0; i < ONE_MILLION; i++) {
             array[i] = i;
@@ -309,11 +431,11 @@ public class ArrayUtilitiesTest {
     }
 
     /**
-     * Verifies that quicksort can handle a large array of one million elements that is reverse-sorted. The method is
+     * Verifies that sort can handle a large array of one million elements that is reverse-sorted. The method is
      * tested through the constructor of the SortedArrayCollection class.
      */
     @Test
-    public void quicksortShouldHandleALargeReverseSortedArray() {
+    public void sortShouldHandleALargeReverseSortedArray() {
         Integer[] array = new Integer[ONE_MILLION];
         for (int i = 0; i < ONE_MILLION; i++) {
             array[i] = ONE_MILLION - i;
@@ -321,4 +443,174 @@ public class ArrayUtilitiesTest {
         SortedArrayCollection<Integer> collection = new SortedArrayCollection<Integer>(COMPARATOR, array);
         assertEquals(ONE_MILLION, collection.size());
     }
+
+    /**
+     * Verifies that sort sorts a large array of one million pseudo-random elements in the same way as the sort method
+     * of the Java arrays class.
+     */
+    @Test
+    public void sortShouldSortALargeRandomArray() {
+        Integer[] array = new Integer[ONE_MILLION];
+        Random random = new Random(ONE_MILLION);
+        for (int i = 0; i < ONE_MILLION; i++) {
+            array[i] = random.nextInt();
+        }
+        Object[] sorted = ArrayUtilities.sort(array, COMPARATOR);
+        Arrays.sort(array, COMPARATOR);
+        assertArrayEquals(array, sorted);
+    }
+
+    /**
+     * Verifies that sort sorts an array with many duplicates and short runs in both directions in the same way as the
+     * sort method of the Java arrays class.
+     */
+    @Test
+    public void sortShouldSortAnArrayWithManyDuplicatesAndShortRuns() {
+        Integer[] array = new Integer[ONE_MILLION];
+        for (int i = 0; i < ONE_MILLION; i++) {
+            array[i] = i % HUNDRED < SIXTEEN ? i % SIXTEEN : (i * TWELVE) % HUNDRED;
+        }
+        Object[] sorted = ArrayUtilities.sort(array, COMPARATOR);
+        Arrays.sort(array, COMPARATOR);
+        assertArrayEquals(array, sorted);
+    }
+
+    /**
+     * Verifies that parallel sorting is disabled by default.
+     */
+    @Test
+    public void isParallelSortingEnabledShouldReturnFalseByDefault() {
+        assertFalse(ArrayUtilities.isParallelSortingEnabled());
+    }
+
+    /**
+     * Verifies that sort still sorts a large array when parallel sorting has been enabled.
+     */
+    @Test
+    public void sortShouldSortALargeArrayWhenParallelSortingIsEnabled() {
+        Integer[] array = new Integer[ONE_MILLION];
+        for (int i = 0; i < ONE_MILLION; i++) {
+            array[i] = (i * TWELVE) % HUNDRED;
+        }
+        ArrayUtilities.setParallelSortingEnabled(true);
+        try {
+            assertTrue(ArrayUtilities.isParallelSortingEnabled());
+            Object[] sorted = ArrayUtilities.sort(array, COMPARATOR);
+            Arrays.sort(array, COMPARATOR);
+            assertArrayEquals(array, sorted);
+        } finally {
+            ArrayUtilities.setParallelSortingEnabled(false);
+        }
+    }
+
+    /**
+     * Verifies that sort leaves the source array untouched.
+     */
+    @Test
+    public void sortShouldNotModifyTheSourceArray() {
+        Integer[] array = new Integer[] {THREE, 1, 2};
+        ArrayUtilities.sort(array, COMPARATOR);
+        assertArrayEquals(new Integer[] {THREE, 1, 2}, array);
+    }
+
+    /**
+     * Verifies that sort handles empty arrays and arrays with a single element.
+     */
+    @Test
+    public void sortShouldHandleEmptyAndSingletonArrays() {
+        assertArrayEquals(new Integer[] {}, ArrayUtilities.sort(new Integer[] {}, COMPARATOR));
+        assertArrayEquals(new Integer[] {1}, ArrayUtilities.sort(new Integer[] {1}, COMPARATOR));
+    }
+
+    /**
+     * Verifies that sort is stable, i.e. that elements the comparator considers equal keep their order, also when
+     * they have to be merged across many runs.
+     */
+    @Test
+    public void sortShouldKeepTheOrderOfElementsConsideredEqual() {
+        Entry<Integer, Integer>[] entries = new Entry[ONE_MILLION / HUNDRED];
+        Random random = new Random(HUNDRED);
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new Entry<Integer, Integer>(random.nextInt(SIXTEEN), i);
+        }
+        Comparator<Entry<Integer, Integer>> keyComparator = Comparator.comparing(Entry::key);
+        Object[] sorted = ArrayUtilities.sort(entries, keyComparator);
+        for (int i = 1; i < sorted.length; i++) {
+            Entry<Integer, Integer> previous = (Entry<Integer, Integer>) sorted[i - 1];
+            Entry<Integer, Integer> current = (Entry<Integer, Integer>) sorted[i];
+            assertTrue(previous.key() < current.key()
+                    || previous.key().equals(current.key()) && previous.value() < current.value());
+        }
+    }
+
+    /**
+     * Verifies that with a fixed stride, an elements array grows to the number of elements plus the stride.
+     */
+    @Test
+    public void grownLengthShouldAddTheStrideToTheMinimalLengthWithAFixedStride() {
+        assertEquals(EIGHT, ArrayUtilities.grownLength(GrowthStrategy.FIXED_STRIDE, THREE, THREE));
+    }
+
+    /**
+     * Verifies that with geometric growth, an elements array grows by half its length.
+     */
+    @Test
+    public void grownLengthShouldGrowByHalfTheLengthWithGeometricGrowth() {
+        assertEquals(TWELVE, ArrayUtilities.grownLength(GrowthStrategy.GEOMETRIC_GROWTH, EIGHT, EIGHT + 1));
+    }
+
+    /**
+     * Verifies that with geometric growth, an empty elements array grows to the minimal length.
+     */
+    @Test
+    public void grownLengthShouldGrowAnEmptyArrayToTheMinimalLengthWithGeometricGrowth() {
+        assertEquals(EIGHT, ArrayUtilities.grownLength(GrowthStrategy.GEOMETRIC_GROWTH, 0, 1));
+    }
+
+    /**
+     * Verifies that with geometric growth, an elements array grows at least to the number of elements, also if
+     * growing by half its length would overflow.
+     */
+    @Test
+    public void grownLengthShouldGrowAtLeastToTheNumberOfElementsWithGeometricGrowth() {
+        assertEquals(HUNDRED, ArrayUtilities.grownLength(GrowthStrategy.GEOMETRIC_GROWTH, EIGHT, HUNDRED));
+        assertEquals(Integer.MAX_VALUE,
+                ArrayUtilities.grownLength(GrowthStrategy.GEOMETRIC_GROWTH, Integer.MAX_VALUE - 1, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Verifies that with a fixed stride, an elements array shrinks to the size once it has more than a stride of
+     * empty slots.
+     */
+    @Test
+    public void shrunkLengthShouldShrinkToTheSizeWithAFixedStride() {
+        assertEquals(SIXTEEN, ArrayUtilities.shrunkLength(GrowthStrategy.FIXED_STRIDE, SIXTEEN, TWELVE));
+        assertEquals(EIGHT, ArrayUtilities.shrunkLength(GrowthStrategy.FIXED_STRIDE, SIXTEEN, EIGHT));
+    }
+
+    /**
+     * Verifies that with geometric growth, an elements array only shrinks when the size drops below a quarter of its
+     * length.
+     */
+    @Test
+    public void shrunkLengthShouldOnlyShrinkBelowAQuarterWithGeometricGrowth() {
+        assertEquals(SIXTEEN, ArrayUtilities.shrunkLength(GrowthStrategy.GEOMETRIC_GROWTH, SIXTEEN, FOUR));
+        assertEquals(EIGHT, ArrayUtilities.shrunkLength(GrowthStrategy.GEOMETRIC_GROWTH, SIXTEEN, THREE));
+    }
+
+    /**
+     * Verifies that with geometric growth, an elements array shrinks to twice the size.
+     */
+    @Test
+    public void shrunkLengthShouldShrinkToTwiceTheSizeWithGeometricGrowth() {
+        assertEquals(SIXTEEN, ArrayUtilities.shrunkLength(GrowthStrategy.GEOMETRIC_GROWTH, HUNDRED, EIGHT));
+    }
+
+    /**
+     * Verifies that with geometric growth, an elements array isn't shrunk below the minimal length.
+     */
+    @Test
+    public void shrunkLengthShouldNotShrinkBelowTheMinimalLengthWithGeometricGrowth() {
+        assertEquals(EIGHT, ArrayUtilities.shrunkLength(GrowthStrategy.GEOMETRIC_GROWTH, EIGHT, 0));
+    }
 }
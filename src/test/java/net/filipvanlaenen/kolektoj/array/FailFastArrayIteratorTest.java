@@ -0,0 +1,118 @@
+package net.filipvanlaenen.kolektoj.array;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.array.FailFastArrayIterator} class.
+ */
+public class FailFastArrayIteratorTest {
+    /**
+     * The magic number three.
+     */
+    private static final int THREE = 3;
+    /**
+     * An array to create an iterator on for the unit tests, with room for a fourth element.
+     */
+    private static final Integer[] ARRAY123 = new Integer[] {1, 2, 3, null};
+
+    /**
+     * The modification count returned to the iterators.
+     */
+    private int modificationCount;
+
+    /**
+     * Creates a new iterator over the first three elements of the array.
+     *
+     * @return A new iterator.
+     */
+    private FailFastArrayIterator<Integer> createNewFailFastArrayIterator() {
+        return new FailFastArrayIterator<Integer>(ARRAY123, THREE, () -> modificationCount);
+    }
+
+    /**
+     * Verifies that when a new iterator is created with three elements, the hasNext method returns true at its first
+     * call.
+     */
+    @Test
+    public void hasNextShouldReturnTrueOnFirstCallForAnIteratorWithThreeElements() {
+        assertTrue(createNewFailFastArrayIterator().hasNext());
+    }
+
+    /**
+     * Verifies that if the next method has been called three times on an iterator with three elements, the hasNext
+     * method returns false, even though the array has room for more elements.
+     */
+    @Test
+    public void hasNextShouldReturnFalseAfterThreeNextCallsOnAnIteratorWithThreeElements() {
+        Iterator<Integer> iterator = createNewFailFastArrayIterator();
+        iterator.next();
+        iterator.next();
+        iterator.next();
+        assertFalse(iterator.hasNext());
+    }
+
+    /**
+     * Verifies that the method next returns the elements in the order of the array.
+     */
+    @Test
+    public void nextShouldReturnTheElementsInOrder() {
+        Iterator<Integer> iterator = createNewFailFastArrayIterator();
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertEquals(THREE, iterator.next());
+    }
+
+    /**
+     * Verifies that the method next throws a NoSuchElementException when it's called a fourth time on an iterator with
+     * three elements.
+     */
+    @Test
+    public void nextShouldThrowNoSuchElementWhenCalledFourthTimeOnAnIteratorWithThreeElements() {
+        Iterator<Integer> iterator = createNewFailFastArrayIterator();
+        iterator.next();
+        iterator.next();
+        iterator.next();
+        assertThrows(NoSuchElementException.class, () -> iterator.next());
+    }
+
+    /**
+     * Verifies that the method next throws a ConcurrentModificationException when the modification count has changed
+     * since the iterator was created.
+     */
+    @Test
+    public void nextShouldThrowConcurrentModificationExceptionWhenTheModificationCountHasChanged() {
+        Iterator<Integer> iterator = createNewFailFastArrayIterator();
+        iterator.next();
+        modificationCount++;
+        assertThrows(ConcurrentModificationException.class, () -> iterator.next());
+    }
+
+    /**
+     * Verifies that the method hasNext doesn't throw an exception when the modification count has changed since the
+     * iterator was created.
+     */
+    @Test
+    public void hasNextShouldNotThrowAnExceptionWhenTheModificationCountHasChanged() {
+        Iterator<Integer> iterator = createNewFailFastArrayIterator();
+        iterator.next();
+        modificationCount++;
+        assertTrue(iterator.hasNext());
+    }
+
+    /**
+     * Verifies that the method remove throws an UnsupportedOperationException when it's called.
+     */
+    @Test
+    public void removeShouldThrowUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> createNewFailFastArrayIterator().remove());
+    }
+}
@@ -1,5 +1,17 @@
 package net.filipvanlaenen.kolektoj.array;
 
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DISTINCT_ELEMENTS;
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DUPLICATE_ELEMENTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+
 import net.filipvanlaenen.kolektoj.Collection.ElementCardinality;
 import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
 import net.filipvanlaenen.kolektoj.ModifiableCollectionTestBase;
@@ -9,6 +21,15 @@ import net.filipvanlaenen.kolektoj.ModifiableCollectionTestBase;
  */
 public final class ModifiableArrayCollectionTest extends ModifiableCollectionTestBase<
         ModifiableArrayCollection<Integer>, ModifiableArrayCollection<ElementWithCollidingHash>> {
+    /**
+     * The magic number ten.
+     */
+    private static final int TEN = 10;
+    /**
+     * The magic number hundred.
+     */
+    private static final int HUNDRED = 100;
+
     @Override
     protected ModifiableArrayCollection<Integer> createCollection(final ElementCardinality elementCardinality,
             final ModifiableArrayCollection<Integer> collection) {
@@ -42,4 +63,112 @@ public final class ModifiableArrayCollectionTest extends ModifiableCollectionTes
     protected ModifiableArrayCollection<Integer> createModifiableCollection(final Integer... integers) {
         return new ModifiableArrayCollection<Integer>(integers);
     }
+
+    /**
+     * Verifies that a collection with distinct elements keeps rejecting duplicates and finding its elements while it
+     * grows beyond and shrinks below the size from which it uses a hash index.
+     */
+    @Test
+    public void largeDistinctCollectionShouldBehaveLikeSmallOne() {
+        ModifiableArrayCollection<Integer> collection = new ModifiableArrayCollection<Integer>(DISTINCT_ELEMENTS);
+        for (int i = 0; i < HUNDRED; i++) {
+            assertTrue(collection.add(i));
+            assertFalse(collection.add(i));
+        }
+        assertEquals(HUNDRED, collection.size());
+        for (int i = 0; i < HUNDRED; i += 2) {
+            assertTrue(collection.remove(i));
+            assertFalse(collection.remove(i));
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i % 2 == 1, collection.contains(i));
+        }
+        assertTrue(collection.removeIf(i -> i > 2));
+        assertEquals(1, collection.size());
+        assertTrue(collection.contains(1));
+        assertFalse(collection.add(1));
+    }
+
+    /**
+     * Verifies that a collection with an expected size is empty, and that get throws an exception.
+     */
+    @Test
+    public void withExpectedSizeShouldConstructAnEmptyCollection() {
+        ModifiableArrayCollection<Integer> collection = ModifiableArrayCollection.<Integer>withExpectedSize(HUNDRED);
+        assertTrue(collection.isEmpty());
+        assertEquals(0, collection.toArray().length);
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.get());
+    }
+
+    /**
+     * Verifies that a collection with an expected size and distinct elements keeps rejecting duplicates while it is
+     * filled beyond the expected size.
+     */
+    @Test
+    public void withExpectedSizeShouldConstructACollectionWithTheElementCardinality() {
+        ModifiableArrayCollection<Integer> collection =
+                ModifiableArrayCollection.<Integer>withExpectedSize(DISTINCT_ELEMENTS, HUNDRED / 2);
+        for (int i = 0; i < HUNDRED; i++) {
+            assertTrue(collection.add(i));
+            assertFalse(collection.add(i));
+        }
+        assertEquals(HUNDRED, collection.size());
+    }
+
+    /**
+     * Verifies that the default growth strategy is geometric growth.
+     */
+    @Test
+    public void getGrowthStrategyShouldReturnGeometricGrowthByDefault() {
+        assertEquals(GrowthStrategy.GEOMETRIC_GROWTH, new ModifiableArrayCollection<Integer>(1, 2).getGrowthStrategy());
+    }
+
+    /**
+     * Verifies that a collection with a fixed stride keeps all elements when many elements are added and removed.
+     */
+    @Test
+    public void fixedStrideCollectionShouldKeepAllElementsWhenAddingAndRemoving() {
+        ModifiableArrayCollection<Integer> collection =
+                new ModifiableArrayCollection<Integer>(GrowthStrategy.FIXED_STRIDE, DUPLICATE_ELEMENTS);
+        assertEquals(GrowthStrategy.FIXED_STRIDE, collection.getGrowthStrategy());
+        for (int i = 0; i < TEN; i++) {
+            collection.add(i);
+        }
+        for (int i = 0; i < TEN; i += 2) {
+            collection.remove(i);
+        }
+        assertEquals(TEN / 2, collection.size());
+        assertTrue(collection.contains(1));
+    }
+
+    /**
+     * Verifies that a collection with an expected size and a growth strategy uses that growth strategy.
+     */
+    @Test
+    public void withExpectedSizeShouldUseTheGrowthStrategy() {
+        ModifiableArrayCollection<Integer> collection = ModifiableArrayCollection.<Integer>withExpectedSize(
+                GrowthStrategy.FIXED_STRIDE, DISTINCT_ELEMENTS, TEN);
+        assertEquals(GrowthStrategy.FIXED_STRIDE, collection.getGrowthStrategy());
+        assertEquals(DISTINCT_ELEMENTS, collection.getElementCardinality());
+    }
+
+    /**
+     * Verifies that a negative expected size is rejected.
+     */
+    @Test
+    public void withExpectedSizeShouldRejectANegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> ModifiableArrayCollection.<Integer>withExpectedSize(-1));
+    }
+
+    /**
+     * Verifies that an iterator fails fast when the collection is modified during the iteration.
+     */
+    @Test
+    public void iteratorShouldFailFastWhenTheCollectionIsModified() {
+        ModifiableArrayCollection<Integer> collection = new ModifiableArrayCollection<Integer>(1, 2);
+        Iterator<Integer> iterator = collection.iterator();
+        iterator.next();
+        collection.add(0);
+        assertThrows(ConcurrentModificationException.class, () -> iterator.next());
+    }
 }
@@ -1,5 +1,16 @@
 package net.filipvanlaenen.kolektoj.array;
 
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DISTINCT_ELEMENTS;
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DUPLICATE_ELEMENTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+
 import net.filipvanlaenen.kolektoj.Collection.ElementCardinality;
 import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
 import net.filipvanlaenen.kolektoj.ModifiableOrderedCollectionTestBase;
@@ -9,6 +20,11 @@ import net.filipvanlaenen.kolektoj.ModifiableOrderedCollectionTestBase;
  */
 public final class ModifiableOrderedArrayCollectionTest extends ModifiableOrderedCollectionTestBase<
         ModifiableOrderedArrayCollection<Integer>, ModifiableOrderedArrayCollection<ElementWithCollidingHash>> {
+    /**
+     * The magic number ten.
+     */
+    private static final int TEN = 10;
+
     @Override
     protected ModifiableOrderedArrayCollection<Integer> createCollection(
             final ModifiableOrderedArrayCollection<Integer> collection) {
@@ -54,4 +70,93 @@ public final class ModifiableOrderedArrayCollectionTest extends ModifiableOrdere
             final ElementCardinality elementCardinality, final ModifiableOrderedArrayCollection<Integer> integers) {
         return new ModifiableOrderedArrayCollection<Integer>(elementCardinality, integers);
     }
+
+    /**
+     * Verifies that a collection with an expected size is empty, and that get throws an exception.
+     */
+    @Test
+    public void withExpectedSizeShouldConstructAnEmptyCollection() {
+        ModifiableOrderedArrayCollection<Integer> collection =
+                ModifiableOrderedArrayCollection.<Integer>withExpectedSize(TEN);
+        assertTrue(collection.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.get());
+    }
+
+    /**
+     * Verifies that positions beyond the size of a collection with an expected size are rejected, even though the
+     * elements array has room for them.
+     */
+    @Test
+    public void withExpectedSizeShouldRejectPositionsBeyondTheSize() {
+        ModifiableOrderedArrayCollection<Integer> collection =
+                ModifiableOrderedArrayCollection.<Integer>withExpectedSize(TEN);
+        collection.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.addAt(2, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.putAt(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> collection.removeAt(1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> collection.addAllAt(2, new ModifiableOrderedArrayCollection<Integer>(2)));
+        assertTrue(collection.addAt(1, 2));
+        assertEquals(2, collection.getAt(1));
+    }
+
+    /**
+     * Verifies that the default growth strategy is geometric growth.
+     */
+    @Test
+    public void getGrowthStrategyShouldReturnGeometricGrowthByDefault() {
+        assertEquals(GrowthStrategy.GEOMETRIC_GROWTH,
+                new ModifiableOrderedArrayCollection<Integer>(1, 2).getGrowthStrategy());
+    }
+
+    /**
+     * Verifies that a collection with a fixed stride keeps all elements when many elements are added and removed.
+     */
+    @Test
+    public void fixedStrideCollectionShouldKeepAllElementsWhenAddingAndRemoving() {
+        ModifiableOrderedArrayCollection<Integer> collection =
+                new ModifiableOrderedArrayCollection<Integer>(GrowthStrategy.FIXED_STRIDE, DUPLICATE_ELEMENTS);
+        assertEquals(GrowthStrategy.FIXED_STRIDE, collection.getGrowthStrategy());
+        for (int i = 0; i < TEN; i++) {
+            collection.add(i);
+        }
+        for (int i = 0; i < TEN; i += 2) {
+            collection.remove(i);
+        }
+        assertEquals(TEN / 2, collection.size());
+        assertTrue(collection.contains(1));
+    }
+
+    /**
+     * Verifies that a collection with an expected size and a growth strategy uses that growth strategy.
+     */
+    @Test
+    public void withExpectedSizeShouldUseTheGrowthStrategy() {
+        ModifiableOrderedArrayCollection<Integer> collection =
+                ModifiableOrderedArrayCollection.<Integer>withExpectedSize(GrowthStrategy.FIXED_STRIDE,
+                        DISTINCT_ELEMENTS, TEN);
+        assertEquals(GrowthStrategy.FIXED_STRIDE, collection.getGrowthStrategy());
+        assertEquals(DISTINCT_ELEMENTS, collection.getElementCardinality());
+    }
+
+    /**
+     * Verifies that a negative expected size is rejected.
+     */
+    @Test
+    public void withExpectedSizeShouldRejectANegativeSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ModifiableOrderedArrayCollection.<Integer>withExpectedSize(-1));
+    }
+
+    /**
+     * Verifies that an iterator fails fast when the collection is modified during the iteration.
+     */
+    @Test
+    public void iteratorShouldFailFastWhenTheCollectionIsModified() {
+        ModifiableOrderedArrayCollection<Integer> collection = new ModifiableOrderedArrayCollection<Integer>(1, 2);
+        Iterator<Integer> iterator = collection.iterator();
+        iterator.next();
+        collection.add(0);
+        assertThrows(ConcurrentModificationException.class, () -> iterator.next());
+    }
 }
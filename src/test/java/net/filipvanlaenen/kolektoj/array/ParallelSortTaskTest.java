@@ -0,0 +1,109 @@
+package net.filipvanlaenen.kolektoj.array;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.array.ParallelSortTask} class.
+ */
+public class ParallelSortTaskTest {
+    /**
+     * The number of threads of the fork/join pool, such that the tasks run in parallel regardless of the number of
+     * processors.
+     */
+    private static final int PARALLELISM = 4;
+    /**
+     * The size of the arrays to sort, spanning several ranges that are sorted sequentially.
+     */
+    private static final int SIZE = 10 * ArrayUtilities.PARALLEL_SORTING_THRESHOLD + 1;
+    /**
+     * The number of distinct keys in the stability test.
+     */
+    private static final int NUMBER_OF_KEYS = 16;
+    /**
+     * The fork/join pool to run the tasks on.
+     */
+    private static ForkJoinPool pool;
+
+    /**
+     * Creates the fork/join pool.
+     */
+    @BeforeAll
+    public static void createPool() {
+        pool = new ForkJoinPool(PARALLELISM);
+    }
+
+    /**
+     * Shuts down the fork/join pool.
+     */
+    @AfterAll
+    public static void shutDownPool() {
+        pool.shutdown();
+    }
+
+    /**
+     * Verifies that the task sorts a large array of pseudo-random elements in the same way as the sort method of the
+     * Java arrays class.
+     */
+    @Test
+    public void computeShouldSortALargeRandomArray() {
+        Integer[] array = new Integer[SIZE];
+        Random random = new Random(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            array[i] = random.nextInt();
+        }
+        Object[] sorted = array.clone();
+        pool.invoke(new ParallelSortTask<Integer>(sorted, Comparator.naturalOrder(), 0, SIZE));
+        Arrays.sort(array);
+        assertArrayEquals(array, sorted);
+    }
+
+    /**
+     * Verifies that the task sorts a large range that doesn't start at the beginning of the array, and leaves the
+     * elements outside the range untouched.
+     */
+    @Test
+    public void computeShouldSortOnlyTheRange() {
+        Integer[] array = new Integer[SIZE + 2];
+        Random random = new Random(SIZE);
+        for (int i = 0; i < SIZE + 2; i++) {
+            array[i] = random.nextInt();
+        }
+        Object[] sorted = array.clone();
+        pool.invoke(new ParallelSortTask<Integer>(sorted, Comparator.naturalOrder(), 1, SIZE + 1));
+        Arrays.sort(array, 1, SIZE + 1);
+        assertArrayEquals(array, sorted);
+    }
+
+    /**
+     * Verifies that the task is stable, i.e. that elements the comparator considers equal keep their order across the
+     * ranges that are sorted in parallel.
+     */
+    @Test
+    public void computeShouldKeepTheOrderOfElementsConsideredEqual() {
+        Object[] entries = new Object[SIZE];
+        Random random = new Random(NUMBER_OF_KEYS);
+        for (int i = 0; i < SIZE; i++) {
+            entries[i] = new Entry<Integer, Integer>(random.nextInt(NUMBER_OF_KEYS), i);
+        }
+        Comparator<Entry<Integer, Integer>> keyComparator = Comparator.comparing(Entry::key);
+        pool.invoke(new ParallelSortTask<Entry<Integer, Integer>>(entries, keyComparator, 0, SIZE));
+        for (int i = 1; i < SIZE; i++) {
+            Entry<Integer, Integer> previous = (Entry<Integer, Integer>) entries[i - 1];
+            Entry<Integer, Integer> current = (Entry<Integer, Integer>) entries[i];
+            assertTrue(previous.key() < current.key()
+                    || previous.key().equals(current.key()) && previous.value() < current.value());
+        }
+    }
+}
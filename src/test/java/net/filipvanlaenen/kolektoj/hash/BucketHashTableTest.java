@@ -0,0 +1,183 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.ModifiableCollection;
+import net.filipvanlaenen.kolektoj.array.ModifiableArrayCollection;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.BucketHashTable} class.
+ */
+public class BucketHashTableTest {
+    /**
+     * The magic number three.
+     */
+    private static final int THREE = 3;
+    /**
+     * The magic number hundred.
+     */
+    private static final int HUNDRED = 100;
+    /**
+     * An entry with key 1 and value one.
+     */
+    private static final Entry<Integer, String> ENTRY1 = new Entry<Integer, String>(1, "one");
+    /**
+     * An entry with key 1 and value bis.
+     */
+    private static final Entry<Integer, String> ENTRY1BIS = new Entry<Integer, String>(1, "bis");
+    /**
+     * An entry with key 2 and value two.
+     */
+    private static final Entry<Integer, String> ENTRY2 = new Entry<Integer, String>(2, "two");
+
+    /**
+     * Creates a bucket hash table with two entries for key 1 and one entry for key 2.
+     *
+     * @return A bucket hash table with two entries for key 1 and one entry for key 2.
+     */
+    private static BucketHashTable<Integer, String> createBucketHashTable() {
+        BucketHashTable<Integer, String> table =
+                new BucketHashTable<Integer, String>(THREE, ProbingStrategy.LINEAR_PROBING);
+        table.add(ENTRY1);
+        table.add(ENTRY2);
+        table.add(ENTRY1BIS);
+        return table;
+    }
+
+    /**
+     * Verifies that the size counts all the entries, not the keys.
+     */
+    @Test
+    public void getSizeShouldCountAllEntries() {
+        assertEquals(THREE, createBucketHashTable().getSize());
+    }
+
+    /**
+     * Verifies that a key occupies a single slot, independent of the number of entries it has.
+     */
+    @Test
+    public void keyShouldOccupyASingleSlot() {
+        BucketHashTable<Integer, String> table =
+                new BucketHashTable<Integer, String>(0, ProbingStrategy.LINEAR_PROBING);
+        for (int i = 0; i < HUNDRED; i++) {
+            table.add(new Entry<Integer, String>(1, Integer.toString(i)));
+        }
+        table.add(ENTRY2);
+        HashStatistics statistics = table.calculateStatistics();
+        assertEquals(2, statistics.size());
+        assertEquals(HUNDRED + 1, table.getSize());
+    }
+
+    /**
+     * Verifies that the values for a key are collected in the order in which they were added.
+     */
+    @Test
+    public void collectContentsForKeyShouldReturnValuesInInsertionOrder() {
+        ModifiableCollection<String> result = new ModifiableArrayCollection<String>();
+        createBucketHashTable().collectContentsForKey(1, result);
+        assertArrayEquals(new Object[] {"one", "bis"}, result.toArray());
+    }
+
+    /**
+     * Verifies that the first entry for a key is the entry that was added first.
+     */
+    @Test
+    public void getFirstEntryForKeyShouldReturnFirstAddedEntry() {
+        assertEquals(ENTRY1, createBucketHashTable().getFirstEntryForKey(1));
+    }
+
+    /**
+     * Verifies that the first entry for an absent key is <code>null</code>.
+     */
+    @Test
+    public void getFirstEntryForKeyShouldReturnNullForAbsentKey() {
+        assertNull(createBucketHashTable().getFirstEntryForKey(THREE));
+    }
+
+    /**
+     * Verifies that an entry with a present key but another value isn't contained in the table.
+     */
+    @Test
+    public void containsEntryShouldReturnFalseForOtherValue() {
+        BucketHashTable<Integer, String> table = createBucketHashTable();
+        assertTrue(table.containsEntry(1, "bis"));
+        assertFalse(table.containsEntry(1, "two"));
+    }
+
+    /**
+     * Verifies that the key remains present until its last entry has been removed.
+     */
+    @Test
+    public void removeEntryShouldRemoveKeyWithItsLastEntry() {
+        BucketHashTable<Integer, String> table = createBucketHashTable();
+        assertTrue(table.removeEntry(1, "one"));
+        assertTrue(table.containsKey(1));
+        assertFalse(table.removeEntry(1, "one"));
+        assertTrue(table.removeEntry(1, "bis"));
+        assertFalse(table.containsKey(1));
+        assertEquals(1, table.calculateStatistics().size());
+    }
+
+    /**
+     * Verifies that removing the first entry for a key returns the entry that was added first.
+     */
+    @Test
+    public void removeFirstEntryForKeyShouldReturnFirstAddedEntry() {
+        BucketHashTable<Integer, String> table = createBucketHashTable();
+        assertEquals(ENTRY1, table.removeFirstEntryForKey(1));
+        assertEquals(ENTRY1BIS, table.getFirstEntryForKey(1));
+        assertEquals(2, table.getSize());
+    }
+
+    /**
+     * Verifies that replacing an entry keeps its position in the bucket.
+     */
+    @Test
+    public void replaceEntryShouldKeepPositionInBucket() {
+        BucketHashTable<Integer, String> table = createBucketHashTable();
+        assertTrue(table.replaceEntry(1, "one", "uno"));
+        assertEquals(new Entry<Integer, String>(1, "uno"), table.getFirstEntryForKey(1));
+        assertFalse(table.replaceEntry(1, "one", "uno"));
+    }
+
+    /**
+     * Verifies that toArray returns all the entries.
+     */
+    @Test
+    public void toArrayShouldReturnAllEntries() {
+        Object[] entries = createBucketHashTable().toArray();
+        assertEquals(THREE, entries.length);
+        ModifiableCollection<Object> collection = new ModifiableArrayCollection<Object>(entries);
+        assertTrue(collection.contains(ENTRY1));
+        assertTrue(collection.contains(ENTRY1BIS));
+        assertTrue(collection.contains(ENTRY2));
+    }
+
+    /**
+     * Verifies that a value stored under another key is found.
+     */
+    @Test
+    public void containsContentShouldFindValueOfAnyKey() {
+        BucketHashTable<Integer, String> table = createBucketHashTable();
+        assertTrue(table.containsContent("two"));
+        assertFalse(table.containsContent("three"));
+    }
+
+    /**
+     * Verifies that clearing the table removes all entries.
+     */
+    @Test
+    public void clearShouldRemoveAllEntries() {
+        BucketHashTable<Integer, String> table = createBucketHashTable();
+        table.clear();
+        assertEquals(0, table.getSize());
+        assertNull(table.getFirstEntry());
+    }
+}
@@ -0,0 +1,796 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DISTINCT_KEYS;
+import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DUPLICATE_KEYS_WITH_DISTINCT_VALUES;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.Map;
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality;
+import net.filipvanlaenen.kolektoj.MapTestBase.KeyWithCollidingHash;
+import net.filipvanlaenen.kolektoj.ModifiableMap;
+import net.filipvanlaenen.kolektoj.UpdatableMapTestBase;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.ConcurrentModifiableHashMap} class.
+ */
+public final class ConcurrentModifiableHashMapTest extends UpdatableMapTestBase<
+        ConcurrentModifiableHashMap<Integer, String>, ConcurrentModifiableHashMap<KeyWithCollidingHash, Integer>> {
+    /**
+     * The magic number three.
+     */
+    private static final int THREE = 3;
+    /**
+     * The magic number four.
+     */
+    private static final int FOUR = 4;
+    /**
+     * The magic number six.
+     */
+    private static final int SIX = 6;
+    /**
+     * The magic number ten.
+     */
+    private static final int TEN = 10;
+    /**
+     * The number of threads used in the multi-threaded tests.
+     */
+    private static final int NUMBER_OF_THREADS = 4;
+    /**
+     * The number of keys each thread adds in the multi-threaded tests.
+     */
+    private static final int KEYS_PER_THREAD = 2_000;
+    /**
+     * An entry with key null and value null.
+     */
+    private static final Entry<Integer, String> ENTRY_NULL = new Entry<Integer, String>(null, null);
+    /**
+     * An entry with key 1 and value one.
+     */
+    private static final Entry<Integer, String> ENTRY1 = new Entry<Integer, String>(1, "one");
+    /**
+     * An entry with key 1 and value bis.
+     */
+    private static final Entry<Integer, String> ENTRY1BIS = new Entry<Integer, String>(1, "bis");
+    /**
+     * An entry with key 2 and value two.
+     */
+    private static final Entry<Integer, String> ENTRY2 = new Entry<Integer, String>(2, "two");
+    /**
+     * An entry with key 3 and value three.
+     */
+    private static final Entry<Integer, String> ENTRY3 = new Entry<Integer, String>(3, "three");
+    /**
+     * An entry with key 4 and value four.
+     */
+    private static final Entry<Integer, String> ENTRY4 = new Entry<Integer, String>(4, "four");
+    /**
+     * Map with the integers 1 and 2.
+     */
+    private static final Map<Integer, String> MAP12 = Map.<Integer, String>of(ENTRY1, ENTRY2);
+    /**
+     * Map with the integers 1, 2 and 3 mapped to their words.
+     */
+    private static final ModifiableMap<Integer, String> MAP123 = createMap123();
+    /**
+     * Map with the integers 1, 2 and 3 mapped to their words, and null to null.
+     */
+    private static final Map<Integer, String> MAP123NULL = Map.<Integer, String>of(ENTRY1, ENTRY2, ENTRY3, ENTRY_NULL);
+    /**
+     * Map with the integer 4 mapped to its word.
+     */
+    private static final Map<Integer, String> MAP4 = Map.<Integer, String>of(ENTRY4);
+
+    @Override
+    protected ConcurrentModifiableHashMap<Integer, String> createMap(final Entry<Integer, String>... entries) {
+        return new ConcurrentModifiableHashMap<Integer, String>(entries);
+    }
+
+    @Override
+    protected ConcurrentModifiableHashMap<Integer, String> createMap(
+            final KeyAndValueCardinality keyAndValueCardinality, final Entry<Integer, String>... entries) {
+        return new ConcurrentModifiableHashMap<Integer, String>(keyAndValueCardinality, entries);
+    }
+
+    @Override
+    protected ConcurrentModifiableHashMap<KeyWithCollidingHash, Integer> createCollidingKeyHashMap(
+            final Entry<KeyWithCollidingHash, Integer>... entries) {
+        return new ConcurrentModifiableHashMap<KeyWithCollidingHash, Integer>(entries);
+    }
+
+    /**
+     * Creates a new map for unit testing.
+     *
+     * @return A new map for unit testing.
+     */
+    private static ModifiableMap<Integer, String> createMap123() {
+        return new ConcurrentModifiableHashMap<Integer, String>(ENTRY1, ENTRY2, ENTRY3);
+    }
+
+    /**
+     * Verifies that a map can be constructed from another map.
+     */
+    @Test
+    public void constructorShouldCreateMapFromAnotherMap() {
+        ModifiableMap<Integer, String> map = new ConcurrentModifiableHashMap<Integer, String>(MAP123);
+        assertTrue(map.containsSame(MAP123));
+    }
+
+    /**
+     * Verifies that adding an element to an empty map returns true.
+     */
+    @Test
+    public void addOnAnEmptyMapShouldReturnTrue() {
+        assertTrue(new ConcurrentModifiableHashMap<Integer, Integer>().add(1, 1));
+    }
+
+    /**
+     * Verifies that adding an entry with an already present key to a map with distinct keys returns false.
+     */
+    @Test
+    public void addWithDuplicateKeyOnMapWithDistinctKeysShouldReturnFalse() {
+        ModifiableMap<Integer, String> map = new ConcurrentModifiableHashMap<Integer, String>(DISTINCT_KEYS, ENTRY1);
+        assertFalse(map.add(1, null));
+    }
+
+    /**
+     * Verifies that adding an entry with an already present key and value to a map with duplicate keys with distinct
+     * values returns false.
+     */
+    @Test
+    public void addWithDuplicateKeyAndValueOnMapWithDuplicateKeysAndDistinctValuesShouldReturnFalse() {
+        ModifiableMap<Integer, String> map =
+                new ConcurrentModifiableHashMap<Integer, String>(DUPLICATE_KEYS_WITH_DISTINCT_VALUES, ENTRY1);
+        assertFalse(map.add(1, "one"));
+    }
+
+    /**
+     * Verifies that adding with a duplicate key stored the hashed value correctly.
+     */
+    @Test
+    public void addWithDuplicateKeyShouldStoreTheEntryCorrectly() {
+        ModifiableMap<Integer, String> map =
+                new ConcurrentModifiableHashMap<Integer, String>(DUPLICATE_KEYS_WITH_DISTINCT_VALUES,
+                        ENTRY1, ENTRY2, ENTRY3);
+        map.add(1, "bis");
+        assertEquals(2, map.getAll(1).size());
+    }
+
+    /**
+     * Verifies that after adding an entry to an empty map, the size is increased to one.
+     */
+    @Test
+    public void sizeShouldBeOneAfterAddingAnEntryToAnEmptyMap() {
+        ModifiableMap<Integer, Integer> map = new ConcurrentModifiableHashMap<Integer, Integer>();
+        map.add(1, 1);
+        assertEquals(1, map.size());
+    }
+
+    /**
+     * Verifies that after adding an entry to a map, the map contains the entry added.
+     */
+    @Test
+    public void mapShouldContainAnElementAfterHavingItAdded() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.add(0, "zero");
+        assertTrue(map.contains(new Entry<Integer, String>(0, "zero")));
+    }
+
+    /**
+     * Verifies that after adding an entry to a map, the map contains the key of the entry added.
+     */
+    @Test
+    public void mapShouldContainKeyAfterHavingItAdded() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.add(0, "zero");
+        assertTrue(map.containsKey(0));
+    }
+
+    /**
+     * Verifies that after adding an entry to a map, the map contains the null key of the entry added.
+     */
+    @Test
+    public void mapShouldContainNullKeyAfterHavingItAdded() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.add(null, "zero");
+        assertTrue(map.containsKey(null));
+    }
+
+    /**
+     * Verifies that after adding an entry to a map, the map contains the value of the entry added.
+     */
+    @Test
+    public void mapShouldContainValueAfterHavingItAdded() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.add(0, "zero");
+        assertTrue(map.containsValue("zero"));
+    }
+
+    /**
+     * Verifies that after adding an entry to a map, the map contains the null value of the entry added.
+     */
+    @Test
+    public void mapShouldContainNullValueAfterHavingItAdded() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.add(0, null);
+        assertTrue(map.containsValue(null));
+    }
+
+    /**
+     * Verifies that after adding an entry to a map, the map contains the value for the key added.
+     */
+    @Test
+    public void mapShouldContainValueForKeyAfterHavingItAdded() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.add(0, "zero");
+        assertEquals("zero", map.get(0));
+    }
+
+    /**
+     * Verifies that after adding an entry to a map, the map contains the null value for the null key added.
+     */
+    @Test
+    public void mapShouldContainNullValueForNullKeyAfterHavingItAdded() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.add(null, null);
+        assertNull(map.get(null));
+    }
+
+    /**
+     * Verifies that adding keys with colliding hash values still returns the correct values for a key.
+     */
+    @Test
+    public void mapShouldContainValueForKeysWithCollidingHashValuesAfterHavingItAdded() {
+        ModifiableMap<KeyWithCollidingHash, Integer> map =
+                new ConcurrentModifiableHashMap<KeyWithCollidingHash, Integer>();
+        KeyWithCollidingHash key1 = new KeyWithCollidingHash(1);
+        KeyWithCollidingHash key2 = new KeyWithCollidingHash(2);
+        map.add(key1, 1);
+        map.add(key2, 2);
+        assertEquals(1, map.get(key1));
+        assertEquals(2, map.get(key2));
+    }
+
+    /**
+     * Verifies that adding an empty map returns false.
+     */
+    @Test
+    public void addAllWithEmptyMapShouldReturnFalse() {
+        assertFalse(createMap123().addAll(Map.<Integer, String>empty()));
+    }
+
+    /**
+     * Verifies that adding a map with already present keys on a map with distinct keys returns false.
+     */
+    @Test
+    public void addAllWithDuplicateKeysOnMapWithDistinctKeysShouldReturnFalse() {
+        ModifiableMap<Integer, String> map =
+                new ConcurrentModifiableHashMap<Integer, String>(DISTINCT_KEYS, ENTRY1, ENTRY2, ENTRY3);
+        assertFalse(map.addAll(Map.<Integer, String>of(ENTRY1BIS)));
+    }
+
+    /**
+     * Verifies that adding a map with both present and absent keys adds the entries with absent keys.
+     */
+    @Test
+    public void addAllOnMapWithDistinctKeysShouldAddNewKeysOnly() {
+        ModifiableMap<Integer, String> map =
+                new ConcurrentModifiableHashMap<Integer, String>(DISTINCT_KEYS, ENTRY1, ENTRY2);
+        assertTrue(map.addAll(Map.<Integer, String>of(ENTRY3, ENTRY1BIS)));
+        assertEquals(THREE, map.size());
+    }
+
+    /**
+     * Verifies that adding a map with already present keys and values on a map with duplicate keys and distinct values
+     * returns false.
+     */
+    @Test
+    public void addAllWithDuplicateKeyAndValuesOnMapWithDuplicateKeysAndDistinctValuesShouldReturnFalse() {
+        ModifiableMap<Integer, String> map =
+                new ConcurrentModifiableHashMap<Integer, String>(DUPLICATE_KEYS_WITH_DISTINCT_VALUES,
+                        ENTRY1, ENTRY2, ENTRY3);
+        assertFalse(map.addAll(Map.<Integer, String>of(new Entry<Integer, String>(1, "one"))));
+    }
+
+    /**
+     * Verifies that adding a map with both present and absent keys and values adds the entries with new keys or new
+     * values.
+     */
+    @Test
+    public void addAllOnMapWithDuplicateKeysAndDistinctValuesShouldAddNewKeysAndNewValues() {
+        ModifiableMap<Integer, String> map =
+                new ConcurrentModifiableHashMap<Integer, String>(DUPLICATE_KEYS_WITH_DISTINCT_VALUES, ENTRY1, ENTRY2);
+        assertTrue(map.addAll(Map.<Integer, String>of(ENTRY3, ENTRY1BIS, new Entry<Integer, String>(1, "one"))));
+        assertEquals(FOUR, map.size());
+    }
+
+    /**
+     * Verifies that adding a map of size one returns true.
+     */
+    @Test
+    public void addAllWithMapWithOneEntryReturnsTrue() {
+        assertTrue(createMap123().addAll(MAP4));
+    }
+
+    /**
+     * Verifies that adding a map of size one increases the size of the map.
+     */
+    @Test
+    public void addAllWithMapWithOneEntryIncreasesTheSizeByOne() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.addAll(MAP4);
+        assertEquals(FOUR, map.size());
+    }
+
+    /**
+     * Verifies that adding a map with a large map returns true. This tests that resizing works as intended. Note that
+     * the size of the large map is constructed to match the ratios in the implementation.
+     */
+    @Test
+    public void addAllWithLargeMapReturnsTrue() {
+        ModifiableMap<Integer, String> map1 = createMap123();
+        ModifiableMap<Integer, String> map2 = new ConcurrentModifiableHashMap<Integer, String>();
+        for (int i = 0; i < TEN; i++) {
+            map2.add(SIX + i, "2");
+        }
+        assertTrue(map1.addAll(map2));
+    }
+
+    /**
+     * Verifies that adding a map with an entry with a null key adds the entry with the null key.
+     */
+    @Test
+    public void addAllWithMapWithNullKeyAddsTheNullKey() {
+        ModifiableMap<Integer, String> map = new ConcurrentModifiableHashMap<Integer, String>();
+        map.addAll(MAP123NULL);
+        assertNull(map.get(null));
+    }
+
+    /**
+     * Verifies that adding a map with keys with colliding hash values returns the correct values for a key.
+     */
+    @Test
+    public void mapShouldContainValueForKeysWithCollidingHashValuesAfterHavingItAddedAsAMap() {
+        ModifiableMap<KeyWithCollidingHash, Integer> map1 =
+                new ConcurrentModifiableHashMap<KeyWithCollidingHash, Integer>();
+        ModifiableMap<KeyWithCollidingHash, Integer> map2 =
+                new ConcurrentModifiableHashMap<KeyWithCollidingHash, Integer>();
+        KeyWithCollidingHash key1 = new KeyWithCollidingHash(1);
+        KeyWithCollidingHash key2 = new KeyWithCollidingHash(2);
+        map2.add(key1, 1);
+        map2.add(key2, 2);
+        map1.addAll(map2);
+        assertEquals(1, map1.get(key1));
+        assertEquals(2, map1.get(key2));
+    }
+
+    /**
+     * Verifies that clearing a map sets the size to zero.
+     */
+    @Test
+    public void clearShouldSetMapToBeEmpty() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1));
+    }
+
+    /**
+     * Verifies that the remaining entries can still be found after removing most of the entries, such that the
+     * segments have been shrunk, and that entries can be added again afterwards.
+     */
+    @Test
+    public void removeShouldKeepRemainingEntriesReachableWhenSegmentsShrink() {
+        ModifiableMap<Integer, String> map = new ConcurrentModifiableHashMap<Integer, String>();
+        for (int i = 0; i < KEYS_PER_THREAD; i++) {
+            map.add(i, Integer.toString(i));
+        }
+        for (int i = 0; i < KEYS_PER_THREAD; i++) {
+            if (i % TEN != 0) {
+                map.remove(i);
+            }
+        }
+        assertEquals(KEYS_PER_THREAD / TEN, map.size());
+        for (int i = 0; i < KEYS_PER_THREAD; i += TEN) {
+            assertEquals(Integer.toString(i), map.get(i));
+        }
+        map.removeIf(entry -> entry.key() != 0);
+        map.add(1, "1");
+        assertEquals("0", map.get(0));
+        assertEquals("1", map.get(1));
+        assertEquals(2, map.size());
+    }
+
+    /**
+     * Verifies that clearing a map empties caches.
+     */
+    @Test
+    public void clearShouldSetCachesToBeEmpty() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.clear();
+        assertEquals(0, map.toArray().length);
+        assertFalse(map.contains(ENTRY1));
+    }
+
+    /**
+     * Verifies that keys are removed from the map when it's cleared.
+     */
+    @Test
+    public void clearShouldRemoveKeys() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.clear();
+        assertTrue(map.getKeys().isEmpty());
+    }
+
+    /**
+     * Verifies that values are removed from the map when it's cleared.
+     */
+    @Test
+    public void clearShouldRemoveValues() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.clear();
+        assertTrue(map.getValues().isEmpty());
+    }
+
+    /**
+     * Verifies that trying to remove an absent key throws IllegalArgumentException.
+     */
+    @Test
+    public void removeShouldThrowExceptionForAbsentKey() {
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> createMap123().remove(FOUR));
+        assertEquals("Map doesn't contain an entry with the key 4.", exception.getMessage());
+    }
+
+    /**
+     * Verifies that removing a key returns the associated value.
+     */
+    @Test
+    public void removeShouldReturnTheValueForTheKey() {
+        assertEquals("one", createMap123().remove(1));
+    }
+
+    /**
+     * Verifies that when multiple entries have the same key, and some of them are removed, getAll still returns all
+     * values. This ensures that the hashed array is rehashed as holes appear in the overflow after removing entries.
+     */
+    @Test
+    public void removeShouldRehashIfHolesAppear() {
+        ModifiableMap<Integer, String> map =
+                new ConcurrentModifiableHashMap<Integer, String>(DUPLICATE_KEYS_WITH_DISTINCT_VALUES);
+        map.add(1, "a");
+        map.add(1, "b");
+        map.add(1, "c");
+        map.add(1, "d");
+        map.add(1, "e");
+        map.add(1, "f");
+        map.add(1, "g");
+        map.remove(1);
+        assertEquals(SIX, map.getAll(1).size());
+    }
+
+    /**
+     * Verifies that trying to remove an absent key (with value) returns false.
+     */
+    @Test
+    public void removeWithValueShouldReturnFalseForAbsentKey() {
+        assertFalse(createMap123().remove(FOUR, "four"));
+    }
+
+    /**
+     * Verifies that trying to remove an absent key and value returns false.
+     */
+    @Test
+    public void removeWithValueShouldReturnFalseForAbsentValueForKey() {
+        assertFalse(createMap123().remove(1, "bis"));
+    }
+
+    /**
+     * Verifies that removing a key and value returns true.
+     */
+    @Test
+    public void removeWithValueShouldReturnTrue() {
+        assertTrue(createMap123().remove(1, "one"));
+    }
+
+    /**
+     * Verifies that when multiple entries have the same key, and some of them are removed, getAll still returns all
+     * values. This ensures that the hashed array is rehashed as holes appear in the overflow after removing entries.
+     */
+    @Test
+    public void removeWithValueShouldRehashIfHolesAppear() {
+        ModifiableMap<Integer, String> map =
+                new ConcurrentModifiableHashMap<Integer, String>(DUPLICATE_KEYS_WITH_DISTINCT_VALUES);
+        map.add(1, "a");
+        map.add(1, "b");
+        map.add(1, "c");
+        map.add(1, "d");
+        map.add(1, "e");
+        map.add(1, "f");
+        map.add(1, "g");
+        map.remove(1, "a");
+        assertEquals(SIX, map.getAll(1).size());
+    }
+
+    /**
+     * Verifies that when all entries are removed, a collection is empty.
+     */
+    @Test
+    public void removeAllWithTheSameEntriesShouldMakeMapEmpty() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.removeAll(MAP123);
+        assertTrue(map.isEmpty());
+    }
+
+    /**
+     * Verifies that when some entries are removed, removeAll returns true.
+     */
+    @Test
+    public void removeAllShouldReturnTrueWhenSomeEntriesAreRemoved() {
+        ModifiableMap<Integer, String> map = createMap123();
+        assertTrue(map.removeAll(MAP12));
+    }
+
+    /**
+     * Verifies that when no entries are removed, removeAll returns false.
+     */
+    @Test
+    public void removeAllShouldReturnFalseWhenNoEntriesAreRemoved() {
+        ModifiableMap<Integer, String> map = createMap123();
+        assertFalse(map.removeAll(MAP4));
+    }
+
+    /**
+     * Verifies that removeAll also removes the entries following an entry that isn't present in the map.
+     */
+    @Test
+    public void removeAllShouldRemoveTheEntriesFollowingAnAbsentEntry() {
+        ModifiableMap<Integer, String> map = createMap123();
+        assertTrue(map.removeAll(Map.<Integer, String>of(ENTRY4, ENTRY1)));
+        assertFalse(map.containsKey(1));
+    }
+
+    /**
+     * Verifies that when multiple entries have the same key, and some of them are removed, getAll still returns all
+     * values. This ensures that the hashed array is rehashed as holes appear in the overflow after removing entries.
+     */
+    @Test
+    public void removeAllShouldRehashIfHolesAppear() {
+        ModifiableMap<Integer, String> map =
+                new ConcurrentModifiableHashMap<Integer, String>(DUPLICATE_KEYS_WITH_DISTINCT_VALUES);
+        map.add(1, "a");
+        map.add(1, "b");
+        map.add(1, "c");
+        map.add(1, "d");
+        map.add(1, "e");
+        map.add(1, "f");
+        map.add(1, "g");
+        map.removeAll(ModifiableMap.of(1, "a"));
+        assertEquals(SIX, map.getAll(1).size());
+    }
+
+    /**
+     * Verifies that when multiple entries have the same key, and some of them are removed, getAll still returns all
+     * values. This ensures that the hashed array is rehashed as holes appear in the overflow after removing entries.
+     */
+    @Test
+    public void removeAllShouldRehashIfManyEntriesAreRemoved() {
+        ModifiableMap<Integer, String> map1 = new ConcurrentModifiableHashMap<Integer, String>();
+        ModifiableMap<Integer, String> map2 = new ConcurrentModifiableHashMap<Integer, String>();
+        for (int i = 0; i < TEN; i++) {
+            map1.add(i, "" + i);
+            map2.add(i, "" + i);
+        }
+        map1.removeAll(map2);
+        assertTrue(map1.isEmpty());
+    }
+
+    /**
+     * Verifies that removeIf returns false on an empty map.
+     */
+    @Test
+    public void removeIfShouldReturnFalseOnAnEmptyMap() {
+        assertFalse(createMap().removeIf(x -> true));
+    }
+
+    /**
+     * Verifies that removeIf returns false when no elements are removed.
+     */
+    @Test
+    public void removeIfShouldReturnFalseWhenNoElementsAreRemoved() {
+        assertFalse(createMap123().removeIf(x -> false));
+    }
+
+    /**
+     * Verifies that removeIf returns true when an element is removed.
+     */
+    @Test
+    public void removeIfShouldReturnTrueWhenAnElementIsRemoved() {
+        assertTrue(createMap123().removeIf(x -> x.key() == 1));
+    }
+
+    /**
+     * Verifies that when some entries are removed, retainAll returns true.
+     */
+    @Test
+    public void retainAllShouldReturnTrueWhenSomeEntriesAreRemoved() {
+        ModifiableMap<Integer, String> map = createMap123();
+        assertTrue(map.retainAll(MAP12));
+    }
+
+    /**
+     * Verifies that when no entries are removed, retainAll returns false.
+     */
+    @Test
+    public void retainAllShouldReturnFalseWhenNoEntriesAreRemoved() {
+        ModifiableMap<Integer, String> map = createMap123();
+        assertFalse(map.retainAll(MAP123));
+    }
+
+    /**
+     * Verifies that when all entries are retained, a map remains intact.
+     */
+    @Test
+    public void retainAllWithTheSameEntriesShouldNotRemoveEntries() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.retainAll(MAP123);
+        assertEquals(THREE, map.size());
+        assertTrue(map.contains(ENTRY1));
+        assertTrue(map.contains(ENTRY2));
+        assertTrue(map.contains(ENTRY3));
+    }
+
+    /**
+     * Verifies that when only absent entries should be retained, retainAll empties the map.
+     */
+    @Test
+    public void retainAllWithAbsentEntriesOnlyClearsTheMap() {
+        ModifiableMap<Integer, String> map = createMap123();
+        map.retainAll(MAP4);
+        assertTrue(map.isEmpty());
+    }
+
+    /**
+     * Verifies that when multiple entries have the same key, and some of them are not retained, getAll still returns
+     * all values. This ensures that the hashed array is rehashed as holes appear in the overflow after removing entries
+     * in the retainAll method.
+     */
+    @Test
+    public void retainAllShouldRehashIfHolesAppear() {
+        ModifiableMap<Integer, String> map1 =
+                new ConcurrentModifiableHashMap<Integer, String>(DUPLICATE_KEYS_WITH_DISTINCT_VALUES);
+        ModifiableMap<Integer, String> map2 =
+                new ConcurrentModifiableHashMap<Integer, String>(DUPLICATE_KEYS_WITH_DISTINCT_VALUES);
+        map1.add(1, "a");
+        map1.add(1, "b");
+        map1.add(1, "c");
+        map1.add(1, "d");
+        map1.add(1, "e");
+        map1.add(1, "f");
+        map1.add(1, "g");
+        map2.add(1, "b");
+        map2.add(1, "c");
+        map2.add(1, "d");
+        map2.add(1, "e");
+        map2.add(1, "f");
+        map2.add(1, "g");
+        map1.retainAll(map2);
+        assertEquals(SIX, map1.getAll(1).size());
+    }
+
+    /**
+     * Runs a task on a number of threads started at the same time, and waits until all of them have finished.
+     *
+     * @param task The task, receiving the index of the thread.
+     * @throws InterruptedException Thrown if the waiting thread is interrupted.
+     */
+    private static void runOnThreads(final IntConsumer task) throws InterruptedException {
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < NUMBER_OF_THREADS; t++) {
+            final int threadIndex = t;
+            threads.add(new Thread(() -> task.accept(threadIndex)));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    /**
+     * Verifies that all entries added concurrently from several threads are present afterwards.
+     *
+     * @throws InterruptedException Thrown if the test thread is interrupted.
+     */
+    @Test
+    public void concurrentAddsShouldAllBeRetained() throws InterruptedException {
+        ConcurrentModifiableHashMap<Integer, String> map = new ConcurrentModifiableHashMap<Integer, String>();
+        runOnThreads(t -> {
+            for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                map.add(t * KEYS_PER_THREAD + i, "x");
+            }
+        });
+        assertEquals(NUMBER_OF_THREADS * KEYS_PER_THREAD, map.size());
+        for (int k = 0; k < NUMBER_OF_THREADS * KEYS_PER_THREAD; k++) {
+            assertTrue(map.containsKey(k));
+        }
+    }
+
+    /**
+     * Verifies that when several threads add the same keys concurrently to a map with distinct keys, each key is
+     * added exactly once.
+     *
+     * @throws InterruptedException Thrown if the test thread is interrupted.
+     */
+    @Test
+    public void concurrentAddsOfTheSameKeysShouldAddEachKeyOnce() throws InterruptedException {
+        ConcurrentModifiableHashMap<Integer, String> map = new ConcurrentModifiableHashMap<Integer, String>();
+        AtomicInteger successes = new AtomicInteger();
+        runOnThreads(t -> {
+            for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                if (map.add(i, "x")) {
+                    successes.incrementAndGet();
+                }
+            }
+        });
+        assertEquals(KEYS_PER_THREAD, successes.get());
+        assertEquals(KEYS_PER_THREAD, map.size());
+    }
+
+    /**
+     * Verifies that iterating over the map while other threads add and remove entries doesn't throw an exception, and
+     * visits the entries that aren't modified.
+     *
+     * @throws InterruptedException Thrown if the test thread is interrupted.
+     */
+    @Test
+    public void iterationShouldBeWeaklyConsistentDuringConcurrentModifications() throws InterruptedException {
+        ConcurrentModifiableHashMap<Integer, String> map = new ConcurrentModifiableHashMap<Integer, String>();
+        for (int i = 0; i < KEYS_PER_THREAD; i++) {
+            map.add(-1 - i, "stable");
+        }
+        AtomicInteger failures = new AtomicInteger();
+        runOnThreads(t -> {
+            if (t == 0) {
+                for (int r = 0; r < TEN; r++) {
+                    int stable = 0;
+                    for (Entry<Integer, String> entry : map) {
+                        if (entry.key() < 0) {
+                            stable++;
+                        }
+                    }
+                    if (stable != KEYS_PER_THREAD) {
+                        failures.incrementAndGet();
+                    }
+                }
+            } else {
+                for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                    map.add(t * KEYS_PER_THREAD + i, "x");
+                    map.remove(t * KEYS_PER_THREAD + i);
+                }
+            }
+        });
+        assertEquals(0, failures.get());
+        assertEquals(KEYS_PER_THREAD, map.size());
+    }
+
+    /**
+     * Verifies that put adds the entry if the key is absent and updates it otherwise.
+     */
+    @Test
+    public void putShouldAddOrUpdate() {
+        ConcurrentModifiableHashMap<Integer, String> map = new ConcurrentModifiableHashMap<Integer, String>();
+        assertNull(map.put(1, "one"));
+        assertEquals("one", map.put(1, "bis"));
+        assertEquals("bis", map.get(1));
+        assertEquals(1, map.size());
+    }
+}
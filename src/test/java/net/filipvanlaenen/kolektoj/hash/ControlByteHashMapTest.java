@@ -0,0 +1,31 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static net.filipvanlaenen.kolektoj.hash.ProbingStrategy.CONTROL_BYTE_PROBING;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality;
+import net.filipvanlaenen.kolektoj.MapTestBase;
+import net.filipvanlaenen.kolektoj.MapTestBase.KeyWithCollidingHash;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.HashMap} class using control byte probing.
+ */
+public final class ControlByteHashMapTest
+        extends MapTestBase<HashMap<Integer, String>, HashMap<KeyWithCollidingHash, Integer>> {
+    @Override
+    protected HashMap<Integer, String> createMap(final Entry<Integer, String>... entries) {
+        return new HashMap<Integer, String>(CONTROL_BYTE_PROBING, entries);
+    }
+
+    @Override
+    protected HashMap<Integer, String> createMap(final KeyAndValueCardinality keyAndValueCardinality,
+            final Entry<Integer, String>... entries) {
+        return new HashMap<Integer, String>(CONTROL_BYTE_PROBING, keyAndValueCardinality, entries);
+    }
+
+    @Override
+    protected HashMap<KeyWithCollidingHash, Integer> createCollidingKeyHashMap(
+            final Entry<KeyWithCollidingHash, Integer>... entries) {
+        return new HashMap<KeyWithCollidingHash, Integer>(CONTROL_BYTE_PROBING, entries);
+    }
+}
@@ -0,0 +1,272 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.MapTestBase.KeyWithCollidingHash;
+import net.filipvanlaenen.kolektoj.ModifiableCollection;
+import net.filipvanlaenen.kolektoj.array.ModifiableArrayCollection;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.ControlByteHashTable} class.
+ */
+public class ControlByteHashTableTest {
+    /**
+     * The magic number three.
+     */
+    private static final int THREE = 3;
+    /**
+     * The magic number seven.
+     */
+    private static final int SEVEN = 7;
+    /**
+     * The magic number eight.
+     */
+    private static final int EIGHT = 8;
+    /**
+     * The magic number ten.
+     */
+    private static final int TEN = 10;
+    /**
+     * The magic number sixteen.
+     */
+    private static final int SIXTEEN = 16;
+    /**
+     * The magic number hundred.
+     */
+    private static final int HUNDRED = 100;
+
+    /**
+     * Class for keys with a given hash code, counting the number of calls to <code>equals</code>.
+     */
+    private static final class CountingKey {
+        /**
+         * The hash code of the key.
+         */
+        private final int hash;
+        /**
+         * The number of calls to <code>equals</code>.
+         */
+        private int numberOfEqualsCalls;
+
+        /**
+         * Constructor taking the hash code of the key as its parameter.
+         *
+         * @param hash The hash code of the key.
+         */
+        CountingKey(final int hash) {
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            numberOfEqualsCalls++;
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Creates a hash table with the integers from zero to hundred (exclusive), mapped to their string representations.
+     *
+     * @return A hash table with the integers from zero to hundred (exclusive).
+     */
+    private static ControlByteHashTable<Integer, String> createHashTable0To99() {
+        ControlByteHashTable<Integer, String> hashTable = new ControlByteHashTable<Integer, String>(0);
+        for (int i = 0; i < HUNDRED; i++) {
+            hashTable.add(new Entry<Integer, String>(i, Integer.toString(i)));
+        }
+        return hashTable;
+    }
+
+    /**
+     * Verifies that all entries can be found after they have been added one by one.
+     */
+    @Test
+    public void addShouldKeepAllEntriesReachable() {
+        ControlByteHashTable<Integer, String> hashTable = createHashTable0To99();
+        assertEquals(HUNDRED, hashTable.getSize());
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(new Entry<Integer, String>(i, Integer.toString(i)), hashTable.getFirstEntryForKey(i));
+        }
+        assertNull(hashTable.getFirstEntryForKey(HUNDRED));
+    }
+
+    /**
+     * Verifies that a hash table with a base length can hold that many entries without resizing, up to a load factor
+     * of seven eighths.
+     */
+    @Test
+    public void hashTableShouldHoldBaseLengthEntriesWithoutResizing() {
+        ControlByteHashTable<Integer, String> hashTable = new ControlByteHashTable<Integer, String>(SEVEN);
+        for (int i = 0; i < SEVEN; i++) {
+            hashTable.add(new Entry<Integer, String>(i, Integer.toString(i)));
+        }
+        HashStatistics statistics = hashTable.calculateStatistics();
+        assertEquals(EIGHT, statistics.capacity());
+        assertEquals(0, statistics.numberOfResizes());
+        hashTable.add(new Entry<Integer, String>(SEVEN, "7"));
+        assertEquals(SIXTEEN, hashTable.calculateStatistics().capacity());
+    }
+
+    /**
+     * Verifies that all remaining entries can be found after every other entry has been removed.
+     */
+    @Test
+    public void removeShouldKeepRemainingEntriesReachable() {
+        ControlByteHashTable<Integer, String> hashTable = createHashTable0To99();
+        for (int i = 0; i < HUNDRED; i += 2) {
+            assertEquals(new Entry<Integer, String>(i, Integer.toString(i)), hashTable.removeFirstEntryForKey(i));
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i % 2 == 1, hashTable.containsKey(i));
+        }
+        assertNull(hashTable.removeFirstEntryForKey(0));
+    }
+
+    /**
+     * Verifies that keys with colliding hash codes, spilling over into other groups, can be removed and found again.
+     */
+    @Test
+    public void removeShouldKeepCollidingKeysReachable() {
+        ControlByteHashTable<KeyWithCollidingHash, Integer> hashTable =
+                new ControlByteHashTable<KeyWithCollidingHash, Integer>(HUNDRED);
+        for (int i = 0; i < HUNDRED; i++) {
+            hashTable.add(new Entry<KeyWithCollidingHash, Integer>(new KeyWithCollidingHash(i), i));
+        }
+        for (int i = 0; i < HUNDRED; i += THREE) {
+            assertTrue(hashTable.removeEntry(new KeyWithCollidingHash(i), i));
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i % THREE != 0, hashTable.containsKey(new KeyWithCollidingHash(i)));
+        }
+    }
+
+    /**
+     * Verifies that alternating additions and removals of colliding keys, leaving tombstones behind, don't make the
+     * hash table grow.
+     */
+    @Test
+    public void addAndRemoveShouldNotMakeTheHashTableGrow() {
+        ControlByteHashTable<KeyWithCollidingHash, Integer> hashTable =
+                new ControlByteHashTable<KeyWithCollidingHash, Integer>(SIXTEEN);
+        for (int i = 0; i < SIXTEEN; i++) {
+            hashTable.add(new Entry<KeyWithCollidingHash, Integer>(new KeyWithCollidingHash(i), i));
+        }
+        int capacity = hashTable.calculateStatistics().capacity();
+        for (int i = SIXTEEN; i < HUNDRED; i++) {
+            hashTable.removeFirstEntryForKey(new KeyWithCollidingHash(i - SIXTEEN));
+            hashTable.add(new Entry<KeyWithCollidingHash, Integer>(new KeyWithCollidingHash(i), i));
+        }
+        assertEquals(capacity, hashTable.calculateStatistics().capacity());
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i >= HUNDRED - SIXTEEN, hashTable.containsKey(new KeyWithCollidingHash(i)));
+        }
+    }
+
+    /**
+     * Verifies that the hash table shrinks when most of its entries have been removed.
+     */
+    @Test
+    public void removeShouldShrinkSparseHashTable() {
+        ControlByteHashTable<Integer, String> hashTable = createHashTable0To99();
+        for (int i = 0; i < HUNDRED - 1; i++) {
+            hashTable.removeFirstEntryForKey(i);
+        }
+        assertEquals(EIGHT, hashTable.calculateStatistics().capacity());
+        assertTrue(hashTable.containsKey(HUNDRED - 1));
+    }
+
+    /**
+     * Verifies that lookups rarely call <code>equals</code> on another key than the key they're looking for, because
+     * only the keys with a matching fingerprint are compared.
+     */
+    @Test
+    public void getFirstEntryForKeyShouldRarelyCallEqualsOnOtherKeys() {
+        ControlByteHashTable<CountingKey, Integer> hashTable = new ControlByteHashTable<CountingKey, Integer>(0);
+        CountingKey[] keys = new CountingKey[HUNDRED];
+        for (int i = 0; i < HUNDRED; i++) {
+            keys[i] = new CountingKey(i);
+            hashTable.add(new Entry<CountingKey, Integer>(keys[i], i));
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i, hashTable.getFirstEntryForKey(keys[i]).value());
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertFalse(hashTable.containsKey(new CountingKey(HUNDRED + i)));
+        }
+        int numberOfEqualsCalls = 0;
+        for (int i = 0; i < HUNDRED; i++) {
+            numberOfEqualsCalls += keys[i].numberOfEqualsCalls;
+        }
+        assertTrue(numberOfEqualsCalls < TEN);
+    }
+
+    /**
+     * Verifies that replacing an entry keeps the other entries with the key.
+     */
+    @Test
+    public void replaceEntryShouldOnlyReplaceTheMatchingEntry() {
+        ControlByteHashTable<Integer, String> hashTable = new ControlByteHashTable<Integer, String>(THREE);
+        hashTable.add(new Entry<Integer, String>(1, "one"));
+        hashTable.add(new Entry<Integer, String>(1, "bis"));
+        assertTrue(hashTable.replaceEntry(1, "bis", "ter"));
+        assertFalse(hashTable.replaceEntry(1, "bis", "ter"));
+        ModifiableCollection<String> values = new ModifiableArrayCollection<String>();
+        hashTable.collectContentsForKey(1, values);
+        assertEquals(2, values.size());
+        assertTrue(values.contains("one"));
+        assertTrue(values.contains("ter"));
+        assertTrue(hashTable.containsContent("ter"));
+        assertFalse(hashTable.containsContent("bis"));
+    }
+
+    /**
+     * Verifies that clearing the hash table removes all entries.
+     */
+    @Test
+    public void clearShouldRemoveAllEntries() {
+        ControlByteHashTable<Integer, String> hashTable = createHashTable0To99();
+        hashTable.clear();
+        assertEquals(0, hashTable.getSize());
+        assertNull(hashTable.getFirstEntry());
+        assertFalse(hashTable.containsKey(1));
+        assertArrayEquals(new Object[0], hashTable.toArray());
+    }
+
+    /**
+     * Verifies that clearing the hash table isn't counted as a resize.
+     */
+    @Test
+    public void clearShouldNotChangeTheNumberOfResizes() {
+        ControlByteHashTable<Integer, String> hashTable = createHashTable0To99();
+        int numberOfResizes = hashTable.calculateStatistics().numberOfResizes();
+        hashTable.clear();
+        assertEquals(numberOfResizes, hashTable.calculateStatistics().numberOfResizes());
+    }
+
+    /**
+     * Verifies that the statistics count the probe lengths in groups.
+     */
+    @Test
+    public void calculateStatisticsShouldCountProbeLengthsInGroups() {
+        ControlByteHashTable<KeyWithCollidingHash, Integer> hashTable =
+                new ControlByteHashTable<KeyWithCollidingHash, Integer>(SIXTEEN);
+        for (int i = 0; i < SIXTEEN; i++) {
+            hashTable.add(new Entry<KeyWithCollidingHash, Integer>(new KeyWithCollidingHash(i), i));
+        }
+        HashStatistics statistics = hashTable.calculateStatistics();
+        assertEquals(2, statistics.maximumProbeLength());
+        assertEquals(EIGHT, statistics.collisions());
+    }
+}
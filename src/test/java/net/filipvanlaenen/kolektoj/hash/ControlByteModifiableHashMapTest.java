@@ -0,0 +1,13 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static net.filipvanlaenen.kolektoj.hash.ProbingStrategy.CONTROL_BYTE_PROBING;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.ModifiableHashMap} class using control byte probing.
+ */
+public final class ControlByteModifiableHashMapTest extends ProbingModifiableHashMapTestBase {
+    @Override
+    protected ProbingStrategy getProbingStrategy() {
+        return CONTROL_BYTE_PROBING;
+    }
+}
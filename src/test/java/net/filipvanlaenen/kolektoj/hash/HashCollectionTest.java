@@ -1,5 +1,12 @@
 package net.filipvanlaenen.kolektoj.hash;
 
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DISTINCT_ELEMENTS;
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DUPLICATE_ELEMENTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
 import net.filipvanlaenen.kolektoj.Collection.ElementCardinality;
 import net.filipvanlaenen.kolektoj.CollectionTestBase;
 import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
@@ -9,6 +16,15 @@ import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
  */
 public final class HashCollectionTest
         extends CollectionTestBase<HashCollection<Integer>, HashCollection<ElementWithCollidingHash>> {
+    /**
+     * The magic number three.
+     */
+    private static final int THREE = 3;
+    /**
+     * The magic number four.
+     */
+    private static final int FOUR = 4;
+
     @Override
     protected HashCollection<Integer> createCollection(final ElementCardinality elementCardinality,
             final HashCollection<Integer> collection) {
@@ -36,4 +52,30 @@ public final class HashCollectionTest
             final ElementWithCollidingHash... elements) {
         return new HashCollection<ElementWithCollidingHash>(elements);
     }
+
+    /**
+     * Verifies that unionOf with duplicate elements contains all the elements of the collections.
+     */
+    @Test
+    public void unionOfShouldContainAllElementsWithDuplicateElements() {
+        HashCollection<Integer> union = HashCollection.<Integer>unionOf(DUPLICATE_ELEMENTS,
+                new HashCollection<Integer>(1, 2), new HashCollection<Integer>(2, THREE));
+        assertEquals(DUPLICATE_ELEMENTS, union.getElementCardinality());
+        assertEquals(FOUR, union.size());
+        assertTrue(union.containsAll(new HashCollection<Integer>(1, 2, 2, THREE)));
+    }
+
+    /**
+     * Verifies that unionOf with distinct elements contains every element of the collections once, and that its hash
+     * table only holds the distinct elements.
+     */
+    @Test
+    public void unionOfShouldContainEveryElementOnceWithDistinctElements() {
+        HashCollection<Integer> union = HashCollection.<Integer>unionOf(DISTINCT_ELEMENTS,
+                new HashCollection<Integer>(1, 2), new HashCollection<Integer>(2, THREE));
+        assertEquals(DISTINCT_ELEMENTS, union.getElementCardinality());
+        assertEquals(THREE, union.size());
+        assertEquals(THREE, union.getHashStatistics().size());
+        assertTrue(union.contains(THREE));
+    }
 }
@@ -1,5 +1,11 @@
 package net.filipvanlaenen.kolektoj.hash;
 
+import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DISTINCT_KEYS;
+import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DUPLICATE_KEYS_WITH_DUPLICATE_VALUES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
 import net.filipvanlaenen.kolektoj.Map.Entry;
 import net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality;
 import net.filipvanlaenen.kolektoj.MapTestBase;
@@ -10,6 +16,11 @@ import net.filipvanlaenen.kolektoj.MapTestBase.KeyWithCollidingHash;
  */
 public final class HashMapTest
         extends MapTestBase<HashMap<Integer, String>, HashMap<KeyWithCollidingHash, Integer>> {
+    /**
+     * The magic number three.
+     */
+    private static final int THREE = 3;
+
     @Override
     protected HashMap<Integer, String> createMap(final Entry<Integer, String>... entries) {
         return new HashMap<Integer, String>(entries);
@@ -26,4 +37,32 @@ public final class HashMapTest
             final Entry<KeyWithCollidingHash, Integer>... entries) {
         return new HashMap<KeyWithCollidingHash, Integer>(entries);
     }
+
+    /**
+     * Verifies that unionOf with distinct keys keeps the first entry for every key.
+     */
+    @Test
+    public void unionOfShouldKeepTheFirstEntryForEveryKeyWithDistinctKeys() {
+        HashMap<Integer, String> union = HashMap.<Integer, String>unionOf(DISTINCT_KEYS,
+                new HashMap<Integer, String>(new Entry<Integer, String>(1, "one"),
+                        new Entry<Integer, String>(2, "two")),
+                new HashMap<Integer, String>(new Entry<Integer, String>(2, "zwei"),
+                        new Entry<Integer, String>(THREE, "three")));
+        assertEquals(THREE, union.size());
+        assertEquals("two", union.get(2));
+        assertEquals("three", union.get(THREE));
+        assertEquals(THREE, union.getKeys().size());
+    }
+
+    /**
+     * Verifies that unionOf with duplicate keys and duplicate values keeps all entries.
+     */
+    @Test
+    public void unionOfShouldKeepAllEntriesWithDuplicateKeysAndDuplicateValues() {
+        HashMap<Integer, String> union = HashMap.<Integer, String>unionOf(DUPLICATE_KEYS_WITH_DUPLICATE_VALUES,
+                new HashMap<Integer, String>(new Entry<Integer, String>(1, "one")),
+                new HashMap<Integer, String>(new Entry<Integer, String>(1, "one")));
+        assertEquals(2, union.size());
+        assertEquals(DUPLICATE_KEYS_WITH_DUPLICATE_VALUES, union.getKeyAndValueCardinality());
+    }
 }
@@ -0,0 +1,220 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.OrderedCollection;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.HashStatistics} class and the calculation of the
+ * statistics by the hash-backed collections and maps.
+ */
+public class HashStatisticsTest {
+    /**
+     * The magic number three.
+     */
+    private static final int THREE = 3;
+    /**
+     * The magic number sixteen.
+     */
+    private static final int SIXTEEN = 16;
+    /**
+     * The delta used to compare doubles.
+     */
+    private static final double DELTA = 0.0001D;
+    /**
+     * An entry with key 1 and value one.
+     */
+    private static final Entry<Integer, String> ENTRY1 = new Entry<Integer, String>(1, "one");
+    /**
+     * An entry with key 2 and value two.
+     */
+    private static final Entry<Integer, String> ENTRY2 = new Entry<Integer, String>(2, "two");
+    /**
+     * Statistics for a hash collection with the integers 0, 1 and 2.
+     */
+    private static final HashStatistics STATISTICS012 = new HashCollection<Integer>(0, 1, 2).getHashStatistics();
+    /**
+     * Statistics for a hash collection with three elements with colliding hashes.
+     */
+    private static final HashStatistics COLLIDING_STATISTICS =
+            new HashCollection<ElementWithCollidingHash>(new ElementWithCollidingHash(0),
+                    new ElementWithCollidingHash(1), new ElementWithCollidingHash(2)).getHashStatistics();
+    /**
+     * Statistics for an empty hash collection.
+     */
+    private static final HashStatistics EMPTY_STATISTICS = new HashCollection<Integer>().getHashStatistics();
+
+    /**
+     * Verifies that the size is calculated correctly.
+     */
+    @Test
+    public void sizeShouldBeCalculatedCorrectly() {
+        assertEquals(THREE, STATISTICS012.size());
+    }
+
+    /**
+     * Verifies that the capacity is calculated correctly.
+     */
+    @Test
+    public void capacityShouldBeCalculatedCorrectly() {
+        assertEquals(SIXTEEN, STATISTICS012.capacity());
+    }
+
+    /**
+     * Verifies that the load factor is calculated correctly.
+     */
+    @Test
+    public void loadFactorShouldBeCalculatedCorrectly() {
+        assertEquals((double) THREE / SIXTEEN, STATISTICS012.loadFactor(), DELTA);
+    }
+
+    /**
+     * Verifies that the load factor is zero for an empty collection.
+     */
+    @Test
+    public void loadFactorShouldBeZeroForEmptyCollection() {
+        assertEquals(0D, EMPTY_STATISTICS.loadFactor(), DELTA);
+    }
+
+    /**
+     * Verifies that the average probe length is one when there are no collisions.
+     */
+    @Test
+    public void averageProbeLengthShouldBeOneWithoutCollisions() {
+        assertEquals(1D, STATISTICS012.averageProbeLength(), DELTA);
+    }
+
+    /**
+     * Verifies that the average probe length is calculated correctly when hashes collide.
+     */
+    @Test
+    public void averageProbeLengthShouldBeCalculatedCorrectlyWithCollisions() {
+        assertEquals(2D, COLLIDING_STATISTICS.averageProbeLength(), DELTA);
+    }
+
+    /**
+     * Verifies that the average probe length is zero for an empty collection.
+     */
+    @Test
+    public void averageProbeLengthShouldBeZeroForEmptyCollection() {
+        assertEquals(0D, EMPTY_STATISTICS.averageProbeLength(), DELTA);
+    }
+
+    /**
+     * Verifies that the maximum probe length is calculated correctly when hashes collide.
+     */
+    @Test
+    public void maximumProbeLengthShouldBeCalculatedCorrectlyWithCollisions() {
+        assertEquals(THREE, COLLIDING_STATISTICS.maximumProbeLength());
+    }
+
+    /**
+     * Verifies that the number of collisions is zero when there are no collisions.
+     */
+    @Test
+    public void collisionsShouldBeZeroWithoutCollisions() {
+        assertEquals(0, STATISTICS012.collisions());
+    }
+
+    /**
+     * Verifies that the number of collisions is calculated correctly when hashes collide.
+     */
+    @Test
+    public void collisionsShouldBeCalculatedCorrectlyWithCollisions() {
+        assertEquals(2, COLLIDING_STATISTICS.collisions());
+    }
+
+    /**
+     * Verifies that the cluster size histogram counts a run of three occupied slots as one cluster of size three.
+     */
+    @Test
+    public void clusterSizeHistogramShouldCountOneClusterOfSizeThree() {
+        assertArrayEquals(new Integer[] {0, 0, 0, 1}, COLLIDING_STATISTICS.clusterSizeHistogram().toArray());
+    }
+
+    /**
+     * Verifies that the cluster size histogram counts sequential integers as clusters of size one, because their hash
+     * codes are spread over the hash table.
+     */
+    @Test
+    public void clusterSizeHistogramShouldCountSpreadSequentialIntegersAsClustersOfSizeOne() {
+        assertArrayEquals(new Integer[] {0, THREE}, STATISTICS012.clusterSizeHistogram().toArray());
+    }
+
+    /**
+     * Verifies that the cluster size histogram counts separate clusters separately.
+     */
+    @Test
+    public void clusterSizeHistogramShouldCountSeparateClusters() {
+        OrderedCollection<Integer> histogram = new HashCollection<Integer>(0, 2).getHashStatistics()
+                .clusterSizeHistogram();
+        assertArrayEquals(new Integer[] {0, 2}, histogram.toArray());
+    }
+
+    /**
+     * Verifies that the cluster size histogram counts clusters wrapping around the end of the hash table as one
+     * cluster.
+     */
+    @Test
+    public void clusterSizeHistogramShouldCountWrappingClusterAsOneCluster() {
+        OrderedCollection<Integer> histogram = new HashCollection<Integer>(0, -1).getHashStatistics()
+                .clusterSizeHistogram();
+        assertArrayEquals(new Integer[] {0, 0, 1}, histogram.toArray());
+    }
+
+    /**
+     * Verifies that the cluster size histogram for an empty collection contains only zero clusters of size zero.
+     */
+    @Test
+    public void clusterSizeHistogramShouldBeZeroForEmptyCollection() {
+        assertArrayEquals(new Integer[] {0}, EMPTY_STATISTICS.clusterSizeHistogram().toArray());
+    }
+
+    /**
+     * Verifies that the number of resizes is zero for a hash collection.
+     */
+    @Test
+    public void numberOfResizesShouldBeZeroForHashCollection() {
+        assertEquals(0, STATISTICS012.numberOfResizes());
+    }
+
+    /**
+     * Verifies that the statistics are calculated for a hash map.
+     */
+    @Test
+    public void getHashStatisticsShouldBeWiredCorrectlyForHashMap() {
+        assertEquals(2, new HashMap<Integer, String>(ENTRY1, ENTRY2).getHashStatistics().size());
+    }
+
+    /**
+     * Verifies that the statistics are calculated for an updatable hash map.
+     */
+    @Test
+    public void getHashStatisticsShouldBeWiredCorrectlyForUpdatableHashMap() {
+        assertEquals(2, new UpdatableHashMap<Integer, String>(ENTRY1, ENTRY2).getHashStatistics().size());
+    }
+
+    /**
+     * Verifies that the statistics are calculated for a modifiable hash map.
+     */
+    @Test
+    public void getHashStatisticsShouldBeWiredCorrectlyForModifiableHashMap() {
+        assertEquals(2, new ModifiableHashMap<Integer, String>(ENTRY1, ENTRY2).getHashStatistics().size());
+    }
+
+    /**
+     * Verifies that the number of resizes is counted for a modifiable hash map.
+     */
+    @Test
+    public void numberOfResizesShouldBeCountedForModifiableHashMap() {
+        ModifiableHashMap<Integer, String> map = new ModifiableHashMap<Integer, String>();
+        assertEquals(0, map.getHashStatistics().numberOfResizes());
+        map.add(1, "one");
+        assertEquals(1, map.getHashStatistics().numberOfResizes());
+    }
+}
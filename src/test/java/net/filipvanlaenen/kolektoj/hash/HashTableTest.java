@@ -0,0 +1,377 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.ModifiableCollection;
+import net.filipvanlaenen.kolektoj.array.ModifiableArrayCollection;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.HashTable} class.
+ */
+public class HashTableTest {
+    /**
+     * The magic number three.
+     */
+    private static final int THREE = 3;
+    /**
+     * The magic number eight.
+     */
+    private static final int EIGHT = 8;
+    /**
+     * The magic number hundred.
+     */
+    private static final int HUNDRED = 100;
+
+    /**
+     * Class for keys with a given hash code, counting the number of calls to <code>hashCode</code> and
+     * <code>equals</code>.
+     */
+    private static final class CountingKey {
+        /**
+         * The hash code of the key.
+         */
+        private final int hash;
+        /**
+         * The number of calls to <code>equals</code>.
+         */
+        private int numberOfEqualsCalls;
+        /**
+         * The number of calls to <code>hashCode</code>.
+         */
+        private int numberOfHashCodeCalls;
+
+        /**
+         * Constructor taking the hash code of the key as its parameter.
+         *
+         * @param hash The hash code of the key.
+         */
+        CountingKey(final int hash) {
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            numberOfEqualsCalls++;
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            numberOfHashCodeCalls++;
+            return hash;
+        }
+    }
+
+    /**
+     * Creates a hash table with the integers one, two and three, mapped to their string representations.
+     *
+     * @return A hash table with the integers one, two and three.
+     */
+    private static HashTable<Integer, String> createHashTable123() {
+        HashTable<Integer, String> hashTable = new HashTable<Integer, String>(THREE);
+        hashTable.add(new Entry<Integer, String>(1, "1"));
+        hashTable.add(new Entry<Integer, String>(2, "2"));
+        hashTable.add(new Entry<Integer, String>(THREE, "3"));
+        return hashTable;
+    }
+
+    /**
+     * Verifies that the size of the hash table is increased when entries are added.
+     */
+    @Test
+    public void getSizeShouldReturnNumberOfAddedEntries() {
+        assertEquals(THREE, createHashTable123().getSize());
+    }
+
+    /**
+     * Verifies that an entry can be found after it has been added.
+     */
+    @Test
+    public void findFirstIndexForKeyShouldFindAddedEntry() {
+        HashTable<Integer, String> hashTable = createHashTable123();
+        assertEquals("2", hashTable.getEntryAt(hashTable.findFirstIndexForKey(2)).value());
+    }
+
+    /**
+     * Verifies that -1 is returned when the key is absent.
+     */
+    @Test
+    public void findFirstIndexForKeyShouldReturnMinusOneForAbsentKey() {
+        assertEquals(-1, createHashTable123().findFirstIndexForKey(0));
+    }
+
+    /**
+     * Verifies that -1 is returned when the hash table is empty.
+     */
+    @Test
+    public void findFirstIndexForKeyShouldReturnMinusOneForEmptyHashTable() {
+        assertEquals(-1, new HashTable<Integer, String>(0).findFirstIndexForKey(0));
+    }
+
+    /**
+     * Verifies that an entry can be found by its key and its content.
+     */
+    @Test
+    public void findFirstIndexForKeyAndContentShouldFindAddedEntry() {
+        HashTable<Integer, String> hashTable = createHashTable123();
+        assertEquals(2, hashTable.getEntryAt(hashTable.findFirstIndexForKeyAndContent(2, "2", true)).key());
+    }
+
+    /**
+     * Verifies that -1 is returned when the key is present, but with another content.
+     */
+    @Test
+    public void findFirstIndexForKeyAndContentShouldReturnMinusOneForOtherContent() {
+        assertEquals(-1, createHashTable123().findFirstIndexForKeyAndContent(2, "3", true));
+    }
+
+    /**
+     * Verifies that an entry with a duplicate key can be found by its key and its content when the keys aren't
+     * distinct.
+     */
+    @Test
+    public void findFirstIndexForKeyAndContentShouldFindEntryWithDuplicateKey() {
+        HashTable<Integer, String> hashTable = createHashTable123();
+        hashTable.add(new Entry<Integer, String>(2, "two"));
+        assertEquals("two", hashTable.getEntryAt(hashTable.findFirstIndexForKeyAndContent(2, "two", false)).value());
+    }
+
+    /**
+     * Verifies that the contents of all the entries with a key are collected.
+     */
+    @Test
+    public void collectContentsForKeyShouldCollectAllContents() {
+        HashTable<Integer, String> hashTable = createHashTable123();
+        hashTable.add(new Entry<Integer, String>(2, "two"));
+        ModifiableCollection<String> result = new ModifiableArrayCollection<String>();
+        hashTable.collectContentsForKey(2, result);
+        assertEquals(2, result.size());
+    }
+
+    /**
+     * Verifies that an entry can be replaced.
+     */
+    @Test
+    public void setEntryAtShouldReplaceEntry() {
+        HashTable<Integer, String> hashTable = createHashTable123();
+        int index = hashTable.findFirstIndexForKey(2);
+        hashTable.setEntryAt(index, new Entry<Integer, String>(2, "two"));
+        assertEquals("two", hashTable.getEntryAt(hashTable.findFirstIndexForKey(2)).value());
+    }
+
+    /**
+     * Verifies that an entry can't be found anymore after it has been removed.
+     */
+    @Test
+    public void removeAtShouldRemoveEntry() {
+        HashTable<Integer, String> hashTable = createHashTable123();
+        hashTable.removeAt(hashTable.findFirstIndexForKey(2));
+        assertEquals(-1, hashTable.findFirstIndexForKey(2));
+        assertEquals(2, hashTable.getSize());
+    }
+
+    /**
+     * Verifies that the other entries of a cluster can still be found after an entry has been removed.
+     */
+    @Test
+    public void removeAtShouldKeepOtherEntriesOfClusterReachable() {
+        HashTable<Integer, String> hashTable = createHashTable123();
+        hashTable.removeAt(hashTable.findFirstIndexForKey(1));
+        assertEquals("2", hashTable.getEntryAt(hashTable.findFirstIndexForKey(2)).value());
+        assertEquals("3", hashTable.getEntryAt(hashTable.findFirstIndexForKey(THREE)).value());
+    }
+
+    /**
+     * Creates a hash table with a capacity of eight and three keys with hash code -1, which occupy the last slot and
+     * wrap around to the first two slots.
+     *
+     * @param keys An array to be filled with the three keys.
+     * @return A hash table with three keys with hash code -1.
+     */
+    private static HashTable<CountingKey, String> createWrappingHashTable(final CountingKey[] keys) {
+        HashTable<CountingKey, String> hashTable = new HashTable<CountingKey, String>(2);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new CountingKey(-1);
+            hashTable.add(new Entry<CountingKey, String>(keys[i], Integer.toString(i)));
+        }
+        return hashTable;
+    }
+
+    /**
+     * Verifies that the entries of a cluster wrapping around the end of the hash table are shifted backward when the
+     * first entry of the cluster is removed.
+     */
+    @Test
+    public void removeAtShouldShiftWrappingClusterBackward() {
+        CountingKey[] keys = new CountingKey[THREE];
+        HashTable<CountingKey, String> hashTable = createWrappingHashTable(keys);
+        assertEquals(EIGHT - 1, HashUtilities.index(-1, EIGHT));
+        hashTable.removeAt(hashTable.findFirstIndexForKey(keys[0]));
+        assertEquals(EIGHT - 1, hashTable.findFirstIndexForKey(keys[1]));
+        assertEquals(0, hashTable.findFirstIndexForKey(keys[2]));
+        assertEquals(2, hashTable.calculateStatistics().maximumProbeLength());
+    }
+
+    /**
+     * Verifies that removing an entry from the middle of a cluster doesn't resize the hash table.
+     */
+    @Test
+    public void removeAtShouldNotResizeHashTableForClusteredEntry() {
+        CountingKey[] keys = new CountingKey[THREE];
+        HashTable<CountingKey, String> hashTable = createWrappingHashTable(keys);
+        int numberOfResizes = hashTable.calculateStatistics().numberOfResizes();
+        hashTable.removeAt(hashTable.findFirstIndexForKey(keys[1]));
+        assertEquals(numberOfResizes, hashTable.calculateStatistics().numberOfResizes());
+        assertEquals("2", hashTable.getEntryAt(hashTable.findFirstIndexForKey(keys[2])).value());
+    }
+
+    /**
+     * Verifies that an entry in its home slot isn't shifted backward when an entry before it is removed.
+     */
+    @Test
+    public void removeAtShouldNotShiftEntryInItsHomeSlot() {
+        HashTable<CountingKey, String> hashTable = new HashTable<CountingKey, String>(2);
+        CountingKey last = new CountingKey(-1);
+        int firstHashCode = 0;
+        while (HashUtilities.index(firstHashCode, EIGHT) != 0) {
+            firstHashCode++;
+        }
+        CountingKey first = new CountingKey(firstHashCode);
+        hashTable.add(new Entry<CountingKey, String>(last, "last"));
+        hashTable.add(new Entry<CountingKey, String>(first, "first"));
+        hashTable.removeAt(hashTable.findFirstIndexForKey(last));
+        assertEquals(0, hashTable.findFirstIndexForKey(first));
+    }
+
+    /**
+     * Returns a hash code for which the home slot in a hash table with a capacity of eight is the first slot.
+     *
+     * @return A hash code with the first slot as its home slot.
+     */
+    private static int hashCodeForFirstSlot() {
+        int hashCode = 0;
+        while (HashUtilities.index(hashCode, EIGHT) != 0) {
+            hashCode++;
+        }
+        return hashCode;
+    }
+
+    /**
+     * Creates a Robin Hood hash table with a capacity of eight with an entry in its home slot, the first slot, and then
+     * two entries with hash code -1, the second of which takes the first slot because it's further away from its home
+     * slot.
+     *
+     * @param keys An array to be filled with the three keys, in the order of insertion.
+     * @return A Robin Hood hash table with three entries.
+     */
+    private static HashTable<CountingKey, String> createRobinHoodHashTable(final CountingKey[] keys) {
+        HashTable<CountingKey, String> hashTable =
+                new HashTable<CountingKey, String>(2, ProbingStrategy.ROBIN_HOOD_HASHING);
+        keys[0] = new CountingKey(hashCodeForFirstSlot());
+        keys[1] = new CountingKey(-1);
+        keys[2] = new CountingKey(-1);
+        for (int i = 0; i < keys.length; i++) {
+            hashTable.add(new Entry<CountingKey, String>(keys[i], Integer.toString(i)));
+        }
+        return hashTable;
+    }
+
+    /**
+     * Verifies that with Robin Hood hashing, an entry further away from its home slot displaces an entry in its home
+     * slot.
+     */
+    @Test
+    public void addShouldDisplaceEntryCloserToItsHomeSlotWithRobinHoodHashing() {
+        CountingKey[] keys = new CountingKey[THREE];
+        HashTable<CountingKey, String> hashTable = createRobinHoodHashTable(keys);
+        assertEquals(EIGHT - 1, hashTable.findFirstIndexForKey(keys[1]));
+        assertEquals(0, hashTable.findFirstIndexForKey(keys[2]));
+        assertEquals(1, hashTable.findFirstIndexForKey(keys[0]));
+    }
+
+    /**
+     * Verifies that with Robin Hood hashing, removing an entry shifts the displaced entry back to its home slot.
+     */
+    @Test
+    public void removeAtShouldShiftDisplacedEntryBackToItsHomeSlotWithRobinHoodHashing() {
+        CountingKey[] keys = new CountingKey[THREE];
+        HashTable<CountingKey, String> hashTable = createRobinHoodHashTable(keys);
+        hashTable.removeAt(hashTable.findFirstIndexForKey(keys[1]));
+        assertEquals(EIGHT - 1, hashTable.findFirstIndexForKey(keys[2]));
+        assertEquals(0, hashTable.findFirstIndexForKey(keys[0]));
+        assertEquals(1, hashTable.calculateStatistics().maximumProbeLength());
+    }
+
+    /**
+     * Verifies that with Robin Hood hashing, a lookup for an absent key returns -1 after comparing only the entries
+     * with the same hash code.
+     */
+    @Test
+    public void findFirstIndexForKeyShouldReturnMinusOneForAbsentKeyWithRobinHoodHashing() {
+        CountingKey[] keys = new CountingKey[THREE];
+        HashTable<CountingKey, String> hashTable = createRobinHoodHashTable(keys);
+        assertEquals(-1, hashTable.findFirstIndexForKey(new CountingKey(-1)));
+        assertEquals(0, keys[0].numberOfEqualsCalls);
+        assertEquals(1, keys[1].numberOfEqualsCalls);
+        assertEquals(1, keys[2].numberOfEqualsCalls);
+    }
+
+    /**
+     * Verifies that clearing the hash table removes all entries.
+     */
+    @Test
+    public void clearShouldRemoveAllEntries() {
+        HashTable<Integer, String> hashTable = createHashTable123();
+        hashTable.clear();
+        assertEquals(0, hashTable.getSize());
+        assertEquals(-1, hashTable.findFirstIndexForKey(1));
+    }
+
+    /**
+     * Verifies that clearing the hash table isn't counted as a resize.
+     */
+    @Test
+    public void clearShouldNotChangeTheNumberOfResizes() {
+        HashTable<Integer, String> hashTable = createHashTable123();
+        int numberOfResizes = hashTable.calculateStatistics().numberOfResizes();
+        hashTable.clear();
+        assertEquals(numberOfResizes, hashTable.calculateStatistics().numberOfResizes());
+    }
+
+    /**
+     * Verifies that resizing the hash table doesn't call <code>hashCode</code> on the keys again.
+     */
+    @Test
+    public void resizingShouldNotCallHashCodeAgain() {
+        HashTable<CountingKey, String> hashTable = new HashTable<CountingKey, String>(0);
+        CountingKey[] keys = new CountingKey[HUNDRED];
+        for (int i = 0; i < HUNDRED; i++) {
+            keys[i] = new CountingKey(i);
+            hashTable.add(new Entry<CountingKey, String>(keys[i], Integer.toString(i)));
+        }
+        for (CountingKey key : keys) {
+            assertEquals(1, key.numberOfHashCodeCalls);
+        }
+    }
+
+    /**
+     * Verifies that probing doesn't call <code>equals</code> on entries with another hash code.
+     */
+    @Test
+    public void findFirstIndexForKeyShouldSkipEqualsForMismatchedHashCodes() {
+        HashTable<CountingKey, String> hashTable = new HashTable<CountingKey, String>(2);
+        int collidingHashCode = 1;
+        while (HashUtilities.index(collidingHashCode, EIGHT) != HashUtilities.index(0, EIGHT)) {
+            collidingHashCode++;
+        }
+        CountingKey key0 = new CountingKey(0);
+        CountingKey collidingKey = new CountingKey(collidingHashCode);
+        hashTable.add(new Entry<CountingKey, String>(key0, "0"));
+        hashTable.add(new Entry<CountingKey, String>(collidingKey, "colliding"));
+        assertEquals("colliding", hashTable.getEntryAt(hashTable.findFirstIndexForKey(collidingKey)).value());
+        assertEquals(0, key0.numberOfEqualsCalls);
+    }
+}
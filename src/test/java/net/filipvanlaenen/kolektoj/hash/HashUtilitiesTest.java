@@ -1,5 +1,6 @@
 package net.filipvanlaenen.kolektoj.hash;
 
+import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DUPLICATE_ELEMENTS;
 import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DISTINCT_KEYS;
 import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DUPLICATE_KEYS_WITH_DISTINCT_VALUES;
 import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DUPLICATE_KEYS_WITH_DUPLICATE_VALUES;
@@ -11,6 +12,7 @@ import net.filipvanlaenen.kolektoj.Collection;
 import net.filipvanlaenen.kolektoj.Map;
 import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
 import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.array.ArrayUtilities;
 
 /**
  * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.HashUtilities} class.
@@ -28,6 +30,10 @@ public class HashUtilitiesTest {
      * The magic number five.
      */
     private static final int FIVE = 5;
+    /**
+     * The magic number sixteen.
+     */
+    private static final int SIXTEEN = 16;
     /**
      * An entry with key 1 and value one.
      */
@@ -87,11 +93,11 @@ public class HashUtilitiesTest {
     }
 
     /**
-     * Verifies that the hash value of an object with hash code 5 for a hash size of 2 is 1.
+     * Verifies that the hash value of an object is its spread hash code masked by the size.
      */
     @Test
-    public void hashShouldReturnHashCodeModuloSize() {
-        assertEquals(1, HashUtilities.hash(new IntegerFieldObject(FIVE), 2));
+    public void hashShouldReturnSpreadHashCodeMaskedBySize() {
+        assertEquals(ArrayUtilities.spread(FIVE) & (FOUR - 1), HashUtilities.hash(new IntegerFieldObject(FIVE), FOUR));
     }
 
     /**
@@ -99,7 +105,15 @@ public class HashUtilitiesTest {
      */
     @Test
     public void hashShouldBePositive() {
-        assertEquals(1, HashUtilities.hash(new IntegerFieldObject(-1), 2));
+        assertTrue(HashUtilities.hash(new IntegerFieldObject(-1), FOUR) >= 0);
+    }
+
+    /**
+     * Verifies that sequential hash codes aren't mapped to sequential indices.
+     */
+    @Test
+    public void indexShouldSpreadSequentialHashCodes() {
+        assertNotEquals(HashUtilities.index(1, SIXTEEN) + 1, HashUtilities.index(2, SIXTEEN));
     }
 
     /**
@@ -183,4 +197,88 @@ public class HashUtilitiesTest {
         assertFalse(collection.contains(new ElementWithCollidingHash(-1)));
     }
 
+    /**
+     * Verifies that containsAllKeys returns true when the collection occurs in the hash table with the same
+     * multiplicities.
+     */
+    @Test
+    public void containsAllKeysShouldReturnTrueForSubsetWithMultiplicities() {
+        HashCollection<Integer> hashCollection = new HashCollection<Integer>(DUPLICATE_ELEMENTS, 1, 2, 2, THREE);
+        assertTrue(hashCollection.containsAll(Collection.of(2, 1, 2)));
+    }
+
+    /**
+     * Verifies that containsAllKeys returns false when an element occurs more often in the collection than in the hash
+     * table.
+     */
+    @Test
+    public void containsAllKeysShouldReturnFalseWhenElementOccursTooOften() {
+        HashCollection<Integer> hashCollection = new HashCollection<Integer>(DUPLICATE_ELEMENTS, 1, 2, THREE);
+        assertFalse(hashCollection.containsAll(Collection.of(2, 2)));
+    }
+
+    /**
+     * Verifies that containsAllKeys returns false when the collection contains an absent element.
+     */
+    @Test
+    public void containsAllKeysShouldReturnFalseForAbsentElement() {
+        assertFalse(new HashCollection<Integer>(1, 2, THREE).containsAll(Collection.of(FOUR)));
+    }
+
+    /**
+     * Verifies that containsAllKeys returns true for an empty collection.
+     */
+    @Test
+    public void containsAllKeysShouldReturnTrueForEmptyCollection() {
+        assertTrue(new HashCollection<Integer>().containsAll(Collection.empty()));
+    }
+
+    /**
+     * Verifies that containsAllKeys handles <code>null</code> elements.
+     */
+    @Test
+    public void containsAllKeysShouldHandleNull() {
+        assertTrue(new HashCollection<Integer>(1, null).containsAll(Collection.of((Integer) null)));
+    }
+
+    /**
+     * Verifies that containsAllKeys counts the occurrences in a modifiable hash collection with the counters.
+     */
+    @Test
+    public void containsAllKeysShouldUseTheCountersOfAModifiableHashCollection() {
+        ModifiableHashCollection<Integer> hashCollection =
+                new ModifiableHashCollection<Integer>(DUPLICATE_ELEMENTS, 1, 2, 2);
+        assertTrue(hashCollection.containsAll(Collection.of(DUPLICATE_ELEMENTS, 2, 2)));
+        assertFalse(hashCollection.containsAll(Collection.of(DUPLICATE_ELEMENTS, 1, 1)));
+    }
+
+    /**
+     * Verifies that containsAllEntries returns false when an entry occurs more than once in the collection but the
+     * map can contain an entry only once.
+     */
+    @Test
+    public void containsAllEntriesShouldReturnFalseForDuplicateEntriesInAMapWithDistinctEntries() {
+        HashMap<Integer, String> map = new HashMap<Integer, String>(ENTRY1, ENTRY2);
+        assertFalse(map.containsAll(Collection.of(DUPLICATE_ELEMENTS, ENTRY1, OTHER_ENTRY1)));
+    }
+
+    /**
+     * Verifies that containsAllEntries compares the multiplicities of the entries in a map with duplicate entries.
+     */
+    @Test
+    public void containsAllEntriesShouldCompareMultiplicitiesInAMapWithDuplicateEntries() {
+        HashMap<Integer, String> map =
+                new HashMap<Integer, String>(DUPLICATE_KEYS_WITH_DUPLICATE_VALUES, ENTRY1, ENTRY1, ENTRY2);
+        assertTrue(map.containsAll(Collection.of(DUPLICATE_ELEMENTS, ENTRY1, OTHER_ENTRY1, ENTRY2)));
+        assertFalse(map.containsAll(Collection.of(DUPLICATE_ELEMENTS, ENTRY2, ENTRY2)));
+    }
+
+    /**
+     * Verifies that containsAllEntries returns false when the collection contains an element that isn't an entry.
+     */
+    @Test
+    public void containsAllEntriesShouldReturnFalseForAnElementThatIsNotAnEntry() {
+        HashMap<Integer, String> map = new HashMap<Integer, String>(ENTRY1);
+        assertFalse(HashUtilities.containsAllEntries(map, Collection.of("one")));
+    }
 }
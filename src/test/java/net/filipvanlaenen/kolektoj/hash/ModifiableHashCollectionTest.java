@@ -0,0 +1,155 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.Collection.ElementCardinality;
+import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
+import net.filipvanlaenen.kolektoj.ModifiableCollectionTestBase;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.ModifiableHashCollection} class.
+ */
+public final class ModifiableHashCollectionTest extends ModifiableCollectionTestBase<
+        ModifiableHashCollection<Integer>, ModifiableHashCollection<ElementWithCollidingHash>> {
+    /**
+     * The magic number hundred.
+     */
+    private static final int HUNDRED = 100;
+
+    @Override
+    protected ModifiableHashCollection<Integer> createCollection(final ElementCardinality elementCardinality,
+            final ModifiableHashCollection<Integer> collection) {
+        return new ModifiableHashCollection<Integer>(elementCardinality, collection);
+    }
+
+    @Override
+    protected ModifiableHashCollection<Integer> createCollection(final ModifiableHashCollection<Integer> collection) {
+        return new ModifiableHashCollection<Integer>(collection);
+    }
+
+    @Override
+    protected ModifiableHashCollection<ElementWithCollidingHash> createCollidingHashValuesCollection(
+            final ElementWithCollidingHash... elements) {
+        return new ModifiableHashCollection<ElementWithCollidingHash>(elements);
+    }
+
+    @Override
+    protected ModifiableHashCollection<Integer> createModifiableCollection(final ElementCardinality elementCardinality,
+            final ModifiableHashCollection<Integer> integers) {
+        return new ModifiableHashCollection<Integer>(elementCardinality, integers);
+    }
+
+    @Override
+    protected ModifiableHashCollection<Integer> createModifiableCollection(final ElementCardinality elementCardinality,
+            final Integer... integers) {
+        return new ModifiableHashCollection<Integer>(elementCardinality, integers);
+    }
+
+    @Override
+    protected ModifiableHashCollection<Integer> createModifiableCollection(final Integer... integers) {
+        return new ModifiableHashCollection<Integer>(integers);
+    }
+
+    /**
+     * Verifies that duplicate elements occupy a single slot in the hash table.
+     */
+    @Test
+    public void duplicateElementsShouldOccupyASingleSlot() {
+        ModifiableHashCollection<Integer> collection = createModifiableCollection(1, 1, 1, 2);
+        assertEquals(2, collection.getHashStatistics().size());
+        assertEquals(2 + 2, collection.size());
+    }
+
+    /**
+     * Verifies that an element remains in the collection until all its occurrences have been removed.
+     */
+    @Test
+    public void removeShouldKeepElementUntilAllOccurrencesAreRemoved() {
+        ModifiableHashCollection<Integer> collection = createModifiableCollection(1, 1, 2);
+        assertTrue(collection.remove(1));
+        assertTrue(collection.contains(1));
+        assertTrue(collection.remove(1));
+        assertFalse(collection.contains(1));
+        assertFalse(collection.remove(1));
+        assertArrayEquals(new Object[] {2}, collection.toArray());
+    }
+
+    /**
+     * Verifies that toArray expands an element to the number of times it occurs in the collection.
+     */
+    @Test
+    public void toArrayShouldExpandDuplicateElements() {
+        ModifiableHashCollection<Integer> collection = createModifiableCollection(1, 1, 1);
+        assertArrayEquals(new Object[] {1, 1, 1}, collection.toArray());
+    }
+
+    /**
+     * Verifies that retainAll keeps the minimum of the number of occurrences in both collections.
+     */
+    @Test
+    public void retainAllShouldKeepMinimumNumberOfOccurrences() {
+        ModifiableHashCollection<Integer> collection = createModifiableCollection(1, 1, 1, 2, 2);
+        assertTrue(collection.retainAll(createModifiableCollection(1, 1, 2, 2, 2)));
+        assertEquals(2 + 2, collection.size());
+        assertTrue(collection.containsAll(createModifiableCollection(1, 1, 2, 2)));
+        assertFalse(collection.containsAll(createModifiableCollection(1, 1, 1)));
+    }
+
+    /**
+     * Verifies that all elements can be found after half of them have been removed.
+     */
+    @Test
+    public void removeShouldKeepRemainingElementsReachable() {
+        ModifiableHashCollection<Integer> collection = createModifiableCollection();
+        for (int i = 0; i < HUNDRED; i++) {
+            collection.add(i);
+        }
+        for (int i = 0; i < HUNDRED; i += 2) {
+            collection.remove(i);
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i % 2 == 1, collection.contains(i));
+        }
+    }
+
+    /**
+     * Verifies that adding the expected number of elements to a collection with an expected size doesn't resize the
+     * hash table.
+     */
+    @Test
+    public void withExpectedSizeShouldNotResizeWhileAddingTheExpectedNumberOfElements() {
+        ModifiableHashCollection<Integer> collection = ModifiableHashCollection.<Integer>withExpectedSize(HUNDRED);
+        int capacity = collection.getHashStatistics().capacity();
+        for (int i = 0; i < HUNDRED; i++) {
+            collection.add(i);
+        }
+        assertEquals(capacity, collection.getHashStatistics().capacity());
+        assertEquals(0, collection.getHashStatistics().numberOfResizes());
+        assertEquals(HUNDRED, collection.size());
+    }
+
+    /**
+     * Verifies that a collection with an expected size and distinct elements rejects duplicates.
+     */
+    @Test
+    public void withExpectedSizeShouldConstructACollectionWithTheElementCardinality() {
+        ModifiableHashCollection<Integer> collection =
+                ModifiableHashCollection.<Integer>withExpectedSize(ElementCardinality.DISTINCT_ELEMENTS, HUNDRED);
+        assertTrue(collection.add(1));
+        assertFalse(collection.add(1));
+    }
+
+    /**
+     * Verifies that a negative expected size is rejected.
+     */
+    @Test
+    public void withExpectedSizeShouldRejectANegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> ModifiableHashCollection.<Integer>withExpectedSize(-1));
+    }
+}
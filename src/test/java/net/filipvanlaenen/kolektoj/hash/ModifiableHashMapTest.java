@@ -34,6 +34,10 @@ public final class ModifiableHashMapTest extends
      * The magic number ten.
      */
     private static final int TEN = 10;
+    /**
+     * The magic number hundred.
+     */
+    private static final int HUNDRED = 100;
     /**
      * An entry with key null and value null.
      */
@@ -502,6 +506,16 @@ public final class ModifiableHashMapTest extends
         assertFalse(map.removeAll(MAP4));
     }
 
+    /**
+     * Verifies that removeAll also removes the entries following an entry that isn't present in the map.
+     */
+    @Test
+    public void removeAllShouldRemoveTheEntriesFollowingAnAbsentEntry() {
+        ModifiableMap<Integer, String> map = createMap123();
+        assertTrue(map.removeAll(Map.<Integer, String>of(ENTRY4, ENTRY1)));
+        assertFalse(map.containsKey(1));
+    }
+
     /**
      * Verifies that when multiple entries have the same key, and some of them are removed, getAll still returns all
      * values. This ensures that the hashed array is rehashed as holes appear in the overflow after removing entries.
@@ -629,4 +643,49 @@ public final class ModifiableHashMapTest extends
         map1.retainAll(map2);
         assertEquals(SIX, map1.getAll(1).size());
     }
+
+    /**
+     * Verifies that adding the expected number of entries to a map with an expected size doesn't resize the hash
+     * table, for all probing strategies.
+     */
+    @Test
+    public void withExpectedSizeShouldNotResizeWhileAddingTheExpectedNumberOfEntries() {
+        for (ProbingStrategy probingStrategy : ProbingStrategy.values()) {
+            ModifiableHashMap<Integer, String> map =
+                    ModifiableHashMap.<Integer, String>withExpectedSize(probingStrategy, DISTINCT_KEYS, HUNDRED);
+            int capacity = map.getHashStatistics().capacity();
+            for (int i = 0; i < HUNDRED; i++) {
+                map.add(i, Integer.toString(i));
+            }
+            assertEquals(capacity, map.getHashStatistics().capacity());
+            assertEquals(0, map.getHashStatistics().numberOfResizes());
+            assertEquals(HUNDRED, map.size());
+            assertEquals(probingStrategy, map.getProbingStrategy());
+        }
+    }
+
+    /**
+     * Verifies that a map with an expected size can still grow beyond the expected size.
+     */
+    @Test
+    public void withExpectedSizeShouldAllowGrowingBeyondTheExpectedSize() {
+        ModifiableHashMap<Integer, String> map = ModifiableHashMap.<Integer, String>withExpectedSize(1);
+        for (int i = 0; i < HUNDRED; i++) {
+            map.add(i, Integer.toString(i));
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(Integer.toString(i), map.get(i));
+        }
+    }
+
+    /**
+     * Verifies that a negative expected size is rejected, for all probing strategies.
+     */
+    @Test
+    public void withExpectedSizeShouldRejectANegativeSize() {
+        for (ProbingStrategy probingStrategy : ProbingStrategy.values()) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> ModifiableHashMap.<Integer, String>withExpectedSize(probingStrategy, DISTINCT_KEYS, -1));
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DUPLICATE_KEYS_WITH_DUPLICATE_VALUES;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.Map;
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality;
+import net.filipvanlaenen.kolektoj.MapTestBase.KeyWithCollidingHash;
+import net.filipvanlaenen.kolektoj.UpdatableMapTestBase;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.ModifiableHashMap} class that are run for every probing
+ * strategy, on top of the unit tests on updatable maps.
+ */
+abstract class ProbingModifiableHashMapTestBase extends
+        UpdatableMapTestBase<ModifiableHashMap<Integer, String>, ModifiableHashMap<KeyWithCollidingHash, Integer>> {
+    /**
+     * The magic number hundred.
+     */
+    private static final int HUNDRED = 100;
+
+    /**
+     * Returns the probing strategy with which the maps should be created.
+     *
+     * @return The probing strategy with which the maps should be created.
+     */
+    protected abstract ProbingStrategy getProbingStrategy();
+
+    @Override
+    protected ModifiableHashMap<Integer, String> createMap(final Entry<Integer, String>... entries) {
+        return new ModifiableHashMap<Integer, String>(getProbingStrategy(), entries);
+    }
+
+    @Override
+    protected ModifiableHashMap<Integer, String> createMap(final KeyAndValueCardinality keyAndValueCardinality,
+            final Entry<Integer, String>... entries) {
+        return new ModifiableHashMap<Integer, String>(getProbingStrategy(), keyAndValueCardinality, entries);
+    }
+
+    @Override
+    protected ModifiableHashMap<KeyWithCollidingHash, Integer> createCollidingKeyHashMap(
+            final Entry<KeyWithCollidingHash, Integer>... entries) {
+        return new ModifiableHashMap<KeyWithCollidingHash, Integer>(getProbingStrategy(), entries);
+    }
+
+    /**
+     * Creates a map with the integers from zero to hundred (exclusive) mapped to their string representation.
+     *
+     * @return A map with the integers from zero to hundred (exclusive).
+     */
+    private ModifiableHashMap<Integer, String> createMap0To99() {
+        ModifiableHashMap<Integer, String> map = createMap();
+        for (int i = 0; i < HUNDRED; i++) {
+            map.add(i, Integer.toString(i));
+        }
+        return map;
+    }
+
+    /**
+     * Verifies that the map reports Robin Hood hashing as its probing strategy.
+     */
+    @Test
+    public void getProbingStrategyShouldReturnRobinHoodHashing() {
+        assertEquals(getProbingStrategy(), createMap().getProbingStrategy());
+    }
+
+    /**
+     * Verifies that all entries can be found after they have been added one by one.
+     */
+    @Test
+    public void addShouldKeepAllEntriesReachable() {
+        ModifiableHashMap<Integer, String> map = createMap0To99();
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(Integer.toString(i), map.get(i));
+        }
+    }
+
+    /**
+     * Verifies that all remaining entries can be found after every other entry has been removed.
+     */
+    @Test
+    public void removeShouldKeepRemainingEntriesReachable() {
+        ModifiableHashMap<Integer, String> map = createMap0To99();
+        for (int i = 0; i < HUNDRED; i += 2) {
+            map.remove(i);
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i % 2 == 1, map.containsKey(i));
+        }
+    }
+
+    /**
+     * Verifies that entries with colliding keys can be removed and found again.
+     */
+    @Test
+    public void removeShouldWorkForCollidingKeys() {
+        KeyWithCollidingHash key1 = new KeyWithCollidingHash(1);
+        KeyWithCollidingHash key2 = new KeyWithCollidingHash(2);
+        KeyWithCollidingHash key3 = new KeyWithCollidingHash(2 + 1);
+        ModifiableHashMap<KeyWithCollidingHash, Integer> map = createCollidingKeyHashMap(
+                new Entry<KeyWithCollidingHash, Integer>(key1, 1), new Entry<KeyWithCollidingHash, Integer>(key2, 2),
+                new Entry<KeyWithCollidingHash, Integer>(key3, 2 + 1));
+        assertEquals(1, map.remove(key1));
+        assertFalse(map.containsKey(key1));
+        assertEquals(2, map.get(key2));
+        assertEquals(2 + 1, map.get(key3));
+    }
+
+    /**
+     * Verifies that all values for a duplicate key are found.
+     */
+    @Test
+    public void getAllShouldReturnAllValuesForDuplicateKey() {
+        ModifiableHashMap<Integer, String> map = createMap(DUPLICATE_KEYS_WITH_DUPLICATE_VALUES);
+        map.add(1, "one");
+        map.add(2, "two");
+        map.add(1, "bis");
+        map.add(1, "one");
+        assertEquals(2 + 1, map.getAll(1).size());
+    }
+
+    /**
+     * Verifies that retaining entries keeps the retained entries reachable.
+     */
+    @Test
+    public void retainAllShouldKeepRetainedEntriesReachable() {
+        ModifiableHashMap<Integer, String> map = createMap0To99();
+        map.retainAll(Map.of(1, "1", 2 + 2 + 1, "5"));
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey(2 + 2 + 1));
+    }
+}
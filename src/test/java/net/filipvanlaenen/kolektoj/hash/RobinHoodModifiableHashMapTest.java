@@ -0,0 +1,13 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static net.filipvanlaenen.kolektoj.hash.ProbingStrategy.ROBIN_HOOD_HASHING;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.ModifiableHashMap} class using Robin Hood hashing.
+ */
+public final class RobinHoodModifiableHashMapTest extends ProbingModifiableHashMapTestBase {
+    @Override
+    protected ProbingStrategy getProbingStrategy() {
+        return ROBIN_HOOD_HASHING;
+    }
+}
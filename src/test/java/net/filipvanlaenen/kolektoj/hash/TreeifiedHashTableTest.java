@@ -0,0 +1,345 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.MapTestBase.KeyWithCollidingHash;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.TreeifiedHashTable} class.
+ */
+public class TreeifiedHashTableTest {
+    /**
+     * The magic number three.
+     */
+    private static final int THREE = 3;
+    /**
+     * The magic number six.
+     */
+    private static final int SIX = 6;
+    /**
+     * The magic number seven.
+     */
+    private static final int SEVEN = 7;
+    /**
+     * The magic number eight.
+     */
+    private static final int EIGHT = 8;
+    /**
+     * The magic number sixteen.
+     */
+    private static final int SIXTEEN = 16;
+    /**
+     * The magic number hundred.
+     */
+    private static final int HUNDRED = 100;
+    /**
+     * The number of colliding keys in the tests on colliding keys.
+     */
+    private static final int NUMBER_OF_COLLIDING_KEYS = 1_024;
+    /**
+     * The maximal height of an AVL tree with the number of colliding keys, i.e. 1.44 times the binary logarithm.
+     */
+    private static final int MAXIMAL_HEIGHT = 14;
+
+    /**
+     * Class for comparable keys that all have the same hash code, counting the number of calls to <code>equals</code>
+     * and <code>compareTo</code>.
+     */
+    private static final class CollidingComparableKey implements Comparable<CollidingComparableKey> {
+        /**
+         * The number of calls to <code>equals</code> and <code>compareTo</code> on all keys.
+         */
+        private static int numberOfComparisons;
+        /**
+         * The value of the key.
+         */
+        private final int value;
+
+        /**
+         * Constructor taking the value of the key as its parameter.
+         *
+         * @param value The value of the key.
+         */
+        CollidingComparableKey(final int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(final CollidingComparableKey other) {
+            numberOfComparisons++;
+            return Integer.compare(value, other.value);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            numberOfComparisons++;
+            return other instanceof CollidingComparableKey && value == ((CollidingComparableKey) other).value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    /**
+     * Class for keys that all have the same hash code and implement {@link java.lang.Comparable} of another type, such
+     * that comparing two of them throws a {@link java.lang.ClassCastException}.
+     */
+    private static final class KeyComparableToString implements Comparable<String> {
+        /**
+         * The value of the key.
+         */
+        private final int value;
+
+        /**
+         * Constructor taking the value of the key as its parameter.
+         *
+         * @param value The value of the key.
+         */
+        KeyComparableToString(final int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(final String other) {
+            return Integer.toString(value).compareTo(other);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof KeyComparableToString && value == ((KeyComparableToString) other).value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    /**
+     * Creates a hash table with the integers from zero to hundred (exclusive), mapped to their string representations.
+     *
+     * @return A hash table with the integers from zero to hundred (exclusive).
+     */
+    private static TreeifiedHashTable<Integer, String> createHashTable0To99() {
+        TreeifiedHashTable<Integer, String> hashTable = new TreeifiedHashTable<Integer, String>(0);
+        for (int i = 0; i < HUNDRED; i++) {
+            hashTable.add(new Entry<Integer, String>(i, Integer.toString(i)));
+        }
+        return hashTable;
+    }
+
+    /**
+     * Creates a hash table with colliding comparable keys, added in an order that would make an unbalanced tree
+     * degenerate into a list.
+     *
+     * @return A hash table with colliding comparable keys.
+     */
+    private static TreeifiedHashTable<CollidingComparableKey, Integer> createCollidingHashTable() {
+        TreeifiedHashTable<CollidingComparableKey, Integer> hashTable =
+                new TreeifiedHashTable<CollidingComparableKey, Integer>(0);
+        for (int i = 0; i < NUMBER_OF_COLLIDING_KEYS; i++) {
+            hashTable.add(new Entry<CollidingComparableKey, Integer>(new CollidingComparableKey(i), i));
+        }
+        return hashTable;
+    }
+
+    /**
+     * Verifies that all entries can be found after they have been added one by one.
+     */
+    @Test
+    public void addShouldKeepAllEntriesReachable() {
+        TreeifiedHashTable<Integer, String> hashTable = createHashTable0To99();
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(Integer.toString(i), hashTable.getFirstEntryForKey(i).value());
+        }
+        assertEquals(HUNDRED, hashTable.getSize());
+        assertEquals(HUNDRED, hashTable.toArray().length);
+    }
+
+    /**
+     * Verifies that all remaining entries can be found after every other entry has been removed.
+     */
+    @Test
+    public void removeShouldKeepRemainingEntriesReachable() {
+        TreeifiedHashTable<Integer, String> hashTable = createHashTable0To99();
+        for (int i = 0; i < HUNDRED; i += 2) {
+            assertTrue(hashTable.removeEntry(i, Integer.toString(i)));
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i % 2 == 1, hashTable.containsKey(i));
+        }
+    }
+
+    /**
+     * Verifies that colliding comparable keys are kept in a balanced tree.
+     */
+    @Test
+    public void collidingComparableKeysShouldBeKeptInABalancedTree() {
+        TreeifiedHashTable<CollidingComparableKey, Integer> hashTable = createCollidingHashTable();
+        HashStatistics statistics = hashTable.calculateStatistics();
+        assertTrue(statistics.maximumProbeLength() <= MAXIMAL_HEIGHT);
+    }
+
+    /**
+     * Verifies that looking up a colliding comparable key only compares it to the keys on a single path of the tree.
+     */
+    @Test
+    public void lookupOfCollidingComparableKeyShouldOnlyCompareAlongOnePath() {
+        TreeifiedHashTable<CollidingComparableKey, Integer> hashTable = createCollidingHashTable();
+        for (int i = 0; i < NUMBER_OF_COLLIDING_KEYS; i++) {
+            CollidingComparableKey.numberOfComparisons = 0;
+            assertEquals(i, hashTable.getFirstEntryForKey(new CollidingComparableKey(i)).value());
+            assertTrue(CollidingComparableKey.numberOfComparisons <= 2 * MAXIMAL_HEIGHT);
+        }
+    }
+
+    /**
+     * Verifies that the remaining colliding comparable keys can be found after every other key has been removed.
+     */
+    @Test
+    public void removeShouldKeepRemainingCollidingComparableKeysReachable() {
+        TreeifiedHashTable<CollidingComparableKey, Integer> hashTable = createCollidingHashTable();
+        for (int i = 0; i < NUMBER_OF_COLLIDING_KEYS; i += 2) {
+            assertEquals(i, hashTable.removeFirstEntryForKey(new CollidingComparableKey(i)).value());
+        }
+        for (int i = 0; i < NUMBER_OF_COLLIDING_KEYS; i++) {
+            assertEquals(i % 2 == 1, hashTable.containsKey(new CollidingComparableKey(i)));
+        }
+        assertTrue(hashTable.calculateStatistics().maximumProbeLength() <= MAXIMAL_HEIGHT);
+    }
+
+    /**
+     * Verifies that colliding keys are kept in a linked list below the treeify threshold, converted into a tree when
+     * the bin reaches the threshold, and converted back into a linked list when the bin shrinks to the untreeify
+     * threshold.
+     */
+    @Test
+    public void binsShouldOnlyBeTreeifiedFromTheTreeifyThreshold() {
+        TreeifiedHashTable<CollidingComparableKey, Integer> hashTable =
+                new TreeifiedHashTable<CollidingComparableKey, Integer>(0);
+        for (int i = 0; i < SEVEN; i++) {
+            hashTable.add(new Entry<CollidingComparableKey, Integer>(new CollidingComparableKey(i), i));
+        }
+        assertEquals(SEVEN, hashTable.calculateStatistics().maximumProbeLength());
+        hashTable.add(new Entry<CollidingComparableKey, Integer>(new CollidingComparableKey(SEVEN), SEVEN));
+        assertTrue(hashTable.calculateStatistics().maximumProbeLength() < EIGHT);
+        hashTable.removeFirstEntryForKey(new CollidingComparableKey(0));
+        assertTrue(hashTable.calculateStatistics().maximumProbeLength() < SEVEN);
+        hashTable.removeFirstEntryForKey(new CollidingComparableKey(1));
+        assertEquals(SIX, hashTable.calculateStatistics().maximumProbeLength());
+        for (int i = 2; i <= SEVEN; i++) {
+            assertEquals(i, hashTable.getFirstEntryForKey(new CollidingComparableKey(i)).value());
+        }
+    }
+
+    /**
+     * Verifies that colliding keys implementing {@link java.lang.Comparable} of another type are not compared to each
+     * other, and can still be found and removed.
+     */
+    @Test
+    public void keysComparableToAnotherTypeShouldNotBeComparedToEachOther() {
+        TreeifiedHashTable<KeyComparableToString, Integer> hashTable =
+                new TreeifiedHashTable<KeyComparableToString, Integer>(0);
+        for (int i = 0; i < HUNDRED; i++) {
+            hashTable.add(new Entry<KeyComparableToString, Integer>(new KeyComparableToString(i), i));
+        }
+        for (int i = 0; i < HUNDRED; i += 2) {
+            assertEquals(i, hashTable.removeFirstEntryForKey(new KeyComparableToString(i)).value());
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i % 2 == 1, hashTable.containsKey(new KeyComparableToString(i)));
+        }
+    }
+
+    /**
+     * Verifies that colliding keys that aren't comparable can still be found and removed.
+     */
+    @Test
+    public void removeShouldKeepRemainingIncomparableCollidingKeysReachable() {
+        TreeifiedHashTable<KeyWithCollidingHash, Integer> hashTable =
+                new TreeifiedHashTable<KeyWithCollidingHash, Integer>(0);
+        for (int i = 0; i < HUNDRED; i++) {
+            hashTable.add(new Entry<KeyWithCollidingHash, Integer>(new KeyWithCollidingHash(i), i));
+        }
+        for (int i = 0; i < HUNDRED; i += 2) {
+            assertTrue(hashTable.removeEntry(new KeyWithCollidingHash(i), i));
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertEquals(i % 2 == 1, hashTable.containsKey(new KeyWithCollidingHash(i)));
+        }
+    }
+
+    /**
+     * Verifies that keys of different classes with the same hash code, and null, can be told apart.
+     */
+    @Test
+    public void keysOfDifferentClassesWithTheSameHashCodeShouldBeReachable() {
+        TreeifiedHashTable<Object, Integer> hashTable = new TreeifiedHashTable<Object, Integer>(0);
+        hashTable.add(new Entry<Object, Integer>(0, 1));
+        hashTable.add(new Entry<Object, Integer>(0L, 2));
+        hashTable.add(new Entry<Object, Integer>("", THREE));
+        hashTable.add(new Entry<Object, Integer>(null, 0));
+        assertEquals(1, hashTable.getFirstEntryForKey(0).value());
+        assertEquals(2, hashTable.getFirstEntryForKey(0L).value());
+        assertEquals(THREE, hashTable.getFirstEntryForKey("").value());
+        assertEquals(0, hashTable.getFirstEntryForKey(null).value());
+        assertFalse(hashTable.containsKey((short) 0));
+    }
+
+    /**
+     * Verifies that replaceEntry only replaces the entry with the matching key and value.
+     */
+    @Test
+    public void replaceEntryShouldOnlyReplaceTheMatchingEntry() {
+        TreeifiedHashTable<Integer, String> hashTable = createHashTable0To99();
+        assertFalse(hashTable.replaceEntry(1, "2", "bis"));
+        assertTrue(hashTable.replaceEntry(1, "1", "bis"));
+        assertTrue(hashTable.containsEntry(1, "bis"));
+        assertFalse(hashTable.containsContent("1"));
+    }
+
+    /**
+     * Verifies that a sparse hash table is shrunk.
+     */
+    @Test
+    public void removeShouldShrinkSparseHashTable() {
+        TreeifiedHashTable<Integer, String> hashTable = createHashTable0To99();
+        for (int i = 0; i < HUNDRED - 1; i++) {
+            hashTable.removeFirstEntryForKey(i);
+        }
+        assertTrue(hashTable.calculateStatistics().capacity() <= SIXTEEN);
+    }
+
+    /**
+     * Verifies that clearing the hash table removes all entries.
+     */
+    @Test
+    public void clearShouldRemoveAllEntries() {
+        TreeifiedHashTable<Integer, String> hashTable = createHashTable0To99();
+        hashTable.clear();
+        assertEquals(0, hashTable.getSize());
+        assertNull(hashTable.getFirstEntry());
+        assertFalse(hashTable.containsKey(1));
+        hashTable.add(new Entry<Integer, String>(1, "1"));
+        assertTrue(hashTable.containsKey(1));
+    }
+
+    /**
+     * Verifies that clearing the hash table isn't counted as a resize.
+     */
+    @Test
+    public void clearShouldNotChangeTheNumberOfResizes() {
+        TreeifiedHashTable<Integer, String> hashTable = createHashTable0To99();
+        int numberOfResizes = hashTable.calculateStatistics().numberOfResizes();
+        hashTable.clear();
+        assertEquals(numberOfResizes, hashTable.calculateStatistics().numberOfResizes());
+    }
+}
@@ -0,0 +1,13 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static net.filipvanlaenen.kolektoj.hash.ProbingStrategy.TREEIFIED_CHAINING;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.ModifiableHashMap} class using treeified chaining.
+ */
+public final class TreeifiedModifiableHashMapTest extends ProbingModifiableHashMapTestBase {
+    @Override
+    protected ProbingStrategy getProbingStrategy() {
+        return TREEIFIED_CHAINING;
+    }
+}
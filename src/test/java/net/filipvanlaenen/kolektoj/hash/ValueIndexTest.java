@@ -0,0 +1,149 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.ValueIndex} class.
+ */
+public class ValueIndexTest {
+    /**
+     * The magic number hundred.
+     */
+    private static final int HUNDRED = 100;
+
+    /**
+     * Creates an index with the integers from zero to hundred (exclusive), starting from an index with room for one
+     * value only, such that the index has to grow.
+     *
+     * @return An index with the integers from zero to hundred (exclusive).
+     */
+    private static ValueIndex<Integer> createIndex0To99() {
+        ValueIndex<Integer> index = new ValueIndex<Integer>(1);
+        for (int i = 0; i < HUNDRED; i++) {
+            index.add(i);
+        }
+        return index;
+    }
+
+    /**
+     * Verifies that the index contains the values that were added, also after growing.
+     */
+    @Test
+    public void containsShouldReturnTrueForAddedValues() {
+        ValueIndex<Integer> index = createIndex0To99();
+        for (int i = 0; i < HUNDRED; i++) {
+            assertTrue(index.contains(i));
+        }
+    }
+
+    /**
+     * Verifies that the index doesn't contain a value that wasn't added.
+     */
+    @Test
+    public void containsShouldReturnFalseForAbsentValues() {
+        ValueIndex<Integer> index = createIndex0To99();
+        assertFalse(index.contains(HUNDRED));
+        assertFalse(index.contains(null));
+    }
+
+    /**
+     * Verifies that the index can hold null.
+     */
+    @Test
+    public void containsShouldReturnTrueForAddedNull() {
+        ValueIndex<Integer> index = new ValueIndex<Integer>(0);
+        index.add(null);
+        assertTrue(index.contains(null));
+    }
+
+    /**
+     * Verifies that a value added twice remains in the index until it has been removed twice.
+     */
+    @Test
+    public void removeShouldDecrementTheCount() {
+        ValueIndex<Integer> index = new ValueIndex<Integer>(1);
+        index.add(1);
+        index.add(1);
+        index.remove(1);
+        assertTrue(index.contains(1));
+        index.remove(1);
+        assertFalse(index.contains(1));
+    }
+
+    /**
+     * Verifies that removing an absent value doesn't change the index.
+     */
+    @Test
+    public void removeShouldIgnoreAbsentValues() {
+        ValueIndex<Integer> index = createIndex0To99();
+        index.remove(HUNDRED);
+        for (int i = 0; i < HUNDRED; i++) {
+            assertTrue(index.contains(i));
+        }
+    }
+
+    /**
+     * Verifies that the remaining values can be found after every other value has been removed.
+     */
+    @Test
+    public void removeShouldKeepRemainingValuesReachable() {
+        ValueIndex<Integer> index = createIndex0To99();
+        for (int i = 0; i < HUNDRED; i += 2) {
+            index.remove(i);
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertTrue(index.contains(i) == (i % 2 == 1));
+        }
+    }
+
+    /**
+     * Verifies that the remaining values can be found after removing values that all share the same hash code, such
+     * that the values following the removed values in the cluster have to be shifted backward.
+     */
+    @Test
+    public void removeShouldShiftCollidingValuesBackward() {
+        ValueIndex<ElementWithCollidingHash> index = new ValueIndex<ElementWithCollidingHash>(1);
+        ElementWithCollidingHash[] elements = new ElementWithCollidingHash[HUNDRED];
+        for (int i = 0; i < HUNDRED; i++) {
+            elements[i] = new ElementWithCollidingHash(i);
+            index.add(elements[i]);
+        }
+        for (int i = 0; i < HUNDRED; i += 2) {
+            index.remove(elements[i]);
+        }
+        for (int i = 0; i < HUNDRED; i++) {
+            assertTrue(index.contains(elements[i]) == (i % 2 == 1));
+        }
+    }
+
+    /**
+     * Verifies that clearing the index removes all values.
+     */
+    @Test
+    public void clearShouldRemoveAllValues() {
+        ValueIndex<Integer> index = createIndex0To99();
+        index.clear();
+        assertFalse(index.contains(0));
+        index.add(0);
+        assertTrue(index.contains(0));
+    }
+
+    /**
+     * Verifies that values can be added again after all values have been removed, such that the index has shrunk.
+     */
+    @Test
+    public void addShouldWorkAfterRemovingAllValues() {
+        ValueIndex<Integer> index = createIndex0To99();
+        for (int i = 0; i < HUNDRED; i++) {
+            index.remove(i);
+        }
+        assertFalse(index.contains(0));
+        index.add(0);
+        assertTrue(index.contains(0));
+    }
+}
@@ -0,0 +1,33 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DISTINCT_KEYS;
+import static net.filipvanlaenen.kolektoj.hash.ProbingStrategy.LINEAR_PROBING;
+import static net.filipvanlaenen.kolektoj.hash.ValueIndexing.VALUE_INDEX;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality;
+import net.filipvanlaenen.kolektoj.MapTestBase;
+import net.filipvanlaenen.kolektoj.MapTestBase.KeyWithCollidingHash;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.HashMap} class with a value index.
+ */
+public final class ValueIndexedHashMapTest
+        extends MapTestBase<HashMap<Integer, String>, HashMap<KeyWithCollidingHash, Integer>> {
+    @Override
+    protected HashMap<Integer, String> createMap(final Entry<Integer, String>... entries) {
+        return new HashMap<Integer, String>(LINEAR_PROBING, DISTINCT_KEYS, VALUE_INDEX, entries);
+    }
+
+    @Override
+    protected HashMap<Integer, String> createMap(final KeyAndValueCardinality keyAndValueCardinality,
+            final Entry<Integer, String>... entries) {
+        return new HashMap<Integer, String>(LINEAR_PROBING, keyAndValueCardinality, VALUE_INDEX, entries);
+    }
+
+    @Override
+    protected HashMap<KeyWithCollidingHash, Integer> createCollidingKeyHashMap(
+            final Entry<KeyWithCollidingHash, Integer>... entries) {
+        return new HashMap<KeyWithCollidingHash, Integer>(LINEAR_PROBING, DISTINCT_KEYS, VALUE_INDEX, entries);
+    }
+}
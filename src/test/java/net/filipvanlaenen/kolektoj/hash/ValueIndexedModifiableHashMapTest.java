@@ -0,0 +1,161 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DISTINCT_KEYS;
+import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DUPLICATE_KEYS_WITH_DUPLICATE_VALUES;
+import static net.filipvanlaenen.kolektoj.hash.ProbingStrategy.LINEAR_PROBING;
+import static net.filipvanlaenen.kolektoj.hash.ValueIndexing.VALUE_INDEX;
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.Map;
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality;
+import net.filipvanlaenen.kolektoj.MapTestBase.KeyWithCollidingHash;
+import net.filipvanlaenen.kolektoj.UpdatableMapTestBase;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.ModifiableHashMap} class with a value index.
+ */
+public final class ValueIndexedModifiableHashMapTest extends
+        UpdatableMapTestBase<ModifiableHashMap<Integer, String>, ModifiableHashMap<KeyWithCollidingHash, Integer>> {
+    /**
+     * The magic number three.
+     */
+    private static final int THREE = 3;
+
+    @Override
+    protected ModifiableHashMap<Integer, String> createMap(final Entry<Integer, String>... entries) {
+        return new ModifiableHashMap<Integer, String>(LINEAR_PROBING, DISTINCT_KEYS, VALUE_INDEX, entries);
+    }
+
+    @Override
+    protected ModifiableHashMap<Integer, String> createMap(final KeyAndValueCardinality keyAndValueCardinality,
+            final Entry<Integer, String>... entries) {
+        return new ModifiableHashMap<Integer, String>(LINEAR_PROBING, keyAndValueCardinality, VALUE_INDEX, entries);
+    }
+
+    @Override
+    protected ModifiableHashMap<KeyWithCollidingHash, Integer> createCollidingKeyHashMap(
+            final Entry<KeyWithCollidingHash, Integer>... entries) {
+        return new ModifiableHashMap<KeyWithCollidingHash, Integer>(LINEAR_PROBING, DISTINCT_KEYS, VALUE_INDEX,
+                entries);
+    }
+
+    /**
+     * Creates a map with duplicate keys and duplicate values, mapping 1 and 2 to one, and 3 to three.
+     *
+     * @return A map with duplicate values.
+     */
+    private ModifiableHashMap<Integer, String> createMapWithDuplicateValues() {
+        return createMap(DUPLICATE_KEYS_WITH_DUPLICATE_VALUES, new Entry<Integer, String>(1, "one"),
+                new Entry<Integer, String>(2, "one"), new Entry<Integer, String>(THREE, "three"));
+    }
+
+    /**
+     * Verifies that a value added to the map is found by containsValue.
+     */
+    @Test
+    public void containsValueShouldReturnTrueForAnAddedValue() {
+        ModifiableHashMap<Integer, String> map = createMap();
+        map.add(1, "one");
+        assertTrue(map.containsValue("one"));
+    }
+
+    /**
+     * Verifies that a value remains in the index as long as an entry with the value remains.
+     */
+    @Test
+    public void containsValueShouldReturnTrueUntilTheLastEntryWithTheValueIsRemoved() {
+        ModifiableHashMap<Integer, String> map = createMapWithDuplicateValues();
+        map.remove(1);
+        assertTrue(map.containsValue("one"));
+        map.remove(2, "one");
+        assertFalse(map.containsValue("one"));
+        assertTrue(map.containsValue("three"));
+    }
+
+    /**
+     * Verifies that values removed through removeAll are removed from the index.
+     */
+    @Test
+    public void containsValueShouldReturnFalseAfterRemoveAll() {
+        ModifiableHashMap<Integer, String> map = createMapWithDuplicateValues();
+        map.removeAll(Map.<Integer, String>of(new Entry<Integer, String>(THREE, "three")));
+        assertFalse(map.containsValue("three"));
+        assertTrue(map.containsValue("one"));
+    }
+
+    /**
+     * Verifies that values removed through removeIf are removed from the index.
+     */
+    @Test
+    public void containsValueShouldReturnFalseAfterRemoveIf() {
+        ModifiableHashMap<Integer, String> map = createMapWithDuplicateValues();
+        map.removeIf(entry -> entry.value().equals("one"));
+        assertFalse(map.containsValue("one"));
+        assertTrue(map.containsValue("three"));
+    }
+
+    /**
+     * Verifies that values removed through retainAll are removed from the index.
+     */
+    @Test
+    public void containsValueShouldReturnFalseAfterRetainAll() {
+        ModifiableHashMap<Integer, String> map = createMapWithDuplicateValues();
+        map.retainAll(Map.<Integer, String>of(new Entry<Integer, String>(THREE, "three")));
+        assertFalse(map.containsValue("one"));
+        assertTrue(map.containsValue("three"));
+    }
+
+    /**
+     * Verifies that updating the value of a key replaces the value in the index.
+     */
+    @Test
+    public void containsValueShouldReflectUpdate() {
+        ModifiableHashMap<Integer, String> map = createMap(new Entry<Integer, String>(1, "one"));
+        map.update(1, "uno");
+        assertFalse(map.containsValue("one"));
+        assertTrue(map.containsValue("uno"));
+    }
+
+    /**
+     * Verifies that updating a specific value of a key replaces only one occurrence of the value in the index.
+     */
+    @Test
+    public void containsValueShouldReflectUpdateOfASpecificValue() {
+        ModifiableHashMap<Integer, String> map = createMapWithDuplicateValues();
+        map.update(1, "one", "uno");
+        assertTrue(map.containsValue("one"));
+        assertTrue(map.containsValue("uno"));
+        map.update(2, "one", "uno");
+        assertFalse(map.containsValue("one"));
+    }
+
+    /**
+     * Verifies that clearing the map clears the index.
+     */
+    @Test
+    public void containsValueShouldReturnFalseAfterClear() {
+        ModifiableHashMap<Integer, String> map = createMapWithDuplicateValues();
+        map.clear();
+        assertFalse(map.containsValue("one"));
+        map.add(1, "three");
+        assertTrue(map.containsValue("three"));
+    }
+
+    /**
+     * Verifies that a map with an expected size and a value index keeps the index up to date.
+     */
+    @Test
+    public void withExpectedSizeShouldKeepTheValueIndexUpToDate() {
+        ModifiableHashMap<Integer, String> map = ModifiableHashMap.<Integer, String>withExpectedSize(LINEAR_PROBING,
+                DUPLICATE_KEYS_WITH_DUPLICATE_VALUES, VALUE_INDEX, THREE);
+        map.add(1, "one");
+        map.add(2, "one");
+        map.remove(1);
+        assertTrue(map.containsValue("one"));
+        map.remove(2);
+        assertFalse(map.containsValue("one"));
+    }
+}
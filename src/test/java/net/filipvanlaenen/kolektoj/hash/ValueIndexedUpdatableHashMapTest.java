@@ -0,0 +1,51 @@
+package net.filipvanlaenen.kolektoj.hash;
+
+import static net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality.DISTINCT_KEYS;
+import static net.filipvanlaenen.kolektoj.hash.ProbingStrategy.LINEAR_PROBING;
+import static net.filipvanlaenen.kolektoj.hash.ValueIndexing.VALUE_INDEX;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import net.filipvanlaenen.kolektoj.Map.Entry;
+import net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality;
+import net.filipvanlaenen.kolektoj.MapTestBase.KeyWithCollidingHash;
+import net.filipvanlaenen.kolektoj.UpdatableMapTestBase;
+
+/**
+ * Unit tests on the {@link net.filipvanlaenen.kolektoj.hash.UpdatableHashMap} class with a value index.
+ */
+public final class ValueIndexedUpdatableHashMapTest extends
+        UpdatableMapTestBase<UpdatableHashMap<Integer, String>, UpdatableHashMap<KeyWithCollidingHash, Integer>> {
+    @Override
+    protected UpdatableHashMap<Integer, String> createMap(final Entry<Integer, String>... entries) {
+        return new UpdatableHashMap<Integer, String>(LINEAR_PROBING, DISTINCT_KEYS, VALUE_INDEX, entries);
+    }
+
+    @Override
+    protected UpdatableHashMap<Integer, String> createMap(final KeyAndValueCardinality keyAndValueCardinality,
+            final Entry<Integer, String>... entries) {
+        return new UpdatableHashMap<Integer, String>(LINEAR_PROBING, keyAndValueCardinality, VALUE_INDEX, entries);
+    }
+
+    @Override
+    protected UpdatableHashMap<KeyWithCollidingHash, Integer> createCollidingKeyHashMap(
+            final Entry<KeyWithCollidingHash, Integer>... entries) {
+        return new UpdatableHashMap<KeyWithCollidingHash, Integer>(LINEAR_PROBING, DISTINCT_KEYS, VALUE_INDEX, entries);
+    }
+
+    /**
+     * Verifies that updating the value of a key replaces the value in the index.
+     */
+    @Test
+    public void containsValueShouldReflectUpdate() {
+        UpdatableHashMap<Integer, String> map = createMap(new Entry<Integer, String>(1, "one"));
+        map.update(1, "uno");
+        assertFalse(map.containsValue("one"));
+        assertTrue(map.containsValue("uno"));
+        map.update(1, "uno", "one");
+        assertTrue(map.containsValue("one"));
+        assertFalse(map.containsValue("uno"));
+    }
+}
@@ -1,5 +1,12 @@
 package net.filipvanlaenen.kolektoj.linkedlist;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+
 import net.filipvanlaenen.kolektoj.Collection.ElementCardinality;
 import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
 import net.filipvanlaenen.kolektoj.ModifiableCollectionTestBase;
@@ -43,4 +50,16 @@ public final class ModifiableLinkedListCollectionTest extends ModifiableCollecti
     protected ModifiableLinkedListCollection<Integer> createModifiableCollection(final Integer... integers) {
         return new ModifiableLinkedListCollection<Integer>(integers);
     }
+
+    /**
+     * Verifies that an iterator fails fast when the collection is modified during the iteration.
+     */
+    @Test
+    public void iteratorShouldFailFastWhenTheCollectionIsModified() {
+        ModifiableLinkedListCollection<Integer> collection = new ModifiableLinkedListCollection<Integer>(1, 2);
+        Iterator<Integer> iterator = collection.iterator();
+        iterator.next();
+        collection.add(0);
+        assertThrows(ConcurrentModificationException.class, () -> iterator.next());
+    }
 }
@@ -1,5 +1,12 @@
 package net.filipvanlaenen.kolektoj.linkedlist;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+
 import net.filipvanlaenen.kolektoj.Collection.ElementCardinality;
 import net.filipvanlaenen.kolektoj.CollectionTestBase.ElementWithCollidingHash;
 import net.filipvanlaenen.kolektoj.ModifiableOrderedCollectionTestBase;
@@ -58,4 +65,17 @@ public final class ModifiableOrderedLinkedListCollectionTest
             final Integer... integers) {
         return new ModifiableOrderedLinkedListCollection<Integer>(integers);
     }
+
+    /**
+     * Verifies that an iterator fails fast when the collection is modified during the iteration.
+     */
+    @Test
+    public void iteratorShouldFailFastWhenTheCollectionIsModified() {
+        ModifiableOrderedLinkedListCollection<Integer> collection =
+                new ModifiableOrderedLinkedListCollection<Integer>(1, 2);
+        Iterator<Integer> iterator = collection.iterator();
+        iterator.next();
+        collection.add(0);
+        assertThrows(ConcurrentModificationException.class, () -> iterator.next());
+    }
 }
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.Objects;
 
 import org.junit.jupiter.api.Test;
@@ -378,4 +380,17 @@ public final class ModifiableSortedTreeCollectionTest extends ModifiableCollecti
         assertEquals("Cannot remove an element at a position beyond the size of the collection.",
                 exception.getMessage());
     }
+
+    /**
+     * Verifies that an iterator fails fast when the collection is modified during the iteration.
+     */
+    @Test
+    public void iteratorShouldFailFastWhenTheCollectionIsModified() {
+        ModifiableSortedTreeCollection<Integer> collection =
+                new ModifiableSortedTreeCollection<Integer>(COMPARATOR, 1, 2);
+        Iterator<Integer> iterator = collection.iterator();
+        iterator.next();
+        collection.add(0);
+        assertThrows(ConcurrentModificationException.class, () -> iterator.next());
+    }
 }
@@ -1,5 +1,13 @@
 package net.filipvanlaenen.kolektoj.sortedtree;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+
 import net.filipvanlaenen.kolektoj.Map.Entry;
 import net.filipvanlaenen.kolektoj.Map.KeyAndValueCardinality;
 import net.filipvanlaenen.kolektoj.MapTestBase.KeyWithCollidingHash;
@@ -26,4 +34,30 @@ public final class ModifiableSortedTreeMapTest extends ModifiableSortedMapTestBa
             final Entry<KeyWithCollidingHash, Integer>... entries) {
         return new ModifiableSortedTreeMap<KeyWithCollidingHash, Integer>(KEY_WITH_COLLIDING_HASH_COMPARATOR, entries);
     }
+
+    /**
+     * Verifies that an iterator fails fast when the map is modified during the iteration.
+     */
+    @Test
+    public void iteratorShouldFailFastWhenTheMapIsModified() {
+        ModifiableSortedTreeMap<Integer, String> map =
+                createMap(new Entry<Integer, String>(1, "one"), new Entry<Integer, String>(2, "two"));
+        Iterator<Entry<Integer, String>> iterator = map.iterator();
+        iterator.next();
+        map.add(0, "zero");
+        assertThrows(ConcurrentModificationException.class, () -> iterator.next());
+    }
+
+    /**
+     * Verifies that an update is reflected in the array with the entries.
+     */
+    @Test
+    public void toArrayShouldReflectAnUpdate() {
+        ModifiableSortedTreeMap<Integer, String> map =
+                createMap(new Entry<Integer, String>(1, "one"), new Entry<Integer, String>(2, "two"));
+        map.toArray();
+        map.update(1, "bis");
+        assertArrayEquals(new Entry[] {new Entry<Integer, String>(1, "bis"), new Entry<Integer, String>(2, "two")},
+                map.toArray());
+    }
 }
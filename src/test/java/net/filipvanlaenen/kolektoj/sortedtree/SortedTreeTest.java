@@ -5,6 +5,7 @@ import static net.filipvanlaenen.kolektoj.Collection.ElementCardinality.DISTINCT
 
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -54,6 +55,14 @@ public class SortedTreeTest {
      * The magic number hundred.
      */
     private static final int HUNDRED = 100;
+    /**
+     * The magic number sixteen thousand.
+     */
+    private static final int SIXTEEN_THOUSAND = 16_000;
+    /**
+     * The factor bounding the height of an AVL tree relative to the binary logarithm of its size.
+     */
+    private static final double AVL_HEIGHT_FACTOR = 1.45D;
     /**
      * A comparator ordering integers in the natural order, but in addition handling <code>null</code> as the lowest
      * value.
@@ -140,6 +149,17 @@ public class SortedTreeTest {
         return tree;
     }
 
+    /**
+     * Returns the maximal height of an AVL tree with the given size, i.e. about 1.44 times the binary logarithm of the
+     * size.
+     *
+     * @param size The size of the tree.
+     * @return The maximal height of an AVL tree with the given size.
+     */
+    private static double maximalAvlHeight(final int size) {
+        return AVL_HEIGHT_FACTOR * Math.log(size + 2) / Math.log(2);
+    }
+
     /**
      * Verifies that adding an element to an empty tree returns true.
      */
@@ -410,6 +430,39 @@ public class SortedTreeTest {
         assertEquals(THREE, sortedTree.getHeight());
     }
 
+    /**
+     * Verifies that the height of a tree filled in a pseudo-random order and modified afterwards stays within the
+     * bound for AVL trees. Since <code>getAt</code> visits at most one node per level, this bounds its cost to a
+     * logarithmic number of steps.
+     */
+    @Test
+    public void getHeightShouldStayLogarithmicForATreeFilledInRandomOrderAndModified() {
+        SortedTree<Integer, String> sortedTree = createEmptyTree();
+        Random random = new Random(SIXTEEN_THOUSAND);
+        for (int i = 0; i < SIXTEEN_THOUSAND; i++) {
+            sortedTree.add(random.nextInt(), Integer.toString(i));
+        }
+        for (int i = 0; i < SIXTEEN_THOUSAND; i += TEN) {
+            sortedTree.remove(sortedTree.getAt(i / 2).getKey());
+            sortedTree.add(random.nextInt(), Integer.toString(i));
+        }
+        assertTrue(sortedTree.getHeight() <= maximalAvlHeight(sortedTree.getSize()));
+    }
+
+    /**
+     * Verifies that the height of a tree created from a sorted array stays within the bound for AVL trees.
+     */
+    @Test
+    public void getHeightShouldBeLogarithmicForATreeCreatedFromASortedArray() {
+        Integer[] sortedArray = new Integer[SIXTEEN_THOUSAND];
+        for (int i = 0; i < SIXTEEN_THOUSAND; i++) {
+            sortedArray[i] = i;
+        }
+        SortedTree<Integer, Integer> sortedTree =
+                SortedTree.fromSortedElementArray(COMPARATOR, DISTINCT_ELEMENTS, sortedArray);
+        assertTrue(sortedTree.getHeight() <= maximalAvlHeight(SIXTEEN_THOUSAND));
+    }
+
     /**
      * Verifies that <code>getLeast</code> returns the leftmost node.
      */